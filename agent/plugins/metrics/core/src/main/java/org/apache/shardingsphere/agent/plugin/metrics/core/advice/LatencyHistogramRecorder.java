@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.HistogramMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Latency histogram recorder.
+ * 
+ * <p>Start nano times are pushed to a thread local stack, so that a nested call of the same advised method does not overwrite the start nano time of the outer call.</p>
+ */
+public final class LatencyHistogramRecorder {
+    
+    private final MetricConfiguration config;
+    
+    private final ThreadLocal<NanoTimeStack> startNanoTimes = ThreadLocal.withInitial(NanoTimeStack::new);
+    
+    public LatencyHistogramRecorder(final String metricName, final String description, final List<String> labels) {
+        config = new MetricConfiguration(metricName, MetricCollectorType.HISTOGRAM, description, labels, Collections.singletonMap("buckets", getBuckets()));
+    }
+    
+    private Map<String, Object> getBuckets() {
+        Map<String, Object> result = new HashMap<>(4, 1F);
+        result.put("type", "exp");
+        result.put("start", 0.05D);
+        result.put("factor", 2);
+        result.put("count", 18);
+        return result;
+    }
+    
+    /**
+     * Record start nano time.
+     */
+    public void start() {
+        startNanoTimes.get().push(System.nanoTime());
+    }
+    
+    /**
+     * Observe latency millis since the latest start nano time.
+     *
+     * @param pluginType plugin type
+     * @param labels labels
+     */
+    public void observe(final String pluginType, final String... labels) {
+        NanoTimeStack stack = startNanoTimes.get();
+        if (!stack.isEmpty()) {
+            MetricsCollectorRegistry.<HistogramMetricsCollector>get(config, pluginType).observe((System.nanoTime() - stack.pop()) / 1000000D, labels);
+        }
+    }
+    
+    /**
+     * Discard the latest start nano time without observing.
+     */
+    public void discard() {
+        NanoTimeStack stack = startNanoTimes.get();
+        if (!stack.isEmpty()) {
+            stack.pop();
+        }
+    }
+    
+    private static final class NanoTimeStack {
+        
+        private long[] values = new long[4];
+        
+        private int size;
+        
+        private void push(final long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+        
+        private long pop() {
+            return values[--size];
+        }
+        
+        private boolean isEmpty() {
+            return 0 == size;
+        }
+    }
+}
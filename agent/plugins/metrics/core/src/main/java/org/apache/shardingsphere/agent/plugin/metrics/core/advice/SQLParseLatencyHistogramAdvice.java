@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceMethod;
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceObject;
+
+/**
+ * SQL parse latency histogram advice.
+ * 
+ * <p>Parse stage is labeled as cache miss if SQL statement is parsed by parser executor, otherwise it is labeled as cache hit.</p>
+ */
+public final class SQLParseLatencyHistogramAdvice extends AbstractSQLStageLatencyHistogramAdvice {
+    
+    private static final String[] CACHE_HIT_STAGE = {"parse_cache_hit"};
+    
+    private static final String[] CACHE_MISS_STAGE = {"parse_cache_miss"};
+    
+    private static final ThreadLocal<boolean[]> CACHE_MISSED = ThreadLocal.withInitial(() -> new boolean[1]);
+    
+    /**
+     * Mark SQL parse cache missed.
+     */
+    public static void markCacheMissed() {
+        CACHE_MISSED.get()[0] = true;
+    }
+    
+    @Override
+    public void beforeMethod(final TargetAdviceObject target, final TargetAdviceMethod method, final Object[] args, final String pluginType) {
+        CACHE_MISSED.get()[0] = false;
+        super.beforeMethod(target, method, args, pluginType);
+    }
+    
+    @Override
+    protected String[] getLabels() {
+        return CACHE_MISSED.get()[0] ? CACHE_MISS_STAGE : CACHE_HIT_STAGE;
+    }
+}
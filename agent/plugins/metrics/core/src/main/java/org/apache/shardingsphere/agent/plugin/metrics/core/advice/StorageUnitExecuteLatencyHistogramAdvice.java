@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceMethod;
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.plugin.core.advice.AbstractInstanceMethodAdvice;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Storage unit execute latency histogram advice.
+ */
+public final class StorageUnitExecuteLatencyHistogramAdvice extends AbstractInstanceMethodAdvice {
+    
+    private final LatencyHistogramRecorder recorder = new LatencyHistogramRecorder("storage_unit_execute_latency_millis",
+            "Execute latency millis histogram of storage units", Collections.singletonList("storage_unit"));
+    
+    @Override
+    public void beforeMethod(final TargetAdviceObject target, final TargetAdviceMethod method, final Object[] args, final String pluginType) {
+        recorder.start();
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public void afterMethod(final TargetAdviceObject target, final TargetAdviceMethod method, final Object[] args, final Object result, final String pluginType) {
+        Collection<JDBCExecutionUnit> executionUnits = (Collection<JDBCExecutionUnit>) args[0];
+        if (executionUnits.isEmpty()) {
+            recorder.discard();
+        } else {
+            recorder.observe(pluginType, executionUnits.iterator().next().getExecutionUnit().getDataSourceName());
+        }
+    }
+}
@@ -17,34 +17,8 @@
 
 package org.apache.shardingsphere.agent.plugin.metrics.core.collector.type;
 
-import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollector;
-
-import java.util.List;
-
 /**
  * Gauge metric family metrics collector.
  */
-public interface GaugeMetricFamilyMetricsCollector extends MetricsCollector {
-    
-    /**
-     * Add metric.
-     *
-     * @param labelValues label values
-     * @param value value
-     */
-    void addMetric(List<String> labelValues, double value);
-    
-    /**
-     * Get raw metric family object.
-     *
-     * @return raw metric family object
-     */
-    Object getRawMetricFamilyObject();
-    
-    /**
-     * Clean metrics.
-     */
-    default void cleanMetrics() {
-        
-    }
+public interface GaugeMetricFamilyMetricsCollector extends MetricFamilyMetricsCollector {
 }
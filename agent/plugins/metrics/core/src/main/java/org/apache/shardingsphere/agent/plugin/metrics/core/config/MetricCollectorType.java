@@ -26,5 +26,6 @@ public enum MetricCollectorType {
     GAUGE,
     HISTOGRAM,
     SUMMARY,
-    GAUGE_METRIC_FAMILY
+    GAUGE_METRIC_FAMILY,
+    COUNTER_METRIC_FAMILY
 }
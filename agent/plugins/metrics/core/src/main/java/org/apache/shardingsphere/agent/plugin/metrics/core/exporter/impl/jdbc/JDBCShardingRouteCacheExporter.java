@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc;
+
+import org.apache.shardingsphere.agent.plugin.core.context.ShardingSphereDataSourceContext;
+import org.apache.shardingsphere.agent.plugin.core.holder.ShardingSphereDataSourceContextHolder;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.CounterMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.infra.rule.attribute.cache.RouteCacheRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.cache.RouteCacheStatistics;
+
+import java.util.Arrays;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * JDBC sharding route cache exporter.
+ */
+public final class JDBCShardingRouteCacheExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("jdbc_sharding_route_cache", MetricCollectorType.COUNTER_METRIC_FAMILY,
+            "Sharding route cache statistics of ShardingSphere-JDBC, classify by hit_count, miss_count, eviction_count, load_count and load_time_millis",
+            Arrays.asList("driver_instance", "database", "name"));
+    
+    @Override
+    public Optional<CounterMetricFamilyMetricsCollector> export(final String pluginType) {
+        CounterMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (Entry<String, ShardingSphereDataSourceContext> entry : ShardingSphereDataSourceContextHolder.getShardingSphereDataSourceContexts().entrySet()) {
+            Optional.ofNullable(entry.getValue().getContextManager().getDatabase(entry.getValue().getDatabaseName()))
+                    .flatMap(optional -> optional.getRuleMetaData().getAttributes(RouteCacheRuleAttribute.class).stream().findFirst()).map(RouteCacheRuleAttribute::getRouteCacheStatistics)
+                    .ifPresent(optional -> addMetrics(result, entry.getKey(), entry.getValue().getDatabaseName(), optional));
+        }
+        return Optional.of(result);
+    }
+    
+    private void addMetrics(final CounterMetricFamilyMetricsCollector collector, final String driverInstance, final String databaseName, final RouteCacheStatistics statistics) {
+        collector.addMetric(Arrays.asList(driverInstance, databaseName, "hit_count"), statistics.getHitCount());
+        collector.addMetric(Arrays.asList(driverInstance, databaseName, "miss_count"), statistics.getMissCount());
+        collector.addMetric(Arrays.asList(driverInstance, databaseName, "eviction_count"), statistics.getEvictionCount());
+        collector.addMetric(Arrays.asList(driverInstance, databaseName, "load_count"), statistics.getLoadCount());
+        collector.addMetric(Arrays.asList(driverInstance, databaseName, "load_time_millis"), statistics.getTotalLoadTimeNanos() / 1000000D);
+    }
+}
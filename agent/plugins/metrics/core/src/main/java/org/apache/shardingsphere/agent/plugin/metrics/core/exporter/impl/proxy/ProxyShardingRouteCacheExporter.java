@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.CounterMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rule.attribute.cache.RouteCacheRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.cache.RouteCacheStatistics;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Proxy sharding route cache exporter.
+ */
+public final class ProxyShardingRouteCacheExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_sharding_route_cache", MetricCollectorType.COUNTER_METRIC_FAMILY,
+            "Sharding route cache statistics of ShardingSphere-Proxy, classify by hit_count, miss_count, eviction_count, load_count and load_time_millis",
+            Arrays.asList("database", "name"));
+    
+    @Override
+    public Optional<CounterMetricFamilyMetricsCollector> export(final String pluginType) {
+        if (null == ProxyContext.getInstance().getContextManager()) {
+            return Optional.empty();
+        }
+        CounterMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (ShardingSphereDatabase each : ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabases().values()) {
+            each.getRuleMetaData().getAttributes(RouteCacheRuleAttribute.class).stream().findFirst().map(RouteCacheRuleAttribute::getRouteCacheStatistics)
+                    .ifPresent(optional -> addMetrics(result, each.getName(), optional));
+        }
+        return Optional.of(result);
+    }
+    
+    private void addMetrics(final CounterMetricFamilyMetricsCollector collector, final String databaseName, final RouteCacheStatistics statistics) {
+        collector.addMetric(Arrays.asList(databaseName, "hit_count"), statistics.getHitCount());
+        collector.addMetric(Arrays.asList(databaseName, "miss_count"), statistics.getMissCount());
+        collector.addMetric(Arrays.asList(databaseName, "eviction_count"), statistics.getEvictionCount());
+        collector.addMetric(Arrays.asList(databaseName, "load_count"), statistics.getLoadCount());
+        collector.addMetric(Arrays.asList(databaseName, "load_time_millis"), statistics.getTotalLoadTimeNanos() / 1000000D);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LatencyHistogramRecorderTest {
+    
+    private final MetricConfiguration config = new MetricConfiguration("foo_latency_millis", MetricCollectorType.HISTOGRAM, null, Collections.singletonList("stage"), Collections.emptyMap());
+    
+    @AfterEach
+    void reset() {
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+    }
+    
+    @Test
+    void assertObserveNestedCalls() {
+        LatencyHistogramRecorder recorder = new LatencyHistogramRecorder("foo_latency_millis", null, Collections.singletonList("stage"));
+        recorder.start();
+        recorder.start();
+        recorder.observe("FIXTURE", "inner");
+        recorder.observe("FIXTURE", "outer");
+        recorder.observe("FIXTURE", "unstarted");
+        assertThat(MetricsCollectorRegistry.get(config, "FIXTURE").toString(), is("inner=1, outer=1"));
+    }
+    
+    @Test
+    void assertDiscard() {
+        LatencyHistogramRecorder recorder = new LatencyHistogramRecorder("foo_latency_millis", null, Collections.singletonList("stage"));
+        recorder.start();
+        recorder.start();
+        recorder.discard();
+        recorder.observe("FIXTURE", "outer");
+        recorder.observe("FIXTURE", "unstarted");
+        assertThat(MetricsCollectorRegistry.get(config, "FIXTURE").toString(), is("outer=1"));
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector;
 
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.CounterMetricFamilyMetricsCollector;
 import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.CounterMetricsCollector;
 import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
 import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricsCollector;
@@ -29,7 +30,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-public final class MetricsCollectorFixture implements CounterMetricsCollector, GaugeMetricsCollector, HistogramMetricsCollector, SummaryMetricsCollector, GaugeMetricFamilyMetricsCollector {
+public final class MetricsCollectorFixture implements CounterMetricsCollector, GaugeMetricsCollector, HistogramMetricsCollector, SummaryMetricsCollector, GaugeMetricFamilyMetricsCollector,
+        CounterMetricFamilyMetricsCollector {
     
     private int value;
     
@@ -62,6 +64,12 @@ public final class MetricsCollectorFixture implements CounterMetricsCollector, G
         this.value = (int) value;
     }
     
+    @Override
+    public void observe(final double value, final String... labels) {
+        String key = String.join(".", labels);
+        labeledValues.put(key, labeledValues.getOrDefault(key, 0) + 1);
+    }
+    
     @Override
     public void addMetric(final List<String> labelValues, final double value) {
         for (String each : labelValues) {
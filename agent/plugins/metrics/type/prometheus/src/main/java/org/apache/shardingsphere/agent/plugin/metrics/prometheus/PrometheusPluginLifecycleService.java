@@ -25,9 +25,14 @@ import org.apache.shardingsphere.agent.api.PluginConfiguration;
 import org.apache.shardingsphere.agent.plugin.core.config.validator.PluginConfigurationValidator;
 import org.apache.shardingsphere.agent.plugin.core.context.PluginContext;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.BuildInfoExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.SQLStatementCacheExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCMetaDataInfoExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCShardingRouteCacheExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCShardingRouteCacheSizeExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCStateExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyMetaDataInfoExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyShardingRouteCacheExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyShardingRouteCacheSizeExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyStateExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.prometheus.exoprter.PrometheusMetricsExporter;
 import org.apache.shardingsphere.agent.spi.PluginLifecycleService;
@@ -43,6 +48,8 @@ public final class PrometheusPluginLifecycleService implements PluginLifecycleSe
     
     private static final String KEY_JVM_INFORMATION_COLLECTOR_ENABLED = "jvm-information-collector-enabled";
     
+    private static final String SHARDING_RULE_CLASS_NAME = "org.apache.shardingsphere.sharding.rule.ShardingRule";
+    
     private HTTPServer httpServer;
     
     @Override
@@ -65,6 +72,7 @@ public final class PrometheusPluginLifecycleService implements PluginLifecycleSe
     
     private void registerCollector(final boolean isCollectJVMInformation, final boolean isEnhancedForProxy) {
         new PrometheusMetricsExporter(new BuildInfoExporter()).register();
+        new PrometheusMetricsExporter(new SQLStatementCacheExporter()).register();
         if (isEnhancedForProxy) {
             registerCollectorForProxy();
         } else {
@@ -78,11 +86,29 @@ public final class PrometheusPluginLifecycleService implements PluginLifecycleSe
     private void registerCollectorForProxy() {
         new PrometheusMetricsExporter(new ProxyStateExporter()).register();
         new PrometheusMetricsExporter(new ProxyMetaDataInfoExporter()).register();
+        if (isShardingPresent()) {
+            new PrometheusMetricsExporter(new ProxyShardingRouteCacheExporter()).register();
+            new PrometheusMetricsExporter(new ProxyShardingRouteCacheSizeExporter()).register();
+        }
     }
     
     private void registerCollectorForJDBC() {
         new PrometheusMetricsExporter(new JDBCStateExporter()).register();
         new PrometheusMetricsExporter(new JDBCMetaDataInfoExporter()).register();
+        if (isShardingPresent()) {
+            new PrometheusMetricsExporter(new JDBCShardingRouteCacheExporter()).register();
+            new PrometheusMetricsExporter(new JDBCShardingRouteCacheSizeExporter()).register();
+        }
+    }
+    
+    private boolean isShardingPresent() {
+        try {
+            Class.forName(SHARDING_RULE_CLASS_NAME, false, Thread.currentThread().getContextClassLoader());
+            return true;
+        } catch (final ClassNotFoundException | LinkageError ignored) {
+            log.info("Sharding feature is absent, skip registering sharding route cache metrics.");
+            return false;
+        }
     }
     
     private InetSocketAddress getSocketAddress(final PluginConfiguration pluginConfig) {
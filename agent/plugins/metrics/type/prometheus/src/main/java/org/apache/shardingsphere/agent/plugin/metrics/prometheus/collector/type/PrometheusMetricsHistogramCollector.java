@@ -76,4 +76,9 @@ public final class PrometheusMetricsHistogramCollector implements HistogramMetri
     public void observe(final double value) {
         histogram.observe(value);
     }
+    
+    @Override
+    public void observe(final double value, final String... labels) {
+        histogram.labels(labels).observe(value);
+    }
 }
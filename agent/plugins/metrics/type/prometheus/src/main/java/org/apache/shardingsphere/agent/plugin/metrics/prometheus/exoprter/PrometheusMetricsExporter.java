@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.agent.plugin.metrics.prometheus.exoprter;
 
 import io.prometheus.client.Collector;
-import io.prometheus.client.GaugeMetricFamily;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
@@ -39,7 +38,7 @@ public final class PrometheusMetricsExporter extends Collector {
     public List<MetricFamilySamples> collect() {
         try {
             return exporter.export("Prometheus")
-                    .<List<MetricFamilySamples>>map(optional -> Collections.singletonList((GaugeMetricFamily) optional.getRawMetricFamilyObject())).orElse(Collections.emptyList());
+                    .<List<MetricFamilySamples>>map(optional -> Collections.singletonList((MetricFamilySamples) optional.getRawMetricFamilyObject())).orElse(Collections.emptyList());
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.agent.plugin.metrics.prometheus.collector;
 import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
 import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
 import org.apache.shardingsphere.agent.plugin.metrics.prometheus.collector.type.PrometheusMetricsCounterCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.prometheus.collector.type.PrometheusMetricsCounterMetricFamilyCollector;
 import org.apache.shardingsphere.agent.plugin.metrics.prometheus.collector.type.PrometheusMetricsGaugeCollector;
 import org.apache.shardingsphere.agent.plugin.metrics.prometheus.collector.type.PrometheusMetricsGaugeMetricFamilyCollector;
 import org.apache.shardingsphere.agent.plugin.metrics.prometheus.collector.type.PrometheusMetricsHistogramCollector;
@@ -62,4 +63,10 @@ class PrometheusMetricsCollectorFactoryTest {
         MetricConfiguration config = new MetricConfiguration("test_summary", MetricCollectorType.GAUGE_METRIC_FAMILY, null, Collections.emptyList(), Collections.emptyMap());
         assertThat(new PrometheusMetricsCollectorFactory().create(config), instanceOf(PrometheusMetricsGaugeMetricFamilyCollector.class));
     }
+    
+    @Test
+    void assertCreateCounterMetricFamilyCollector() {
+        MetricConfiguration config = new MetricConfiguration("test_counter_metric_family", MetricCollectorType.COUNTER_METRIC_FAMILY, null, Collections.emptyList(), Collections.emptyMap());
+        assertThat(new PrometheusMetricsCollectorFactory().create(config), instanceOf(PrometheusMetricsCounterMetricFamilyCollector.class));
+    }
 }
@@ -38,4 +38,15 @@ class PrometheusMetricsHistogramCollectorTest {
         Histogram histogram = (Histogram) Plugins.getMemberAccessor().get(PrometheusMetricsHistogramCollector.class.getDeclaredField("histogram"), collector);
         assertThat(histogram.collect().size(), is(1));
     }
+    
+    @Test
+    void assertObserveWithLabels() throws ReflectiveOperationException {
+        PrometheusMetricsHistogramCollector collector = new PrometheusMetricsHistogramCollector(new MetricConfiguration("foo_labeled_histogram",
+                MetricCollectorType.HISTOGRAM, "foo_help", Collections.singletonList("stage"), Collections.emptyMap()));
+        collector.observe(1D, "foo_stage");
+        collector.observe(2D, "bar_stage");
+        Histogram histogram = (Histogram) Plugins.getMemberAccessor().get(PrometheusMetricsHistogramCollector.class.getDeclaredField("histogram"), collector);
+        assertThat(histogram.labels("foo_stage").get().sum, is(1D));
+        assertThat(histogram.labels("bar_stage").get().sum, is(2D));
+    }
 }
@@ -26,22 +26,22 @@ import java.util.Optional;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 class PrometheusMetricsExporterTest {
     
     @Test
     void assertCollectWithAbsentMetricsExporter() {
         MetricsExporter exporter = mock(MetricsExporter.class);
-        when(exporter.export("Prometheus")).thenReturn(Optional.empty());
+        doReturn(Optional.empty()).when(exporter).export("Prometheus");
         assertTrue(new PrometheusMetricsExporter(exporter).collect().isEmpty());
     }
     
     @Test
     void assertCollectWithPresentMetricsExporter() {
         MetricsExporter exporter = mock(MetricsExporter.class);
-        when(exporter.export("Prometheus")).thenReturn(Optional.of(mock(GaugeMetricFamilyMetricsCollector.class)));
+        doReturn(Optional.of(mock(GaugeMetricFamilyMetricsCollector.class))).when(exporter).export("Prometheus");
         assertThat(new PrometheusMetricsExporter(exporter).collect().size(), is(1));
     }
 }
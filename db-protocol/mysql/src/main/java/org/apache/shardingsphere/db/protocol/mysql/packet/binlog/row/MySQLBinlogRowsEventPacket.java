@@ -22,6 +22,7 @@ import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinlogEventType
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.AbstractMySQLBinlogEventPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.MySQLBinlogEventHeader;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.MySQLBinlogColumnDef;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value.MySQLBinlogProtocolValue;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value.MySQLBinlogProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLNullBitmap;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
@@ -90,25 +91,56 @@ public final class MySQLBinlogRowsEventPacket extends AbstractMySQLBinlogEventPa
      * @param payload ROWS_EVENT packet payload
      */
     public void readRows(final MySQLBinlogTableMapEventPacket tableMapEventPacket, final MySQLPacketPayload payload) {
-        List<MySQLBinlogColumnDef> columnDefs = tableMapEventPacket.getColumnDefs();
+        readRows(tableMapEventPacket.getColumnDefs(), new MySQLBinlogProtocolValue[tableMapEventPacket.getColumnDefs().size()], payload);
+    }
+    
+    /**
+     * Read rows in binlog with reusable column protocol values.
+     *
+     * <p>Absent column protocol value is resolved on first non null value of the column and kept in array for following rows and events.</p>
+     *
+     * @param columnDefs column definitions from TABLE_MAP_EVENT packet before this ROWS_EVENT
+     * @param protocolValues column protocol values in order of column definitions
+     * @param payload ROWS_EVENT packet payload
+     */
+    public void readRows(final List<MySQLBinlogColumnDef> columnDefs, final MySQLBinlogProtocolValue[] protocolValues, final MySQLPacketPayload payload) {
+        boolean updateRowsEvent = isUpdateRowsEvent(getBinlogEventHeader().getEventType());
         while (getRemainBytesLength(payload) > 0) {
-            rows.add(readRow(columnDefs, payload));
-            if (isUpdateRowsEvent(getBinlogEventHeader().getEventType())) {
-                rows2.add(readRow(columnDefs, payload));
+            rows.add(readRow(columnDefs, protocolValues, payload));
+            if (updateRowsEvent) {
+                rows2.add(readRow(columnDefs, protocolValues, payload));
             }
         }
     }
     
-    private Serializable[] readRow(final List<MySQLBinlogColumnDef> columnDefs, final MySQLPacketPayload payload) {
+    private Serializable[] readRow(final List<MySQLBinlogColumnDef> columnDefs, final MySQLBinlogProtocolValue[] protocolValues, final MySQLPacketPayload payload) {
         MySQLNullBitmap nullBitmap = new MySQLNullBitmap(columnNumber, payload);
         Serializable[] result = new Serializable[columnNumber];
         for (int i = 0; i < columnNumber; i++) {
+            if (nullBitmap.isNullParameter(i)) {
+                continue;
+            }
             MySQLBinlogColumnDef columnDef = columnDefs.get(i);
-            result[i] = nullBitmap.isNullParameter(i) ? null : MySQLBinlogProtocolValueFactory.getBinlogProtocolValue(columnDef.getColumnType()).read(columnDef, payload);
+            if (null == protocolValues[i]) {
+                protocolValues[i] = MySQLBinlogProtocolValueFactory.getBinlogProtocolValue(columnDef.getColumnType());
+            }
+            result[i] = protocolValues[i].read(columnDef, payload);
         }
         return result;
     }
     
+    /**
+     * Skip rows in binlog without reading column values.
+     *
+     * @param payload ROWS_EVENT packet payload
+     */
+    public void skipRows(final MySQLPacketPayload payload) {
+        int remainBytesLength = getRemainBytesLength(payload);
+        if (remainBytesLength > 0) {
+            payload.skipReserved(remainBytesLength);
+        }
+    }
+    
     @Override
     protected void writeEvent(final MySQLPacketPayload payload) {
         // TODO
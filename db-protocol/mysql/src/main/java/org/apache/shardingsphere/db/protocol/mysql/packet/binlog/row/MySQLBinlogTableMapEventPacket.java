@@ -25,7 +25,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.MySQ
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLNullBitmap;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -59,7 +59,7 @@ public final class MySQLBinlogTableMapEventPacket extends AbstractMySQLBinlogEve
         tableName = payload.readStringFix(payload.readInt1());
         payload.skipReserved(1);
         columnCount = (int) payload.readIntLenenc();
-        columnDefs = new LinkedList<>();
+        columnDefs = new ArrayList<>(columnCount);
         readColumnDefs(payload);
         readColumnMetaDefs(payload);
         nullBitMap = new MySQLNullBitmap(columnCount, payload);
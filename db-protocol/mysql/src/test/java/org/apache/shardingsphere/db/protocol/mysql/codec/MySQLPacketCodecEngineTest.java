@@ -49,6 +49,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -149,8 +150,9 @@ class MySQLPacketCodecEngineTest {
         CompositeByteBuf expected = new CompositeByteBuf(UnpooledByteBufAllocator.DEFAULT, false, 6);
         when(context.alloc().compositeBuffer(6)).thenReturn(expected);
         when(context.alloc().ioBuffer(4, 4)).thenReturn(Unpooled.buffer(4, 4), Unpooled.buffer(4, 4), Unpooled.buffer(4, 4));
-        MySQLPacketCodecEngine engine = new MySQLPacketCodecEngine();
-        engine.encode(context, mock(MySQLPacket.class), prepareByteBufAlmost32MB());
+        MySQLPacket packet = mock(MySQLPacket.class);
+        doAnswer(invocation -> ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(0xFFFFFF << 1)).when(packet).write(any(MySQLPacketPayload.class));
+        new MySQLPacketCodecEngine().encode(context, packet, Unpooled.buffer((0xFFFFFF << 1) + 4));
         verify(context).write(expected);
         assertThat(expected.numComponents(), is(5));
         assertThat(expected.component(0).getUnsignedByte(3), is((short) 0));
@@ -160,11 +162,35 @@ class MySQLPacketCodecEngineTest {
         assertThat(expected.component(4).getUnsignedByte(3), is((short) 2));
     }
     
-    private ByteBuf prepareByteBufAlmost32MB() {
-        int max = 0xFFFFFF << 1;
-        ByteBuf result = Unpooled.buffer(max + 4);
-        result.writerIndex(max);
-        return result.retain();
+    @Test
+    void assertEncodeAfterEncodedPacket() {
+        MySQLPacket packet = mock(MySQLPacket.class);
+        doAnswer(invocation -> ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeShort(1)).when(packet).write(any(MySQLPacketPayload.class));
+        context.channel().attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).get().set(1);
+        ByteBuf out = Unpooled.buffer();
+        MySQLPacketCodecEngine engine = new MySQLPacketCodecEngine();
+        engine.encode(context, packet, out);
+        engine.encode(context, packet, out);
+        assertThat(out.readableBytes(), is(12));
+        assertThat(out.getMediumLE(0), is(2));
+        assertThat(out.getByte(3), is((byte) 1));
+        assertThat(out.getMediumLE(6), is(2));
+        assertThat(out.getByte(9), is((byte) 2));
+    }
+    
+    @Test
+    void assertEncodePacketMoreThan16MBAfterEncodedPacket() {
+        CompositeByteBuf expected = new CompositeByteBuf(UnpooledByteBufAllocator.DEFAULT, false, 6);
+        when(context.alloc().compositeBuffer(6)).thenReturn(expected);
+        when(context.alloc().ioBuffer(4, 4)).thenReturn(Unpooled.buffer(4, 4), Unpooled.buffer(4, 4), Unpooled.buffer(4, 4));
+        MySQLPacket packet = mock(MySQLPacket.class);
+        doAnswer(invocation -> ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(0xFFFFFF << 1)).when(packet).write(any(MySQLPacketPayload.class));
+        ByteBuf out = Unpooled.buffer((0xFFFFFF << 1) + 12).writeLong(0L);
+        new MySQLPacketCodecEngine().encode(context, packet, out);
+        verify(context).write(out.slice(0, 8));
+        verify(context).write(expected);
+        assertThat(expected.numComponents(), is(5));
+        assertFalse(out.isReadable());
     }
     
     @Test
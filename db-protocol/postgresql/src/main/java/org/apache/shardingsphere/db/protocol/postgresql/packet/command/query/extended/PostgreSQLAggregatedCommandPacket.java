@@ -20,77 +20,76 @@ package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.ex
 import lombok.Getter;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
-import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.parse.PostgreSQLComParsePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierTag;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
+import java.util.LinkedList;
 import java.util.List;
 
+/**
+ * Aggregated command packet for PostgreSQL.
+ *
+ * <p>Every contiguous run of Bind / Describe / Execute packets is recognized as batched packets, the run may interleave different statements and portals,
+ * so that statements pipelined in one Sync window can be executed as batches.</p>
+ */
 @Getter
 public final class PostgreSQLAggregatedCommandPacket extends PostgreSQLCommandPacket {
     
-    private final List<PostgreSQLCommandPacket> packets;
+    private static final int MIN_BATCHED_EXECUTE_COUNT = 3;
     
-    private final boolean containsBatchedStatements;
+    private final List<PostgreSQLCommandPacket> packets;
     
-    private final int batchPacketBeginIndex;
+    private final List<PostgreSQLBatchedPacketsRange> batchedPacketsRanges;
     
-    private final int batchPacketEndIndex;
+    private final boolean containsBatchedStatements;
     
     public PostgreSQLAggregatedCommandPacket(final List<PostgreSQLCommandPacket> packets) {
         this.packets = packets;
-        String firstStatementId = null;
-        String firstPortal = null;
-        int parsePacketCount = 0;
-        int bindPacketCountForFirstStatement = 0;
-        int executePacketCountForFirstStatement = 0;
-        int batchPacketBeginIndex = -1;
-        int batchPacketEndIndex = -1;
+        batchedPacketsRanges = findBatchedPacketsRanges(packets);
+        containsBatchedStatements = !batchedPacketsRanges.isEmpty();
+    }
+    
+    private static List<PostgreSQLBatchedPacketsRange> findBatchedPacketsRanges(final List<PostgreSQLCommandPacket> packets) {
+        List<PostgreSQLBatchedPacketsRange> result = new LinkedList<>();
+        String portal = null;
+        boolean bindPacketExecuted = true;
+        int beginIndex = -1;
+        int endIndex = -1;
+        int executePacketCount = 0;
         int index = 0;
         for (PostgreSQLCommandPacket each : packets) {
-            if (each instanceof PostgreSQLComParsePacket) {
-                if (++parsePacketCount > 1) {
-                    break;
-                }
-                if (null == firstStatementId) {
-                    firstStatementId = ((PostgreSQLComParsePacket) each).getStatementId();
-                } else if (!firstStatementId.equals(((PostgreSQLComParsePacket) each).getStatementId())) {
-                    break;
-                }
-            }
             if (each instanceof PostgreSQLComBindPacket) {
-                if (-1 == batchPacketBeginIndex) {
-                    batchPacketBeginIndex = index;
-                }
-                if (null == firstStatementId) {
-                    firstStatementId = ((PostgreSQLComBindPacket) each).getStatementId();
-                } else if (!firstStatementId.equals(((PostgreSQLComBindPacket) each).getStatementId())) {
-                    break;
-                }
-                if (null == firstPortal) {
-                    firstPortal = ((PostgreSQLComBindPacket) each).getPortal();
-                } else if (!firstPortal.equals(((PostgreSQLComBindPacket) each).getPortal())) {
-                    break;
+                if (-1 == beginIndex || !bindPacketExecuted) {
+                    addBatchedPacketsRange(result, beginIndex, endIndex, executePacketCount);
+                    beginIndex = index;
+                    endIndex = -1;
+                    executePacketCount = 0;
                 }
-                bindPacketCountForFirstStatement++;
-            }
-            if (each instanceof PostgreSQLComExecutePacket) {
-                if (index > batchPacketEndIndex) {
-                    batchPacketEndIndex = index;
-                }
-                if (null == firstPortal) {
-                    firstPortal = ((PostgreSQLComExecutePacket) each).getPortal();
-                } else if (!firstPortal.equals(((PostgreSQLComExecutePacket) each).getPortal())) {
-                    break;
-                }
-                executePacketCountForFirstStatement++;
+                portal = ((PostgreSQLComBindPacket) each).getPortal();
+                bindPacketExecuted = false;
+            } else if (each instanceof PostgreSQLComExecutePacket && -1 != beginIndex && !bindPacketExecuted && portal.equals(((PostgreSQLComExecutePacket) each).getPortal())) {
+                bindPacketExecuted = true;
+                executePacketCount++;
+                endIndex = index;
+            } else if (!(each instanceof PostgreSQLComDescribePacket && -1 != beginIndex && !bindPacketExecuted && 'P' == ((PostgreSQLComDescribePacket) each).getType())) {
+                addBatchedPacketsRange(result, beginIndex, endIndex, executePacketCount);
+                beginIndex = -1;
+                endIndex = -1;
+                executePacketCount = 0;
+                bindPacketExecuted = true;
             }
             index++;
         }
-        this.batchPacketBeginIndex = batchPacketBeginIndex;
-        this.batchPacketEndIndex = batchPacketEndIndex;
-        containsBatchedStatements = bindPacketCountForFirstStatement == executePacketCountForFirstStatement && bindPacketCountForFirstStatement >= 3;
+        addBatchedPacketsRange(result, beginIndex, endIndex, executePacketCount);
+        return result;
+    }
+    
+    private static void addBatchedPacketsRange(final List<PostgreSQLBatchedPacketsRange> ranges, final int beginIndex, final int endIndex, final int executePacketCount) {
+        if (-1 != beginIndex && executePacketCount >= MIN_BATCHED_EXECUTE_COUNT) {
+            ranges.add(new PostgreSQLBatchedPacketsRange(beginIndex, endIndex));
+        }
     }
     
     @Override
@@ -29,6 +29,8 @@ import java.util.HashSet;
 
 /**
  * Command complete packet for PostgreSQL.
+ *
+ * <p>Row count is omitted from the command tag if it is negative, which means the row count is unknown.</p>
  */
 @RequiredArgsConstructor
 public final class PostgreSQLCommandCompletePacket extends PostgreSQLIdentifierPacket {
@@ -41,7 +43,7 @@ public final class PostgreSQLCommandCompletePacket extends PostgreSQLIdentifierP
     
     @Override
     protected void write(final PostgreSQLPacketPayload payload) {
-        if (!TAGS_WITH_COUNT.contains(sqlCommand)) {
+        if (!TAGS_WITH_COUNT.contains(sqlCommand) || rowCount < 0L) {
             payload.writeStringNul(sqlCommand);
             return;
         }
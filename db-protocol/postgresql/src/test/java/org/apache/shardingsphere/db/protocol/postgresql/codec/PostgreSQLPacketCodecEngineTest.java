@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.db.protocol.postgresql.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
@@ -42,6 +43,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -106,6 +108,21 @@ class PostgreSQLPacketCodecEngineTest {
         verify(byteBuf).setInt(1, 8);
     }
     
+    @Test
+    void assertEncodeAfterEncodedPacket() {
+        PostgreSQLIdentifierPacket packet = mock(PostgreSQLIdentifierPacket.class);
+        when(packet.getIdentifier()).thenReturn(PostgreSQLMessagePacketType.DATA_ROW);
+        doAnswer(invocation -> ((PostgreSQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeShort(1)).when(packet).write(any(PostgreSQLPacketPayload.class));
+        ByteBuf out = Unpooled.buffer();
+        PostgreSQLPacketCodecEngine engine = new PostgreSQLPacketCodecEngine();
+        engine.encode(context, packet, out);
+        engine.encode(context, packet, out);
+        assertThat(out.readableBytes(), is(14));
+        assertThat(out.getInt(1), is(6));
+        assertThat(out.getByte(7), is((byte) PostgreSQLMessagePacketType.DATA_ROW.getValue()));
+        assertThat(out.getInt(8), is(6));
+    }
+    
     @Test
     void assertEncodeOccursException() {
         PostgreSQLPacket packet = mock(PostgreSQLPacket.class);
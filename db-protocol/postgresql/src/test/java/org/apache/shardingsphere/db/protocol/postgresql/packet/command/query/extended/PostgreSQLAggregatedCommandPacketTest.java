@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended;
+
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.parse.PostgreSQLComParsePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.sync.PostgreSQLComSyncPacket;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostgreSQLAggregatedCommandPacketTest {
+    
+    @Test
+    void assertSingleBatchedStatements() {
+        List<PostgreSQLCommandPacket> packets = new ArrayList<>();
+        packets.add(mock(PostgreSQLComParsePacket.class));
+        addBindDescribeExecutePackets(packets, "S_1", 3);
+        packets.add(mock(PostgreSQLComSyncPacket.class));
+        PostgreSQLAggregatedCommandPacket actual = new PostgreSQLAggregatedCommandPacket(packets);
+        assertTrue(actual.isContainsBatchedStatements());
+        assertThat(actual.getBatchedPacketsRanges().size(), is(1));
+        assertRange(actual.getBatchedPacketsRanges().get(0), 1, 9);
+    }
+    
+    @Test
+    void assertMultipleBatchedStatements() {
+        List<PostgreSQLCommandPacket> packets = new ArrayList<>();
+        packets.add(mock(PostgreSQLComParsePacket.class));
+        addBindDescribeExecutePackets(packets, "S_1", 3);
+        packets.add(mock(PostgreSQLComParsePacket.class));
+        addBindDescribeExecutePackets(packets, "S_2", 4);
+        addBindDescribeExecutePackets(packets, "S_1", 3);
+        packets.add(mock(PostgreSQLComSyncPacket.class));
+        PostgreSQLAggregatedCommandPacket actual = new PostgreSQLAggregatedCommandPacket(packets);
+        assertTrue(actual.isContainsBatchedStatements());
+        assertThat(actual.getBatchedPacketsRanges().size(), is(2));
+        assertRange(actual.getBatchedPacketsRanges().get(0), 1, 9);
+        assertRange(actual.getBatchedPacketsRanges().get(1), 11, 31);
+    }
+    
+    @Test
+    void assertInterleavedStatementsBatched() {
+        List<PostgreSQLCommandPacket> packets = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            addBindDescribeExecutePackets(packets, "S_1", 1);
+            addBindDescribeExecutePackets(packets, "S_2", 1);
+        }
+        packets.add(mock(PostgreSQLComSyncPacket.class));
+        PostgreSQLAggregatedCommandPacket actual = new PostgreSQLAggregatedCommandPacket(packets);
+        assertTrue(actual.isContainsBatchedStatements());
+        assertThat(actual.getBatchedPacketsRanges().size(), is(1));
+        assertRange(actual.getBatchedPacketsRanges().get(0), 0, 17);
+    }
+    
+    @Test
+    void assertUnexecutedBindPacketSplitsBatch() {
+        List<PostgreSQLCommandPacket> packets = new ArrayList<>();
+        addBindDescribeExecutePackets(packets, "S_1", 3);
+        packets.add(createBindPacket("S_2"));
+        addBindDescribeExecutePackets(packets, "S_2", 3);
+        packets.add(mock(PostgreSQLComSyncPacket.class));
+        PostgreSQLAggregatedCommandPacket actual = new PostgreSQLAggregatedCommandPacket(packets);
+        assertThat(actual.getBatchedPacketsRanges().size(), is(2));
+        assertRange(actual.getBatchedPacketsRanges().get(0), 0, 8);
+        assertRange(actual.getBatchedPacketsRanges().get(1), 10, 18);
+    }
+    
+    @Test
+    void assertTooFewExecutionsNotBatched() {
+        List<PostgreSQLCommandPacket> packets = new ArrayList<>();
+        packets.add(mock(PostgreSQLComParsePacket.class));
+        addBindDescribeExecutePackets(packets, "S_1", 2);
+        packets.add(mock(PostgreSQLComSyncPacket.class));
+        assertFalse(new PostgreSQLAggregatedCommandPacket(packets).isContainsBatchedStatements());
+    }
+    
+    @Test
+    void assertUnexecutedBindPacketExcludedFromBatch() {
+        List<PostgreSQLCommandPacket> packets = new ArrayList<>();
+        addBindDescribeExecutePackets(packets, "S_1", 3);
+        packets.add(createBindPacket("S_1"));
+        packets.add(mock(PostgreSQLComSyncPacket.class));
+        PostgreSQLAggregatedCommandPacket actual = new PostgreSQLAggregatedCommandPacket(packets);
+        assertThat(actual.getBatchedPacketsRanges().size(), is(1));
+        assertRange(actual.getBatchedPacketsRanges().get(0), 0, 8);
+    }
+    
+    private void addBindDescribeExecutePackets(final List<PostgreSQLCommandPacket> packets, final String statementId, final int count) {
+        for (int i = 0; i < count; i++) {
+            packets.add(createBindPacket(statementId));
+            PostgreSQLComDescribePacket describePacket = mock(PostgreSQLComDescribePacket.class);
+            when(describePacket.getType()).thenReturn('P');
+            PostgreSQLComExecutePacket executePacket = mock(PostgreSQLComExecutePacket.class);
+            when(executePacket.getPortal()).thenReturn("");
+            packets.addAll(Arrays.asList(describePacket, executePacket));
+        }
+    }
+    
+    private PostgreSQLComBindPacket createBindPacket(final String statementId) {
+        PostgreSQLComBindPacket result = mock(PostgreSQLComBindPacket.class);
+        when(result.getStatementId()).thenReturn(statementId);
+        when(result.getPortal()).thenReturn("");
+        return result;
+    }
+    
+    private void assertRange(final PostgreSQLBatchedPacketsRange actual, final int expectedBeginIndex, final int expectedEndIndex) {
+        assertThat(actual.getBeginIndex(), is(expectedBeginIndex));
+        assertThat(actual.getEndIndex(), is(expectedEndIndex));
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.db.protocol.postgresql.packet.generic;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.ByteBufTestUtils;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -27,6 +28,7 @@ import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
 import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
 import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -47,6 +49,13 @@ class PostgreSQLCommandCompletePacketTest {
         assertThat(payload.readStringNul(), is(expectedString));
     }
     
+    @Test
+    void assertWriteWithUnknownRowCount() {
+        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(ByteBufTestUtils.createByteBuf(7), StandardCharsets.ISO_8859_1);
+        new PostgreSQLCommandCompletePacket("UPDATE", Statement.SUCCESS_NO_INFO).write(payload);
+        assertThat(payload.readStringNul(), is("UPDATE"));
+    }
+    
     private static class TestCaseArgumentsProvider implements ArgumentsProvider {
         
         @Override
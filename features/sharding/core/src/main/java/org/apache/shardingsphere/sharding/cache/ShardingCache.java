@@ -21,6 +21,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheConfiguration;
 import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableChecker;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteChangedTablesFinder;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.timeservice.core.rule.TimestampServiceRule;
 import org.apache.shardingsphere.timeservice.core.rule.builder.DefaultTimestampServiceConfigurationBuilder;
@@ -42,10 +43,17 @@ public final class ShardingCache {
     private final ShardingRouteCache routeCache;
     
     public ShardingCache(final ShardingCacheConfiguration config, final ShardingRule shardingRule) {
+        this(config, shardingRule, null);
+    }
+    
+    public ShardingCache(final ShardingCacheConfiguration config, final ShardingRule shardingRule, final ShardingCache previousShardingCache) {
         configuration = config;
         this.shardingRule = shardingRule;
         timestampServiceRule = new TimestampServiceRule(new DefaultTimestampServiceConfigurationBuilder().build());
         routeCacheableChecker = new ShardingRouteCacheableChecker(this);
-        routeCache = new ShardingRouteCache(config.getRouteCache());
+        routeCache = null == previousShardingCache
+                ? new ShardingRouteCache(config.getRouteCache())
+                : ShardingRouteCache.inherit(config.getRouteCache(), previousShardingCache.getRouteCache(),
+                        ShardingRouteChangedTablesFinder.find(previousShardingCache.getShardingRule(), shardingRule));
     }
 }
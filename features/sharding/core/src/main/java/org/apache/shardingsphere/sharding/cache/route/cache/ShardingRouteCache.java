@@ -17,25 +17,70 @@
 
 package org.apache.shardingsphere.sharding.cache.route.cache;
 
+import com.cedarsoftware.util.CaseInsensitiveSet;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Cache for sharding route.
+ * 
+ * <p>All route results share one bounded cache. Entries are tagged with logic table names of their keys rather than stored in separate per table segments,
+ * so that invalidation can be scoped to changed logic tables while the configured maximum size or weight stays a global bound.</p>
  */
 public final class ShardingRouteCache {
     
+    private final StatsCounter statsCounter;
+    
     private final Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> cache;
     
     public ShardingRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
+        this(cacheOptions, new ConcurrentStatsCounter());
+    }
+    
+    private ShardingRouteCache(final ShardingCacheOptionsConfiguration cacheOptions, final StatsCounter statsCounter) {
+        this.statsCounter = statsCounter;
         cache = buildRouteCache(cacheOptions);
     }
     
+    /**
+     * Create route cache which inherits cached route results and statistics from previous route cache.
+     * 
+     * <p>Route results of changed logic tables are not inherited, so that altering one sharding table or algorithm does not flush routes of unrelated tables.</p>
+     *
+     * @param cacheOptions cache options
+     * @param previousRouteCache previous route cache
+     * @param changedLogicTableNames changed logic table names
+     * @return created route cache
+     */
+    public static ShardingRouteCache inherit(final ShardingCacheOptionsConfiguration cacheOptions, final ShardingRouteCache previousRouteCache, final Collection<String> changedLogicTableNames) {
+        ShardingRouteCache result = new ShardingRouteCache(cacheOptions, previousRouteCache.statsCounter);
+        Collection<String> invalidatedLogicTableNames = new CaseInsensitiveSet<>(changedLogicTableNames);
+        previousRouteCache.cache.asMap().forEach((key, value) -> {
+            if (!isInvalidated(key, invalidatedLogicTableNames)) {
+                result.cache.put(key, value);
+            }
+        });
+        return result;
+    }
+    
     private Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> buildRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
-        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize());
+        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).recordStats(() -> statsCounter);
+        if (cacheOptions.getMaximumWeight() > 0L) {
+            result.maximumWeight(cacheOptions.getMaximumWeight()).weigher((ShardingRouteCacheKey key, ShardingRouteCacheValue value) -> key.getSql().length());
+        } else {
+            result.maximumSize(cacheOptions.getMaximumSize());
+        }
+        if (cacheOptions.getExpireAfterAccessMillis() > 0L) {
+            result.expireAfterAccess(cacheOptions.getExpireAfterAccessMillis(), TimeUnit.MILLISECONDS);
+        }
         if (cacheOptions.isSoftValues()) {
             result.softValues();
         }
@@ -61,4 +106,35 @@ public final class ShardingRouteCache {
     public Optional<ShardingRouteCacheValue> get(final ShardingRouteCacheKey key) {
         return Optional.ofNullable(cache.getIfPresent(key));
     }
+    
+    /**
+     * Record time spent on routing after cache missed.
+     *
+     * @param loadTimeNanos load time in nanoseconds
+     */
+    public void recordLoad(final long loadTimeNanos) {
+        statsCounter.recordLoadSuccess(loadTimeNanos);
+    }
+    
+    /**
+     * Get statistics of route cache.
+     *
+     * @return statistics of route cache
+     */
+    public CacheStats getStats() {
+        return statsCounter.snapshot();
+    }
+    
+    /**
+     * Get estimated size of route cache.
+     *
+     * @return estimated size
+     */
+    public long getEstimatedSize() {
+        return cache.estimatedSize();
+    }
+    
+    private static boolean isInvalidated(final ShardingRouteCacheKey key, final Collection<String> invalidatedLogicTableNames) {
+        return key.getLogicTableNames().isEmpty() || key.getLogicTableNames().stream().anyMatch(invalidatedLogicTableNames::contains);
+    }
 }
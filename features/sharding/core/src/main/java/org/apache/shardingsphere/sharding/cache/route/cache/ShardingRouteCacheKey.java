@@ -21,6 +21,8 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -28,10 +30,16 @@ import java.util.List;
  */
 @RequiredArgsConstructor
 @Getter
-@EqualsAndHashCode
+@EqualsAndHashCode(of = {"sql", "shardingConditionParameters"})
 public final class ShardingRouteCacheKey {
     
     private final String sql;
     
     private final List<Object> shardingConditionParameters;
+    
+    private final Collection<String> logicTableNames;
+    
+    public ShardingRouteCacheKey(final String sql, final List<Object> shardingConditionParameters) {
+        this(sql, shardingConditionParameters, Collections.emptyList());
+    }
 }
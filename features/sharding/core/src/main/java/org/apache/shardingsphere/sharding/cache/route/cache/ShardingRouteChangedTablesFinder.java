@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route.cache;
+
+import com.cedarsoftware.util.CaseInsensitiveSet;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ComplexShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rule.BindingTableRule;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.ShardingTable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Objects;
+
+/**
+ * Finder of logic tables whose route results are changed between two sharding rules.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingRouteChangedTablesFinder {
+    
+    /**
+     * Find logic tables whose route results may be changed.
+     *
+     * @param previousRule previous sharding rule
+     * @param currentRule current sharding rule
+     * @return changed logic table names
+     */
+    public static Collection<String> find(final ShardingRule previousRule, final ShardingRule currentRule) {
+        Collection<String> logicTableNames = new CaseInsensitiveSet<>(previousRule.getShardingTables().keySet());
+        logicTableNames.addAll(currentRule.getShardingTables().keySet());
+        if (!Objects.equals(previousRule.getDefaultShardingColumn(), currentRule.getDefaultShardingColumn())) {
+            return logicTableNames;
+        }
+        Collection<String> result = new LinkedList<>();
+        for (String each : logicTableNames) {
+            if (isChanged(previousRule, currentRule, each)) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private static boolean isChanged(final ShardingRule previousRule, final ShardingRule currentRule, final String logicTableName) {
+        ShardingTable previousTable = previousRule.getShardingTables().get(logicTableName);
+        ShardingTable currentTable = currentRule.getShardingTables().get(logicTableName);
+        if (null == previousTable || null == currentTable || !previousTable.getActualDataNodes().equals(currentTable.getActualDataNodes())) {
+            return true;
+        }
+        return !isSameStrategy(previousRule, previousRule.getDatabaseShardingStrategyConfiguration(previousTable), currentRule, currentRule.getDatabaseShardingStrategyConfiguration(currentTable))
+                || !isSameStrategy(previousRule, previousRule.getTableShardingStrategyConfiguration(previousTable), currentRule, currentRule.getTableShardingStrategyConfiguration(currentTable))
+                || !isSameBindingTables(previousRule, currentRule, logicTableName);
+    }
+    
+    private static boolean isSameStrategy(final ShardingRule previousRule, final ShardingStrategyConfiguration previousStrategy,
+                                          final ShardingRule currentRule, final ShardingStrategyConfiguration currentStrategy) {
+        if (previousStrategy.getClass() != currentStrategy.getClass() || !Objects.equals(previousStrategy.getShardingAlgorithmName(), currentStrategy.getShardingAlgorithmName())
+                || !Objects.equals(getShardingColumns(previousStrategy), getShardingColumns(currentStrategy))) {
+            return false;
+        }
+        return null == previousStrategy.getShardingAlgorithmName() || Objects.equals(previousRule.getConfiguration().getShardingAlgorithms().get(previousStrategy.getShardingAlgorithmName()),
+                currentRule.getConfiguration().getShardingAlgorithms().get(currentStrategy.getShardingAlgorithmName()));
+    }
+    
+    private static String getShardingColumns(final ShardingStrategyConfiguration strategy) {
+        if (strategy instanceof StandardShardingStrategyConfiguration) {
+            return ((StandardShardingStrategyConfiguration) strategy).getShardingColumn();
+        }
+        if (strategy instanceof ComplexShardingStrategyConfiguration) {
+            return ((ComplexShardingStrategyConfiguration) strategy).getShardingColumns();
+        }
+        return null;
+    }
+    
+    private static boolean isSameBindingTables(final ShardingRule previousRule, final ShardingRule currentRule, final String logicTableName) {
+        Collection<String> previousBindingTables = getBindingTables(previousRule, logicTableName);
+        Collection<String> currentBindingTables = getBindingTables(currentRule, logicTableName);
+        return previousBindingTables.size() == currentBindingTables.size() && previousBindingTables.containsAll(currentBindingTables);
+    }
+    
+    private static Collection<String> getBindingTables(final ShardingRule rule, final String logicTableName) {
+        return rule.findBindingTableRule(logicTableName).map(BindingTableRule::getShardingTables).<Collection<String>>map(optional -> new CaseInsensitiveSet<>(optional.keySet()))
+                .orElse(Collections.emptySet());
+    }
+}
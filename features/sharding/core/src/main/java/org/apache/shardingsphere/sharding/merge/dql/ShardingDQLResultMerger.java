@@ -18,11 +18,12 @@
 package org.apache.shardingsphere.sharding.merge.dql;
 
 import com.cedarsoftware.util.CaseInsensitiveMap;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.metadata.database.DialectDatabaseMetaData;
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -34,27 +35,41 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.sharding.merge.common.IteratorStreamMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByExternalMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByTopNMemoryMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.builder.PaginationDecoratorMergedResultBuilder;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.util.SQLUtils;
 
+import java.nio.file.Paths;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
 
 /**
  * DQL result merger for Sharding.
  */
-@RequiredArgsConstructor
 public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType protocolType;
     
+    private final ConfigurationProperties props;
+    
+    public ShardingDQLResultMerger(final DatabaseType protocolType) {
+        this(protocolType, new ConfigurationProperties(new Properties()));
+    }
+    
+    public ShardingDQLResultMerger(final DatabaseType protocolType, final ConfigurationProperties props) {
+        this.protocolType = protocolType;
+        this.props = props;
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext,
                               final ShardingSphereDatabase database, final ConnectionContext connectionContext) throws SQLException {
@@ -117,9 +132,24 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                                 final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
-        return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
-                : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
+        if (selectStatementContext.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema);
+        }
+        if (isNeedProcessTopN(queryResults, selectStatementContext)) {
+            return new GroupByTopNMemoryMergedResult(queryResults, selectStatementContext, schema);
+        }
+        long mergeMemoryMaxBytes = props.<Long>getValue(ConfigurationPropertyKey.MERGE_MEMORY_MAX_BYTES);
+        if (mergeMemoryMaxBytes > 0L && GroupByExternalMergedResult.isSpillable(queryResults)) {
+            String mergeSpillDirectory = props.getValue(ConfigurationPropertyKey.MERGE_SPILL_DIRECTORY);
+            return new GroupByExternalMergedResult(queryResults, selectStatementContext, schema, mergeMemoryMaxBytes, mergeSpillDirectory.isEmpty() ? null : Paths.get(mergeSpillDirectory));
+        }
+        return new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
+    }
+    
+    private boolean isNeedProcessTopN(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext) {
+        return 1 != queryResults.size() && !selectStatementContext.getGroupByContext().getItems().isEmpty()
+                && GroupByTopNMemoryMergedResult.getTopN(selectStatementContext.getPaginationContext()) >= 0L
+                && DatabaseTypedSPILoader.findService(PaginationDecoratorMergedResultBuilder.class, protocolType).isPresent();
     }
     
     private boolean isNeedProcessOrderBy(final SelectStatementContext selectStatementContext) {
@@ -0,0 +1,466 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
+import org.apache.shardingsphere.sharding.exception.data.MergeSpillFileException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.columnar.ColumnarAggregator;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.columnar.ColumnarAggregatorFactory;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpillFileReader;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpillFileWriter;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpillRowCodec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * External merged result for group by.
+ * 
+ * <p>Groups are aggregated in memory until the estimated memory exceeds max memory bytes, rows of new groups are spilled into hashed partition files after that.
+ * Aggregated groups of memory and every partition are sorted and spilled as sorted runs, which are merged when iterating.
+ * All spill files are deleted when the merged result is closed or fails to be created.
+ * Only query results whose column types are supported by {@link SpillRowCodec} can be merged by it.</p>
+ */
+public final class GroupByExternalMergedResult implements MergedResult {
+    
+    private static final int PARTITION_COUNT = 16;
+    
+    private static final int MAX_SPILL_DEPTH = 3;
+    
+    private static final long GROUP_OVERHEAD_BYTES = 128L;
+    
+    private static final long AGGREGATION_STATE_BYTES = 16L;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final long maxMemoryBytes;
+    
+    private final Path spillDirectory;
+    
+    private final Collection<SpillFileWriter> spillFileWriters = new LinkedList<>();
+    
+    private final Collection<SpillFileReader> spillFileReaders = new LinkedList<>();
+    
+    private final Comparator<MemoryQueryResultRow> rowComparator;
+    
+    private final Queue<SortedRun> sortedRuns;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    private boolean closed;
+    
+    public GroupByExternalMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                       final ShardingSphereSchema schema, final long maxMemoryBytes, final Path spillDirectory) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.spillDirectory = spillDirectory;
+        rowComparator = new GroupByRowComparator(selectStatementContext,
+                queryResults.isEmpty() ? Collections.emptyList() : GroupByMemoryMergedResult.getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema));
+        sortedRuns = new PriorityQueue<>(PARTITION_COUNT + 1, (o1, o2) -> rowComparator.compare(o1.getCurrentRow(), o2.getCurrentRow()));
+        try {
+            init(queryResults);
+        } catch (final IOException ex) {
+            QuietlyCloser.close(this::close);
+            throw new MergeSpillFileException(ex);
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            QuietlyCloser.close(this::close);
+            throw ex;
+        }
+    }
+    
+    /**
+     * Judge whether rows of query results can be spilled.
+     *
+     * @param queryResults query results
+     * @return can be spilled or not
+     * @throws SQLException SQL exception
+     */
+    public static boolean isSpillable(final List<QueryResult> queryResults) throws SQLException {
+        if (queryResults.isEmpty()) {
+            return true;
+        }
+        QueryResultMetaData metaData = queryResults.get(0).getMetaData();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (!SpillRowCodec.isSupportedColumnType(metaData.getColumnType(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void init(final List<QueryResult> queryResults) throws SQLException, IOException {
+        Collection<SortedRun> runs = new LinkedList<>();
+        boolean isEmpty = aggregate(new QueryResultRowIterator(queryResults.iterator()), 0, runs);
+        if (isEmpty) {
+            Object[] data = GroupByMemoryMergedResult.generateReturnData(selectStatementContext);
+            if (Arrays.stream(data).anyMatch(Objects::nonNull)) {
+                runs.add(new MemorySortedRun(Collections.singletonList(new MemoryQueryResultRow(data)).iterator()));
+            }
+        }
+        for (SortedRun each : runs) {
+            if (each.next()) {
+                sortedRuns.offer(each);
+            }
+        }
+    }
+    
+    private boolean aggregate(final RowIterator rows, final int depth, final Collection<SortedRun> runs) throws SQLException, IOException {
+        Map<GroupByValue, Integer> groupOrdinals = new HashMap<>(1024, 1F);
+        List<GroupByRow> groupByRows = new ArrayList<>(1024);
+        List<AggregationProjection> aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections();
+        ColumnarAggregator[] aggregators = createAggregators(aggregationProjections);
+        SpillFileWriter[] partitions = null;
+        long memoryBytes = 0L;
+        boolean isEmpty = true;
+        Object[] row;
+        while (null != (row = rows.nextRow())) {
+            isEmpty = false;
+            GroupByValue groupByValue = new GroupByValue(row, selectStatementContext.getGroupByContext().getItems());
+            Integer groupOrdinal = groupOrdinals.get(groupByValue);
+            if (null == groupOrdinal) {
+                if (memoryBytes > maxMemoryBytes && depth < MAX_SPILL_DEPTH) {
+                    partitions = null == partitions ? new SpillFileWriter[PARTITION_COUNT] : partitions;
+                    spill(partitions, getPartitionIndex(groupByValue, depth), row);
+                    continue;
+                }
+                groupOrdinal = groupByRows.size();
+                groupOrdinals.put(groupByValue, groupOrdinal);
+                groupByRows.add(new GroupByRow(row));
+                memoryBytes += estimateGroupBytes(row);
+            }
+            for (ColumnarAggregator each : aggregators) {
+                each.aggregate(groupOrdinal, row);
+            }
+        }
+        groupOrdinals.clear();
+        List<GroupByRow> sortedRows = getSortedRows(groupByRows, aggregationProjections, aggregators);
+        if (null == partitions && 0 == depth) {
+            runs.add(new MemorySortedRun(sortedRows.stream().map(GroupByRow::getRow).iterator()));
+            return isEmpty;
+        }
+        runs.add(spillSortedRun(sortedRows));
+        sortedRows.clear();
+        if (null != partitions) {
+            for (SpillFileWriter each : partitions) {
+                if (null != each) {
+                    aggregate(new SpillFileRowIterator(openReader(each)), depth + 1, runs);
+                }
+            }
+        }
+        return isEmpty;
+    }
+    
+    private void spill(final SpillFileWriter[] partitions, final int partitionIndex, final Object[] row) throws IOException {
+        if (null == partitions[partitionIndex]) {
+            partitions[partitionIndex] = createSpillFileWriter();
+        }
+        partitions[partitionIndex].write(row);
+    }
+    
+    private int getPartitionIndex(final GroupByValue groupByValue, final int depth) {
+        int hash = groupByValue.hashCode() + depth * 0x9E3779B9;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        return Math.floorMod(hash, PARTITION_COUNT);
+    }
+    
+    private ColumnarAggregator[] createAggregators(final List<AggregationProjection> aggregationProjections) {
+        ColumnarAggregator[] result = new ColumnarAggregator[aggregationProjections.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ColumnarAggregatorFactory.create(aggregationProjections.get(i));
+        }
+        return result;
+    }
+    
+    private List<GroupByRow> getSortedRows(final List<GroupByRow> groupByRows, final List<AggregationProjection> aggregationProjections, final ColumnarAggregator[] aggregators) {
+        for (int groupOrdinal = 0; groupOrdinal < groupByRows.size(); groupOrdinal++) {
+            for (int i = 0; i < aggregators.length; i++) {
+                groupByRows.get(groupOrdinal).getRow().setCell(aggregationProjections.get(i).getIndex(), aggregators[i].getResult(groupOrdinal));
+            }
+        }
+        groupByRows.sort((o1, o2) -> rowComparator.compare(o1.getRow(), o2.getRow()));
+        return groupByRows;
+    }
+    
+    private SortedRun spillSortedRun(final List<GroupByRow> sortedRows) throws IOException {
+        SpillFileWriter writer = createSpillFileWriter();
+        for (GroupByRow each : sortedRows) {
+            writer.write(each.getData());
+        }
+        return new SpillFileSortedRun(openReader(writer));
+    }
+    
+    private SpillFileWriter createSpillFileWriter() throws IOException {
+        SpillFileWriter result = new SpillFileWriter(spillDirectory);
+        spillFileWriters.add(result);
+        return result;
+    }
+    
+    private SpillFileReader openReader(final SpillFileWriter writer) throws IOException {
+        SpillFileReader result = writer.openReader();
+        spillFileReaders.add(result);
+        return result;
+    }
+    
+    private long estimateGroupBytes(final Object[] row) {
+        long result = GROUP_OVERHEAD_BYTES + selectStatementContext.getProjectionsContext().getAggregationProjections().size() * AGGREGATION_STATE_BYTES + 16L + 4L * row.length;
+        for (Object each : row) {
+            result += estimateValueBytes(each);
+        }
+        return result;
+    }
+    
+    private long estimateValueBytes(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return 40L + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return 16L + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return 64L;
+        }
+        return value instanceof Number || value instanceof Boolean ? 16L : 48L;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (null != currentRow) {
+            SortedRun currentRun = sortedRuns.poll();
+            if (advance(currentRun)) {
+                sortedRuns.offer(currentRun);
+            }
+        }
+        if (sortedRuns.isEmpty()) {
+            currentRow = null;
+            return false;
+        }
+        currentRow = sortedRuns.peek().getCurrentRow();
+        return true;
+    }
+    
+    private boolean advance(final SortedRun sortedRun) {
+        try {
+            return sortedRun.next();
+        } catch (final IOException ex) {
+            throw new MergeSpillFileException(ex);
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Get Character stream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        sortedRuns.clear();
+        currentRow = null;
+        IOException ex = null;
+        for (SpillFileReader each : spillFileReaders) {
+            ex = closeSpillFile(each::close, ex);
+        }
+        for (SpillFileWriter each : spillFileWriters) {
+            ex = closeSpillFile(each::delete, ex);
+        }
+        spillFileReaders.clear();
+        spillFileWriters.clear();
+        if (null != ex) {
+            throw new MergeSpillFileException(ex);
+        }
+    }
+    
+    private IOException closeSpillFile(final SpillFileCloser closer, final IOException previous) {
+        try {
+            closer.close();
+            return previous;
+        } catch (final IOException ex) {
+            if (null != previous) {
+                previous.addSuppressed(ex);
+                return previous;
+            }
+            return ex;
+        }
+    }
+    
+    @Getter
+    private static final class GroupByRow {
+        
+        private final Object[] data;
+        
+        private final MemoryQueryResultRow row;
+        
+        GroupByRow(final Object[] data) {
+            this.data = data;
+            row = new MemoryQueryResultRow(data);
+        }
+    }
+    
+    private interface SpillFileCloser {
+        
+        void close() throws IOException;
+    }
+    
+    private interface RowIterator {
+        
+        Object[] nextRow() throws SQLException, IOException;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class QueryResultRowIterator implements RowIterator {
+        
+        private final Iterator<QueryResult> queryResults;
+        
+        private QueryResult currentQueryResult;
+        
+        @Override
+        public Object[] nextRow() throws SQLException {
+            while (null == currentQueryResult || !currentQueryResult.next()) {
+                if (!queryResults.hasNext()) {
+                    return null;
+                }
+                currentQueryResult = queryResults.next();
+            }
+            Object[] result = new Object[currentQueryResult.getMetaData().getColumnCount()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = currentQueryResult.getValue(i + 1, Object.class);
+            }
+            return result;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SpillFileRowIterator implements RowIterator {
+        
+        private final SpillFileReader reader;
+        
+        @Override
+        public Object[] nextRow() throws IOException {
+            return reader.read();
+        }
+    }
+    
+    private interface SortedRun {
+        
+        boolean next() throws IOException;
+        
+        MemoryQueryResultRow getCurrentRow();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class MemorySortedRun implements SortedRun {
+        
+        private final Iterator<MemoryQueryResultRow> rows;
+        
+        @Getter
+        private MemoryQueryResultRow currentRow;
+        
+        @Override
+        public boolean next() {
+            if (!rows.hasNext()) {
+                return false;
+            }
+            currentRow = rows.next();
+            return true;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SpillFileSortedRun implements SortedRun {
+        
+        private final SpillFileReader reader;
+        
+        @Getter
+        private MemoryQueryResultRow currentRow;
+        
+        @Override
+        public boolean next() throws IOException {
+            Object[] row = reader.read();
+            if (null == row) {
+                return false;
+            }
+            currentRow = new MemoryQueryResultRow(row);
+            return true;
+        }
+    }
+}
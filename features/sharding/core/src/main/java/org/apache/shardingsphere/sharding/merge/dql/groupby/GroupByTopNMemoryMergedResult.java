@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Memory merged result for group by with pagination.
+ * 
+ * <p>Only the first offset + row count rows are required by pagination decorator, so aggregated rows are selected by a bounded heap instead of sorting all groups.</p>
+ */
+public final class GroupByTopNMemoryMergedResult extends MemoryMergedResult<ShardingRule> {
+    
+    public GroupByTopNMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        super(null, schema, selectStatementContext, queryResults);
+    }
+    
+    /**
+     * Get top N of pagination, which is the max count of rows can be consumed by pagination decorator.
+     *
+     * @param paginationContext pagination context
+     * @return top N, {@code -1} means unbounded
+     */
+    public static long getTopN(final PaginationContext paginationContext) {
+        if (!paginationContext.isHasPagination() || !paginationContext.getActualRowCount().isPresent()) {
+            return -1L;
+        }
+        long result = paginationContext.getActualOffset() + paginationContext.getActualRowCount().get();
+        return result < 0L || result >= Integer.MAX_VALUE ? -1L : result;
+    }
+    
+    @Override
+    protected List<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema,
+                                              final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        List<MemoryQueryResultRow> rows = GroupByMemoryMergedResult.aggregate(selectStatementContext, queryResults);
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty()
+                ? Collections.emptyList()
+                : GroupByMemoryMergedResult.getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
+        if (rows.isEmpty()) {
+            return GroupByMemoryMergedResult.getEmptyGroupRows(selectStatementContext);
+        }
+        return selectTopN(rows, new GroupByRowComparator(selectStatementContext, valueCaseSensitive), getTopN(selectStatementContext.getPaginationContext()));
+    }
+    
+    private List<MemoryQueryResultRow> selectTopN(final List<MemoryQueryResultRow> rows, final GroupByRowComparator comparator, final long topN) {
+        if (topN < 0L || rows.size() <= topN) {
+            rows.sort(comparator);
+            return rows;
+        }
+        if (0L == topN) {
+            return Collections.emptyList();
+        }
+        Comparator<Integer> ordinalComparator = (o1, o2) -> {
+            int result = comparator.compare(rows.get(o1), rows.get(o2));
+            return 0 == result ? Integer.compare(o1, o2) : result;
+        };
+        PriorityQueue<Integer> heap = new PriorityQueue<>((int) topN, ordinalComparator.reversed());
+        for (int i = 0; i < rows.size(); i++) {
+            if (heap.size() < topN) {
+                heap.offer(i);
+            } else if (ordinalComparator.compare(i, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(i);
+            }
+        }
+        List<Integer> ordinals = new ArrayList<>(heap);
+        ordinals.sort(ordinalComparator);
+        List<MemoryQueryResultRow> result = new ArrayList<>(ordinals.size());
+        for (int each : ordinals) {
+            result.add(rows.get(each));
+        }
+        return result;
+    }
+}
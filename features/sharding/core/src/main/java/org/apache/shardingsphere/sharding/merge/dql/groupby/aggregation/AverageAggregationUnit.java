@@ -53,6 +53,17 @@ public final class AverageAggregationUnit implements AggregationUnit {
         if (null == count || BigDecimal.ZERO.compareTo(count) == 0) {
             return count;
         }
+        return getAverage(sum, count);
+    }
+    
+    /**
+     * Get average by sum and count.
+     *
+     * @param sum sum
+     * @param count count which is not zero
+     * @return average
+     */
+    public static BigDecimal getAverage(final BigDecimal sum, final BigDecimal count) {
         // TODO use metadata to fetch float number precise for database field
         return sum.divide(count, 4, RoundingMode.HALF_UP);
     }
@@ -20,7 +20,6 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -61,7 +60,6 @@ public final class DistinctAverageAggregationUnit implements AggregationUnit {
         if (null == count || BigDecimal.ZERO.compareTo(count) == 0) {
             return count;
         }
-        // TODO use metadata to fetch float number precise for database field
-        return sum.divide(count, 4, RoundingMode.HALF_UP);
+        return AverageAggregationUnit.getAverage(sum, count);
     }
 }
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.columnar;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Columnar aggregator which delegates to aggregation unit of each group.
+ */
+public final class AggregationUnitColumnarAggregator implements ColumnarAggregator {
+    
+    private final AggregationProjection aggregationProjection;
+    
+    private AggregationUnit[] units = new AggregationUnit[ColumnarAggregationUtils.DEFAULT_CAPACITY];
+    
+    public AggregationUnitColumnarAggregator(final AggregationProjection aggregationProjection) {
+        this.aggregationProjection = aggregationProjection;
+    }
+    
+    @Override
+    public void aggregate(final int groupOrdinal, final QueryResult queryResult) throws SQLException {
+        getUnit(groupOrdinal).merge(getAggregationValues(queryResult));
+    }
+    
+    @Override
+    public void aggregate(final int groupOrdinal, final Object[] row) {
+        getUnit(groupOrdinal).merge(getAggregationValues(row));
+    }
+    
+    private AggregationUnit getUnit(final int groupOrdinal) {
+        if (groupOrdinal >= units.length) {
+            units = Arrays.copyOf(units, ColumnarAggregationUtils.getNewCapacity(units.length, groupOrdinal));
+        }
+        if (null == units[groupOrdinal]) {
+            units[groupOrdinal] = AggregationUnitFactory.create(aggregationProjection.getType(), aggregationProjection instanceof AggregationDistinctProjection);
+        }
+        return units[groupOrdinal];
+    }
+    
+    private List<Comparable<?>> getAggregationValues(final QueryResult queryResult) throws SQLException {
+        List<Comparable<?>> result = new ArrayList<>(2);
+        if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+            result.add(ColumnarAggregationUtils.getAggregationValue(queryResult, aggregationProjection));
+        } else {
+            for (AggregationProjection each : aggregationProjection.getDerivedAggregationProjections()) {
+                result.add(ColumnarAggregationUtils.getAggregationValue(queryResult, each));
+            }
+        }
+        return result;
+    }
+    
+    private List<Comparable<?>> getAggregationValues(final Object[] row) {
+        List<Comparable<?>> result = new ArrayList<>(2);
+        if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+            result.add(ColumnarAggregationUtils.getAggregationValue(row, aggregationProjection));
+        } else {
+            for (AggregationProjection each : aggregationProjection.getDerivedAggregationProjections()) {
+                result.add(ColumnarAggregationUtils.getAggregationValue(row, each));
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int groupOrdinal) {
+        return groupOrdinal < units.length && null != units[groupOrdinal] ? units[groupOrdinal].getResult() : null;
+    }
+}
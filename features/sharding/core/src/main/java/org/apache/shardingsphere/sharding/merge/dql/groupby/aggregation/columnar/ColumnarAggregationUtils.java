@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.columnar;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+
+import java.sql.SQLException;
+
+/**
+ * Columnar aggregation utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ColumnarAggregationUtils {
+    
+    /**
+     * Default capacity of group states.
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+    
+    /**
+     * Get aggregation value.
+     *
+     * @param queryResult query result
+     * @param aggregationProjection aggregation projection
+     * @return aggregation value
+     * @throws SQLException SQL exception
+     */
+    public static Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
+        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
+        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
+        return (Comparable<?>) result;
+    }
+    
+    /**
+     * Get aggregation value.
+     *
+     * @param row row data
+     * @param aggregationProjection aggregation projection
+     * @return aggregation value
+     */
+    public static Comparable<?> getAggregationValue(final Object[] row, final AggregationProjection aggregationProjection) {
+        Object result = row[aggregationProjection.getIndex() - 1];
+        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
+        return (Comparable<?>) result;
+    }
+    
+    /**
+     * Judge whether value is integral number which can be accumulated as long.
+     *
+     * @param value value
+     * @return is integral number or not
+     */
+    public static boolean isIntegral(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    /**
+     * Get new capacity which can hold group ordinal.
+     *
+     * @param currentCapacity current capacity
+     * @param groupOrdinal group ordinal
+     * @return new capacity
+     */
+    public static int getNewCapacity(final int currentCapacity, final int groupOrdinal) {
+        return Math.max(currentCapacity << 1, groupOrdinal + 1);
+    }
+}
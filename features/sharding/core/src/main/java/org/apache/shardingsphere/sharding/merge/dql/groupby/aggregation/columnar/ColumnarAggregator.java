@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.columnar;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.sql.SQLException;
+
+/**
+ * Columnar aggregator, which keeps aggregation states of all groups for one aggregation projection indexed by group ordinal.
+ */
+public interface ColumnarAggregator {
+    
+    /**
+     * Aggregate value of current row into group.
+     *
+     * @param groupOrdinal group ordinal
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    void aggregate(int groupOrdinal, QueryResult queryResult) throws SQLException;
+    
+    /**
+     * Aggregate value of row data into group.
+     *
+     * @param groupOrdinal group ordinal
+     * @param row row data
+     */
+    void aggregate(int groupOrdinal, Object[] row);
+    
+    /**
+     * Get aggregation result of group.
+     *
+     * @param groupOrdinal group ordinal
+     * @return aggregation result
+     */
+    Comparable<?> getResult(int groupOrdinal);
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.columnar;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+
+/**
+ * Columnar aggregator factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ColumnarAggregatorFactory {
+    
+    /**
+     * Create columnar aggregator.
+     *
+     * @param aggregationProjection aggregation projection
+     * @return created columnar aggregator
+     */
+    public static ColumnarAggregator create(final AggregationProjection aggregationProjection) {
+        if (aggregationProjection instanceof AggregationDistinctProjection) {
+            return new AggregationUnitColumnarAggregator(aggregationProjection);
+        }
+        switch (aggregationProjection.getType()) {
+            case MAX:
+                return new ComparableColumnarAggregator(aggregationProjection, false);
+            case MIN:
+                return new ComparableColumnarAggregator(aggregationProjection, true);
+            case SUM:
+            case COUNT:
+                return new LongAccumulationColumnarAggregator(aggregationProjection);
+            case AVG:
+                return 2 == aggregationProjection.getDerivedAggregationProjections().size()
+                        ? new LongAverageColumnarAggregator(aggregationProjection)
+                        : new AggregationUnitColumnarAggregator(aggregationProjection);
+            default:
+                return new AggregationUnitColumnarAggregator(aggregationProjection);
+        }
+    }
+}
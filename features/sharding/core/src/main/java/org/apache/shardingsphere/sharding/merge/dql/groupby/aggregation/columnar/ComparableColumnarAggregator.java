@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.columnar;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Comparable columnar aggregator for MIN and MAX.
+ */
+public final class ComparableColumnarAggregator implements ColumnarAggregator {
+    
+    private final AggregationProjection aggregationProjection;
+    
+    private final boolean asc;
+    
+    private Comparable<?>[] results = new Comparable<?>[ColumnarAggregationUtils.DEFAULT_CAPACITY];
+    
+    public ComparableColumnarAggregator(final AggregationProjection aggregationProjection, final boolean asc) {
+        this.aggregationProjection = aggregationProjection;
+        this.asc = asc;
+    }
+    
+    @Override
+    public void aggregate(final int groupOrdinal, final QueryResult queryResult) throws SQLException {
+        aggregate(groupOrdinal, ColumnarAggregationUtils.getAggregationValue(queryResult, aggregationProjection));
+    }
+    
+    @Override
+    public void aggregate(final int groupOrdinal, final Object[] row) {
+        aggregate(groupOrdinal, ColumnarAggregationUtils.getAggregationValue(row, aggregationProjection));
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void aggregate(final int groupOrdinal, final Comparable<?> value) {
+        if (groupOrdinal >= results.length) {
+            results = Arrays.copyOf(results, ColumnarAggregationUtils.getNewCapacity(results.length, groupOrdinal));
+        }
+        if (null == value) {
+            return;
+        }
+        if (null == results[groupOrdinal]) {
+            results[groupOrdinal] = value;
+            return;
+        }
+        int comparedValue = ((Comparable) value).compareTo(results[groupOrdinal]);
+        if (asc ? comparedValue < 0 : comparedValue > 0) {
+            results[groupOrdinal] = value;
+        }
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int groupOrdinal) {
+        return groupOrdinal < results.length ? results[groupOrdinal] : null;
+    }
+}
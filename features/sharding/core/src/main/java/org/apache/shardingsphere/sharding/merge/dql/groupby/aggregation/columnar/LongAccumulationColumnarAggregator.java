@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.columnar;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AccumulationAggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Long accumulation columnar aggregator for COUNT and SUM.
+ * 
+ * <p>Integral values are accumulated into long array, group falls back to {@link AccumulationAggregationUnit} once non integral value found or long overflows.</p>
+ */
+public final class LongAccumulationColumnarAggregator implements ColumnarAggregator {
+    
+    private final AggregationProjection aggregationProjection;
+    
+    private long[] sums = new long[ColumnarAggregationUtils.DEFAULT_CAPACITY];
+    
+    private boolean[] accumulated = new boolean[ColumnarAggregationUtils.DEFAULT_CAPACITY];
+    
+    private AggregationUnit[] fallbackUnits = new AggregationUnit[ColumnarAggregationUtils.DEFAULT_CAPACITY];
+    
+    public LongAccumulationColumnarAggregator(final AggregationProjection aggregationProjection) {
+        this.aggregationProjection = aggregationProjection;
+    }
+    
+    @Override
+    public void aggregate(final int groupOrdinal, final QueryResult queryResult) throws SQLException {
+        aggregate(groupOrdinal, ColumnarAggregationUtils.getAggregationValue(queryResult, aggregationProjection));
+    }
+    
+    @Override
+    public void aggregate(final int groupOrdinal, final Object[] row) {
+        aggregate(groupOrdinal, ColumnarAggregationUtils.getAggregationValue(row, aggregationProjection));
+    }
+    
+    private void aggregate(final int groupOrdinal, final Comparable<?> value) {
+        ensureCapacity(groupOrdinal);
+        if (null == value) {
+            return;
+        }
+        if (null == fallbackUnits[groupOrdinal] && ColumnarAggregationUtils.isIntegral(value) && accumulate(groupOrdinal, ((Number) value).longValue())) {
+            return;
+        }
+        getFallbackUnit(groupOrdinal).merge(Collections.singletonList(value));
+    }
+    
+    private boolean accumulate(final int groupOrdinal, final long value) {
+        try {
+            sums[groupOrdinal] = Math.addExact(sums[groupOrdinal], value);
+        } catch (final ArithmeticException ignored) {
+            return false;
+        }
+        accumulated[groupOrdinal] = true;
+        return true;
+    }
+    
+    private AggregationUnit getFallbackUnit(final int groupOrdinal) {
+        if (null == fallbackUnits[groupOrdinal]) {
+            fallbackUnits[groupOrdinal] = new AccumulationAggregationUnit();
+            if (accumulated[groupOrdinal]) {
+                fallbackUnits[groupOrdinal].merge(Collections.singletonList(BigDecimal.valueOf(sums[groupOrdinal])));
+            }
+        }
+        return fallbackUnits[groupOrdinal];
+    }
+    
+    private void ensureCapacity(final int groupOrdinal) {
+        if (groupOrdinal < sums.length) {
+            return;
+        }
+        int newCapacity = ColumnarAggregationUtils.getNewCapacity(sums.length, groupOrdinal);
+        sums = Arrays.copyOf(sums, newCapacity);
+        accumulated = Arrays.copyOf(accumulated, newCapacity);
+        fallbackUnits = Arrays.copyOf(fallbackUnits, newCapacity);
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int groupOrdinal) {
+        if (groupOrdinal >= sums.length) {
+            return null;
+        }
+        if (null != fallbackUnits[groupOrdinal]) {
+            return fallbackUnits[groupOrdinal].getResult();
+        }
+        return accumulated[groupOrdinal] ? BigDecimal.valueOf(sums[groupOrdinal]) : null;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.columnar;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AverageAggregationUnit;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Long average columnar aggregator for AVG.
+ * 
+ * <p>Integral derived count and sum values are accumulated into long arrays, group falls back to {@link AverageAggregationUnit} once non integral value found or long overflows.</p>
+ */
+public final class LongAverageColumnarAggregator implements ColumnarAggregator {
+    
+    private final AggregationProjection countProjection;
+    
+    private final AggregationProjection sumProjection;
+    
+    private long[] counts = new long[ColumnarAggregationUtils.DEFAULT_CAPACITY];
+    
+    private long[] sums = new long[ColumnarAggregationUtils.DEFAULT_CAPACITY];
+    
+    private boolean[] accumulated = new boolean[ColumnarAggregationUtils.DEFAULT_CAPACITY];
+    
+    private AggregationUnit[] fallbackUnits = new AggregationUnit[ColumnarAggregationUtils.DEFAULT_CAPACITY];
+    
+    public LongAverageColumnarAggregator(final AggregationProjection aggregationProjection) {
+        countProjection = aggregationProjection.getDerivedAggregationProjections().get(0);
+        sumProjection = aggregationProjection.getDerivedAggregationProjections().get(1);
+    }
+    
+    @Override
+    public void aggregate(final int groupOrdinal, final QueryResult queryResult) throws SQLException {
+        aggregate(groupOrdinal, ColumnarAggregationUtils.getAggregationValue(queryResult, countProjection), ColumnarAggregationUtils.getAggregationValue(queryResult, sumProjection));
+    }
+    
+    @Override
+    public void aggregate(final int groupOrdinal, final Object[] row) {
+        aggregate(groupOrdinal, ColumnarAggregationUtils.getAggregationValue(row, countProjection), ColumnarAggregationUtils.getAggregationValue(row, sumProjection));
+    }
+    
+    private void aggregate(final int groupOrdinal, final Comparable<?> count, final Comparable<?> sum) {
+        ensureCapacity(groupOrdinal);
+        if (null == count || null == sum) {
+            return;
+        }
+        if (null == fallbackUnits[groupOrdinal] && ColumnarAggregationUtils.isIntegral(count) && ColumnarAggregationUtils.isIntegral(sum)
+                && accumulate(groupOrdinal, ((Number) count).longValue(), ((Number) sum).longValue())) {
+            return;
+        }
+        getFallbackUnit(groupOrdinal).merge(Arrays.asList(count, sum));
+    }
+    
+    private boolean accumulate(final int groupOrdinal, final long count, final long sum) {
+        long newCount;
+        long newSum;
+        try {
+            newCount = Math.addExact(counts[groupOrdinal], count);
+            newSum = Math.addExact(sums[groupOrdinal], sum);
+        } catch (final ArithmeticException ignored) {
+            return false;
+        }
+        counts[groupOrdinal] = newCount;
+        sums[groupOrdinal] = newSum;
+        accumulated[groupOrdinal] = true;
+        return true;
+    }
+    
+    private AggregationUnit getFallbackUnit(final int groupOrdinal) {
+        if (null == fallbackUnits[groupOrdinal]) {
+            fallbackUnits[groupOrdinal] = new AverageAggregationUnit();
+            if (accumulated[groupOrdinal]) {
+                fallbackUnits[groupOrdinal].merge(Arrays.asList(BigDecimal.valueOf(counts[groupOrdinal]), BigDecimal.valueOf(sums[groupOrdinal])));
+            }
+        }
+        return fallbackUnits[groupOrdinal];
+    }
+    
+    private void ensureCapacity(final int groupOrdinal) {
+        if (groupOrdinal < counts.length) {
+            return;
+        }
+        int newCapacity = ColumnarAggregationUtils.getNewCapacity(counts.length, groupOrdinal);
+        counts = Arrays.copyOf(counts, newCapacity);
+        sums = Arrays.copyOf(sums, newCapacity);
+        accumulated = Arrays.copyOf(accumulated, newCapacity);
+        fallbackUnits = Arrays.copyOf(fallbackUnits, newCapacity);
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int groupOrdinal) {
+        if (groupOrdinal >= counts.length) {
+            return null;
+        }
+        if (null != fallbackUnits[groupOrdinal]) {
+            return fallbackUnits[groupOrdinal].getResult();
+        }
+        if (!accumulated[groupOrdinal]) {
+            return null;
+        }
+        BigDecimal count = BigDecimal.valueOf(counts[groupOrdinal]);
+        if (0L == counts[groupOrdinal]) {
+            return count;
+        }
+        return AverageAggregationUnit.getAverage(BigDecimal.valueOf(sums[groupOrdinal]), count);
+    }
+}
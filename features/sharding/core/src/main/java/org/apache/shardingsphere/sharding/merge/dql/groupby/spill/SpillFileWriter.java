@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import lombok.Getter;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Spill file writer.
+ */
+public final class SpillFileWriter implements AutoCloseable {
+    
+    private static final String FILE_PREFIX = "shardingsphere-merge-";
+    
+    private static final String FILE_SUFFIX = ".spill";
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    @Getter
+    private final Path path;
+    
+    private final DataOutputStream output;
+    
+    @Getter
+    private long rowCount;
+    
+    private boolean closed;
+    
+    public SpillFileWriter(final Path directory) throws IOException {
+        path = null == directory ? Files.createTempFile(FILE_PREFIX, FILE_SUFFIX) : Files.createTempFile(Files.createDirectories(directory), FILE_PREFIX, FILE_SUFFIX);
+        try {
+            output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE));
+        } catch (final IOException ex) {
+            Files.deleteIfExists(path);
+            throw ex;
+        }
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row to be written
+     * @throws IOException IO exception
+     */
+    public void write(final Object[] row) throws IOException {
+        SpillRowCodec.write(output, row);
+        rowCount++;
+    }
+    
+    /**
+     * Open reader of written rows, writer will be closed.
+     *
+     * @return spill file reader
+     * @throws IOException IO exception
+     */
+    public SpillFileReader openReader() throws IOException {
+        close();
+        return new SpillFileReader(path, rowCount);
+    }
+    
+    /**
+     * Close writer and delete spill file.
+     *
+     * @throws IOException IO exception
+     */
+    public void delete() throws IOException {
+        try {
+            close();
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        output.close();
+    }
+}
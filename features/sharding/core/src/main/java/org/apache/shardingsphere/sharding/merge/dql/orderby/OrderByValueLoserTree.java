@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ * 
+ * <p>Internal node keeps the loser of the match between its subtrees and node 0 keeps the overall winner,
+ * so replacing the winner only needs log2(k) comparisons along the path from its leaf to the root.
+ * Equal order by values are returned in the order of query results, so the merge is stable.</p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] leaves;
+    
+    private final int[] losers;
+    
+    private int remainingCount;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        leaves = orderByValues.toArray(new OrderByValue[0]);
+        losers = new int[Math.max(leaves.length, 1)];
+        remainingCount = leaves.length;
+        build();
+    }
+    
+    private void build() {
+        int leafCount = leaves.length;
+        int[] winners = new int[leafCount << 1];
+        for (int i = 0; i < leafCount; i++) {
+            winners[leafCount + i] = i;
+        }
+        for (int node = leafCount - 1; node > 0; node--) {
+            int left = winners[node << 1];
+            int right = winners[(node << 1) + 1];
+            if (beats(left, right)) {
+                winners[node] = left;
+                losers[node] = right;
+            } else {
+                winners[node] = right;
+                losers[node] = left;
+            }
+        }
+        losers[0] = leafCount > 1 ? winners[1] : 0;
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == remainingCount;
+    }
+    
+    /**
+     * Get winner order by value.
+     *
+     * @return winner order by value
+     */
+    public OrderByValue peek() {
+        return leaves[losers[0]];
+    }
+    
+    /**
+     * Move winner order by value to its next row and replay matches from its leaf to root.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void nextWinner() throws SQLException {
+        int winner = losers[0];
+        if (!leaves[winner].next()) {
+            leaves[winner] = null;
+            remainingCount--;
+        }
+        for (int node = (leaves.length + winner) >> 1; node > 0; node >>= 1) {
+            if (beats(losers[node], winner)) {
+                int loser = winner;
+                winner = losers[node];
+                losers[node] = loser;
+            }
+        }
+        losers[0] = winner;
+    }
+    
+    private boolean beats(final int thisLeaf, final int otherLeaf) {
+        if (null == leaves[thisLeaf]) {
+            return false;
+        }
+        if (null == leaves[otherLeaf]) {
+            return true;
+        }
+        int result = leaves[thisLeaf].compareTo(leaves[otherLeaf]);
+        return result < 0 || 0 == result && thisLeaf < otherLeaf;
+    }
+}
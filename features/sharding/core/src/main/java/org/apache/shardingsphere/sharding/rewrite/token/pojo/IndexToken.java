@@ -69,7 +69,7 @@ public final class IndexToken extends SQLToken implements Substitutable, RouteUn
     }
     
     private String getIndexValue(final RouteUnit routeUnit) {
-        Optional<String> logicTableName = findLogicTableNameFromMetaData(identifier.getValue());
+        Optional<String> logicTableName = IndexMetaDataUtils.findLogicTableName(schema, identifier.getValue());
         if (logicTableName.isPresent() && !shardingRule.isShardingTable(logicTableName.get())) {
             return identifier.getValue();
         }
@@ -77,13 +77,4 @@ public final class IndexToken extends SQLToken implements Substitutable, RouteUn
         String actualTableName = logicTableName.map(logicAndActualTables::get).orElseGet(() -> logicAndActualTables.isEmpty() ? null : logicAndActualTables.values().iterator().next());
         return IndexMetaDataUtils.getActualIndexName(identifier.getValue(), actualTableName);
     }
-    
-    private Optional<String> findLogicTableNameFromMetaData(final String logicIndexName) {
-        for (String each : schema.getAllTableNames()) {
-            if (schema.getTable(each).containsIndex(logicIndexName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.empty();
-    }
 }
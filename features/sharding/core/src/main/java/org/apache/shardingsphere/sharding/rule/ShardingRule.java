@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.rule;
 
 import com.cedarsoftware.util.CaseInsensitiveMap;
+import com.cedarsoftware.util.CaseInsensitiveSet;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
 import lombok.Getter;
@@ -51,7 +52,9 @@ import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorith
 import org.apache.shardingsphere.sharding.cache.ShardingCache;
 import org.apache.shardingsphere.sharding.exception.metadata.ShardingTableRuleNotFoundException;
 import org.apache.shardingsphere.sharding.rule.attribute.ShardingDataNodeRuleAttribute;
+import org.apache.shardingsphere.sharding.rule.attribute.ShardingRouteCacheRuleAttribute;
 import org.apache.shardingsphere.sharding.rule.attribute.ShardingTableNamesRuleAttribute;
+import org.apache.shardingsphere.sharding.rule.attribute.ShardingTableShardingColumnRuleAttribute;
 import org.apache.shardingsphere.sharding.rule.checker.ShardingRuleChecker;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 import org.apache.shardingsphere.sharding.spi.ShardingAuditAlgorithm;
@@ -115,12 +118,17 @@ public final class ShardingRule implements DatabaseRule {
     private final ShardingRuleChecker shardingRuleChecker = new ShardingRuleChecker(this);
     
     public ShardingRule(final ShardingRuleConfiguration ruleConfig, final Map<String, DataSource> dataSources, final ComputeNodeInstanceContext computeNodeInstanceContext) {
+        this(ruleConfig, dataSources, computeNodeInstanceContext, null);
+    }
+    
+    public ShardingRule(final ShardingRuleConfiguration ruleConfig, final Map<String, DataSource> dataSources, final ComputeNodeInstanceContext computeNodeInstanceContext,
+                        final ShardingRule previousRule) {
         configuration = ruleConfig;
         dataSourceNames = getDataSourceNames(ruleConfig.getTables(), ruleConfig.getAutoTables(), dataSources.keySet());
         ruleConfig.getShardingAlgorithms().forEach((key, value) -> shardingAlgorithms.put(key, TypedSPILoader.getService(ShardingAlgorithm.class, value.getType(), value.getProps())));
         ruleConfig.getKeyGenerators().forEach((key, value) -> keyGenerators.put(key, TypedSPILoader.getService(KeyGenerateAlgorithm.class, value.getType(), value.getProps())));
         ruleConfig.getAuditors().forEach((key, value) -> auditors.put(key, TypedSPILoader.getService(ShardingAuditAlgorithm.class, value.getType(), value.getProps())));
-        shardingTables.putAll(createShardingTables(ruleConfig.getTables(), ruleConfig.getDefaultKeyGenerateStrategy()));
+        shardingTables.putAll(createShardingTables(ruleConfig.getTables(), ruleConfig.getDefaultKeyGenerateStrategy(), previousRule));
         shardingTables.putAll(createShardingAutoTables(ruleConfig.getAutoTables(), ruleConfig.getDefaultKeyGenerateStrategy()));
         bindingTableRules.putAll(createBindingTableRules(ruleConfig.getBindingTableGroups()));
         defaultDatabaseShardingStrategyConfig = createDefaultDatabaseShardingStrategyConfiguration(ruleConfig);
@@ -135,8 +143,14 @@ public final class ShardingRule implements DatabaseRule {
         if (defaultKeyGenerateAlgorithm instanceof ComputeNodeInstanceContextAware && -1 == computeNodeInstanceContext.getWorkerId()) {
             ((ComputeNodeInstanceContextAware) defaultKeyGenerateAlgorithm).setComputeNodeInstanceContext(computeNodeInstanceContext);
         }
-        shardingCache = null == ruleConfig.getShardingCache() ? null : new ShardingCache(ruleConfig.getShardingCache(), this);
-        attributes = new RuleAttributes(new ShardingDataNodeRuleAttribute(shardingTables), new ShardingTableNamesRuleAttribute(shardingTables.values()));
+        shardingCache = null == ruleConfig.getShardingCache()
+                ? null
+                : new ShardingCache(ruleConfig.getShardingCache(), this, null == previousRule ? null : previousRule.getShardingCache());
+        attributes = null == shardingCache
+                ? new RuleAttributes(new ShardingDataNodeRuleAttribute(shardingTables), new ShardingTableNamesRuleAttribute(shardingTables.values()),
+                        new ShardingTableShardingColumnRuleAttribute(this))
+                : new RuleAttributes(new ShardingDataNodeRuleAttribute(shardingTables), new ShardingTableNamesRuleAttribute(shardingTables.values()),
+                        new ShardingTableShardingColumnRuleAttribute(this), new ShardingRouteCacheRuleAttribute(shardingCache.getRouteCache()));
         shardingRuleChecker.check(ruleConfig);
     }
     
@@ -175,15 +189,19 @@ public final class ShardingRule implements DatabaseRule {
     }
     
     private Map<String, ShardingTable> createShardingTables(final Collection<ShardingTableRuleConfiguration> tableRuleConfigs,
-                                                            final KeyGenerateStrategyConfiguration defaultKeyGenerateStrategyConfig) {
-        return tableRuleConfigs.stream().map(each -> createShardingTable(each, defaultKeyGenerateStrategyConfig))
+                                                            final KeyGenerateStrategyConfiguration defaultKeyGenerateStrategyConfig, final ShardingRule previousRule) {
+        Map<String, ShardingTable> previousShardingTables = null == previousRule || !previousRule.getDataSourceNames().equals(dataSourceNames) ? Collections.emptyMap() : previousRule.getShardingTables();
+        String defaultGenerateKeyColumn = getDefaultGenerateKeyColumn(defaultKeyGenerateStrategyConfig);
+        return tableRuleConfigs.stream().map(each -> createShardingTable(each, defaultGenerateKeyColumn, previousShardingTables.get(each.getLogicTable())))
                 .collect(Collectors.toMap(ShardingTable::getLogicTable, Function.identity(), (oldValue, currentValue) -> oldValue, CaseInsensitiveMap::new));
     }
     
-    private ShardingTable createShardingTable(final ShardingTableRuleConfiguration tableRuleConfig, final KeyGenerateStrategyConfiguration defaultKeyGenerateStrategyConfig) {
+    private ShardingTable createShardingTable(final ShardingTableRuleConfiguration tableRuleConfig, final String defaultGenerateKeyColumn, final ShardingTable previousShardingTable) {
         Optional.ofNullable(tableRuleConfig.getDatabaseShardingStrategy()).ifPresent(optional -> checkManualShardingAlgorithm(optional.getShardingAlgorithmName(), tableRuleConfig.getLogicTable()));
         Optional.ofNullable(tableRuleConfig.getTableShardingStrategy()).ifPresent(optional -> checkManualShardingAlgorithm(optional.getShardingAlgorithmName(), tableRuleConfig.getLogicTable()));
-        return new ShardingTable(tableRuleConfig, dataSourceNames, getDefaultGenerateKeyColumn(defaultKeyGenerateStrategyConfig));
+        return null != previousShardingTable && previousShardingTable.isCreatedFrom(tableRuleConfig, defaultGenerateKeyColumn)
+                ? previousShardingTable
+                : new ShardingTable(tableRuleConfig, dataSourceNames, defaultGenerateKeyColumn);
     }
     
     private void checkManualShardingAlgorithm(final String shardingAlgorithmName, final String logicTable) {
@@ -462,6 +480,42 @@ public final class ShardingRule implements DatabaseRule {
         return Optional.empty();
     }
     
+    /**
+     * Find sharding columns of logic table.
+     *
+     * @param logicTableName logic table name
+     * @return sharding columns of database and table sharding strategies, empty if any strategy is not sharded by columns
+     */
+    public Optional<Collection<String>> findShardingColumns(final String logicTableName) {
+        ShardingTable shardingTable = shardingTables.get(logicTableName);
+        if (null == shardingTable) {
+            return Optional.empty();
+        }
+        Collection<String> result = new CaseInsensitiveSet<>();
+        if (!addShardingColumns(getDatabaseShardingStrategyConfiguration(shardingTable), result) || !addShardingColumns(getTableShardingStrategyConfiguration(shardingTable), result)) {
+            return Optional.of(Collections.emptyList());
+        }
+        return Optional.of(result);
+    }
+    
+    private boolean addShardingColumns(final ShardingStrategyConfiguration shardingStrategyConfig, final Collection<String> shardingColumns) {
+        if (shardingStrategyConfig instanceof StandardShardingStrategyConfiguration) {
+            String shardingColumn = null == ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn()
+                    ? defaultShardingColumn
+                    : ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn();
+            if (null == shardingColumn) {
+                return false;
+            }
+            shardingColumns.add(shardingColumn);
+            return true;
+        }
+        if (shardingStrategyConfig instanceof ComplexShardingStrategyConfiguration) {
+            shardingColumns.addAll(Splitter.on(",").trimResults().splitToList(((ComplexShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumns()));
+            return true;
+        }
+        return shardingStrategyConfig instanceof NoneShardingStrategyConfiguration;
+    }
+    
     /**
      * Judge whether given logic table column is key generated column or not.
      *
@@ -44,6 +44,7 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
@@ -54,13 +55,16 @@ import java.util.stream.Collectors;
  * Sharding table.
  */
 @Getter
-@ToString(exclude = {"dataNodeIndexMap", "actualTables", "actualDataSourceNames", "dataSourceDataNode", "tableDataNode"})
+@ToString(exclude = {"tableRuleConfig", "dataNodeIndexMap", "actualTables", "actualDataSourceNames", "dataSourceDataNode", "tableDataNode"})
 public final class ShardingTable {
     
     private static final Pattern DATA_NODE_SUFFIX_PATTERN = Pattern.compile("\\d+$");
     
     private static final char DEFAULT_PADDING_CHAR = '0';
     
+    @Getter(AccessLevel.NONE)
+    private final ShardingTableRuleConfiguration tableRuleConfig;
+    
     private final String logicTable;
     
     private final List<DataNode> actualDataNodes;
@@ -91,6 +95,7 @@ public final class ShardingTable {
     private final DataNodeInfo tableDataNode;
     
     public ShardingTable(final Collection<String> dataSourceNames, final String logicTableName) {
+        tableRuleConfig = null;
         logicTable = logicTableName;
         dataNodeIndexMap = new HashMap<>(dataSourceNames.size(), 1F);
         actualDataNodes = generateDataNodes(logicTableName, dataSourceNames);
@@ -105,6 +110,7 @@ public final class ShardingTable {
     }
     
     public ShardingTable(final ShardingTableRuleConfiguration tableRuleConfig, final Collection<String> dataSourceNames, final String defaultGenerateKeyColumn) {
+        this.tableRuleConfig = tableRuleConfig;
         logicTable = tableRuleConfig.getLogicTable();
         List<String> dataNodes = InlineExpressionParserFactory.newInstance(tableRuleConfig.getActualDataNodes()).splitAndEvaluate();
         dataNodeIndexMap = new HashMap<>(dataNodes.size(), 1F);
@@ -114,7 +120,7 @@ public final class ShardingTable {
         tableShardingStrategyConfig = tableRuleConfig.getTableShardingStrategy();
         auditStrategyConfig = tableRuleConfig.getAuditStrategy();
         KeyGenerateStrategyConfiguration keyGeneratorConfig = tableRuleConfig.getKeyGenerateStrategy();
-        generateKeyColumn = null == keyGeneratorConfig || Strings.isNullOrEmpty(keyGeneratorConfig.getColumn()) ? defaultGenerateKeyColumn : keyGeneratorConfig.getColumn();
+        generateKeyColumn = getGenerateKeyColumn(keyGeneratorConfig, defaultGenerateKeyColumn);
         keyGeneratorName = null == keyGeneratorConfig ? null : keyGeneratorConfig.getKeyGeneratorName();
         dataSourceDataNode = actualDataNodes.isEmpty() ? null : createDataSourceDataNode(actualDataNodes);
         tableDataNode = actualDataNodes.isEmpty() ? null : createTableDataNode(actualDataNodes);
@@ -123,6 +129,7 @@ public final class ShardingTable {
     
     public ShardingTable(final ShardingAutoTableRuleConfiguration tableRuleConfig, final Collection<String> dataSourceNames,
                          final ShardingAutoTableAlgorithm shardingAutoTableAlgorithm, final String defaultGenerateKeyColumn) {
+        this.tableRuleConfig = null;
         logicTable = tableRuleConfig.getLogicTable();
         databaseShardingStrategyConfig = new NoneShardingStrategyConfiguration();
         tableShardingStrategyConfig = tableRuleConfig.getShardingStrategy();
@@ -132,13 +139,17 @@ public final class ShardingTable {
         actualDataNodes = isEmptyDataNodes(dataNodes) ? generateDataNodes(tableRuleConfig.getLogicTable(), dataSourceNames) : generateDataNodes(dataNodes, dataSourceNames);
         actualTables = getActualTables();
         KeyGenerateStrategyConfiguration keyGeneratorConfig = tableRuleConfig.getKeyGenerateStrategy();
-        generateKeyColumn = null == keyGeneratorConfig || Strings.isNullOrEmpty(keyGeneratorConfig.getColumn()) ? defaultGenerateKeyColumn : keyGeneratorConfig.getColumn();
+        generateKeyColumn = getGenerateKeyColumn(keyGeneratorConfig, defaultGenerateKeyColumn);
         keyGeneratorName = null == keyGeneratorConfig ? null : keyGeneratorConfig.getKeyGeneratorName();
         dataSourceDataNode = actualDataNodes.isEmpty() ? null : createDataSourceDataNode(actualDataNodes);
         tableDataNode = actualDataNodes.isEmpty() ? null : createTableDataNode(actualDataNodes);
         checkRule(dataNodes);
     }
     
+    private static String getGenerateKeyColumn(final KeyGenerateStrategyConfiguration keyGeneratorConfig, final String defaultGenerateKeyColumn) {
+        return null == keyGeneratorConfig || Strings.isNullOrEmpty(keyGeneratorConfig.getColumn()) ? defaultGenerateKeyColumn : keyGeneratorConfig.getColumn();
+    }
+    
     private DataNodeInfo createDataSourceDataNode(final Collection<DataNode> actualDataNodes) {
         String prefix = DATA_NODE_SUFFIX_PATTERN.matcher(actualDataNodes.iterator().next().getDataSourceName()).replaceAll("");
         int suffixMinLength = actualDataNodes.stream().map(each -> each.getDataSourceName().length() - prefix.length()).min(Comparator.comparing(Integer::intValue)).orElse(1);
@@ -258,4 +269,15 @@ public final class ShardingTable {
     public Optional<String> getGenerateKeyColumn() {
         return Optional.ofNullable(generateKeyColumn);
     }
+    
+    /**
+     * Judge whether sharding table is created from table rule configuration.
+     *
+     * @param tableRuleConfig table rule configuration
+     * @param defaultGenerateKeyColumn default generate key column
+     * @return is created from table rule configuration or not
+     */
+    public boolean isCreatedFrom(final ShardingTableRuleConfiguration tableRuleConfig, final String defaultGenerateKeyColumn) {
+        return this.tableRuleConfig == tableRuleConfig && Objects.equals(generateKeyColumn, getGenerateKeyColumn(tableRuleConfig.getKeyGenerateStrategy(), defaultGenerateKeyColumn));
+    }
 }
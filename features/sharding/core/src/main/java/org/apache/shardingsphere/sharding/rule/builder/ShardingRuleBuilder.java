@@ -29,6 +29,7 @@ import org.apache.shardingsphere.sharding.exception.metadata.MissingRequiredShar
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 
 import java.util.Collection;
+import java.util.Collections;
 
 /**
  * Sharding rule builder.
@@ -38,8 +39,18 @@ public final class ShardingRuleBuilder implements DatabaseRuleBuilder<ShardingRu
     @Override
     public ShardingRule build(final ShardingRuleConfiguration ruleConfig, final String databaseName, final DatabaseType protocolType,
                               final ResourceMetaData resourceMetaData, final Collection<ShardingSphereRule> builtRules, final ComputeNodeInstanceContext computeNodeInstanceContext) {
+        return build(ruleConfig, databaseName, protocolType, resourceMetaData, builtRules, Collections.emptyList(), computeNodeInstanceContext);
+    }
+    
+    @Override
+    public ShardingRule build(final ShardingRuleConfiguration ruleConfig, final String databaseName, final DatabaseType protocolType, final ResourceMetaData resourceMetaData,
+                              final Collection<ShardingSphereRule> builtRules, final Collection<ShardingSphereRule> previousRules, final ComputeNodeInstanceContext computeNodeInstanceContext) {
         ShardingSpherePreconditions.checkNotEmpty(resourceMetaData.getDataSourceMap(), () -> new MissingRequiredShardingConfigurationException("Data source", databaseName));
-        return new ShardingRule(ruleConfig, resourceMetaData.getDataSourceMap(), computeNodeInstanceContext);
+        return new ShardingRule(ruleConfig, resourceMetaData.getDataSourceMap(), computeNodeInstanceContext, findPreviousRule(previousRules));
+    }
+    
+    private ShardingRule findPreviousRule(final Collection<ShardingSphereRule> previousRules) {
+        return previousRules.stream().filter(ShardingRule.class::isInstance).map(ShardingRule.class::cast).findFirst().orElse(null);
     }
     
     @Override
@@ -23,6 +23,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -36,4 +38,43 @@ class ShardingRouteCacheTest {
         cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
         assertTrue(cache.get(key).isPresent());
     }
+    
+    @Test
+    void assertInherit() {
+        ShardingCacheOptionsConfiguration cacheOptions = new ShardingCacheOptionsConfiguration(false, 16, 16);
+        ShardingRouteCache previous = new ShardingRouteCache(cacheOptions);
+        ShardingRouteCacheKey orderKey = new ShardingRouteCacheKey("select * from t_order where id = ?", Collections.singletonList(1), Collections.singleton("t_order"));
+        ShardingRouteCacheKey userKey = new ShardingRouteCacheKey("select * from t_user where id = ?", Collections.singletonList(1), Collections.singleton("t_user"));
+        ShardingRouteCacheKey untaggedKey = new ShardingRouteCacheKey("select * from t_user where id = ? limit 1", Collections.singletonList(1));
+        previous.put(orderKey, new ShardingRouteCacheValue(new RouteContext()));
+        previous.put(userKey, new ShardingRouteCacheValue(new RouteContext()));
+        previous.put(untaggedKey, new ShardingRouteCacheValue(new RouteContext()));
+        previous.get(orderKey);
+        ShardingRouteCache actual = ShardingRouteCache.inherit(cacheOptions, previous, Collections.singleton("t_order"));
+        assertThat(actual.getEstimatedSize(), is(1L));
+        assertTrue(actual.get(userKey).isPresent());
+        assertThat(actual.getStats().hitCount(), is(2L));
+    }
+    
+    @Test
+    void assertGetStats() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(false, 16, 16));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("select name from t where id = ?", Collections.singletonList(1));
+        cache.get(key);
+        cache.recordLoad(100L);
+        cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
+        cache.get(key);
+        assertThat(cache.getStats().hitCount(), is(1L));
+        assertThat(cache.getStats().missCount(), is(1L));
+        assertThat(cache.getStats().loadSuccessCount(), is(1L));
+        assertThat(cache.getStats().totalLoadTime(), is(100L));
+    }
+    
+    @Test
+    void assertPutAndGetWithMaximumWeightAndExpiration() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(false, 16, 0, 1024L, 60000L));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("select name from t where id = ?", Collections.singletonList(1));
+        cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
+        assertTrue(cache.get(key).isPresent());
+    }
 }
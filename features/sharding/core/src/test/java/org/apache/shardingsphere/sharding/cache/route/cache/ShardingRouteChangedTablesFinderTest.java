@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route.cache;
+
+import org.apache.groovy.util.Maps;
+import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableReferenceRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.NoneShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ShardingRouteChangedTablesFinderTest {
+    
+    @Test
+    void assertFindWithoutChange() {
+        assertThat(ShardingRouteChangedTablesFinder.find(createShardingRule(createRuleConfiguration()), createShardingRule(createRuleConfiguration())), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertFindWithAlgorithmChanged() {
+        ShardingRuleConfiguration currentRuleConfig = createRuleConfiguration();
+        currentRuleConfig.getShardingAlgorithms().put("user_inline", new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "t_user_${(user_id + 1) % 2}"))));
+        assertThat(ShardingRouteChangedTablesFinder.find(createShardingRule(createRuleConfiguration()), createShardingRule(currentRuleConfig)), is(Collections.singletonList("t_user")));
+    }
+    
+    @Test
+    void assertFindWithTableAddedAndBindingChanged() {
+        ShardingRuleConfiguration currentRuleConfig = createRuleConfiguration();
+        currentRuleConfig.getTables().add(new ShardingTableRuleConfiguration("t_order_item", "ds_${0..1}.t_order_item"));
+        currentRuleConfig.getBindingTableGroups().add(new ShardingTableReferenceRuleConfiguration("foo", "t_order,t_order_item"));
+        Collection<String> actual = ShardingRouteChangedTablesFinder.find(createShardingRule(createRuleConfiguration()), createShardingRule(currentRuleConfig));
+        assertThat(new HashSet<>(actual), is(new HashSet<>(Arrays.asList("t_order", "t_order_item"))));
+    }
+    
+    @Test
+    void assertFindWithDefaultStrategyChanged() {
+        ShardingRuleConfiguration currentRuleConfig = createRuleConfiguration();
+        currentRuleConfig.setDefaultDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "order_inline"));
+        assertThat(ShardingRouteChangedTablesFinder.find(createShardingRule(createRuleConfiguration()), createShardingRule(currentRuleConfig)), is(Collections.singletonList("t_order")));
+    }
+    
+    private ShardingRuleConfiguration createRuleConfiguration() {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        result.getShardingAlgorithms().put("order_inline", new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "ds_${order_id % 2}"))));
+        result.getShardingAlgorithms().put("user_inline", new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "t_user_${user_id % 2}"))));
+        result.setDefaultDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "order_inline"));
+        result.getTables().add(new ShardingTableRuleConfiguration("t_order", "ds_${0..1}.t_order"));
+        ShardingTableRuleConfiguration userTableRuleConfig = new ShardingTableRuleConfiguration("t_user", "ds_0.t_user_${0..1}");
+        userTableRuleConfig.setDatabaseShardingStrategy(new NoneShardingStrategyConfiguration());
+        userTableRuleConfig.setTableShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "user_inline"));
+        result.getTables().add(userTableRuleConfig);
+        return result;
+    }
+    
+    private ShardingRule createShardingRule(final ShardingRuleConfiguration ruleConfig) {
+        return new ShardingRule(ruleConfig, Maps.of("ds_0", new MockedDataSource(), "ds_1", new MockedDataSource()), mock(ComputeNodeInstanceContext.class));
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sharding.merge.dql.pagination.LimitDecoratorMergedResult;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GroupByTopNMemoryMergedResultTest {
+    
+    @Test
+    void assertNextWithOffsetAndRowCount() throws SQLException {
+        MergedResult actual = merge(new NumberLiteralLimitValueSegment(0, 0, 1L), new NumberLiteralLimitValueSegment(0, 0, 2L));
+        assertThat(actual, instanceOf(LimitDecoratorMergedResult.class));
+        assertThat(((LimitDecoratorMergedResult) actual).getMergedResult(), instanceOf(GroupByTopNMemoryMergedResult.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(4)));
+        assertThat(actual.getValue(2, Object.class), is(3));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(3)));
+        assertThat(actual.getValue(2, Object.class), is(5));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithEqualOrderByValues() throws SQLException {
+        MergedResult actual = merge(null, new NumberLiteralLimitValueSegment(0, 0, 4L));
+        List<Object> actualIds = new ArrayList<>(4);
+        while (actual.next()) {
+            actualIds.add(actual.getValue(2, Object.class));
+        }
+        assertThat(actualIds, is(Arrays.<Object>asList(1, 3, 5, 4)));
+    }
+    
+    @Test
+    void assertNextWithZeroRowCount() throws SQLException {
+        assertFalse(merge(null, new NumberLiteralLimitValueSegment(0, 0, 0L)).next());
+    }
+    
+    @Test
+    void assertGetTopN() {
+        assertThat(GroupByTopNMemoryMergedResult.getTopN(new PaginationContext(
+                new NumberLiteralLimitValueSegment(0, 0, 10L), new NumberLiteralLimitValueSegment(0, 0, 5L), Collections.emptyList())), is(15L));
+        assertThat(GroupByTopNMemoryMergedResult.getTopN(new PaginationContext(new NumberLiteralLimitValueSegment(0, 0, 10L), null, Collections.emptyList())), is(-1L));
+        assertThat(GroupByTopNMemoryMergedResult.getTopN(new PaginationContext(null, new NumberLiteralLimitValueSegment(0, 0, Long.MAX_VALUE), Collections.emptyList())), is(-1L));
+    }
+    
+    private MergedResult merge(final NumberLiteralLimitValueSegment offset, final NumberLiteralLimitValueSegment rowCount) throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(
+                createQueryResult(Arrays.asList(5, 1), Arrays.asList(1, 2)), createQueryResult(Arrays.asList(4, 2, 3), Arrays.asList(3, 1, 5)), createQueryResult(Collections.singletonList(3), Collections.singletonList(4)));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn(DefaultDatabase.LOGIC_NAME);
+        return new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL")).merge(
+                queryResults, createSelectStatementContext(offset, rowCount), database, mock(ConnectionContext.class));
+    }
+    
+    private QueryResult createQueryResult(final List<Integer> counts, final List<Integer> ids) throws SQLException {
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(metaData.getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(metaData.getColumnLabel(2)).thenReturn("id");
+        List<MemoryQueryResultDataRow> rows = new ArrayList<>(counts.size());
+        for (int i = 0; i < counts.size(); i++) {
+            rows.add(new MemoryQueryResultDataRow(Arrays.asList(counts.get(i), ids.get(i))));
+        }
+        return new RawMemoryQueryResult(metaData, rows);
+    }
+    
+    private SelectStatementContext createSelectStatementContext(final NumberLiteralLimitValueSegment offset, final NumberLiteralLimitValueSegment rowCount) {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "COUNT(*)"));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.ASC, NullsOrderType.FIRST))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.DESC, NullsOrderType.FIRST))));
+        selectStatement.setLimit(new LimitSegment(0, 0, offset, rowCount));
+        return new SelectStatementContext(new ShardingSphereMetaData(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS)),
+                mock(ResourceMetaData.class), mock(RuleMetaData.class), mock(ConfigurationProperties.class)), Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME, Collections.emptyList());
+    }
+}
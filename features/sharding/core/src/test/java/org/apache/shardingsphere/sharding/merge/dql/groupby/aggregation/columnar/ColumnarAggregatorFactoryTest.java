@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.columnar;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ColumnarAggregatorFactoryTest {
+    
+    private final DatabaseType databaseType = mock(DatabaseType.class);
+    
+    @Test
+    void assertCreateComparableColumnarAggregator() {
+        assertThat(ColumnarAggregatorFactory.create(new AggregationProjection(AggregationType.MIN, "(order_id)", null, databaseType)), instanceOf(ComparableColumnarAggregator.class));
+        assertThat(ColumnarAggregatorFactory.create(new AggregationProjection(AggregationType.MAX, "(order_id)", null, databaseType)), instanceOf(ComparableColumnarAggregator.class));
+    }
+    
+    @Test
+    void assertCreateLongAccumulationColumnarAggregator() {
+        assertThat(ColumnarAggregatorFactory.create(new AggregationProjection(AggregationType.SUM, "(order_id)", null, databaseType)), instanceOf(LongAccumulationColumnarAggregator.class));
+        assertThat(ColumnarAggregatorFactory.create(new AggregationProjection(AggregationType.COUNT, "(*)", null, databaseType)), instanceOf(LongAccumulationColumnarAggregator.class));
+    }
+    
+    @Test
+    void assertCreateLongAverageColumnarAggregator() {
+        AggregationProjection aggregationProjection = new AggregationProjection(AggregationType.AVG, "(order_id)", null, databaseType);
+        aggregationProjection.getDerivedAggregationProjections().add(new AggregationProjection(AggregationType.COUNT, "(order_id)", null, databaseType));
+        aggregationProjection.getDerivedAggregationProjections().add(new AggregationProjection(AggregationType.SUM, "(order_id)", null, databaseType));
+        assertThat(ColumnarAggregatorFactory.create(aggregationProjection), instanceOf(LongAverageColumnarAggregator.class));
+    }
+    
+    @Test
+    void assertCreateAggregationUnitColumnarAggregatorWithoutDerivedProjections() {
+        assertThat(ColumnarAggregatorFactory.create(new AggregationProjection(AggregationType.AVG, "(order_id)", null, databaseType)), instanceOf(AggregationUnitColumnarAggregator.class));
+    }
+    
+    @Test
+    void assertCreateAggregationUnitColumnarAggregatorWithDistinct() {
+        AggregationProjection aggregationProjection = new AggregationDistinctProjection(0, 0, AggregationType.COUNT, "(DISTINCT order_id)", null, "order_id", databaseType);
+        assertThat(ColumnarAggregatorFactory.create(aggregationProjection), instanceOf(AggregationUnitColumnarAggregator.class));
+    }
+    
+    @Test
+    void assertCreateAggregationUnitColumnarAggregatorWithBitXor() {
+        assertThat(ColumnarAggregatorFactory.create(new AggregationProjection(AggregationType.BIT_XOR, "(order_id)", null, databaseType)), instanceOf(AggregationUnitColumnarAggregator.class));
+    }
+}
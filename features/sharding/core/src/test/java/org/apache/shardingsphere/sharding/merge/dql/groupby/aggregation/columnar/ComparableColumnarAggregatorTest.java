@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.columnar;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ComparableColumnarAggregatorTest {
+    
+    private final QueryResult queryResult = mock(QueryResult.class);
+    
+    @Test
+    void assertAggregateForMin() throws SQLException {
+        ComparableColumnarAggregator aggregator = new ComparableColumnarAggregator(createAggregationProjection(AggregationType.MIN), true);
+        when(queryResult.getValue(1, Object.class)).thenReturn(3, null, 1, 2);
+        for (int i = 0; i < 4; i++) {
+            aggregator.aggregate(0, queryResult);
+        }
+        assertThat(aggregator.getResult(0), is(1));
+        assertThat(aggregator.getResult(1), nullValue());
+    }
+    
+    @Test
+    void assertAggregateForMax() throws SQLException {
+        ComparableColumnarAggregator aggregator = new ComparableColumnarAggregator(createAggregationProjection(AggregationType.MAX), false);
+        when(queryResult.getValue(1, Object.class)).thenReturn(1, 3, 2);
+        for (int i = 0; i < 3; i++) {
+            aggregator.aggregate(20, queryResult);
+        }
+        assertThat(aggregator.getResult(20), is(3));
+    }
+    
+    @Test
+    void assertAggregateWithNotComparableValue() throws SQLException {
+        ComparableColumnarAggregator aggregator = new ComparableColumnarAggregator(createAggregationProjection(AggregationType.MAX), false);
+        when(queryResult.getValue(1, Object.class)).thenReturn(new Object());
+        assertThrows(NotImplementComparableValueException.class, () -> aggregator.aggregate(0, queryResult));
+    }
+    
+    private AggregationProjection createAggregationProjection(final AggregationType type) {
+        AggregationProjection result = new AggregationProjection(type, "(order_id)", null, mock(DatabaseType.class));
+        result.setIndex(1);
+        return result;
+    }
+}
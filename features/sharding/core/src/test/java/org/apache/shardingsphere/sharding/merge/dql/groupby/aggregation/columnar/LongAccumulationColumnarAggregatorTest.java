@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.columnar;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LongAccumulationColumnarAggregatorTest {
+    
+    private final QueryResult queryResult = mock(QueryResult.class);
+    
+    private LongAccumulationColumnarAggregator aggregator;
+    
+    @BeforeEach
+    void setUp() {
+        AggregationProjection aggregationProjection = new AggregationProjection(AggregationType.SUM, "(order_id)", null, mock(DatabaseType.class));
+        aggregationProjection.setIndex(1);
+        aggregator = new LongAccumulationColumnarAggregator(aggregationProjection);
+    }
+    
+    @Test
+    void assertAggregateIntegralValues() throws SQLException {
+        when(queryResult.getValue(1, Object.class)).thenReturn(10, 5L, null);
+        aggregator.aggregate(0, queryResult);
+        aggregator.aggregate(0, queryResult);
+        aggregator.aggregate(1, queryResult);
+        assertThat(aggregator.getResult(0), is(new BigDecimal("15")));
+        assertThat(aggregator.getResult(1), nullValue());
+        assertThat(aggregator.getResult(2), nullValue());
+    }
+    
+    @Test
+    void assertAggregateWithNonIntegralValue() throws SQLException {
+        when(queryResult.getValue(1, Object.class)).thenReturn(10, new BigDecimal("1.5"), 2);
+        aggregator.aggregate(0, queryResult);
+        aggregator.aggregate(0, queryResult);
+        aggregator.aggregate(0, queryResult);
+        assertThat(aggregator.getResult(0), is(new BigDecimal("13.5")));
+    }
+    
+    @Test
+    void assertAggregateWithLongOverflow() throws SQLException {
+        when(queryResult.getValue(1, Object.class)).thenReturn(Long.MAX_VALUE, 1L);
+        aggregator.aggregate(0, queryResult);
+        aggregator.aggregate(0, queryResult);
+        assertThat(aggregator.getResult(0), is(BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.ONE)));
+    }
+    
+    @Test
+    void assertAggregateWithManyGroups() throws SQLException {
+        when(queryResult.getValue(1, Object.class)).thenReturn(1);
+        for (int i = 0; i < 100; i++) {
+            aggregator.aggregate(i, queryResult);
+        }
+        assertThat(aggregator.getResult(99), is(BigDecimal.ONE));
+    }
+    
+    @Test
+    void assertAggregateRowData() {
+        aggregator.aggregate(0, new Object[]{10});
+        aggregator.aggregate(0, new Object[]{new BigDecimal("1.5")});
+        aggregator.aggregate(1, new Object[]{null});
+        assertThat(aggregator.getResult(0), is(new BigDecimal("11.5")));
+        assertThat(aggregator.getResult(1), nullValue());
+    }
+}
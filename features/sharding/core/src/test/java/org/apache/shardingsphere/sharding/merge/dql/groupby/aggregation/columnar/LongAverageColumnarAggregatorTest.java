@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.columnar;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LongAverageColumnarAggregatorTest {
+    
+    private final QueryResult queryResult = mock(QueryResult.class);
+    
+    private LongAverageColumnarAggregator aggregator;
+    
+    @BeforeEach
+    void setUp() {
+        DatabaseType databaseType = mock(DatabaseType.class);
+        AggregationProjection aggregationProjection = new AggregationProjection(AggregationType.AVG, "(order_id)", null, databaseType);
+        AggregationProjection countProjection = new AggregationProjection(AggregationType.COUNT, "(order_id)", null, databaseType);
+        countProjection.setIndex(1);
+        AggregationProjection sumProjection = new AggregationProjection(AggregationType.SUM, "(order_id)", null, databaseType);
+        sumProjection.setIndex(2);
+        aggregationProjection.getDerivedAggregationProjections().add(countProjection);
+        aggregationProjection.getDerivedAggregationProjections().add(sumProjection);
+        aggregator = new LongAverageColumnarAggregator(aggregationProjection);
+    }
+    
+    @Test
+    void assertAggregateIntegralValues() throws SQLException {
+        when(queryResult.getValue(1, Object.class)).thenReturn(2L, 1L);
+        when(queryResult.getValue(2, Object.class)).thenReturn(10L, 5);
+        aggregator.aggregate(0, queryResult);
+        aggregator.aggregate(0, queryResult);
+        assertThat(aggregator.getResult(0), is(new BigDecimal("5.0000")));
+        assertThat(aggregator.getResult(1), nullValue());
+    }
+    
+    @Test
+    void assertAggregateWithZeroCount() throws SQLException {
+        when(queryResult.getValue(1, Object.class)).thenReturn(0L);
+        when(queryResult.getValue(2, Object.class)).thenReturn(0L);
+        aggregator.aggregate(0, queryResult);
+        assertThat(aggregator.getResult(0), is(BigDecimal.ZERO));
+    }
+    
+    @Test
+    void assertAggregateWithNonIntegralValue() throws SQLException {
+        when(queryResult.getValue(1, Object.class)).thenReturn(2L, 1L);
+        when(queryResult.getValue(2, Object.class)).thenReturn(10L, new BigDecimal("1.5"));
+        aggregator.aggregate(0, queryResult);
+        aggregator.aggregate(0, queryResult);
+        assertThat(aggregator.getResult(0), is(new BigDecimal("3.8333")));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpillRowCodecTest {
+    
+    @Test
+    void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        Object[] expected = {null, 1, 2L, (short) 3, (byte) 4, true, 5.5D, 6.5F, new BigDecimal("-7.125"), new BigInteger("8"), "foo_中文", new byte[]{9, 10},
+                new Date(11L), new Time(12L), timestamp, LocalDate.of(2024, 1, 1), LocalTime.of(1, 2, 3, 456789), LocalDateTime.of(2024, 1, 1, 0, 0, 0, 1),
+                OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 1, ZoneOffset.ofHours(8))};
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        SpillRowCodec.write(new DataOutputStream(output), expected);
+        Object[] actual = SpillRowCodec.read(new DataInputStream(new ByteArrayInputStream(output.toByteArray())));
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    void assertWriteAndReadUtilDateAndUUID() throws IOException {
+        Object[] expected = {new java.util.Date(13L), UUID.randomUUID()};
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        SpillRowCodec.write(new DataOutputStream(output), expected);
+        Object[] actual = SpillRowCodec.read(new DataInputStream(new ByteArrayInputStream(output.toByteArray())));
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    void assertWriteUnsupportedValue() {
+        assertThrows(NotSerializableException.class, () -> SpillRowCodec.write(new DataOutputStream(new ByteArrayOutputStream()), new Object[]{Duration.ofSeconds(14L)}));
+    }
+    
+    @Test
+    void assertIsSupportedColumnType() {
+        assertTrue(SpillRowCodec.isSupportedColumnType(Types.VARCHAR));
+        assertFalse(SpillRowCodec.isSupportedColumnType(Types.CLOB));
+        assertFalse(SpillRowCodec.isSupportedColumnType(Types.OTHER));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderByValueLoserTreeTest {
+    
+    private final Map<OrderByValue, Integer> currentValues = new IdentityHashMap<>();
+    
+    @Test
+    void assertEmpty() {
+        assertTrue(new OrderByValueLoserTree(Collections.emptyList()).isEmpty());
+    }
+    
+    @Test
+    void assertMergeWithSingleOrderByValue() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Collections.singletonList(createOrderByValue(Arrays.asList(1, 2))));
+        assertThat(pollAll(actual), is(Arrays.asList(1, 2)));
+    }
+    
+    @Test
+    void assertMergeWithManyOrderByValues() throws SQLException {
+        Random random = new Random(7L);
+        List<OrderByValue> orderByValues = new ArrayList<>(101);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 101; i++) {
+            List<Integer> values = new ArrayList<>();
+            int rowCount = 1 + random.nextInt(20);
+            for (int j = 0; j < rowCount; j++) {
+                values.add(random.nextInt(100));
+            }
+            Collections.sort(values);
+            expected.addAll(values);
+            orderByValues.add(createOrderByValue(values));
+        }
+        Collections.sort(expected);
+        assertThat(pollAll(new OrderByValueLoserTree(orderByValues)), is(expected));
+    }
+    
+    private List<Integer> pollAll(final OrderByValueLoserTree loserTree) throws SQLException {
+        List<Integer> result = new ArrayList<>();
+        while (!loserTree.isEmpty()) {
+            result.add(currentValues.get(loserTree.peek()));
+            loserTree.nextWinner();
+        }
+        return result;
+    }
+    
+    private OrderByValue createOrderByValue(final List<Integer> values) throws SQLException {
+        OrderByValue result = mock(OrderByValue.class);
+        Iterator<Integer> iterator = values.iterator();
+        currentValues.put(result, iterator.next());
+        when(result.next()).thenAnswer(invocation -> {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            currentValues.put(result, iterator.next());
+            return true;
+        });
+        when(result.compareTo(any(OrderByValue.class))).thenAnswer(invocation -> Integer.compare(currentValues.get(result), currentValues.get(invocation.<OrderByValue>getArgument(0))));
+        return result;
+    }
+}
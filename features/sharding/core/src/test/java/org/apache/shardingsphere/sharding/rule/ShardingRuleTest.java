@@ -72,12 +72,15 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -116,6 +119,29 @@ class ShardingRuleTest {
         assertNull(actual.getDefaultShardingColumn());
     }
     
+    @Test
+    void assertNewShardingRuleWithPreviousRule() {
+        ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
+        ruleConfig.getTables().add(createTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}"));
+        ruleConfig.getTables().add(createTableRuleConfiguration("SUB_LOGIC_TABLE", "ds_${0..1}.sub_table_${0..2}"));
+        ShardingRule previousRule = new ShardingRule(ruleConfig, createDataSources(), mock(ComputeNodeInstanceContext.class));
+        ruleConfig.getTables().removeIf(each -> "SUB_LOGIC_TABLE".equals(each.getLogicTable()));
+        ruleConfig.getTables().add(createTableRuleConfiguration("SUB_LOGIC_TABLE", "ds_${0..1}.sub_table_${0..3}"));
+        ShardingRule actual = new ShardingRule(ruleConfig, createDataSources(), mock(ComputeNodeInstanceContext.class), previousRule);
+        assertThat(actual.getShardingTable("LOGIC_TABLE"), sameInstance(previousRule.getShardingTable("LOGIC_TABLE")));
+        assertThat(actual.getShardingTable("SUB_LOGIC_TABLE"), not(sameInstance(previousRule.getShardingTable("SUB_LOGIC_TABLE"))));
+        assertThat(actual.getShardingTable("SUB_LOGIC_TABLE").getActualDataNodes().size(), is(8));
+    }
+    
+    @Test
+    void assertNewShardingRuleWithPreviousRuleOfDifferentDataSources() {
+        ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
+        ruleConfig.getTables().add(new ShardingTableRuleConfiguration("LOGIC_TABLE", null));
+        ShardingRule previousRule = new ShardingRule(ruleConfig, Maps.of("ds_0", new MockedDataSource(), "ds_1", new MockedDataSource()), mock(ComputeNodeInstanceContext.class));
+        ShardingRule actual = new ShardingRule(ruleConfig, createDataSources(), mock(ComputeNodeInstanceContext.class), previousRule);
+        assertThat(actual.getShardingTable("LOGIC_TABLE"), not(sameInstance(previousRule.getShardingTable("LOGIC_TABLE"))));
+    }
+    
     @Test
     void assertNewShardingRuleWithWrongShardingAlgorithmInDefaultDatabaseShardingStrategy() {
         ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
@@ -360,6 +386,18 @@ class ShardingRuleTest {
         assertFalse(actual.isPresent());
     }
     
+    @Test
+    void assertFindShardingColumns() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTables().add(createTableRuleConfigWithAllStrategies());
+        shardingRuleConfig.getShardingAlgorithms().put("core_standard_fixture", new AlgorithmConfiguration("CORE.STANDARD.FIXTURE", new Properties()));
+        ShardingRule actual = new ShardingRule(shardingRuleConfig, createDataSources(), mock(ComputeNodeInstanceContext.class));
+        Optional<Collection<String>> shardingColumns = actual.findShardingColumns("logic_table");
+        assertTrue(shardingColumns.isPresent());
+        assertThat(new LinkedList<>(shardingColumns.get()), is(Collections.singletonList("column")));
+        assertFalse(actual.findShardingColumns("other_table").isPresent());
+    }
+    
     @Test
     void assertFindGenerateKeyColumn() {
         assertTrue(createMaximumShardingRule().findGenerateKeyColumnName("logic_table").isPresent());
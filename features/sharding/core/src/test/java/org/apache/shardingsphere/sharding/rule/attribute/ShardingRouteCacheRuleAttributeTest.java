@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rule.attribute;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.apache.shardingsphere.infra.rule.attribute.cache.RouteCacheStatistics;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShardingRouteCacheRuleAttributeTest {
+    
+    @Test
+    void assertGetRouteCacheStatistics() {
+        ShardingRouteCache routeCache = mock(ShardingRouteCache.class);
+        when(routeCache.getStats()).thenReturn(CacheStats.of(1L, 2L, 3L, 0L, 100L, 4L, 0L));
+        when(routeCache.getEstimatedSize()).thenReturn(5L);
+        RouteCacheStatistics actual = new ShardingRouteCacheRuleAttribute(routeCache).getRouteCacheStatistics();
+        assertThat(actual.getHitCount(), is(1L));
+        assertThat(actual.getMissCount(), is(2L));
+        assertThat(actual.getEvictionCount(), is(4L));
+        assertThat(actual.getLoadCount(), is(3L));
+        assertThat(actual.getTotalLoadTimeNanos(), is(100L));
+        assertThat(actual.getEstimatedSize(), is(5L));
+    }
+}
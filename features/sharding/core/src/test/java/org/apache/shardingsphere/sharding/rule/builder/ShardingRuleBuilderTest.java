@@ -20,9 +20,14 @@ package org.apache.shardingsphere.sharding.rule.builder;
 import org.apache.shardingsphere.infra.database.mysql.type.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.rule.builder.database.DatabaseRuleBuilder;
 import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
 import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheConfiguration;
+import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheKey;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheValue;
 import org.apache.shardingsphere.sharding.exception.metadata.MissingRequiredShardingConfigurationException;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +36,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
@@ -62,4 +68,17 @@ class ShardingRuleBuilderTest {
         assertThrows(MissingRequiredShardingConfigurationException.class,
                 () -> builder.build(ruleConfig, "sharding_db", new MySQLDatabaseType(), mock(ResourceMetaData.class), Collections.emptyList(), mock(ComputeNodeInstanceContext.class)));
     }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertBuildWithPreviousRule() {
+        ruleConfig.setShardingCache(new ShardingCacheConfiguration(512, new ShardingCacheOptionsConfiguration(false, 16, 16)));
+        ResourceMetaData resourceMetaData = mock(ResourceMetaData.class, RETURNS_DEEP_STUBS);
+        ShardingRule previousRule = (ShardingRule) builder.build(ruleConfig, "sharding_db", new MySQLDatabaseType(), resourceMetaData, Collections.emptyList(), mock(ComputeNodeInstanceContext.class));
+        previousRule.getShardingCache().getRouteCache().put(new ShardingRouteCacheKey("select * from t_order", Collections.emptyList(), Collections.singleton("t_order")),
+                new ShardingRouteCacheValue(new RouteContext()));
+        ShardingRule actual = (ShardingRule) builder.build(ruleConfig, "sharding_db", new MySQLDatabaseType(), resourceMetaData,
+                Collections.emptyList(), Collections.singleton(previousRule), mock(ComputeNodeInstanceContext.class));
+        assertThat(actual.getShardingCache().getRouteCache().getEstimatedSize(), is(1L));
+    }
 }
@@ -54,6 +54,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether execute SQL on virtual threads, only available on JDK 21 or later.
+     */
+    KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED("kernel-executor-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -64,6 +69,51 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Max estimated bytes of memory merge for each query, rows exceed it will be spilled into local temporary files.
+     * The default value is 0, which means no limitation.
+     */
+    MERGE_MEMORY_MAX_BYTES("merge-memory-max-bytes", String.valueOf(0L), long.class, false),
+    
+    /**
+     * Directory of local temporary files spilled by memory merge.
+     * The default value is empty, which means the temporary directory of system is used.
+     */
+    MERGE_SPILL_DIRECTORY("merge-spill-directory", "", String.class, false),
+    
+    /**
+     * Max tables of each batch to verify table meta data loaded from repository against storage units in background after startup.
+     * The default value is 0, which means table meta data loaded from repository is not verified.
+     */
+    METADATA_SNAPSHOT_VERIFY_BATCH_SIZE("metadata-snapshot-verify-batch-size", String.valueOf(0), int.class, true),
+    
+    /**
+     * Interval milliseconds between batches of table meta data verification.
+     */
+    METADATA_SNAPSHOT_VERIFY_INTERVAL_MILLISECONDS("metadata-snapshot-verify-interval-milliseconds", String.valueOf(1000L), long.class, true),
+    
+    /**
+     * Whether load table meta data from one actual table when the logic table is first used instead of loading all tables at startup.
+     */
+    TABLE_METADATA_LAZY_LOAD_ENABLED("table-metadata-lazy-load-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
+    /**
+     * Milliseconds to coalesce rule item changes of same database into one rule rebuilding in cluster mode.
+     * The default value is 0, which means each rule item change rebuilds rules immediately.
+     */
+    RULE_ITEM_CHANGE_COALESCE_MILLISECONDS("rule-item-change-coalesce-milliseconds", String.valueOf(0L), long.class, false),
+    
+    /**
+     * Max rows of multi-values insert statement coalesced from batched single row insert statements routed to same actual table.
+     * The default value is 0, which means batched insert statements are not coalesced.
+     */
+    BATCH_INSERT_COALESCE_MAX_ROWS("batch-insert-coalesce-max-rows", String.valueOf(0), int.class, false),
+    
+    /**
+     * Max estimated bytes of multi-values insert statement coalesced from batched single row insert statements.
+     */
+    BATCH_INSERT_COALESCE_MAX_BYTES("batch-insert-coalesce-max-bytes", String.valueOf(4 * 1024 * 1024), int.class, false),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -74,17 +124,33 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class, false),
     
+    /**
+     * Flush threshold in bytes of encoded records for ShardingSphere-Proxy, row count based flush only if it is not positive.
+     */
+    PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD("proxy-frontend-flush-bytes-threshold", String.valueOf(32 * 1024), int.class, false),
+    
     /**
      * Proxy backend query fetch size. A larger value may increase the memory usage of ShardingSphere Proxy.
      * The default value is -1, which means set the minimum value for different JDBC drivers.
      */
     PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", String.valueOf(-1), int.class, false),
     
+    /**
+     * Whether relay text values of rows from single storage unit without conversion for ShardingSphere-Proxy.
+     * It is only available when client and storage unit connections use UTF-8.
+     */
+    PROXY_BACKEND_ROW_PASS_THROUGH_ENABLED("proxy-backend-row-pass-through-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Proxy frontend executor size. The default value is 0, which means let Netty decide.
      */
     PROXY_FRONTEND_EXECUTOR_SIZE("proxy-frontend-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether hold threads of connections in distributed transaction with virtual threads, only available on JDK 21 or later.
+     */
+    PROXY_FRONTEND_VIRTUAL_THREAD_ENABLED("proxy-frontend-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Less than or equal to 0 means no limitation.
      */
@@ -30,7 +30,9 @@ public enum GlobalLockNames {
     
     GLOBAL_LOCK("global_clock"),
     
-    STATISTICS("statistics");
+    STATISTICS("statistics"),
+    
+    METADATA_SNAPSHOT_VERIFY("metadata_snapshot_verify");
     
     private final String lockName;
 }
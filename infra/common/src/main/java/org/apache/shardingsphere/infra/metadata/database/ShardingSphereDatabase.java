@@ -41,6 +41,7 @@ import org.apache.shardingsphere.infra.rule.builder.database.DatabaseRulesBuilde
 import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
@@ -88,8 +89,27 @@ public final class ShardingSphereDatabase {
     public static ShardingSphereDatabase create(final String name, final DatabaseType protocolType, final Map<String, DatabaseType> storageTypes,
                                                 final DatabaseConfiguration databaseConfig, final ConfigurationProperties props,
                                                 final ComputeNodeInstanceContext computeNodeInstanceContext) throws SQLException {
+        return create(name, protocolType, storageTypes, databaseConfig, props, computeNodeInstanceContext, Collections.emptyList());
+    }
+    
+    /**
+     * Create database with previous rules.
+     *
+     * @param name database name
+     * @param protocolType database protocol type
+     * @param storageTypes storage types
+     * @param databaseConfig database configuration
+     * @param props configuration properties
+     * @param computeNodeInstanceContext compute node instance context
+     * @param previousRules previous rules of database which will be replaced by created database
+     * @return database
+     * @throws SQLException SQL exception
+     */
+    public static ShardingSphereDatabase create(final String name, final DatabaseType protocolType, final Map<String, DatabaseType> storageTypes,
+                                                final DatabaseConfiguration databaseConfig, final ConfigurationProperties props,
+                                                final ComputeNodeInstanceContext computeNodeInstanceContext, final Collection<ShardingSphereRule> previousRules) throws SQLException {
         ResourceMetaData resourceMetaData = createResourceMetaData(databaseConfig.getDataSources(), databaseConfig.getStorageUnits());
-        Collection<ShardingSphereRule> databaseRules = DatabaseRulesBuilder.build(name, protocolType, databaseConfig, computeNodeInstanceContext, resourceMetaData);
+        Collection<ShardingSphereRule> databaseRules = DatabaseRulesBuilder.build(name, protocolType, databaseConfig, computeNodeInstanceContext, resourceMetaData, previousRules);
         Map<String, ShardingSphereSchema> schemas = new ConcurrentHashMap<>(GenericSchemaBuilder
                 .build(new GenericSchemaBuilderMaterial(protocolType, storageTypes, resourceMetaData.getDataSourceMap(), databaseRules,
                         props, new DatabaseTypeRegistry(protocolType).getDefaultSchemaName(name))));
@@ -123,8 +143,25 @@ public final class ShardingSphereDatabase {
      */
     public static ShardingSphereDatabase create(final String name, final DatabaseType protocolType, final DatabaseConfiguration databaseConfig,
                                                 final ComputeNodeInstanceContext computeNodeInstanceContext, final Map<String, ShardingSphereSchema> schemas) {
+        return create(name, protocolType, databaseConfig, computeNodeInstanceContext, schemas, Collections.emptyList());
+    }
+    
+    /**
+     * Create database with previous rules.
+     *
+     * @param name database name
+     * @param protocolType database protocol type
+     * @param databaseConfig database configuration
+     * @param computeNodeInstanceContext compute node instance context
+     * @param schemas schemas
+     * @param previousRules previous rules of database which will be replaced by created database
+     * @return database
+     */
+    public static ShardingSphereDatabase create(final String name, final DatabaseType protocolType, final DatabaseConfiguration databaseConfig,
+                                                final ComputeNodeInstanceContext computeNodeInstanceContext, final Map<String, ShardingSphereSchema> schemas,
+                                                final Collection<ShardingSphereRule> previousRules) {
         ResourceMetaData resourceMetaData = createResourceMetaData(databaseConfig.getDataSources(), databaseConfig.getStorageUnits());
-        Collection<ShardingSphereRule> rules = DatabaseRulesBuilder.build(name, protocolType, databaseConfig, computeNodeInstanceContext, resourceMetaData);
+        Collection<ShardingSphereRule> rules = DatabaseRulesBuilder.build(name, protocolType, databaseConfig, computeNodeInstanceContext, resourceMetaData, previousRules);
         return create(name, protocolType, rules, schemas, resourceMetaData);
     }
     
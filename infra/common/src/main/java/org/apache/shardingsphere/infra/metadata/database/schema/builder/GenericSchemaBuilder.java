@@ -29,6 +29,8 @@ import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaM
 import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMetaData;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.datanode.DataNodes;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereConstraint;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
@@ -65,7 +67,25 @@ public final class GenericSchemaBuilder {
      * @throws SQLException SQL exception
      */
     public static Map<String, ShardingSphereSchema> build(final GenericSchemaBuilderMaterial material) throws SQLException {
-        return build(getAllTableNames(material.getRules()), material);
+        Collection<String> tableNames = getAllTableNames(material.getRules());
+        if (!material.getProps().<Boolean>getValue(ConfigurationPropertyKey.TABLE_METADATA_LAZY_LOAD_ENABLED)) {
+            return build(tableNames, material);
+        }
+        Collection<String> lazyTableNames = getLazyTableNames(tableNames, material);
+        tableNames.removeAll(lazyTableNames);
+        Map<String, ShardingSphereSchema> result = new ConcurrentHashMap<>(build(tableNames, material));
+        putLazyTables(result, lazyTableNames, material);
+        return result;
+    }
+    
+    /**
+     * Put lazy tables of rules which are absent in schemas.
+     *
+     * @param schemas schemas
+     * @param material generic schema builder material
+     */
+    public static void putLazyTables(final Map<String, ShardingSphereSchema> schemas, final GenericSchemaBuilderMaterial material) {
+        putLazyTables(schemas, getLazyTableNames(getAllTableNames(material.getRules()), material), material);
     }
     
     /**
@@ -92,6 +112,32 @@ public final class GenericSchemaBuilder {
         return result;
     }
     
+    private static Collection<String> getLazyTableNames(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) {
+        DataNodes dataNodes = new DataNodes(material.getRules());
+        return tableNames.stream().filter(each -> isLazyTable(dataNodes.getDataNodes(each), material)).collect(Collectors.toList());
+    }
+    
+    private static boolean isLazyTable(final Collection<DataNode> dataNodes, final GenericSchemaBuilderMaterial material) {
+        return !dataNodes.isEmpty() && dataNodes.stream().allMatch(each -> null == each.getSchemaName() || each.getSchemaName().equalsIgnoreCase(material.getDefaultSchemaName()));
+    }
+    
+    private static void putLazyTables(final Map<String, ShardingSphereSchema> schemas, final Collection<String> lazyTableNames, final GenericSchemaBuilderMaterial material) {
+        if (lazyTableNames.isEmpty()) {
+            return;
+        }
+        String schemaName = material.getDefaultSchemaName();
+        ShardingSphereSchema schema = schemas.entrySet().stream().filter(entry -> entry.getKey().equalsIgnoreCase(schemaName)).map(Entry::getValue).findFirst().orElseGet(() -> {
+            ShardingSphereSchema newSchema = new ShardingSphereSchema(schemaName);
+            schemas.put(schemaName.toLowerCase(), newSchema);
+            return newSchema;
+        });
+        for (String each : lazyTableNames) {
+            if (!schema.containsTable(each)) {
+                schema.putLazyTable(each, new LazyTableMetaDataLoader(each, schemaName, material));
+            }
+        }
+    }
+    
     private static Map<String, SchemaMetaData> loadSchemas(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) throws SQLException {
         boolean checkMetaDataEnable = material.getProps().getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED);
         Collection<MetaDataLoaderMaterial> materials = SchemaMetaDataUtils.getMetaDataLoaderMaterials(tableNames, material, checkMetaDataEnable);
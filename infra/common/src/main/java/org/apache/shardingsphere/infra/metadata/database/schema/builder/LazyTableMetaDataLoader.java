@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.builder;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+/**
+ * Lazy table meta data loader.
+ * 
+ * <p>Table meta data is loaded from one representative actual table, or from all actual tables to check their consistency if check-table-metadata-enabled is true.</p>
+ */
+@RequiredArgsConstructor
+public final class LazyTableMetaDataLoader implements Supplier<ShardingSphereTable> {
+    
+    private final String tableName;
+    
+    private final String schemaName;
+    
+    private final GenericSchemaBuilderMaterial material;
+    
+    @Override
+    public ShardingSphereTable get() {
+        return load(material.getProps().<Boolean>getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED) ? material : createRepresentativeTableMaterial());
+    }
+    
+    private GenericSchemaBuilderMaterial createRepresentativeTableMaterial() {
+        Properties props = new Properties();
+        props.putAll(material.getProps().getProps());
+        props.setProperty(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED.getKey(), Boolean.FALSE.toString());
+        return new GenericSchemaBuilderMaterial(material.getProtocolType(), material.getStorageTypes(), material.getDataSourceMap(), material.getRules(),
+                new ConfigurationProperties(props), material.getDefaultSchemaName());
+    }
+    
+    private ShardingSphereTable load(final GenericSchemaBuilderMaterial material) {
+        try {
+            return findTable(GenericSchemaBuilder.build(Collections.singleton(tableName), material));
+        } catch (final SQLException ex) {
+            throw new SQLWrapperException(ex);
+        }
+    }
+    
+    private ShardingSphereTable findTable(final Map<String, ShardingSphereSchema> schemas) {
+        for (Entry<String, ShardingSphereSchema> entry : schemas.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(schemaName)) {
+                return entry.getValue().getTable(tableName);
+            }
+        }
+        return null;
+    }
+}
@@ -17,19 +17,25 @@
 
 package org.apache.shardingsphere.infra.metadata.database.schema.model;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * ShardingSphere schema.
  */
 @Getter
+@Slf4j
 public final class ShardingSphereSchema {
     
     private final String name;
@@ -38,28 +44,40 @@ public final class ShardingSphereSchema {
     
     private final Map<String, ShardingSphereView> views;
     
+    private final Map<String, Supplier<ShardingSphereTable>> lazyTables;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, CompletableFuture<ShardingSphereTable>> loadingTables = new ConcurrentHashMap<>();
+    
     @SuppressWarnings("CollectionWithoutInitialCapacity")
     public ShardingSphereSchema(final String name) {
         this.name = name;
         tables = new ConcurrentHashMap<>();
         views = new ConcurrentHashMap<>();
+        lazyTables = new ConcurrentHashMap<>();
     }
     
     public ShardingSphereSchema(final String name, final Map<String, ShardingSphereTable> tables, final Map<String, ShardingSphereView> views) {
         this.name = name;
         this.tables = new ConcurrentHashMap<>(tables.size(), 1F);
         this.views = new ConcurrentHashMap<>(views.size(), 1F);
+        lazyTables = new ConcurrentHashMap<>();
         tables.forEach((key, value) -> this.tables.put(key.toLowerCase(), value));
         views.forEach((key, value) -> this.views.put(key.toLowerCase(), value));
     }
     
     /**
-     * Get all table names.
+     * Get all table names, names of loaded tables come before names of lazy tables.
      *
      * @return all table names
      */
     public Collection<String> getAllTableNames() {
-        return tables.keySet();
+        if (lazyTables.isEmpty()) {
+            return tables.keySet();
+        }
+        Collection<String> result = new LinkedHashSet<>(tables.keySet());
+        result.addAll(lazyTables.keySet());
+        return result;
     }
     
     /**
@@ -78,7 +96,62 @@ public final class ShardingSphereSchema {
      * @return table meta data
      */
     public ShardingSphereTable getTable(final String tableName) {
-        return tables.get(tableName.toLowerCase());
+        String key = tableName.toLowerCase();
+        ShardingSphereTable result = tables.get(key);
+        return null == result && lazyTables.containsKey(key) ? awaitLazyTable(key) : result;
+    }
+    
+    private ShardingSphereTable awaitLazyTable(final String key) {
+        CompletableFuture<ShardingSphereTable> future = new CompletableFuture<>();
+        CompletableFuture<ShardingSphereTable> loadingFuture = loadingTables.putIfAbsent(key, future);
+        if (null == loadingFuture) {
+            loadLazyTable(key, future);
+            loadingFuture = future;
+        }
+        return loadingFuture.join();
+    }
+    
+    /**
+     * Load meta data of all lazy tables one by one until current thread is interrupted, lazy table being loaded by another thread is skipped.
+     */
+    public void loadLazyTables() {
+        for (String each : lazyTables.keySet()) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            CompletableFuture<ShardingSphereTable> future = new CompletableFuture<>();
+            if (null == loadingTables.putIfAbsent(each, future)) {
+                loadLazyTable(each, future);
+            }
+        }
+    }
+    
+    private void loadLazyTable(final String key, final CompletableFuture<ShardingSphereTable> future) {
+        try {
+            future.complete(loadLazyTable(key));
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.warn("Load meta data of lazy table `{}` failed, it will be loaded again when it is got.", key, ex);
+            future.complete(null);
+        } finally {
+            loadingTables.remove(key, future);
+        }
+    }
+    
+    private ShardingSphereTable loadLazyTable(final String key) {
+        Supplier<ShardingSphereTable> loader = lazyTables.get(key);
+        if (null == loader) {
+            return tables.get(key);
+        }
+        ShardingSphereTable loadedTable = loader.get();
+        if (null == loadedTable) {
+            lazyTables.remove(key, loader);
+            return tables.get(key);
+        }
+        ShardingSphereTable result = tables.putIfAbsent(key, loadedTable);
+        lazyTables.remove(key, loader);
+        return null == result ? loadedTable : result;
     }
     
     /**
@@ -99,6 +172,29 @@ public final class ShardingSphereSchema {
      */
     public void putTable(final String tableName, final ShardingSphereTable table) {
         tables.put(tableName.toLowerCase(), table);
+        lazyTables.remove(tableName.toLowerCase());
+    }
+    
+    /**
+     * Add lazy table, the table meta data is loaded when it is got for the first time.
+     *
+     * @param tableName table name
+     * @param loader table meta data loader
+     */
+    public void putLazyTable(final String tableName, final Supplier<ShardingSphereTable> loader) {
+        if (!tables.containsKey(tableName.toLowerCase())) {
+            lazyTables.put(tableName.toLowerCase(), loader);
+        }
+    }
+    
+    /**
+     * Judge whether table meta data is not loaded yet.
+     *
+     * @param tableName table name
+     * @return table meta data is not loaded yet or not
+     */
+    public boolean isLazyTable(final String tableName) {
+        return lazyTables.containsKey(tableName.toLowerCase());
     }
     
     /**
@@ -129,6 +225,7 @@ public final class ShardingSphereSchema {
      */
     public void removeTable(final String tableName) {
         tables.remove(tableName.toLowerCase());
+        lazyTables.remove(tableName.toLowerCase());
     }
     
     /**
@@ -147,7 +244,7 @@ public final class ShardingSphereSchema {
      * @return contains table from table meta data or not
      */
     public boolean containsTable(final String tableName) {
-        return tables.containsKey(tableName.toLowerCase());
+        return tables.containsKey(tableName.toLowerCase()) || lazyTables.containsKey(tableName.toLowerCase());
     }
     
     /**
@@ -158,7 +255,8 @@ public final class ShardingSphereSchema {
      * @return contains column name or not
      */
     public boolean containsColumn(final String tableName, final String columnName) {
-        return containsTable(tableName) && getTable(tableName).containsColumn(columnName);
+        ShardingSphereTable table = getTable(tableName);
+        return null != table && table.containsColumn(columnName);
     }
     
     /**
@@ -169,7 +267,8 @@ public final class ShardingSphereSchema {
      * @return whether contains index name or not
      */
     public boolean containsIndex(final String tableName, final String indexName) {
-        return containsTable(tableName) && getTable(tableName).containsIndex(indexName);
+        ShardingSphereTable table = getTable(tableName);
+        return null != table && table.containsIndex(indexName);
     }
     
     /**
@@ -189,7 +288,8 @@ public final class ShardingSphereSchema {
      * @return column names
      */
     public List<String> getAllColumnNames(final String tableName) {
-        return containsTable(tableName) ? getTable(tableName).getColumnNames() : Collections.emptyList();
+        ShardingSphereTable table = getTable(tableName);
+        return null == table ? Collections.emptyList() : table.getColumnNames();
     }
     
     /**
@@ -199,7 +299,8 @@ public final class ShardingSphereSchema {
      * @return visible column names
      */
     public List<String> getVisibleColumnNames(final String tableName) {
-        return containsTable(tableName) ? getTable(tableName).getVisibleColumns() : Collections.emptyList();
+        ShardingSphereTable table = getTable(tableName);
+        return null == table ? Collections.emptyList() : table.getVisibleColumns();
     }
     
     /**
@@ -209,7 +310,8 @@ public final class ShardingSphereSchema {
      * @return visible column names and indexes
      */
     public Map<String, Integer> getVisibleColumnNamesAndIndexes(final String tableName) {
-        return containsTable(tableName) ? getTable(tableName).getVisibleColumnsAndIndexes() : Collections.emptyMap();
+        ShardingSphereTable table = getTable(tableName);
+        return null == table ? Collections.emptyMap() : table.getVisibleColumnsAndIndexes();
     }
     
     /**
@@ -217,6 +319,6 @@ public final class ShardingSphereSchema {
      * @return true if tables and views are all empty, else false
      */
     public boolean isEmpty() {
-        return tables.isEmpty() && views.isEmpty();
+        return tables.isEmpty() && lazyTables.isEmpty() && views.isEmpty();
     }
 }
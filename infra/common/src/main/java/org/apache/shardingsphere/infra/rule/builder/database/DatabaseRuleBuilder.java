@@ -49,4 +49,23 @@ public interface DatabaseRuleBuilder<T extends RuleConfiguration> extends RuleBu
      */
     DatabaseRule build(T ruleConfig, String databaseName, DatabaseType protocolType,
                        ResourceMetaData resourceMetaData, Collection<ShardingSphereRule> builtRules, ComputeNodeInstanceContext computeNodeInstanceContext);
+    
+    /**
+     * Build database rule with previous rules.
+     *
+     * <p>Previous rules are the rules of database which will be replaced by the built rules, builders can inherit states of unchanged parts from them.</p>
+     *
+     * @param ruleConfig rule configuration
+     * @param databaseName database name
+     * @param protocolType protocol type
+     * @param resourceMetaData resource meta data
+     * @param builtRules built rules
+     * @param previousRules previous rules
+     * @param computeNodeInstanceContext compute node instance context
+     * @return built database rule
+     */
+    default DatabaseRule build(T ruleConfig, String databaseName, DatabaseType protocolType, ResourceMetaData resourceMetaData,
+                               Collection<ShardingSphereRule> builtRules, Collection<ShardingSphereRule> previousRules, ComputeNodeInstanceContext computeNodeInstanceContext) {
+        return build(ruleConfig, databaseName, protocolType, resourceMetaData, builtRules, computeNodeInstanceContext);
+    }
 }
@@ -56,9 +56,26 @@ public final class DatabaseRulesBuilder {
      * @param resourceMetaData  resource meta data
      * @return built rules
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public static Collection<ShardingSphereRule> build(final String databaseName, final DatabaseType protocolType, final DatabaseConfiguration databaseConfig,
                                                        final ComputeNodeInstanceContext computeNodeInstanceContext, final ResourceMetaData resourceMetaData) {
+        return build(databaseName, protocolType, databaseConfig, computeNodeInstanceContext, resourceMetaData, Collections.emptyList());
+    }
+    
+    /**
+     * Build database rules with previous rules.
+     *
+     * @param databaseName database name
+     * @param protocolType protocol type
+     * @param databaseConfig database configuration
+     * @param computeNodeInstanceContext compute node instance context
+     * @param resourceMetaData  resource meta data
+     * @param previousRules previous rules of database which will be replaced by built rules
+     * @return built rules
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Collection<ShardingSphereRule> build(final String databaseName, final DatabaseType protocolType, final DatabaseConfiguration databaseConfig,
+                                                       final ComputeNodeInstanceContext computeNodeInstanceContext, final ResourceMetaData resourceMetaData,
+                                                       final Collection<ShardingSphereRule> previousRules) {
         Collection<ShardingSphereRule> result = new LinkedList<>();
         for (Entry<RuleConfiguration, DatabaseRuleBuilder> entry : getRuleBuilderMap(databaseConfig).entrySet()) {
             RuleConfigurationChecker configChecker = OrderedSPILoader.getServicesByClass(
@@ -66,7 +83,7 @@ public final class DatabaseRulesBuilder {
             if (null != configChecker) {
                 configChecker.check(databaseName, entry.getKey(), resourceMetaData.getDataSourceMap(), result);
             }
-            result.add(entry.getValue().build(entry.getKey(), databaseName, protocolType, resourceMetaData, result, computeNodeInstanceContext));
+            result.add(entry.getValue().build(entry.getKey(), databaseName, protocolType, resourceMetaData, result, previousRules, computeNodeInstanceContext));
         }
         return result;
     }
@@ -93,7 +110,7 @@ public final class DatabaseRulesBuilder {
             if (null != configChecker) {
                 configChecker.check(databaseName, entry.getKey(), resourceMetaData.getDataSourceMap(), rules);
             }
-            result.add(entry.getValue().build(entry.getKey(), databaseName, protocolType, resourceMetaData, rules, computeNodeInstanceContext));
+            result.add(entry.getValue().build(entry.getKey(), databaseName, protocolType, resourceMetaData, rules, rules, computeNodeInstanceContext));
         }
         return result;
     }
@@ -41,12 +41,24 @@ class ConfigurationPropertiesTest {
         assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(20));
+        assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(20));
         assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.MERGE_MEMORY_MAX_BYTES), is(1024L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.MERGE_SPILL_DIRECTORY), is("/tmp/spill"));
+        assertThat(actual.getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_VERIFY_BATCH_SIZE), is(100));
+        assertThat(actual.getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_VERIFY_INTERVAL_MILLISECONDS), is(500L));
+        assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.TABLE_METADATA_LAZY_LOAD_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.RULE_ITEM_CHANGE_COALESCE_MILLISECONDS), is(300L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_ROWS), is(100));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_BYTES), is(1024));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE), is(TypedSPILoader.getService(DatabaseType.class, "PostgreSQL")));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(20));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD), is(1024));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE), is(20));
+        assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_ROW_PASS_THROUGH_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE), is(20));
+        assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_VIRTUAL_THREAD_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_DEFAULT_PORT), is(3308));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG), is(1024));
@@ -59,12 +71,24 @@ class ConfigurationPropertiesTest {
                 new Property(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.SQL_SIMPLE.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE.getKey(), "20"),
+                new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.MERGE_MEMORY_MAX_BYTES.getKey(), "1024"),
+                new Property(ConfigurationPropertyKey.MERGE_SPILL_DIRECTORY.getKey(), "/tmp/spill"),
+                new Property(ConfigurationPropertyKey.METADATA_SNAPSHOT_VERIFY_BATCH_SIZE.getKey(), "100"),
+                new Property(ConfigurationPropertyKey.METADATA_SNAPSHOT_VERIFY_INTERVAL_MILLISECONDS.getKey(), "500"),
+                new Property(ConfigurationPropertyKey.TABLE_METADATA_LAZY_LOAD_ENABLED.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.RULE_ITEM_CHANGE_COALESCE_MILLISECONDS.getKey(), "300"),
+                new Property(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_ROWS.getKey(), "100"),
+                new Property(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_BYTES.getKey(), "1024"),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE.getKey(), "PostgreSQL"),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), "20"),
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), "1024"),
                 new Property(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE.getKey(), "20"),
+                new Property(ConfigurationPropertyKey.PROXY_BACKEND_ROW_PASS_THROUGH_ENABLED.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE.getKey(), "20"),
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_VIRTUAL_THREAD_ENABLED.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.PROXY_DEFAULT_PORT.getKey(), "3308"),
                 new Property(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG.getKey(), "1024"),
@@ -78,12 +102,24 @@ class ConfigurationPropertiesTest {
         assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(0));
+        assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(1));
         assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.MERGE_MEMORY_MAX_BYTES), is(0L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.MERGE_SPILL_DIRECTORY), is(""));
+        assertThat(actual.getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_VERIFY_BATCH_SIZE), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_VERIFY_INTERVAL_MILLISECONDS), is(1000L));
+        assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.TABLE_METADATA_LAZY_LOAD_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.RULE_ITEM_CHANGE_COALESCE_MILLISECONDS), is(0L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_ROWS), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_BYTES), is(4194304));
         assertNull(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(128));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD), is(32768));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE), is(-1));
+        assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_ROW_PASS_THROUGH_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE), is(0));
+        assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_VIRTUAL_THREAD_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_DEFAULT_PORT), is(3307));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG), is(1024));
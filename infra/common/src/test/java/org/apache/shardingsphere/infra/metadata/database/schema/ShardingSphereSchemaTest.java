@@ -25,11 +25,14 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -77,6 +80,74 @@ class ShardingSphereSchemaTest {
         assertNull(actual.getTable("tbl"));
     }
     
+    @Test
+    void assertGetLazyTable() {
+        ShardingSphereSchema actual = new ShardingSphereSchema(DefaultDatabase.LOGIC_NAME, Collections.singletonMap("tbl", mock(ShardingSphereTable.class)), Collections.emptyMap());
+        ShardingSphereTable table = mock(ShardingSphereTable.class);
+        AtomicInteger loadCount = new AtomicInteger();
+        actual.putLazyTable("lazy_tbl", () -> {
+            loadCount.incrementAndGet();
+            return table;
+        });
+        assertTrue(actual.isLazyTable("lazy_tbl"));
+        assertTrue(actual.containsTable("LAZY_TBL"));
+        assertThat(actual.getAllTableNames(), is(new HashSet<>(Arrays.asList("tbl", "lazy_tbl"))));
+        assertThat(loadCount.get(), is(0));
+        assertThat(actual.getTable("lazy_tbl"), is(table));
+        assertThat(actual.getTable("lazy_tbl"), is(table));
+        assertThat(loadCount.get(), is(1));
+        assertFalse(actual.isLazyTable("lazy_tbl"));
+    }
+    
+    @Test
+    void assertGetLazyTableWithNotExistedTable() {
+        ShardingSphereSchema actual = new ShardingSphereSchema(DefaultDatabase.LOGIC_NAME);
+        actual.putLazyTable("lazy_tbl", () -> null);
+        assertNull(actual.getTable("lazy_tbl"));
+        assertFalse(actual.containsTable("lazy_tbl"));
+        assertTrue(actual.isEmpty());
+    }
+    
+    @Test
+    void assertGetLazyTableWithLoadFailure() {
+        ShardingSphereSchema actual = new ShardingSphereSchema(DefaultDatabase.LOGIC_NAME);
+        ShardingSphereTable table = mock(ShardingSphereTable.class);
+        AtomicInteger loadCount = new AtomicInteger();
+        actual.putLazyTable("lazy_tbl", () -> {
+            if (1 == loadCount.incrementAndGet()) {
+                throw new IllegalStateException("load failed");
+            }
+            return table;
+        });
+        assertNull(actual.getTable("lazy_tbl"));
+        assertTrue(actual.isLazyTable("lazy_tbl"));
+        assertThat(actual.getTable("lazy_tbl"), is(table));
+        assertThat(loadCount.get(), is(2));
+    }
+    
+    @Test
+    void assertLoadLazyTables() {
+        ShardingSphereSchema actual = new ShardingSphereSchema(DefaultDatabase.LOGIC_NAME);
+        ShardingSphereTable table = mock(ShardingSphereTable.class);
+        AtomicInteger loadCount = new AtomicInteger();
+        actual.putLazyTable("lazy_tbl", () -> {
+            loadCount.incrementAndGet();
+            return table;
+        });
+        actual.loadLazyTables();
+        assertFalse(actual.isLazyTable("lazy_tbl"));
+        assertThat(actual.getTable("lazy_tbl"), is(table));
+        assertThat(loadCount.get(), is(1));
+    }
+    
+    @Test
+    void assertRemoveLazyTable() {
+        ShardingSphereSchema actual = new ShardingSphereSchema(DefaultDatabase.LOGIC_NAME);
+        actual.putLazyTable("lazy_tbl", () -> mock(ShardingSphereTable.class));
+        actual.removeTable("lazy_tbl");
+        assertFalse(actual.containsTable("lazy_tbl"));
+    }
+    
     @Test
     void assertContainsTable() {
         assertTrue(new ShardingSphereSchema(DefaultDatabase.LOGIC_NAME, Collections.singletonMap("tbl", mock(ShardingSphereTable.class)), Collections.emptyMap()).containsTable("tbl"));
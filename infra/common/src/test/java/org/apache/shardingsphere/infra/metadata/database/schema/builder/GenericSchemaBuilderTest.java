@@ -18,20 +18,26 @@
 package org.apache.shardingsphere.infra.metadata.database.schema.builder;
 
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoader;
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoaderMaterial;
 import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaMetaData;
 import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMetaData;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
 import org.apache.shardingsphere.infra.rule.attribute.table.TableMapperRuleAttribute;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
 import org.apache.shardingsphere.test.mock.AutoMockExtension;
 import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -94,6 +100,28 @@ class GenericSchemaBuilderTest {
         assertTables(new ShardingSphereSchema(DefaultDatabase.LOGIC_NAME, actual.values().iterator().next().getTables(), Collections.emptyMap()).getTables());
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertBuildWithLazyTables() throws SQLException {
+        TableMapperRuleAttribute tableMapperRuleAttribute = mock(TableMapperRuleAttribute.class);
+        when(tableMapperRuleAttribute.getLogicTableNames()).thenReturn(Arrays.asList("data_node_routed_table1", "data_node_routed_table2"));
+        DataNodeRuleAttribute dataNodeRuleAttribute = mock(DataNodeRuleAttribute.class);
+        when(dataNodeRuleAttribute.getDataNodesByTableName("data_node_routed_table1")).thenReturn(Collections.singleton(new DataNode(DefaultDatabase.LOGIC_NAME, "data_node_routed_table1")));
+        ShardingSphereRule rule = mock(ShardingSphereRule.class);
+        when(rule.getAttributes()).thenReturn(new RuleAttributes(tableMapperRuleAttribute, dataNodeRuleAttribute));
+        GenericSchemaBuilderMaterial lazyMaterial = new GenericSchemaBuilderMaterial(material.getProtocolType(), material.getStorageTypes(), material.getDataSourceMap(),
+                Collections.singleton(rule), new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.TABLE_METADATA_LAZY_LOAD_ENABLED.getKey(), "true"))),
+                DefaultDatabase.LOGIC_NAME);
+        when(MetaDataLoader.load(any())).thenAnswer(invocation -> createSchemaMetaDataMap(
+                ((Collection<MetaDataLoaderMaterial>) invocation.getArgument(0)).iterator().next().getActualTableNames(), lazyMaterial));
+        ShardingSphereSchema actual = GenericSchemaBuilder.build(lazyMaterial).get(DefaultDatabase.LOGIC_NAME);
+        assertThat(actual.getTables().keySet(), is(Collections.singleton("data_node_routed_table2")));
+        assertTrue(actual.isLazyTable("data_node_routed_table1"));
+        assertTrue(actual.containsTable("data_node_routed_table1"));
+        assertThat(actual.getTable("data_node_routed_table1").getName(), is("data_node_routed_table1"));
+        assertFalse(actual.isLazyTable("data_node_routed_table1"));
+    }
+    
     private Map<String, SchemaMetaData> createSchemaMetaDataMap(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) {
         if (!tableNames.isEmpty() && (tableNames.contains("data_node_routed_table1") || tableNames.contains("data_node_routed_table2"))) {
             Collection<TableMetaData> tableMetaDataList = tableNames.stream()
@@ -37,9 +37,12 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 class IndexMetaDataUtilsTest {
@@ -89,6 +92,25 @@ class IndexMetaDataUtilsTest {
         assertThat(actual.iterator().next().getTableName(), is(TABLE_NAME));
     }
     
+    @Test
+    void assertFindLogicTableNameWithNotExistedLazyTable() {
+        ShardingSphereTable table = new ShardingSphereTable(TABLE_NAME, Collections.emptyList(), Collections.singleton(new ShardingSphereIndex(INDEX_NAME)), Collections.emptyList());
+        ShardingSphereSchema schema = new ShardingSphereSchema(DefaultDatabase.LOGIC_NAME);
+        schema.putLazyTable("not_existed_tbl", () -> null);
+        schema.putLazyTable(TABLE_NAME, () -> table);
+        assertThat(IndexMetaDataUtils.findLogicTableName(schema, INDEX_NAME), is(Optional.of(TABLE_NAME)));
+        assertFalse(IndexMetaDataUtils.findLogicTableName(schema, "not_existed_idx").isPresent());
+    }
+    
+    @Test
+    void assertFindLogicTableNameWithoutLoadingLazyTable() {
+        ShardingSphereTable table = new ShardingSphereTable(TABLE_NAME, Collections.emptyList(), Collections.singleton(new ShardingSphereIndex(INDEX_NAME)), Collections.emptyList());
+        ShardingSphereSchema schema = new ShardingSphereSchema(DefaultDatabase.LOGIC_NAME, Collections.singletonMap(TABLE_NAME, table), Collections.emptyMap());
+        schema.putLazyTable("lazy_tbl", () -> mock(ShardingSphereTable.class));
+        assertThat(IndexMetaDataUtils.findLogicTableName(schema, INDEX_NAME), is(Optional.of(TABLE_NAME)));
+        assertTrue(schema.isLazyTable("lazy_tbl"));
+    }
+    
     private ShardingSphereDatabase buildDatabase() {
         ShardingSphereTable table = new ShardingSphereTable(TABLE_NAME, Collections.emptyList(), Collections.singleton(new ShardingSphereIndex(INDEX_NAME)), Collections.emptyList());
         Map<String, ShardingSphereTable> tables = Collections.singletonMap(TABLE_NAME, table);
@@ -138,4 +138,13 @@ public interface DialectDatabaseMetaData extends DatabaseTypedSPI {
     default boolean isSupportGlobalCSN() {
         return false;
     }
+    
+    /**
+     * Is support multiple rows in values clause of insert statement.
+     *
+     * @return support or not
+     */
+    default boolean isSupportMultiValuesInsert() {
+        return false;
+    }
 }
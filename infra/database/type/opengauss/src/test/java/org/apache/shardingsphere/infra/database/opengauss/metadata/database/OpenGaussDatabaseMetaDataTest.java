@@ -48,4 +48,9 @@ class OpenGaussDatabaseMetaDataTest {
     void assertGetDefaultSchema() {
         assertThat(dialectDatabaseMetaData.getDefaultSchema(), is(Optional.of("public")));
     }
+    
+    @Test
+    void assertIsSupportMultiValuesInsert() {
+        assertTrue(dialectDatabaseMetaData.isSupportMultiValuesInsert());
+    }
 }
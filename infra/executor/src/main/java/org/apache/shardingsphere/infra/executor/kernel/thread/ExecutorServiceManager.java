@@ -19,7 +19,9 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import com.alibaba.ttl.threadpool.TtlExecutors;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -29,6 +31,7 @@ import java.util.concurrent.TimeUnit;
  * Executor service manager.
  */
 @Getter
+@Slf4j
 public final class ExecutorServiceManager {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
@@ -41,8 +44,33 @@ public final class ExecutorServiceManager {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
+    public ExecutorServiceManager(final int executorSize, final boolean virtualThreadEnabled) {
+        this(executorSize, DEFAULT_NAME_FORMAT, virtualThreadEnabled);
+    }
+    
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, false);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        executorService = TtlExecutors.getTtlExecutorService(virtualThreadEnabled ? getVirtualThreadExecutorService(executorSize, nameFormat) : getExecutorService(executorSize, nameFormat));
+    }
+    
+    private ExecutorService getVirtualThreadExecutorService(final int executorSize, final String nameFormat) {
+        Optional<ExecutorService> result = ExecutorThreadFactoryBuilder.buildVirtual(nameFormat).flatMap(this::newThreadPerTaskExecutor);
+        if (result.isPresent()) {
+            return result.get();
+        }
+        log.warn("Virtual thread is not supported by current JVM, fallback to platform thread executor.");
+        return getExecutorService(executorSize, nameFormat);
+    }
+    
+    private Optional<ExecutorService> newThreadPerTaskExecutor(final ThreadFactory threadFactory) {
+        try {
+            return Optional.of((ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory));
+        } catch (final ReflectiveOperationException ignored) {
+            return Optional.empty();
+        }
     }
     
     private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
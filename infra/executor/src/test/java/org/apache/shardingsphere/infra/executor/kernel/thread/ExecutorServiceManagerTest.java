@@ -62,4 +62,13 @@ class ExecutorServiceManagerTest {
             throw ex;
         }
     }
+    
+    @Test
+    void assertExecuteWithVirtualThreadEnabled() {
+        AtomicBoolean finished = new AtomicBoolean(false);
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(1, true);
+        executorServiceManager.getExecutorService().submit(() -> finished.set(true));
+        assertTimeout(Duration.ofSeconds(1L), () -> assertFinished(finished));
+        executorServiceManager.close();
+    }
 }
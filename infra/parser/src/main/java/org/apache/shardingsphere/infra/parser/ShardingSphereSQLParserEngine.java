@@ -37,9 +37,16 @@ public final class ShardingSphereSQLParserEngine implements SQLParserEngine {
     
     private final DistSQLStatementParserEngine distSQLStatementParserEngine;
     
+    private final String databaseName;
+    
     public ShardingSphereSQLParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption) {
+        this(databaseType, sqlStatementCacheOption, parseTreeCacheOption, null);
+    }
+    
+    public ShardingSphereSQLParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final String databaseName) {
         sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption);
         distSQLStatementParserEngine = new DistSQLStatementParserEngine();
+        this.databaseName = databaseName;
     }
     
     /*
@@ -50,7 +57,7 @@ public final class ShardingSphereSQLParserEngine implements SQLParserEngine {
     @Override
     public SQLStatement parse(final String sql, final boolean useCache) {
         try {
-            return sqlStatementParserEngine.parse(sql, useCache);
+            return null == databaseName ? sqlStatementParserEngine.parse(sql, useCache) : sqlStatementParserEngine.parse(sql, useCache, databaseName);
         } catch (final SQLParsingException | ParseCancellationException originalEx) {
             try {
                 String trimSQL = SQLUtils.trimComment(sql);
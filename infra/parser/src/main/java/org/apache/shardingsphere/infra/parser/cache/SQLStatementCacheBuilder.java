@@ -41,7 +41,12 @@ public final class SQLStatementCacheBuilder {
      */
     public static LoadingCache<String, SQLStatement> build(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption,
                                                            final CacheOption parseTreeCacheOption) {
-        return Caffeine.newBuilder().softValues().initialCapacity(sqlStatementCacheOption.getInitialCapacity()).maximumSize(sqlStatementCacheOption.getMaximumSize())
-                .build(new SQLStatementCacheLoader(databaseType, parseTreeCacheOption));
+        Caffeine<Object, Object> result = Caffeine.newBuilder().softValues().initialCapacity(sqlStatementCacheOption.getInitialCapacity());
+        if (sqlStatementCacheOption.isMemoryWeighted()) {
+            result.maximumWeight(sqlStatementCacheOption.getMaximumBytes()).weigher(new SQLStatementCacheWeigher());
+        } else {
+            result.maximumSize(sqlStatementCacheOption.getMaximumSize());
+        }
+        return result.build(new SQLStatementCacheLoader(databaseType, parseTreeCacheOption));
     }
 }
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL statement cache statistics of databases.
+ */
+public final class SQLStatementCacheStatistics {
+    
+    private final Map<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+    
+    private final Map<String, LongAdder> missCounts = new ConcurrentHashMap<>();
+    
+    /**
+     * Record cache request.
+     *
+     * @param databaseName database name
+     */
+    public void recordRequest(final String databaseName) {
+        requestCounts.computeIfAbsent(databaseName, key -> new LongAdder()).increment();
+    }
+    
+    /**
+     * Record cache miss.
+     *
+     * @param databaseName database name
+     */
+    public void recordMiss(final String databaseName) {
+        missCounts.computeIfAbsent(databaseName, key -> new LongAdder()).increment();
+    }
+    
+    /**
+     * Get hit count of database.
+     *
+     * @param databaseName database name
+     * @return hit count
+     */
+    public long getHitCount(final String databaseName) {
+        long missCount = getMissCount(databaseName);
+        LongAdder requestCount = requestCounts.get(databaseName);
+        return null == requestCount ? 0L : Math.max(requestCount.sum() - missCount, 0L);
+    }
+    
+    /**
+     * Get miss count of database.
+     *
+     * @param databaseName database name
+     * @return miss count
+     */
+    public long getMissCount(final String databaseName) {
+        LongAdder result = missCounts.get(databaseName);
+        return null == result ? 0L : result.sum();
+    }
+    
+    /**
+     * Get names of databases which have cache statistics.
+     *
+     * @return database names
+     */
+    public Collection<String> getDatabaseNames() {
+        Collection<String> result = new LinkedHashSet<>(requestCounts.keySet());
+        result.addAll(missCounts.keySet());
+        return result;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+/**
+ * SQL statement cache weigher.
+ * 
+ * <p>Weight is the estimated bytes of cached SQL and its SQL statement. Size of SQL statement is estimated by SQL length, because walking the whole statement tree on every admission costs more than parsing saves.</p>
+ */
+public final class SQLStatementCacheWeigher implements Weigher<String, SQLStatement> {
+    
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+    
+    private static final int SQL_BYTES_PER_CHAR = 2;
+    
+    private static final int STATEMENT_BYTES_PER_SQL_CHAR = 32;
+    
+    @Override
+    public int weigh(final String sql, final SQLStatement sqlStatement) {
+        return estimate(sql);
+    }
+    
+    /**
+     * Estimate bytes of cached SQL and its SQL statement.
+     *
+     * @param sql SQL
+     * @return estimated bytes
+     */
+    public static int estimate(final String sql) {
+        return (int) Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD_BYTES + (long) sql.length() * (SQL_BYTES_PER_CHAR + STATEMENT_BYTES_PER_SQL_CHAR));
+    }
+}
@@ -21,6 +21,7 @@ import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
+import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheStatistics;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 
@@ -39,6 +40,9 @@ public final class SQLStatementParserEngine {
     @Getter
     private final CacheOption parseTreeCacheOption;
     
+    @Getter
+    private final SQLStatementCacheStatistics sqlStatementCacheStatistics = new SQLStatementCacheStatistics();
+    
     public SQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption) {
         sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption);
         sqlStatementCache = SQLStatementCacheBuilder.build(databaseType, sqlStatementCacheOption, parseTreeCacheOption);
@@ -54,6 +58,27 @@ public final class SQLStatementParserEngine {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql, final boolean useCache) {
-        return useCache ? sqlStatementCache.get(sql) : sqlStatementParserExecutor.parse(sql);
+        return useCache && sqlStatementCacheOption.isAdmitted(sql) ? sqlStatementCache.get(sql) : sqlStatementParserExecutor.parse(sql);
+    }
+    
+    /**
+     * Parse to SQL statement and record cache statistics of database.
+     *
+     * @param sql SQL to be parsed
+     * @param useCache whether to use cache
+     * @param databaseName database name
+     * @return SQL statement
+     */
+    public SQLStatement parse(final String sql, final boolean useCache, final String databaseName) {
+        if (!useCache || !sqlStatementCacheOption.isAdmitted(sql)) {
+            return sqlStatementParserExecutor.parse(sql);
+        }
+        sqlStatementCacheStatistics.recordRequest(databaseName);
+        return sqlStatementCache.get(sql, key -> load(key, databaseName));
+    }
+    
+    private SQLStatement load(final String sql, final String databaseName) {
+        sqlStatementCacheStatistics.recordMiss(databaseName);
+        return sqlStatementParserExecutor.parse(sql);
     }
 }
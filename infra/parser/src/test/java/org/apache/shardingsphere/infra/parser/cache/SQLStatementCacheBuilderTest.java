@@ -21,10 +21,13 @@ import com.github.benmanes.caffeine.cache.LoadingCache;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 import org.junit.jupiter.api.Test;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SQLStatementCacheBuilderTest {
     
@@ -32,4 +35,12 @@ class SQLStatementCacheBuilderTest {
     void assertBuild() {
         assertThat(SQLStatementCacheBuilder.build(TypedSPILoader.getService(DatabaseType.class, "MySQL"), new CacheOption(2000, 65535L), new CacheOption(128, 1024L)), isA(LoadingCache.class));
     }
+    
+    @Test
+    void assertBuildWithMaximumBytes() {
+        LoadingCache<String, SQLStatement> actual = SQLStatementCacheBuilder.build(TypedSPILoader.getService(DatabaseType.class, "MySQL"), new CacheOption(16, 0L, 1024L * 1024L, 0), new CacheOption(16, 16L));
+        assertTrue(actual.policy().eviction().isPresent());
+        assertTrue(actual.policy().eviction().get().isWeighted());
+        assertThat(actual.policy().eviction().get().getMaximum(), is(1024L * 1024L));
+    }
 }
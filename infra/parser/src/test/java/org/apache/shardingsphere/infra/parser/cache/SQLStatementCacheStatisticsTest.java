@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SQLStatementCacheStatisticsTest {
+    
+    @Test
+    void assertRecord() {
+        SQLStatementCacheStatistics actual = new SQLStatementCacheStatistics();
+        actual.recordRequest("foo_db");
+        actual.recordRequest("foo_db");
+        actual.recordRequest("foo_db");
+        actual.recordMiss("foo_db");
+        actual.recordRequest("bar_db");
+        actual.recordMiss("bar_db");
+        assertThat(actual.getHitCount("foo_db"), is(2L));
+        assertThat(actual.getMissCount("foo_db"), is(1L));
+        assertThat(actual.getHitCount("bar_db"), is(0L));
+        assertThat(actual.getMissCount("bar_db"), is(1L));
+        assertThat(actual.getDatabaseNames().size(), is(2));
+    }
+}
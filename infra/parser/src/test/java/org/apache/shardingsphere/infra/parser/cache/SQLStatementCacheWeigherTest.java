@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache;
+
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class SQLStatementCacheWeigherTest {
+    
+    @Test
+    void assertWeigh() {
+        assertThat(new SQLStatementCacheWeigher().weigh("SELECT 1", mock(SQLStatement.class)), is(SQLStatementCacheWeigher.estimate("SELECT 1")));
+    }
+    
+    @Test
+    void assertEstimateGrowsWithSQLLength() {
+        assertTrue(SQLStatementCacheWeigher.estimate("SELECT * FROM t_order WHERE order_id = ?") > SQLStatementCacheWeigher.estimate("SELECT 1"));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SQLStatementParserEngineTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+    
+    @Test
+    void assertParseWithDatabaseStatistics() throws ReflectiveOperationException {
+        SQLStatementParserEngine engine = createSQLStatementParserEngine(new CacheOption(16, 16L));
+        SQLStatementParserExecutor executor = mock(SQLStatementParserExecutor.class);
+        when(executor.parse(anyString())).thenReturn(mock(SQLStatement.class));
+        Plugins.getMemberAccessor().set(SQLStatementParserEngine.class.getDeclaredField("sqlStatementParserExecutor"), engine, executor);
+        engine.parse("SELECT 1", true, "foo_db");
+        engine.parse("SELECT 1", true, "bar_db");
+        engine.parse("SELECT 1", true, "bar_db");
+        verify(executor).parse("SELECT 1");
+        assertThat(engine.getSqlStatementCacheStatistics().getMissCount("foo_db"), is(1L));
+        assertThat(engine.getSqlStatementCacheStatistics().getHitCount("foo_db"), is(0L));
+        assertThat(engine.getSqlStatementCacheStatistics().getHitCount("bar_db"), is(2L));
+    }
+    
+    @Test
+    void assertParseWithSQLNotAdmitted() throws ReflectiveOperationException {
+        SQLStatementParserEngine engine = createSQLStatementParserEngine(new CacheOption(16, 0L, 1024L * 1024L, 4));
+        SQLStatementParserExecutor executor = mock(SQLStatementParserExecutor.class);
+        when(executor.parse(anyString())).thenReturn(mock(SQLStatement.class));
+        Plugins.getMemberAccessor().set(SQLStatementParserEngine.class.getDeclaredField("sqlStatementParserExecutor"), engine, executor);
+        engine.parse("SELECT 1", true, "foo_db");
+        engine.parse("SELECT 1", true);
+        verify(executor, times(2)).parse("SELECT 1");
+        assertThat(engine.getSqlStatementCacheStatistics().getMissCount("foo_db"), is(0L));
+    }
+    
+    private SQLStatementParserEngine createSQLStatementParserEngine(final CacheOption sqlStatementCacheOption) throws ReflectiveOperationException {
+        SQLStatementParserEngine result = new SQLStatementParserEngine(databaseType, sqlStatementCacheOption, new CacheOption(16, 16L));
+        Plugins.getMemberAccessor().set(SQLStatementParserEngine.class.getDeclaredField("sqlStatementCache"), result, Caffeine.newBuilder().build(sql -> mock(SQLStatement.class)));
+        return result;
+    }
+}
@@ -25,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -47,6 +48,8 @@ public final class BatchExecutionUnit {
     @Getter(AccessLevel.NONE)
     private int actualCallAddBatchTimes;
     
+    private int coalescedRowCount = 1;
+    
     /**
      * Map times of use JDBC API call addBatch and times of actual call addBatch after route.
      *
@@ -56,6 +59,19 @@ public final class BatchExecutionUnit {
         jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualCallAddBatchTimes++);
     }
     
+    /**
+     * Map times of use JDBC API call addBatch to one actual call addBatch, which inserts coalesced rows of them.
+     *
+     * @param jdbcAddBatchTimes times of use JDBC API call addBatch
+     */
+    public void mapCoalescedAddBatchCount(final Collection<Integer> jdbcAddBatchTimes) {
+        for (Integer each : jdbcAddBatchTimes) {
+            jdbcAndActualAddBatchCallTimesMap.put(each, actualCallAddBatchTimes);
+        }
+        actualCallAddBatchTimes++;
+        coalescedRowCount = jdbcAddBatchTimes.size();
+    }
+    
     /**
      * Get parameter sets.
      *
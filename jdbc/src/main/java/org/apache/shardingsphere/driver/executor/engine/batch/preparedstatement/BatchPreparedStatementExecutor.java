@@ -21,6 +21,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
@@ -31,6 +32,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 
@@ -41,7 +43,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 
@@ -61,6 +62,8 @@ public final class BatchPreparedStatementExecutor {
     
     private int batchCount;
     
+    private boolean coalesced;
+    
     public BatchPreparedStatementExecutor(final ShardingSphereDatabase database, final JDBCExecutor jdbcExecutor, final String processId) {
         this.database = database;
         this.jdbcExecutor = jdbcExecutor;
@@ -123,6 +126,29 @@ public final class BatchPreparedStatementExecutor {
         batchExecutionUnits.addAll(newExecutionUnits);
     }
     
+    /**
+     * Coalesce batched single row insert statements routed to same actual table into multi-values insert statements.
+     *
+     * @param maxRows max rows of each coalesced insert statement
+     * @param maxBytes max estimated bytes of each coalesced insert statement
+     */
+    public void coalesceInsertValues(final int maxRows, final int maxBytes) {
+        InsertValuesCoalescer coalescer = new InsertValuesCoalescer(maxRows, maxBytes);
+        Collection<BatchExecutionUnit> coalescedBatchExecutionUnits = new LinkedList<>();
+        for (BatchExecutionUnit each : batchExecutionUnits) {
+            Collection<BatchExecutionUnit> coalescedUnits = isSupportMultiValuesInsert(each.getExecutionUnit().getDataSourceName()) ? coalescer.coalesce(each) : Collections.singleton(each);
+            coalesced = coalesced || !coalescedUnits.contains(each);
+            coalescedBatchExecutionUnits.addAll(coalescedUnits);
+        }
+        batchExecutionUnits.clear();
+        batchExecutionUnits.addAll(coalescedBatchExecutionUnits);
+    }
+    
+    private boolean isSupportMultiValuesInsert(final String dataSourceName) {
+        StorageUnit storageUnit = database.getResourceMetaData().getStorageUnits().get(dataSourceName);
+        return null != storageUnit && new DatabaseTypeRegistry(storageUnit.getStorageType()).getDialectDatabaseMetaData().isSupportMultiValuesInsert();
+    }
+    
     /**
      * Execute batch.
      *
@@ -149,7 +175,10 @@ public final class BatchPreparedStatementExecutor {
         if (results.isEmpty()) {
             return new int[0];
         }
-        return isNeedAccumulate(sqlStatementContext) ? accumulate(results) : results.get(0);
+        if (isNeedAccumulate(sqlStatementContext)) {
+            return accumulate(results);
+        }
+        return coalesced ? accumulateFirstDataSource(results) : results.get(0);
     }
     
     private boolean isNeedAccumulate(final SQLStatementContext sqlStatementContext) {
@@ -176,20 +205,50 @@ public final class BatchPreparedStatementExecutor {
         return result;
     }
     
+    private int[] accumulateFirstDataSource(final List<int[]> executeResults) {
+        int[] result = new int[batchCount];
+        String firstDataSourceName = null;
+        int count = 0;
+        for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
+            for (JDBCExecutionUnit eachUnit : each.getInputs()) {
+                if (null == firstDataSourceName) {
+                    firstDataSourceName = eachUnit.getExecutionUnit().getDataSourceName();
+                }
+                if (firstDataSourceName.equals(eachUnit.getExecutionUnit().getDataSourceName())) {
+                    accumulate(executeResults.get(count), result, eachUnit);
+                }
+                count++;
+            }
+        }
+        return result;
+    }
+    
     private void accumulate(final int[] executeResult, final int[] addBatchCounts, final JDBCExecutionUnit executionUnit) {
-        for (Entry<Integer, Integer> entry : getJDBCAndActualAddBatchCallTimesMap(executionUnit).entrySet()) {
+        Optional<BatchExecutionUnit> batchExecutionUnit = findBatchExecutionUnit(executionUnit);
+        if (!batchExecutionUnit.isPresent()) {
+            return;
+        }
+        int coalescedRowCount = batchExecutionUnit.get().getCoalescedRowCount();
+        for (Entry<Integer, Integer> entry : batchExecutionUnit.get().getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
             int value = null == executeResult ? 0 : executeResult[entry.getValue()];
-            addBatchCounts[entry.getKey()] += value;
+            addBatchCounts[entry.getKey()] += 1 == coalescedRowCount ? value : getCoalescedRowUpdateCount(value, coalescedRowCount);
         }
     }
     
-    private Map<Integer, Integer> getJDBCAndActualAddBatchCallTimesMap(final JDBCExecutionUnit executionUnit) {
+    private Optional<BatchExecutionUnit> findBatchExecutionUnit(final JDBCExecutionUnit executionUnit) {
         for (BatchExecutionUnit each : batchExecutionUnits) {
             if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getJdbcAndActualAddBatchCallTimesMap();
+                return Optional.of(each);
             }
         }
-        return Collections.emptyMap();
+        return Optional.empty();
+    }
+    
+    private int getCoalescedRowUpdateCount(final int updateCount, final int coalescedRowCount) {
+        if (updateCount == coalescedRowCount) {
+            return 1;
+        }
+        return 0 == updateCount ? 0 : Statement.SUCCESS_NO_INFO;
     }
     
     private boolean isSameDataSourceAndSQL(final BatchExecutionUnit batchExecutionUnit, final JDBCExecutionUnit jdbcExecutionUnit) {
@@ -253,6 +312,7 @@ public final class BatchPreparedStatementExecutor {
     public void clear() {
         executionGroupContext.getInputGroups().clear();
         batchCount = 0;
+        coalesced = false;
         batchExecutionUnits.clear();
     }
 }
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.driver.executor.callback.replay.PreparedStateme
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.driver.jdbc.core.statement.StatementManager;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.executor.audit.SQLAuditEngine;
@@ -125,6 +126,10 @@ public final class DriverExecuteBatchExecutor {
                                  final SQLStatementContext sqlStatementContext, final Collection<Comparable<?>> generatedValues, final StatementOption statementOption,
                                  final ExecutionContext executionContext, final StatementAddCallback addCallback, final PreparedStatementParametersReplayCallback replayCallback,
                                  final GeneratedKeyCallback generatedKeyCallback) throws SQLException {
+        int coalesceMaxRows = metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_ROWS);
+        if (coalesceMaxRows > 1 && isCoalescibleInsertStatement(sqlStatementContext)) {
+            batchExecutor.coalesceInsertValues(coalesceMaxRows, metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_BYTES));
+        }
         initBatchPreparedStatementExecutor(database, batchExecutor, executionContext, replayCallback);
         int[] result = batchExecutor.executeBatch(sqlStatementContext);
         if (statementOption.isReturnGeneratedKeys() && generatedValues.isEmpty()) {
@@ -134,6 +139,15 @@ public final class DriverExecuteBatchExecutor {
         return result;
     }
     
+    private boolean isCoalescibleInsertStatement(final SQLStatementContext sqlStatementContext) {
+        if (!(sqlStatementContext instanceof InsertStatementContext)) {
+            return false;
+        }
+        InsertStatementContext insertStatementContext = (InsertStatementContext) sqlStatementContext;
+        return 1 == insertStatementContext.getInsertValueContexts().size() && null == insertStatementContext.getInsertSelectContext()
+                && null == insertStatementContext.getOnDuplicateKeyUpdateValueContext() && !insertStatementContext.getSqlStatement().getReturningSegment().isPresent();
+    }
+    
     private void initBatchPreparedStatementExecutor(final ShardingSphereDatabase database, final BatchPreparedStatementExecutor batchExecutor,
                                                     final ExecutionContext executionContext, final PreparedStatementParametersReplayCallback replayCallback) throws SQLException {
         List<ExecutionUnit> executionUnits = new ArrayList<>(batchExecutor.getBatchExecutionUnits().size());
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Insert values coalescer, which coalesces batched single row insert statements of batch execution unit into multi-values insert statements.
+ */
+@RequiredArgsConstructor
+public final class InsertValuesCoalescer {
+    
+    private static final Pattern VALUES_KEYWORD_PATTERN = Pattern.compile("\\bVALUES?$", Pattern.CASE_INSENSITIVE);
+    
+    private static final int ESTIMATED_PARAMETER_BYTES = 16;
+    
+    private final int maxRows;
+    
+    private final int maxBytes;
+    
+    /**
+     * Coalesce batch execution unit.
+     *
+     * @param batchExecutionUnit batch execution unit to be coalesced
+     * @return coalesced batch execution units, or the origin batch execution unit if it can not be coalesced
+     */
+    public Collection<BatchExecutionUnit> coalesce(final BatchExecutionUnit batchExecutionUnit) {
+        SQLUnit sqlUnit = batchExecutionUnit.getExecutionUnit().getSqlUnit();
+        List<List<Object>> parameterSets = batchExecutionUnit.getParameterSets();
+        Optional<Integer> valuesRowBeginIndex = findValuesRowBeginIndex(sqlUnit.getSql());
+        if (!valuesRowBeginIndex.isPresent() || parameterSets.size() < 2 || parameterSets.get(0).isEmpty()) {
+            return Collections.singleton(batchExecutionUnit);
+        }
+        String insertPrefix = sqlUnit.getSql().substring(0, valuesRowBeginIndex.get());
+        String valuesRow = sqlUnit.getSql().substring(valuesRowBeginIndex.get()).trim();
+        List<Integer> jdbcAddBatchTimes = new ArrayList<>(batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().keySet());
+        Map<Integer, BatchExecutionUnit> result = new LinkedHashMap<>();
+        int beginIndex = 0;
+        while (beginIndex < parameterSets.size()) {
+            int endIndex = getCoalescedEndIndex(parameterSets, beginIndex, insertPrefix.length(), valuesRow.length());
+            int rowCount = endIndex - beginIndex;
+            BatchExecutionUnit coalescedUnit = result.computeIfAbsent(rowCount, key -> new BatchExecutionUnit(new ExecutionUnit(batchExecutionUnit.getExecutionUnit().getDataSourceName(),
+                    new SQLUnit(createCoalescedSQL(insertPrefix, valuesRow, key), new LinkedList<>(), sqlUnit.getTableRouteMappers()))));
+            for (List<Object> each : parameterSets.subList(beginIndex, endIndex)) {
+                coalescedUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(each);
+            }
+            coalescedUnit.mapCoalescedAddBatchCount(jdbcAddBatchTimes.subList(beginIndex, endIndex));
+            beginIndex = endIndex;
+        }
+        return result.values();
+    }
+    
+    private Optional<Integer> findValuesRowBeginIndex(final String sql) {
+        if (sql.contains("\\") || sql.contains("--") || sql.contains("/*") || sql.contains("#")) {
+            return Optional.empty();
+        }
+        int depth = 0;
+        int rowBeginIndex = -1;
+        int rowEndIndex = -1;
+        char quote = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char each = sql.charAt(i);
+            if (0 != quote) {
+                quote = each == quote ? 0 : quote;
+            } else if ('\'' == each || '"' == each || '`' == each) {
+                quote = each;
+            } else if ('(' == each && 0 == depth++) {
+                rowBeginIndex = i;
+            } else if (')' == each && 0 == --depth) {
+                rowEndIndex = i;
+            }
+            if (depth < 0) {
+                return Optional.empty();
+            }
+        }
+        if (0 != quote || 0 != depth || -1 == rowEndIndex || rowEndIndex < rowBeginIndex || !sql.substring(rowEndIndex + 1).trim().isEmpty()) {
+            return Optional.empty();
+        }
+        return VALUES_KEYWORD_PATTERN.matcher(sql.substring(0, rowBeginIndex).trim()).find() ? Optional.of(rowBeginIndex) : Optional.empty();
+    }
+    
+    private int getCoalescedEndIndex(final List<List<Object>> parameterSets, final int beginIndex, final int insertPrefixLength, final int valuesRowLength) {
+        int result = beginIndex + 1;
+        long bytes = insertPrefixLength + estimateRowBytes(parameterSets.get(beginIndex), valuesRowLength);
+        while (result < parameterSets.size() && result - beginIndex < maxRows) {
+            long rowBytes = estimateRowBytes(parameterSets.get(result), valuesRowLength) + 2;
+            if (maxBytes > 0 && bytes + rowBytes > maxBytes) {
+                break;
+            }
+            bytes += rowBytes;
+            result++;
+        }
+        return result;
+    }
+    
+    private long estimateRowBytes(final List<Object> params, final int valuesRowLength) {
+        long result = valuesRowLength;
+        for (Object each : params) {
+            if (each instanceof CharSequence) {
+                result += ((CharSequence) each).length();
+            } else if (each instanceof byte[]) {
+                result += ((byte[]) each).length;
+            } else {
+                result += ESTIMATED_PARAMETER_BYTES;
+            }
+        }
+        return result;
+    }
+    
+    private String createCoalescedSQL(final String insertPrefix, final String valuesRow, final int rowCount) {
+        StringBuilder result = new StringBuilder(insertPrefix.length() + (valuesRow.length() + 2) * rowCount);
+        result.append(insertPrefix).append(valuesRow);
+        for (int i = 1; i < rowCount; i++) {
+            result.append(", ").append(valuesRow);
+        }
+        return result.toString();
+    }
+}
@@ -160,7 +160,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private SQLStatement parseSQL(final ShardingSphereConnection connection) {
         SQLParserRule sqlParserRule = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
-        return sqlParserRule.getSQLParserEngine(metaData.getDatabase(connection.getCurrentDatabaseName()).getProtocolType()).parse(sql, true);
+        return sqlParserRule.getSQLParserEngine(metaData.getDatabase(connection.getCurrentDatabaseName()).getProtocolType(), connection.getCurrentDatabaseName()).parse(sql, true);
     }
     
     private boolean isStatementsCacheable() {
@@ -400,6 +400,12 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     @Override
     protected void closeExecutor() throws SQLException {
-        driverExecutorFacade.close();
+        try {
+            if (null != currentResultSet) {
+                currentResultSet.close();
+            }
+        } finally {
+            driverExecutorFacade.close();
+        }
     }
 }
@@ -22,7 +22,9 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -48,6 +50,17 @@ class BatchExecutionUnitTest {
         assertThat(actual.get(0).get(0), is(1));
     }
     
+    @Test
+    void assertMapCoalescedAddBatchCount() {
+        BatchExecutionUnit actual = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, new LinkedList<>(Arrays.asList(1, 2, 3, 4)))));
+        actual.mapCoalescedAddBatchCount(Arrays.asList(0, 1));
+        actual.mapCoalescedAddBatchCount(Arrays.asList(2, 3));
+        assertThat(actual.getCoalescedRowCount(), is(2));
+        assertThat(actual.getJdbcAndActualAddBatchCallTimesMap().get(1), is(0));
+        assertThat(actual.getJdbcAndActualAddBatchCallTimesMap().get(2), is(1));
+        assertThat(actual.getParameterSets(), is(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4))));
+    }
+    
     @Test
     void assertEquals() {
         BatchExecutionUnit actual = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1))));
@@ -61,6 +74,6 @@ class BatchExecutionUnitTest {
         BatchExecutionUnit actual = new BatchExecutionUnit(executionUnit);
         assertThat(actual.toString(), is(String.format("BatchExecutionUnit(executionUnit=ExecutionUnit"
                 + "(dataSourceName=%s, sqlUnit=SQLUnit(sql=%s, parameters=[%d], tableRouteMappers=[])), "
-                + "jdbcAndActualAddBatchCallTimesMap={}, actualCallAddBatchTimes=0)", DATA_SOURCE_NAME, SQL, 1, "null")));
+                + "jdbcAndActualAddBatchCallTimesMap={}, actualCallAddBatchTimes=0, coalescedRowCount=1)", DATA_SOURCE_NAME, SQL, 1, "null")));
     }
 }
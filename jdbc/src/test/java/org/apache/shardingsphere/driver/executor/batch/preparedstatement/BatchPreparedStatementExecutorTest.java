@@ -23,6 +23,7 @@ import org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement.
 import org.apache.shardingsphere.infra.binder.context.segment.table.TablesContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -34,10 +35,12 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorEx
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -74,6 +77,8 @@ class BatchPreparedStatementExecutorTest {
     
     private static final String SQL = "DELETE FROM table_x WHERE id=?";
     
+    private static final String INSERT_SQL = "INSERT INTO table_x (id) VALUES (?)";
+    
     private final ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithSize(Runtime.getRuntime().availableProcessors() * 2 - 1);
     
     private BatchPreparedStatementExecutor executor;
@@ -94,6 +99,9 @@ class BatchPreparedStatementExecutorTest {
         when(result.getName()).thenReturn("foo_db");
         RuleMetaData ruleMetaData = new RuleMetaData(Collections.singleton(mockShardingRule()));
         when(result.getRuleMetaData()).thenReturn(ruleMetaData);
+        StorageUnit storageUnit = mock(StorageUnit.class);
+        when(storageUnit.getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "H2"));
+        when(result.getResourceMetaData().getStorageUnits()).thenReturn(Collections.singletonMap("ds_0", storageUnit));
         return result;
     }
     
@@ -159,6 +167,26 @@ class BatchPreparedStatementExecutorTest {
         assertThrows(SQLException.class, () -> executor.executeBatch(sqlStatementContext));
     }
     
+    @Test
+    void assertExecuteBatchWithCoalescedInsertValues() throws SQLException {
+        for (int i = 0; i < 3; i++) {
+            executor.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(INSERT_SQL, new LinkedList<>(Collections.singletonList(i))))));
+        }
+        executor.coalesceInsertValues(2, 0);
+        assertThat(executor.getBatchExecutionUnits().size(), is(2));
+        PreparedStatement coalescedPreparedStatement = getPreparedStatement();
+        when(coalescedPreparedStatement.executeBatch()).thenReturn(new int[]{2});
+        PreparedStatement preparedStatement = getPreparedStatement();
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1});
+        List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
+        for (BatchExecutionUnit each : executor.getBatchExecutionUnits()) {
+            executionUnits.add(new JDBCExecutionUnit(each.getExecutionUnit(), ConnectionMode.MEMORY_STRICTLY, executionUnits.isEmpty() ? coalescedPreparedStatement : preparedStatement));
+        }
+        executor.init(new ExecutionGroupContext<>(Collections.singleton(new ExecutionGroup<>(executionUnits)), new ExecutionGroupReportContext("foo_id", "foo_db")));
+        assertThat(executor.getParameterSet(coalescedPreparedStatement), is(Collections.singletonList(Arrays.<Object>asList(0, 1))));
+        assertThat(executor.executeBatch(sqlStatementContext), is(new int[]{1, 1, 1}));
+    }
+    
     private PreparedStatement getPreparedStatement() throws SQLException {
         PreparedStatement result = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
         when(result.getConnection().getMetaData().getURL()).thenReturn("jdbc:h2:mem:primary_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL");
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch.preparedstatement;
+
+import org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement.BatchExecutionUnit;
+import org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement.InsertValuesCoalescer;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class InsertValuesCoalescerTest {
+    
+    private static final String SQL = "INSERT INTO t_order_0 (order_id, status) VALUES (?, ?)";
+    
+    @Test
+    void assertCoalesceByMaxRows() {
+        List<BatchExecutionUnit> actual = new ArrayList<>(new InsertValuesCoalescer(2, 0).coalesce(createBatchExecutionUnit(SQL, 5)));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, status) VALUES (?, ?), (?, ?)"));
+        assertThat(actual.get(0).getExecutionUnit().getSqlUnit().getParameters(), is(Arrays.<Object>asList(0, "foo_0", 1, "foo_1", 2, "foo_2", 3, "foo_3")));
+        assertThat(actual.get(0).getCoalescedRowCount(), is(2));
+        assertThat(actual.get(0).getJdbcAndActualAddBatchCallTimesMap().get(3), is(1));
+        assertThat(actual.get(1).getExecutionUnit().getSqlUnit().getSql(), is(SQL));
+        assertThat(actual.get(1).getExecutionUnit().getSqlUnit().getParameters(), is(Arrays.<Object>asList(4, "foo_4")));
+        assertThat(actual.get(1).getJdbcAndActualAddBatchCallTimesMap().get(4), is(0));
+    }
+    
+    @Test
+    void assertCoalesceByMaxBytes() {
+        Collection<BatchExecutionUnit> actual = new InsertValuesCoalescer(100, SQL.length() + 40).coalesce(createBatchExecutionUnit(SQL, 4));
+        assertThat(actual.size(), is(1));
+        BatchExecutionUnit coalescedUnit = actual.iterator().next();
+        assertThat(coalescedUnit.getExecutionUnit().getSqlUnit().getSql(), is(SQL));
+        assertThat(coalescedUnit.getParameterSets().size(), is(4));
+    }
+    
+    @Test
+    void assertCoalesceWithQuotedValues() {
+        String sql = "INSERT INTO `t_order_0` (order_id, status) VALUES (?, 'it''s (ok)')";
+        List<BatchExecutionUnit> actual = new ArrayList<>(new InsertValuesCoalescer(10, 0).coalesce(createBatchExecutionUnit(sql, 2)));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO `t_order_0` (order_id, status) VALUES (?, 'it''s (ok)'), (?, 'it''s (ok)')"));
+    }
+    
+    @Test
+    void assertNotCoalesceWithoutTrailingValuesRow() {
+        assertNotCoalesce("INSERT INTO t_order_0 (order_id, status) VALUES (?, ?) ON DUPLICATE KEY UPDATE status = ?");
+        assertNotCoalesce("INSERT INTO t_order_0 SET order_id = ?, status = ?");
+        assertNotCoalesce("INSERT INTO t_order_0 (order_id, status) VALUES (?, ?) /* comment */");
+    }
+    
+    @Test
+    void assertNotCoalesceSingleRow() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit(SQL, 1);
+        assertThat(new InsertValuesCoalescer(10, 0).coalesce(batchExecutionUnit), is(Collections.singleton(batchExecutionUnit)));
+    }
+    
+    private void assertNotCoalesce(final String sql) {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit(sql, 3);
+        Collection<BatchExecutionUnit> actual = new InsertValuesCoalescer(10, 0).coalesce(batchExecutionUnit);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next().getExecutionUnit().getSqlUnit().getSql(), is(sql));
+        assertThat(actual.iterator().next().getParameterSets().size(), is(3));
+    }
+    
+    private BatchExecutionUnit createBatchExecutionUnit(final String sql, final int rowCount) {
+        List<Object> params = new LinkedList<>();
+        BatchExecutionUnit result = new BatchExecutionUnit(new ExecutionUnit("foo_ds", new SQLUnit(sql, params)));
+        for (int i = 0; i < rowCount; i++) {
+            params.add(i);
+            if (sql.contains("?, ?")) {
+                params.add("foo_" + i);
+            }
+            result.mapAddBatchCount(i);
+        }
+        return result;
+    }
+}
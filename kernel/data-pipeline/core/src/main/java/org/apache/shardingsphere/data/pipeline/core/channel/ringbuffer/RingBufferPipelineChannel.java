@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ring buffer pipeline channel.
+ * 
+ * <p>It is a lock free single producer single consumer channel, it supports one push thread and one fetch thread.</p>
+ */
+public final class RingBufferPipelineChannel implements PipelineChannel {
+    
+    private final List<Record>[] buffer;
+    
+    private final int mask;
+    
+    private final AtomicLong producerIndex = new AtomicLong();
+    
+    private final AtomicLong consumerIndex = new AtomicLong();
+    
+    private final RingBufferWaitStrategy waitStrategy;
+    
+    private final PipelineChannelAckCallback ackCallback;
+    
+    private long cachedConsumerIndex;
+    
+    private long cachedProducerIndex;
+    
+    @SuppressWarnings("unchecked")
+    public RingBufferPipelineChannel(final int bufferSize, final RingBufferWaitStrategy waitStrategy, final PipelineChannelAckCallback ackCallback) {
+        int capacity = Integer.highestOneBit(Math.max(1, bufferSize));
+        buffer = new List[capacity < bufferSize ? capacity << 1 : capacity];
+        mask = buffer.length - 1;
+        this.waitStrategy = waitStrategy;
+        this.ackCallback = ackCallback;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public void push(final List<Record> records) {
+        long index = producerIndex.get();
+        int idleCount = 0;
+        while (index - cachedConsumerIndex >= buffer.length) {
+            cachedConsumerIndex = consumerIndex.get();
+            if (index - cachedConsumerIndex < buffer.length) {
+                break;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitStrategy.idle(idleCount++);
+        }
+        buffer[(int) index & mask] = records;
+        producerIndex.lazySet(index + 1L);
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public List<Record> fetch(final int batchSize, final long timeoutMillis) {
+        List<Record> result = new ArrayList<>(batchSize);
+        long deadlineNanos = 0L;
+        boolean deadlineStarted = false;
+        int idleCount = 0;
+        while (true) {
+            if (drainTo(result, batchSize)) {
+                if (result.size() >= batchSize) {
+                    return result;
+                }
+                idleCount = 0;
+                continue;
+            }
+            long currentNanos = System.nanoTime();
+            if (!deadlineStarted) {
+                deadlineNanos = currentNanos + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+                deadlineStarted = true;
+            }
+            if (currentNanos - deadlineNanos >= 0L) {
+                return result;
+            }
+            idleCount++;
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitStrategy.idle(idleCount);
+        }
+    }
+    
+    private boolean drainTo(final List<Record> result, final int batchSize) {
+        long startIndex = consumerIndex.get();
+        long index = startIndex;
+        if (index >= cachedProducerIndex) {
+            cachedProducerIndex = producerIndex.get();
+        }
+        while (index < cachedProducerIndex && result.size() < batchSize) {
+            int offset = (int) index & mask;
+            result.addAll(buffer[offset]);
+            buffer[offset] = null;
+            index++;
+        }
+        if (index == startIndex) {
+            return false;
+        }
+        consumerIndex.lazySet(index);
+        return true;
+    }
+    
+    @Override
+    public List<Record> peek() {
+        long index = consumerIndex.get();
+        if (index >= producerIndex.get()) {
+            return Collections.emptyList();
+        }
+        return buffer[(int) index & mask];
+    }
+    
+    @Override
+    public List<Record> poll() {
+        long index = consumerIndex.get();
+        if (index >= producerIndex.get()) {
+            return Collections.emptyList();
+        }
+        int offset = (int) index & mask;
+        List<Record> result = buffer[offset];
+        buffer[offset] = null;
+        consumerIndex.lazySet(index + 1L);
+        return result;
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+}
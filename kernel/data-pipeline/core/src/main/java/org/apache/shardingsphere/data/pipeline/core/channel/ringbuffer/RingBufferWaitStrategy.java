@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ring buffer wait strategy, used when ring buffer is full on push or empty on fetch.
+ * 
+ * <p>Each strategy busy spins for a few rounds first, then backs off to its own way of waiting.</p>
+ */
+public enum RingBufferWaitStrategy {
+    
+    SPIN {
+        
+        @Override
+        void backOff(final int idleCount) {
+        }
+    },
+    
+    YIELD {
+        
+        @Override
+        void backOff(final int idleCount) {
+            Thread.yield();
+        }
+    },
+    
+    PARK {
+        
+        @Override
+        void backOff(final int idleCount) {
+            if (idleCount < SPIN_TRIES + YIELD_TRIES) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+        }
+    };
+    
+    private static final int SPIN_TRIES = 100;
+    
+    private static final int YIELD_TRIES = 100;
+    
+    private static final long PARK_NANOS = 50000L;
+    
+    /**
+     * Idle.
+     *
+     * @param idleCount count of continuous idle rounds
+     */
+    void idle(final int idleCount) {
+        if (idleCount >= SPIN_TRIES) {
+            backOff(idleCount);
+        }
+    }
+    
+    abstract void backOff(int idleCount);
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.yaml.YamlMerkleMatchCheckNode;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.yaml.YamlMerkleMatchCheckNodeSwapper;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.yaml.YamlMerkleMatchCheckTree;
+import org.apache.shardingsphere.data.pipeline.core.job.api.PipelineAPIFactory;
+import org.apache.shardingsphere.data.pipeline.core.job.id.PipelineJobIdUtils;
+import org.apache.shardingsphere.data.pipeline.core.registrycenter.repository.job.PipelineJobCheckGovernanceRepository;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Merkle match check tree persist service.
+ *
+ * <p>Checked nodes are persisted as several ranges, each range holds a bounded count of nodes, so that one registry node does not grow with the tree.</p>
+ */
+public final class MerkleMatchCheckTreePersistService {
+    
+    private static final int MAX_RANGE_NODES_COUNT = 1000;
+    
+    private final YamlMerkleMatchCheckNodeSwapper swapper = new YamlMerkleMatchCheckNodeSwapper();
+    
+    /**
+     * Load checked nodes of last merkle match check.
+     *
+     * @param parentJobId parent job id
+     * @param tableName table name
+     * @return checked nodes
+     */
+    public Collection<MerkleMatchCheckNode> load(final String parentJobId, final String tableName) {
+        Collection<MerkleMatchCheckNode> result = new LinkedList<>();
+        for (String each : getRepository(parentJobId).getMerkleCheckTreeRanges(parentJobId, tableName)) {
+            if (Strings.isNullOrEmpty(each)) {
+                continue;
+            }
+            for (YamlMerkleMatchCheckNode eachNode : YamlEngine.unmarshal(each, YamlMerkleMatchCheckTree.class, true).getNodes()) {
+                result.add(swapper.swapToObject(eachNode));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Persist checked nodes of merkle match check.
+     *
+     * @param parentJobId parent job id
+     * @param tableName table name
+     * @param nodes checked nodes
+     */
+    public void persist(final String parentJobId, final String tableName, final Collection<MerkleMatchCheckNode> nodes) {
+        List<String> ranges = new ArrayList<>(nodes.size() / MAX_RANGE_NODES_COUNT + 1);
+        YamlMerkleMatchCheckTree yamlRange = new YamlMerkleMatchCheckTree();
+        for (MerkleMatchCheckNode each : nodes) {
+            yamlRange.getNodes().add(swapper.swapToYamlConfiguration(each));
+            if (yamlRange.getNodes().size() >= MAX_RANGE_NODES_COUNT) {
+                ranges.add(YamlEngine.marshal(yamlRange));
+                yamlRange = new YamlMerkleMatchCheckTree();
+            }
+        }
+        if (!yamlRange.getNodes().isEmpty()) {
+            ranges.add(YamlEngine.marshal(yamlRange));
+        }
+        getRepository(parentJobId).persistMerkleCheckTreeRanges(parentJobId, tableName, ranges);
+    }
+    
+    private PipelineJobCheckGovernanceRepository getRepository(final String parentJobId) {
+        return PipelineAPIFactory.getPipelineGovernanceFacade(PipelineJobIdUtils.parseContextKey(parentJobId)).getJobFacade().getCheck();
+    }
+}
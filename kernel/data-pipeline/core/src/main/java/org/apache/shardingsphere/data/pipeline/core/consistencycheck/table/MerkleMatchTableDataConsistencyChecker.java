@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.spi.annotation.SPIDescription;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Properties;
+
+/**
+ * Merkle match table data consistency checker.
+ */
+@SPIDescription("Match CRC32 tree of unique key ranges.")
+public final class MerkleMatchTableDataConsistencyChecker implements TableDataConsistencyChecker {
+    
+    private static final String LEAF_SIZE_KEY = "leaf-size";
+    
+    private static final String FANOUT_KEY = "fanout";
+    
+    private static final int DEFAULT_LEAF_SIZE = 1000;
+    
+    private static final int DEFAULT_FANOUT = 16;
+    
+    private int leafSize;
+    
+    private int fanout;
+    
+    @Override
+    public void init(final Properties props) {
+        leafSize = getPositiveIntegerProperty(props, LEAF_SIZE_KEY, DEFAULT_LEAF_SIZE);
+        fanout = getPositiveIntegerProperty(props, FANOUT_KEY, DEFAULT_FANOUT);
+        if (fanout < 2) {
+            throw new PipelineInvalidParameterException("Invalid 'fanout': " + fanout);
+        }
+    }
+    
+    private int getPositiveIntegerProperty(final Properties props, final String key, final int defaultValue) {
+        String valueText = props.getProperty(key);
+        if (Strings.isNullOrEmpty(valueText)) {
+            return defaultValue;
+        }
+        int result;
+        try {
+            result = Integer.parseInt(valueText);
+        } catch (final NumberFormatException ignore) {
+            throw new PipelineInvalidParameterException("'" + key + "' is not a valid number: `" + valueText + "`");
+        }
+        if (result <= 0) {
+            throw new PipelineInvalidParameterException("Invalid '" + key + "': " + result);
+        }
+        return result;
+    }
+    
+    @Override
+    public TableInventoryChecker buildTableInventoryChecker(final TableInventoryCheckParameter param) {
+        return new MerkleMatchTableInventoryChecker(param, leafSize, fanout, new MerkleMatchCheckTreePersistService());
+    }
+    
+    @Override
+    public Collection<DatabaseType> getSupportedDatabaseTypes() {
+        Collection<DatabaseType> result = new LinkedList<>();
+        DatabaseType supportedDatabaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+        result.add(supportedDatabaseType);
+        result.addAll(new DatabaseTypeRegistry(supportedDatabaseType).getAllBranchDatabaseTypes());
+        return result;
+    }
+    
+    @Override
+    public void close() {
+    }
+    
+    @Override
+    public String getType() {
+        return "MERKLE_MATCH";
+    }
+}
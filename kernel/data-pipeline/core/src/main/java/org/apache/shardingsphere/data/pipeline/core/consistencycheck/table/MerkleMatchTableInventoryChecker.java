@@ -0,0 +1,362 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.Range;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.SingleTableInventoryCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.RecordSingleTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.SingleTableInventoryCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.SingleTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobCancelingException;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.QueryType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.range.QueryRange;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineDataConsistencyCalculateSQLBuilder;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelinePrepareSQLBuilder;
+import org.apache.shardingsphere.data.pipeline.core.util.IntervalToRangeIterator;
+import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
+import org.apache.shardingsphere.infra.algorithm.core.exception.UnsupportedAlgorithmOnDatabaseTypeException;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.kernel.category.PipelineSQLException;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.caseinsensitive.CaseInsensitiveQualifiedTable;
+import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
+
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Merkle match table inventory checker.
+ *
+ * <p>
+ * CRC32 of unique key range is calculated in database on both sides, range which is not matched is split into sub ranges and checked again top-down,
+ * only records of unmatched leaf ranges are loaded and compared. Ranges are checked in unique key order, so check position could be persisted for resuming.
+ * </p>
+ *
+ * <p>
+ * Checked nodes are persisted after check. On re-check, a range whose checksums on both sides are the same as persisted is not dirty,
+ * so the persisted result of its sub ranges is reused instead of descending and loading records again.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class MerkleMatchTableInventoryChecker implements TableInventoryChecker {
+    
+    private final TableInventoryCheckParameter param;
+    
+    private final int leafSize;
+    
+    private final int fanout;
+    
+    private final MerkleMatchCheckTreePersistService treePersistService;
+    
+    private final AtomicBoolean canceling = new AtomicBoolean(false);
+    
+    private final Collection<Statement> runningStatements = new CopyOnWriteArrayList<>();
+    
+    private final Collection<SingleTableInventoryCalculator> runningCalculators = new CopyOnWriteArrayList<>();
+    
+    @Override
+    public TableDataConsistencyCheckResult checkSingleTableInventoryData() {
+        ShardingSpherePreconditions.checkState(!param.getUniqueKeys().isEmpty() && PipelineJdbcUtils.isIntegerColumn(param.getUniqueKeys().get(0).getDataType()),
+                () -> new UnsupportedOperationException("Merkle match checker only supports table whose first unique key column is integer now."));
+        ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(param.getJobId() + "-merkle-check-%d");
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(2), threadFactory);
+        try {
+            return new TableDataConsistencyCheckResult(checkRanges(executor));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private boolean checkRanges(final ThreadPoolExecutor executor) {
+        Optional<Range<Long>> rootRange = getRootRange(executor);
+        if (!rootRange.isPresent()) {
+            return true;
+        }
+        String tableName = param.getSourceTable().toString();
+        Map<Range<Long>, MerkleMatchCheckNode> persistedNodes = new HashMap<>();
+        for (MerkleMatchCheckNode each : treePersistService.load(param.getJobId(), tableName)) {
+            persistedNodes.put(Range.of(each.getBeginValue(), each.getEndValue()), each);
+        }
+        Collection<MerkleMatchCheckNode> checkedNodes = new LinkedList<>();
+        boolean result = checkRanges(executor, rootRange.get(), persistedNodes, checkedNodes);
+        treePersistService.persist(param.getJobId(), tableName, checkedNodes);
+        return result;
+    }
+    
+    private boolean checkRanges(final ThreadPoolExecutor executor, final Range<Long> rootRange,
+                                final Map<Range<Long>, MerkleMatchCheckNode> persistedNodes, final Collection<MerkleMatchCheckNode> checkedNodes) {
+        Deque<Range<Long>> ranges = new LinkedList<>();
+        ranges.push(rootRange);
+        while (!ranges.isEmpty()) {
+            ShardingSpherePreconditions.checkState(!canceling.get(), () -> new PipelineJobCancelingException("Merkle match check canceled, table: %s", param.getSourceTable()));
+            Range<Long> range = ranges.pop();
+            if (null != param.getReadRateLimitAlgorithm()) {
+                param.getReadRateLimitAlgorithm().intercept(PipelineSQLOperationType.SELECT, 1);
+            }
+            Future<RangeChecksum> sourceFuture = executor.submit(() -> calculateRangeChecksum(param.getSourceDataSource(), param.getSourceTable(), range));
+            Future<RangeChecksum> targetFuture = executor.submit(() -> calculateRangeChecksum(param.getTargetDataSource(), param.getTargetTable(), range));
+            RangeChecksum sourceChecksum = waitFuture(sourceFuture);
+            RangeChecksum targetChecksum = waitFuture(targetFuture);
+            if (sourceChecksum.equals(targetChecksum)) {
+                checkedNodes.add(createNode(range, sourceChecksum, targetChecksum, true, true));
+                onRangeMatched(range, sourceChecksum.getRecordsCount());
+                continue;
+            }
+            Collection<MerkleMatchCheckNode> persistedSubtreeNodes = new LinkedList<>();
+            if (isNotDirty(persistedNodes.get(range), sourceChecksum, targetChecksum) && collectPersistedSubtreeNodes(range, persistedNodes, persistedSubtreeNodes)) {
+                checkedNodes.addAll(persistedSubtreeNodes);
+                if (persistedSubtreeNodes.stream().allMatch(each -> !each.isLeaf() || each.isMatched())) {
+                    onRangeMatched(range, sourceChecksum.getRecordsCount());
+                    continue;
+                }
+                logNotMatched(range, sourceChecksum, targetChecksum);
+                return false;
+            }
+            if (range.getMinimum().equals(range.getMaximum()) || sourceChecksum.getRecordsCount() <= leafSize && targetChecksum.getRecordsCount() <= leafSize) {
+                boolean recordsMatched = isRecordsMatched(range);
+                checkedNodes.add(createNode(range, sourceChecksum, targetChecksum, true, recordsMatched));
+                if (!recordsMatched) {
+                    logNotMatched(range, sourceChecksum, targetChecksum);
+                    return false;
+                }
+                onRangeMatched(range, sourceChecksum.getRecordsCount());
+                continue;
+            }
+            checkedNodes.add(createNode(range, sourceChecksum, targetChecksum, false, false));
+            List<Range<Long>> subRanges = splitRange(range);
+            for (int i = subRanges.size() - 1; i >= 0; i--) {
+                ranges.push(subRanges.get(i));
+            }
+        }
+        return true;
+    }
+    
+    private MerkleMatchCheckNode createNode(final Range<Long> range, final RangeChecksum sourceChecksum, final RangeChecksum targetChecksum, final boolean leaf, final boolean matched) {
+        return new MerkleMatchCheckNode(range.getMinimum(), range.getMaximum(),
+                sourceChecksum.getChecksum(), sourceChecksum.getRecordsCount(), targetChecksum.getChecksum(), targetChecksum.getRecordsCount(), leaf, matched);
+    }
+    
+    private boolean isNotDirty(final MerkleMatchCheckNode persistedNode, final RangeChecksum sourceChecksum, final RangeChecksum targetChecksum) {
+        return null != persistedNode && persistedNode.getSourceChecksum() == sourceChecksum.getChecksum() && persistedNode.getSourceRecordsCount() == sourceChecksum.getRecordsCount()
+                && persistedNode.getTargetChecksum() == targetChecksum.getChecksum() && persistedNode.getTargetRecordsCount() == targetChecksum.getRecordsCount();
+    }
+    
+    private boolean collectPersistedSubtreeNodes(final Range<Long> range, final Map<Range<Long>, MerkleMatchCheckNode> persistedNodes, final Collection<MerkleMatchCheckNode> subtreeNodes) {
+        MerkleMatchCheckNode node = persistedNodes.get(range);
+        if (null == node) {
+            return false;
+        }
+        subtreeNodes.add(node);
+        if (node.isLeaf()) {
+            return true;
+        }
+        for (Range<Long> each : splitRange(range)) {
+            if (!collectPersistedSubtreeNodes(each, persistedNodes, subtreeNodes)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void logNotMatched(final Range<Long> range, final RangeChecksum sourceChecksum, final RangeChecksum targetChecksum) {
+        log.info("Merkle match false, jobId={}, sourceTable={}, targetTable={}, range={}, sourceChecksum={}, targetChecksum={}",
+                param.getJobId(), param.getSourceTable(), param.getTargetTable(), range, sourceChecksum, targetChecksum);
+    }
+    
+    private Optional<Range<Long>> getRootRange(final ThreadPoolExecutor executor) {
+        Future<Optional<Range<Long>>> sourceFuture = executor.submit(() -> getUniqueKeyValuesRange(param.getSourceDataSource(), param.getSourceTable()));
+        Future<Optional<Range<Long>>> targetFuture = executor.submit(() -> getUniqueKeyValuesRange(param.getTargetDataSource(), param.getTargetTable()));
+        Optional<Range<Long>> sourceRange = waitFuture(sourceFuture);
+        Optional<Range<Long>> targetRange = waitFuture(targetFuture);
+        if (!sourceRange.isPresent() && !targetRange.isPresent()) {
+            return Optional.empty();
+        }
+        long minimum = Math.min(sourceRange.map(Range::getMinimum).orElse(Long.MAX_VALUE), targetRange.map(Range::getMinimum).orElse(Long.MAX_VALUE));
+        long maximum = Math.max(sourceRange.map(Range::getMaximum).orElse(Long.MIN_VALUE), targetRange.map(Range::getMaximum).orElse(Long.MIN_VALUE));
+        Object checkedPosition = param.getProgressContext().getSourceTableCheckPositions().get(param.getSourceTable().getTableName().toString());
+        if (null != checkedPosition) {
+            long checkedMaximum = Long.parseLong(checkedPosition.toString());
+            if (checkedMaximum >= maximum) {
+                return Optional.empty();
+            }
+            minimum = Math.max(minimum, checkedMaximum + 1L);
+        }
+        return Optional.of(Range.of(minimum, maximum));
+    }
+    
+    private Optional<Range<Long>> getUniqueKeyValuesRange(final PipelineDataSource dataSource, final CaseInsensitiveQualifiedTable table) {
+        String schemaName = table.getSchemaName().toString();
+        String tableName = table.getTableName().toString();
+        String sql = new PipelinePrepareSQLBuilder(dataSource.getDatabaseType()).buildUniqueKeyMinMaxValuesSQL(schemaName, tableName, param.getUniqueKeys().get(0).getName());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            runningStatements.add(statement);
+            try (ResultSet resultSet = statement.executeQuery(sql)) {
+                resultSet.next();
+                long minimum = resultSet.getLong(1);
+                return resultSet.wasNull() ? Optional.empty() : Optional.of(Range.of(minimum, resultSet.getLong(2)));
+            } finally {
+                runningStatements.remove(statement);
+            }
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(schemaName, tableName, ex);
+        }
+    }
+    
+    private RangeChecksum calculateRangeChecksum(final PipelineDataSource dataSource, final CaseInsensitiveQualifiedTable table, final Range<Long> range) {
+        String schemaName = table.getSchemaName().toString();
+        String tableName = table.getTableName().toString();
+        String sql = new PipelineDataConsistencyCalculateSQLBuilder(dataSource.getDatabaseType()).buildRangeCRC32SQL(schemaName, tableName, param.getColumnNames(),
+                param.getUniqueKeys().get(0).getName()).orElseThrow(() -> new UnsupportedAlgorithmOnDatabaseTypeException("DataConsistencyCalculate", "MERKLE_MATCH", dataSource.getDatabaseType()));
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            runningStatements.add(preparedStatement);
+            preparedStatement.setLong(1, range.getMinimum());
+            preparedStatement.setLong(2, range.getMaximum());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                return new RangeChecksum(resultSet.getLong(1), resultSet.getLong(2));
+            } finally {
+                runningStatements.remove(preparedStatement);
+            }
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(schemaName, tableName, ex);
+        }
+    }
+    
+    private boolean isRecordsMatched(final Range<Long> range) {
+        SingleTableInventoryCalculateParameter sourceParam = createRecordCalculateParameter(param.getSourceDataSource(), param.getSourceTable(), range);
+        SingleTableInventoryCalculateParameter targetParam = createRecordCalculateParameter(param.getTargetDataSource(), param.getTargetTable(), range);
+        SingleTableInventoryCalculator sourceCalculator = new RecordSingleTableInventoryCalculator(leafSize);
+        SingleTableInventoryCalculator targetCalculator = new RecordSingleTableInventoryCalculator(leafSize);
+        runningCalculators.add(sourceCalculator);
+        runningCalculators.add(targetCalculator);
+        try {
+            Iterator<SingleTableInventoryCalculatedResult> sourceCalculatedResults = sourceCalculator.calculate(sourceParam).iterator();
+            Iterator<SingleTableInventoryCalculatedResult> targetCalculatedResults = targetCalculator.calculate(targetParam).iterator();
+            while (sourceCalculatedResults.hasNext() && targetCalculatedResults.hasNext()) {
+                if (!Objects.equals(sourceCalculatedResults.next(), targetCalculatedResults.next())) {
+                    return false;
+                }
+            }
+            return !sourceCalculatedResults.hasNext() && !targetCalculatedResults.hasNext();
+        } finally {
+            runningCalculators.remove(sourceCalculator);
+            runningCalculators.remove(targetCalculator);
+            QuietlyCloser.close(sourceParam.getCalculationContext());
+            QuietlyCloser.close(targetParam.getCalculationContext());
+        }
+    }
+    
+    private SingleTableInventoryCalculateParameter createRecordCalculateParameter(final PipelineDataSource dataSource, final CaseInsensitiveQualifiedTable table, final Range<Long> range) {
+        SingleTableInventoryCalculateParameter result = new SingleTableInventoryCalculateParameter(dataSource, table, param.getColumnNames(), param.getUniqueKeys(), QueryType.RANGE_QUERY);
+        result.setQueryRange(new QueryRange(range.getMinimum(), true, range.getMaximum()));
+        return result;
+    }
+    
+    private List<Range<Long>> splitRange(final Range<Long> range) {
+        long interval = BigInteger.valueOf(range.getMaximum()).subtract(BigInteger.valueOf(range.getMinimum())).divide(BigInteger.valueOf(fanout)).longValue();
+        List<Range<Long>> result = new LinkedList<>();
+        new IntervalToRangeIterator(range.getMinimum(), range.getMaximum(), interval).forEachRemaining(result::add);
+        return result;
+    }
+    
+    private void onRangeMatched(final Range<Long> range, final long recordsCount) {
+        param.getProgressContext().getSourceTableCheckPositions().put(param.getSourceTable().getTableName().toString(), range.getMaximum());
+        param.getProgressContext().getTargetTableCheckPositions().put(param.getTargetTable().getTableName().toString(), range.getMaximum());
+        param.getProgressContext().onProgressUpdated(new PipelineJobUpdateProgress((int) Math.min(recordsCount, Integer.MAX_VALUE)));
+    }
+    
+    private <T> T waitFuture(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLWrapperException(new SQLException(ex));
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof PipelineSQLException) {
+                throw (PipelineSQLException) ex.getCause();
+            }
+            throw new SQLWrapperException(new SQLException(ex));
+        }
+    }
+    
+    @Override
+    public void cancel() {
+        canceling.set(true);
+        runningCalculators.forEach(SingleTableInventoryCalculator::cancel);
+        for (Statement each : runningStatements) {
+            try {
+                each.cancel();
+            } catch (final SQLException ex) {
+                log.info("cancel failed: {}", ex.getMessage());
+            }
+        }
+    }
+    
+    @Override
+    public boolean isCanceling() {
+        return canceling.get();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    @EqualsAndHashCode
+    @ToString
+    private static final class RangeChecksum {
+        
+        private final long checksum;
+        
+        private final long recordsCount;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.yaml;
+
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.MerkleMatchCheckNode;
+import org.apache.shardingsphere.infra.util.yaml.swapper.YamlConfigurationSwapper;
+
+/**
+ * Yaml merkle match check node swapper.
+ */
+public final class YamlMerkleMatchCheckNodeSwapper implements YamlConfigurationSwapper<YamlMerkleMatchCheckNode, MerkleMatchCheckNode> {
+    
+    @Override
+    public YamlMerkleMatchCheckNode swapToYamlConfiguration(final MerkleMatchCheckNode data) {
+        YamlMerkleMatchCheckNode result = new YamlMerkleMatchCheckNode();
+        result.setBeginValue(data.getBeginValue());
+        result.setEndValue(data.getEndValue());
+        result.setSourceChecksum(data.getSourceChecksum());
+        result.setSourceRecordsCount(data.getSourceRecordsCount());
+        result.setTargetChecksum(data.getTargetChecksum());
+        result.setTargetRecordsCount(data.getTargetRecordsCount());
+        result.setLeaf(data.isLeaf());
+        result.setMatched(data.isMatched());
+        return result;
+    }
+    
+    @Override
+    public MerkleMatchCheckNode swapToObject(final YamlMerkleMatchCheckNode yamlConfig) {
+        return new MerkleMatchCheckNode(yamlConfig.getBeginValue(), yamlConfig.getEndValue(), yamlConfig.getSourceChecksum(), yamlConfig.getSourceRecordsCount(),
+                yamlConfig.getTargetChecksum(), yamlConfig.getTargetRecordsCount(), yamlConfig.isLeaf(), yamlConfig.isMatched());
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.exception.job.PipelineImporterJobWriteException;
+import org.apache.shardingsphere.data.pipeline.core.execute.AbstractPipelineLifecycleRunnable;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressListener;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Partitioned consumer importer.
+ *
+ * <p>Data records of every fetched batch are partitioned into ordered lanes by hash of unique key, and lanes are written into sink concurrently.
+ * Records of same unique key are always written by same lane in their original order, and the whole batch is acked after all lanes are written.
+ * Batch is written serially if any record has no unique key or its unique key is updated into another lane.</p>
+ */
+public final class PartitionedConsumerImporter extends AbstractPipelineLifecycleRunnable implements Importer {
+    
+    private final PipelineChannel channel;
+    
+    private final int batchSize;
+    
+    private final long timeoutMillis;
+    
+    private final PipelineSink sink;
+    
+    private final PipelineJobProgressListener jobProgressListener;
+    
+    private final int laneCount;
+    
+    private final ExecutorService laneExecutor;
+    
+    public PartitionedConsumerImporter(final PipelineChannel channel, final int batchSize, final long timeoutMillis, final PipelineSink sink,
+                                       final PipelineJobProgressListener jobProgressListener, final int laneCount) {
+        this.channel = channel;
+        this.batchSize = batchSize;
+        this.timeoutMillis = timeoutMillis;
+        this.sink = sink;
+        this.jobProgressListener = jobProgressListener;
+        this.laneCount = laneCount;
+        laneExecutor = Executors.newFixedThreadPool(laneCount, ExecutorThreadFactoryBuilder.build("pipeline-importer-lane-%d"));
+    }
+    
+    @Override
+    protected void runBlocking() {
+        try {
+            while (isRunning()) {
+                List<Record> records = channel.fetch(batchSize, timeoutMillis);
+                if (records.isEmpty()) {
+                    continue;
+                }
+                PipelineJobUpdateProgress updateProgress = write(records);
+                channel.ack(records);
+                jobProgressListener.onProgressUpdated(updateProgress);
+                if (FinishedRecord.class.equals(records.get(records.size() - 1).getClass())) {
+                    break;
+                }
+            }
+        } finally {
+            laneExecutor.shutdownNow();
+        }
+    }
+    
+    private PipelineJobUpdateProgress write(final List<Record> records) {
+        Optional<List<List<Record>>> lanes = partition(records);
+        if (!lanes.isPresent()) {
+            return sink.write("", records);
+        }
+        Collection<Future<PipelineJobUpdateProgress>> futures = new LinkedList<>();
+        for (List<Record> each : lanes.get()) {
+            if (!each.isEmpty()) {
+                futures.add(laneExecutor.submit(() -> sink.write("", each)));
+            }
+        }
+        int processedRecordsCount = 0;
+        for (Future<PipelineJobUpdateProgress> each : futures) {
+            processedRecordsCount += getLaneUpdateProgress(each).getProcessedRecordsCount();
+        }
+        return new PipelineJobUpdateProgress(processedRecordsCount);
+    }
+    
+    private Optional<List<List<Record>>> partition(final List<Record> records) {
+        List<List<Record>> result = new ArrayList<>(laneCount);
+        for (int i = 0; i < laneCount; i++) {
+            result.add(new LinkedList<>());
+        }
+        int dataRecordsCount = 0;
+        for (Record each : records) {
+            if (!(each instanceof DataRecord)) {
+                continue;
+            }
+            int laneIndex = getLaneIndex((DataRecord) each);
+            if (laneIndex < 0) {
+                return Optional.empty();
+            }
+            result.get(laneIndex).add(each);
+            dataRecordsCount++;
+        }
+        return dataRecordsCount > 1 ? Optional.of(result) : Optional.empty();
+    }
+    
+    private int getLaneIndex(final DataRecord dataRecord) {
+        boolean keyPresent = isUniqueKeyPresent(dataRecord.getUniqueKeyValue());
+        boolean oldKeyPresent = isUniqueKeyPresent(dataRecord.getOldUniqueKeyValues());
+        if (!keyPresent && !oldKeyPresent) {
+            return -1;
+        }
+        int keyLaneIndex = keyPresent ? Math.floorMod(dataRecord.getKey().hashCode(), laneCount) : -1;
+        int oldKeyLaneIndex = oldKeyPresent ? Math.floorMod(dataRecord.getOldKey().hashCode(), laneCount) : -1;
+        if (keyPresent && oldKeyPresent) {
+            return keyLaneIndex == oldKeyLaneIndex ? keyLaneIndex : -1;
+        }
+        return keyPresent ? keyLaneIndex : oldKeyLaneIndex;
+    }
+    
+    private boolean isUniqueKeyPresent(final Collection<Object> uniqueKeyValues) {
+        return !uniqueKeyValues.isEmpty() && uniqueKeyValues.stream().allMatch(Objects::nonNull);
+    }
+    
+    private PipelineJobUpdateProgress getLaneUpdateProgress(final Future<PipelineJobUpdateProgress> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new PipelineImporterJobWriteException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            if (ex.getCause() instanceof Error) {
+                throw (Error) ex.getCause();
+            }
+            throw new PipelineImporterJobWriteException(ex);
+        }
+    }
+    
+    @Override
+    protected void doStop() {
+        QuietlyCloser.close(sink);
+        laneExecutor.shutdownNow();
+    }
+}
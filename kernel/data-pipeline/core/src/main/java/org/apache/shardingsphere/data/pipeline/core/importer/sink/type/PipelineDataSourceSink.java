@@ -42,9 +42,10 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -62,14 +63,14 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     private final DataRecordGroupEngine groupEngine;
     
-    private final AtomicReference<PreparedStatement> runningStatement;
+    private final Map<Thread, PreparedStatement> runningStatements;
     
     public PipelineDataSourceSink(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager) {
         this.importerConfig = importerConfig;
         dataSource = dataSourceManager.getDataSource(importerConfig.getDataSourceConfig());
         importSQLBuilder = new PipelineImportSQLBuilder(importerConfig.getDataSourceConfig().getDatabaseType());
         groupEngine = new DataRecordGroupEngine();
-        runningStatement = new AtomicReference<>();
+        runningStatements = new ConcurrentHashMap<>();
     }
     
     @Override
@@ -131,14 +132,14 @@ public final class PipelineDataSourceSink implements PipelineSink {
         try (
                 Connection connection = dataSource.getConnection();
                 PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-            runningStatement.set(preparedStatement);
+            runningStatements.put(Thread.currentThread(), preparedStatement);
             if (firstTimeRun) {
                 executeBatchInsertFirstTime(connection, preparedStatement, dataRecords);
             } else {
                 retryBatchInsert(preparedStatement, dataRecords);
             }
         } finally {
-            runningStatement.set(null);
+            runningStatements.remove(Thread.currentThread());
         }
     }
     
@@ -190,7 +191,7 @@ public final class PipelineDataSourceSink implements PipelineSink {
         List<Column> setColumns = dataRecord.getColumns().stream().filter(Column::isUpdated).collect(Collectors.toList());
         String sql = importSQLBuilder.buildUpdateSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord, conditionColumns);
         try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-            runningStatement.set(preparedStatement);
+            runningStatements.put(Thread.currentThread(), preparedStatement);
             for (int i = 0; i < setColumns.size(); i++) {
                 preparedStatement.setObject(i + 1, setColumns.get(i).getValue());
             }
@@ -214,7 +215,7 @@ public final class PipelineDataSourceSink implements PipelineSink {
                     sql, setColumns, JsonUtils.toJsonString(shardingColumns), JsonUtils.toJsonString(conditionColumns), ex.getMessage(), dataRecord);
             throw ex;
         } finally {
-            runningStatement.set(null);
+            runningStatements.remove(Thread.currentThread());
         }
     }
     
@@ -236,7 +237,7 @@ public final class PipelineDataSourceSink implements PipelineSink {
         String deleteSQL = importSQLBuilder.buildDeleteSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord,
                 RecordUtils.extractConditionColumns(dataRecord, shardingColumns));
         try (PreparedStatement preparedStatement = connection.prepareStatement(deleteSQL)) {
-            runningStatement.set(preparedStatement);
+            runningStatements.put(Thread.currentThread(), preparedStatement);
             preparedStatement.setQueryTimeout(30);
             for (DataRecord each : dataRecords) {
                 List<Column> conditionColumns = RecordUtils.extractConditionColumns(each, importerConfig.getShardingColumns(each.getTableName()));
@@ -251,12 +252,12 @@ public final class PipelineDataSourceSink implements PipelineSink {
             }
             preparedStatement.executeBatch();
         } finally {
-            runningStatement.set(null);
+            runningStatements.remove(Thread.currentThread());
         }
     }
     
     @Override
     public void close() {
-        Optional.ofNullable(runningStatement.get()).ifPresent(PipelineJdbcUtils::cancelStatement);
+        runningStatements.values().forEach(PipelineJdbcUtils::cancelStatement);
     }
 }
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.Dumper;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.column.InventoryColumnValueReaderEngine;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.position.InventoryDataRecordPositionCreator;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.point.InventoryPointQueryParameter;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.InventoryQueryPageSizeCalculator;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.InventoryQueryParameter;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.range.InventoryRangeQueryParameter;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.range.QueryRange;
@@ -88,6 +89,8 @@ public final class InventoryDumper extends AbstractPipelineLifecycleRunnable imp
     
     private final InventoryColumnValueReaderEngine columnValueReaderEngine;
     
+    private final InventoryQueryPageSizeCalculator pageSizeCalculator;
+    
     private final AtomicReference<Statement> runningStatement = new AtomicReference<>();
     
     public InventoryDumper(final InventoryDumperContext dumperContext, final PipelineChannel channel, final DataSource dataSource,
@@ -100,6 +103,7 @@ public final class InventoryDumper extends AbstractPipelineLifecycleRunnable imp
         DatabaseType databaseType = dumperContext.getCommonContext().getDataSourceConfig().getDatabaseType();
         sqlBuilder = new PipelineInventoryDumpSQLBuilder(databaseType);
         columnValueReaderEngine = new InventoryColumnValueReaderEngine(databaseType);
+        pageSizeCalculator = new InventoryQueryPageSizeCalculator(dumperContext.getBatchSize());
     }
     
     @Override
@@ -145,7 +149,9 @@ public final class InventoryDumper extends AbstractPipelineLifecycleRunnable imp
         while (true) {
             QueryRange queryRange = new QueryRange(((PrimaryKeyIngestPosition<?>) position).getBeginValue(), firstQuery, ((PrimaryKeyIngestPosition<?>) position).getEndValue());
             InventoryQueryParameter<?> queryParam = new InventoryRangeQueryParameter(queryRange);
+            long startMillis = System.currentTimeMillis();
             List<Record> dataRecords = dumpPageByPage(connection, queryParam, rowCount, tableMetaData);
+            pageSizeCalculator.adjust(dataRecords.size(), System.currentTimeMillis() - startMillis);
             if (dataRecords.size() > 1 && Objects.deepEquals(getFirstUniqueKeyValue(dataRecords, 0), getFirstUniqueKeyValue(dataRecords, dataRecords.size() - 1))) {
                 queryParam = new InventoryPointQueryParameter(getFirstUniqueKeyValue(dataRecords, 0));
                 dataRecords = dumpPageByPage(connection, queryParam, rowCount, tableMetaData);
@@ -170,7 +176,8 @@ public final class InventoryDumper extends AbstractPipelineLifecycleRunnable imp
                                         final InventoryQueryParameter<?> queryParam, final AtomicLong rowCount, final PipelineTableMetaData tableMetaData) throws SQLException {
         DatabaseType databaseType = dumperContext.getCommonContext().getDataSourceConfig().getDatabaseType();
         int batchSize = dumperContext.getBatchSize();
-        try (PreparedStatement preparedStatement = JDBCStreamQueryBuilder.build(databaseType, connection, buildDumpPageByPageSQL(queryParam), batchSize)) {
+        int pageSize = pageSizeCalculator.getPageSize();
+        try (PreparedStatement preparedStatement = JDBCStreamQueryBuilder.build(databaseType, connection, buildDumpPageByPageSQL(queryParam), pageSize)) {
             runningStatement.set(preparedStatement);
             setParameters(preparedStatement, queryParam, false);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
@@ -178,7 +185,7 @@ public final class InventoryDumper extends AbstractPipelineLifecycleRunnable imp
                 ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
                 List<Record> result = new LinkedList<>();
                 while (resultSet.next()) {
-                    if (result.size() >= batchSize) {
+                    if (result.size() >= pageSize) {
                         if (!dumperContext.hasUniqueKey()) {
                             channel.push(result);
                         }
@@ -222,7 +229,7 @@ public final class InventoryDumper extends AbstractPipelineLifecycleRunnable imp
                 preparedStatement.setObject(parameterIndex++, upper);
             }
             if (!streamingQuery) {
-                preparedStatement.setInt(parameterIndex, dumperContext.getBatchSize());
+                preparedStatement.setInt(parameterIndex, pageSizeCalculator.getPageSize());
             }
         } else if (queryParam instanceof InventoryPointQueryParameter) {
             preparedStatement.setObject(parameterIndex, queryParam.getValue());
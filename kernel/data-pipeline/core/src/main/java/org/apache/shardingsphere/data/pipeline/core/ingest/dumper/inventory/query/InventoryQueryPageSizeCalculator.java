@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query;
+
+import lombok.Getter;
+
+/**
+ * Inventory query page size calculator.
+ *
+ * <p>Page size starts from batch size and is adjusted by the elapsed time of full pages, so that one page query takes about the target time on both fast and slow ranges.
+ * Page size is bounded between a quarter of batch size and eight times batch size.</p>
+ */
+public final class InventoryQueryPageSizeCalculator {
+    
+    private static final long TARGET_PAGE_MILLIS = 1000L;
+    
+    private static final int MIN_PAGE_SIZE_DIVISOR = 4;
+    
+    private static final int MAX_PAGE_SIZE_MULTIPLIER = 8;
+    
+    private final int minPageSize;
+    
+    private final int maxPageSize;
+    
+    @Getter
+    private int pageSize;
+    
+    public InventoryQueryPageSizeCalculator(final int batchSize) {
+        minPageSize = Math.max(1, batchSize / MIN_PAGE_SIZE_DIVISOR);
+        maxPageSize = (int) Math.min(Integer.MAX_VALUE, (long) batchSize * MAX_PAGE_SIZE_MULTIPLIER);
+        pageSize = batchSize;
+    }
+    
+    /**
+     * Adjust page size by the last page.
+     *
+     * @param recordsCount records count of the last page
+     * @param elapsedMillis elapsed milliseconds of the last page
+     */
+    public void adjust(final int recordsCount, final long elapsedMillis) {
+        if (recordsCount < pageSize) {
+            return;
+        }
+        if (elapsedMillis < TARGET_PAGE_MILLIS / 2L) {
+            pageSize = (int) Math.min(maxPageSize, pageSize * 2L);
+        } else if (elapsedMillis > TARGET_PAGE_MILLIS * 2L) {
+            pageSize = Math.max(minPageSize, pageSize / 2);
+        }
+    }
+}
@@ -35,4 +35,10 @@ public final class PipelineWriteConfiguration {
     private final Integer batchSize;
     
     private final AlgorithmConfiguration rateLimiter;
+    
+    private final Integer incrementalConcurrency;
+    
+    public PipelineWriteConfiguration(final Integer workerThread, final Integer batchSize, final AlgorithmConfiguration rateLimiter) {
+        this(workerThread, batchSize, rateLimiter, null);
+    }
 }
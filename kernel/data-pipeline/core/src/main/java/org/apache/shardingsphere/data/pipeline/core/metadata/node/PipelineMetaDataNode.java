@@ -146,6 +146,29 @@ public final class PipelineMetaDataNode {
         return String.join("/", getJobRootPath(jobId), "check", "job_ids");
     }
     
+    /**
+     * Get merkle check tree path.
+     *
+     * @param jobId job id
+     * @param tableName table name
+     * @return merkle check tree path
+     */
+    public static String getMerkleCheckTreePath(final String jobId, final String tableName) {
+        return String.join("/", getJobRootPath(jobId), "check", "merkle_trees", tableName);
+    }
+    
+    /**
+     * Get merkle check tree range path.
+     *
+     * @param jobId job id
+     * @param tableName table name
+     * @param rangeIndex range index
+     * @return merkle check tree range path
+     */
+    public static String getMerkleCheckTreeRangePath(final String jobId, final String tableName, final int rangeIndex) {
+        return String.join("/", getMerkleCheckTreePath(jobId, tableName), String.valueOf(rangeIndex));
+    }
+    
     /**
      * Get job barrier enable path.
      *
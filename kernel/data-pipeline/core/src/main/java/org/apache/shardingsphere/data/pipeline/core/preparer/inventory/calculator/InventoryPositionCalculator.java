@@ -18,16 +18,21 @@
 package org.apache.shardingsphere.data.pipeline.core.preparer.inventory.calculator;
 
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.Range;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.IntegerPrimaryKeyIngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.util.IntervalToRangeIterator;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.function.ToLongFunction;
 
 /**
  * Inventory position calculator.
@@ -35,6 +40,12 @@ import java.util.LinkedList;
 @NoArgsConstructor(access = AccessLevel.NONE)
 public final class InventoryPositionCalculator {
     
+    private static final int MAX_REFINE_ROUNDS = 8;
+    
+    private static final int MAX_REFINE_PARTS = 64;
+    
+    private static final int MAX_BUCKETS = 4096;
+    
     /**
      * Get position by integer unique key range.
      *
@@ -57,4 +68,114 @@ public final class InventoryPositionCalculator {
         }
         return result;
     }
+    
+    /**
+     * Get position by integer unique key records count.
+     *
+     * <p>
+     * Records count of each equal width bucket is estimated, the buckets which have more records than average are split further,
+     * then ranges are cut on bucket boundaries nearest to records count quantiles, so skewed unique key values still get balanced ranges.
+     * Estimations are bounded by refine rounds and buckets count, so the cost does not grow with table records count.
+     * </p>
+     *
+     * @param tableRecordsCount table records count
+     * @param uniqueKeyValuesRange unique key values range
+     * @param shardingSize sharding size
+     * @param rangeRecordsCounter estimated records counter of unique key values range
+     * @return position collection
+     */
+    public static Collection<IngestPosition> getPositionByIntegerUniqueKeyRecordsCount(final long tableRecordsCount, final Range<Long> uniqueKeyValuesRange, final long shardingSize,
+                                                                                       final ToLongFunction<Range<Long>> rangeRecordsCounter) {
+        Collection<IngestPosition> equalWidthPositions = getPositionByIntegerUniqueKeyRange(tableRecordsCount, uniqueKeyValuesRange, shardingSize);
+        if (equalWidthPositions.size() <= 1) {
+            return equalWidthPositions;
+        }
+        List<RecordsCountBucket> buckets = new ArrayList<>(equalWidthPositions.size());
+        for (IngestPosition each : equalWidthPositions) {
+            Range<Long> range = Range.of(((IntegerPrimaryKeyIngestPosition) each).getBeginValue(), ((IntegerPrimaryKeyIngestPosition) each).getEndValue());
+            buckets.add(new RecordsCountBucket(range, rangeRecordsCounter.applyAsLong(range)));
+        }
+        long totalRecordsCount = buckets.stream().mapToLong(RecordsCountBucket::getRecordsCount).sum();
+        long splitCount = totalRecordsCount / shardingSize + (totalRecordsCount % shardingSize > 0 ? 1 : 0);
+        if (splitCount <= 1) {
+            return Collections.singletonList(new IntegerPrimaryKeyIngestPosition(uniqueKeyValuesRange.getMinimum(), uniqueKeyValuesRange.getMaximum()));
+        }
+        long averageRecordsCount = totalRecordsCount / splitCount + (totalRecordsCount % splitCount > 0 ? 1 : 0);
+        for (int i = 0; i < MAX_REFINE_ROUNDS; i++) {
+            List<RecordsCountBucket> refinedBuckets = refineBuckets(buckets, averageRecordsCount, rangeRecordsCounter);
+            if (refinedBuckets.size() == buckets.size()) {
+                break;
+            }
+            buckets = refinedBuckets;
+        }
+        return createPositions(uniqueKeyValuesRange, getRangeUpperBounds(buckets, totalRecordsCount, splitCount));
+    }
+    
+    private static List<RecordsCountBucket> refineBuckets(final List<RecordsCountBucket> buckets, final long averageRecordsCount, final ToLongFunction<Range<Long>> rangeRecordsCounter) {
+        List<RecordsCountBucket> result = new ArrayList<>(buckets.size());
+        for (int index = 0; index < buckets.size(); index++) {
+            RecordsCountBucket each = buckets.get(index);
+            BigInteger width = BigInteger.valueOf(each.getRange().getMaximum()).subtract(BigInteger.valueOf(each.getRange().getMinimum())).add(BigInteger.ONE);
+            long expectedParts = Math.min(MAX_REFINE_PARTS, 2L * (each.getRecordsCount() / averageRecordsCount + 1L));
+            BigInteger parts = width.min(BigInteger.valueOf(expectedParts));
+            if (each.getRecordsCount() <= averageRecordsCount || width.compareTo(BigInteger.ONE) <= 0 || result.size() + buckets.size() - index + parts.longValue() - 1L > MAX_BUCKETS) {
+                result.add(each);
+                continue;
+            }
+            BigInteger minimum = BigInteger.valueOf(each.getRange().getMinimum());
+            for (BigInteger i = BigInteger.ZERO; i.compareTo(parts) < 0; i = i.add(BigInteger.ONE)) {
+                long begin = minimum.add(width.multiply(i).divide(parts)).longValue();
+                long end = minimum.add(width.multiply(i.add(BigInteger.ONE)).divide(parts)).subtract(BigInteger.ONE).longValue();
+                Range<Long> range = Range.of(begin, end);
+                result.add(new RecordsCountBucket(range, rangeRecordsCounter.applyAsLong(range)));
+            }
+        }
+        return result;
+    }
+    
+    private static List<Long> getRangeUpperBounds(final List<RecordsCountBucket> buckets, final long totalRecordsCount, final long splitCount) {
+        long[] accumulatedRecordsCounts = new long[buckets.size()];
+        long accumulatedRecordsCount = 0L;
+        for (int i = 0; i < buckets.size(); i++) {
+            accumulatedRecordsCount += buckets.get(i).getRecordsCount();
+            accumulatedRecordsCounts[i] = accumulatedRecordsCount;
+        }
+        List<Long> result = new ArrayList<>((int) Math.min(splitCount, buckets.size()));
+        int bucketIndex = 0;
+        for (long i = 1L; i < splitCount; i++) {
+            BigInteger quantile = BigInteger.valueOf(totalRecordsCount).multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(splitCount));
+            while (bucketIndex + 1 < buckets.size() - 1 && getDistance(accumulatedRecordsCounts[bucketIndex + 1], quantile).compareTo(getDistance(accumulatedRecordsCounts[bucketIndex], quantile)) <= 0) {
+                bucketIndex++;
+            }
+            long upperBound = buckets.get(bucketIndex).getRange().getMaximum();
+            if (result.isEmpty() || upperBound > result.get(result.size() - 1)) {
+                result.add(upperBound);
+            }
+        }
+        return result;
+    }
+    
+    private static BigInteger getDistance(final long accumulatedRecordsCount, final BigInteger quantile) {
+        return BigInteger.valueOf(accumulatedRecordsCount).subtract(quantile).abs();
+    }
+    
+    private static Collection<IngestPosition> createPositions(final Range<Long> uniqueKeyValuesRange, final List<Long> rangeUpperBounds) {
+        Collection<IngestPosition> result = new LinkedList<>();
+        long begin = uniqueKeyValuesRange.getMinimum();
+        for (long each : rangeUpperBounds) {
+            result.add(new IntegerPrimaryKeyIngestPosition(begin, each));
+            begin = each + 1L;
+        }
+        result.add(new IntegerPrimaryKeyIngestPosition(begin, uniqueKeyValuesRange.getMaximum()));
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class RecordsCountBucket {
+        
+        private final Range<Long> range;
+        
+        private final long recordsCount;
+    }
 }
@@ -40,12 +40,15 @@ import org.apache.shardingsphere.infra.metadata.caseinsensitive.CaseInsensitiveI
 
 import java.sql.Connection;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -54,6 +57,10 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public final class InventoryDumperContextSplitter {
     
+    private static final String ESTIMATED_ROWS_COLUMN_LABEL = "rows";
+    
+    private static final Pattern ESTIMATED_ROWS_PATTERN = Pattern.compile("rows=(\\d+)");
+    
     private final PipelineDataSource sourceDataSource;
     
     private final InventoryDumperContext dumperContext;
@@ -123,7 +130,7 @@ public final class InventoryDumperContextSplitter {
             if (PipelineJdbcUtils.isIntegerColumn(firstColumnDataType)) {
                 Range<Long> uniqueKeyValuesRange = getUniqueKeyValuesRange(jobItemContext, dumperContext);
                 int shardingSize = jobItemContext.getJobProcessContext().getProcessConfiguration().getRead().getShardingSize();
-                return InventoryPositionCalculator.getPositionByIntegerUniqueKeyRange(tableRecordsCount, uniqueKeyValuesRange, shardingSize);
+                return getPositionByIntegerUniqueKeyRecordsCount(jobItemContext, dumperContext, tableRecordsCount, uniqueKeyValuesRange, shardingSize);
             }
             if (PipelineJdbcUtils.isStringColumn(firstColumnDataType)) {
                 return Collections.singleton(new StringPrimaryKeyIngestPosition(null, null));
@@ -148,6 +155,48 @@ public final class InventoryDumperContextSplitter {
         }
     }
     
+    private Collection<IngestPosition> getPositionByIntegerUniqueKeyRecordsCount(final TransmissionJobItemContext jobItemContext, final InventoryDumperContext dumperContext,
+                                                                                 final long tableRecordsCount, final Range<Long> uniqueKeyValuesRange, final int shardingSize) {
+        String schemaName = dumperContext.getCommonContext().getTableAndSchemaNameMapper().getSchemaName(dumperContext.getLogicTableName());
+        String uniqueKey = dumperContext.getUniqueKeyColumns().get(0).getName();
+        PipelinePrepareSQLBuilder pipelineSQLBuilder = new PipelinePrepareSQLBuilder(jobItemContext.getJobConfig().getSourceDatabaseType());
+        if (!pipelineSQLBuilder.buildEstimatedUniqueKeyRangeCountSQL(schemaName, dumperContext.getActualTableName(), uniqueKey, uniqueKeyValuesRange.getMinimum(),
+                uniqueKeyValuesRange.getMaximum()).isPresent()) {
+            return InventoryPositionCalculator.getPositionByIntegerUniqueKeyRange(tableRecordsCount, uniqueKeyValuesRange, shardingSize);
+        }
+        try (
+                Connection connection = sourceDataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            return InventoryPositionCalculator.getPositionByIntegerUniqueKeyRecordsCount(tableRecordsCount, uniqueKeyValuesRange, shardingSize, range -> {
+                String sql = pipelineSQLBuilder.buildEstimatedUniqueKeyRangeCountSQL(schemaName, dumperContext.getActualTableName(), uniqueKey, range.getMinimum(), range.getMaximum())
+                        .orElseThrow(IllegalStateException::new);
+                try {
+                    return getEstimatedRangeRecordsCount(statement, sql);
+                } catch (final SQLException ex) {
+                    throw new SplitPipelineJobByUniqueKeyException(dumperContext.getActualTableName(), uniqueKey, ex);
+                }
+            });
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(dumperContext.getActualTableName(), uniqueKey, ex);
+        }
+    }
+    
+    private long getEstimatedRangeRecordsCount(final Statement statement, final String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            if (!resultSet.next()) {
+                return 0L;
+            }
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                if (ESTIMATED_ROWS_COLUMN_LABEL.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                    return resultSet.getLong(i);
+                }
+            }
+            Matcher matcher = ESTIMATED_ROWS_PATTERN.matcher(String.valueOf(resultSet.getString(1)));
+            return matcher.find() ? Long.parseLong(matcher.group(1)) : 0L;
+        }
+    }
+    
     private InventoryDumperContext createPrimaryKeySplitDumperContext(final InventoryDumperContext dumperContext, final IngestPosition position,
                                                                       final int shardingItem, final int batchSize, final JobRateLimitAlgorithm rateLimitAlgorithm) {
         InventoryDumperContext result = new InventoryDumperContext(dumperContext.getCommonContext());
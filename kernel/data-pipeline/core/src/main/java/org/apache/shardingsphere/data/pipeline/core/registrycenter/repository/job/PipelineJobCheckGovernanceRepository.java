@@ -27,13 +27,16 @@ import org.apache.shardingsphere.data.pipeline.core.exception.job.ConsistencyChe
 import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Pipeline job check governance repository.
@@ -143,6 +146,37 @@ public final class PipelineJobCheckGovernanceRepository {
         repository.delete(PipelineMetaDataNode.getCheckJobResultPath(parentJobId, checkJobId));
     }
     
+    /**
+     * Get merkle check tree ranges.
+     *
+     * @param parentJobId parent job id
+     * @param tableName table name
+     * @return merkle check tree ranges in the order of range index
+     */
+    public List<String> getMerkleCheckTreeRanges(final String parentJobId, final String tableName) {
+        List<Integer> rangeIndexes = repository.getChildrenKeys(PipelineMetaDataNode.getMerkleCheckTreePath(parentJobId, tableName)).stream()
+                .map(Integer::parseInt).sorted().collect(Collectors.toList());
+        List<String> result = new ArrayList<>(rangeIndexes.size());
+        for (int each : rangeIndexes) {
+            result.add(repository.query(PipelineMetaDataNode.getMerkleCheckTreeRangePath(parentJobId, tableName, each)));
+        }
+        return result;
+    }
+    
+    /**
+     * Persist merkle check tree ranges.
+     *
+     * @param parentJobId parent job id
+     * @param tableName table name
+     * @param ranges merkle check tree ranges
+     */
+    public void persistMerkleCheckTreeRanges(final String parentJobId, final String tableName, final List<String> ranges) {
+        repository.delete(PipelineMetaDataNode.getMerkleCheckTreePath(parentJobId, tableName));
+        for (int i = 0; i < ranges.size(); i++) {
+            repository.persist(PipelineMetaDataNode.getMerkleCheckTreeRangePath(parentJobId, tableName, i), ranges.get(i));
+        }
+    }
+    
     /**
      * List check job ids.
      *
@@ -71,6 +71,17 @@ public interface DialectPipelineSQLBuilder extends DatabaseTypedSPI {
         return Optional.empty();
     }
     
+    /**
+     * Whether estimated rows of query could be got by EXPLAIN.
+     *
+     * <p>The estimation should come from optimizer statistics or index dives, so the query is not executed.</p>
+     *
+     * @return supported or not
+     */
+    default boolean isExplainEstimatedRowsSupported() {
+        return false;
+    }
+    
     /**
      * Build CRC32 SQL.
      *
@@ -82,6 +93,18 @@ public interface DialectPipelineSQLBuilder extends DatabaseTypedSPI {
         return Optional.empty();
     }
     
+    /**
+     * Build CRC32 SQL of unique key range.
+     *
+     * @param qualifiedTableName qualified table name
+     * @param columnNames column names
+     * @param uniqueKey unique key
+     * @return built SQL
+     */
+    default Optional<String> buildRangeCRC32SQL(final String qualifiedTableName, final Collection<String> columnNames, final String uniqueKey) {
+        return Optional.empty();
+    }
+    
     /**
      * Build create table SQLs.
      *
@@ -129,4 +129,18 @@ public final class PipelineDataConsistencyCalculateSQLBuilder {
     public Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final String columnName) {
         return dialectSQLBuilder.buildCRC32SQL(sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName), sqlSegmentBuilder.getEscapedIdentifier(columnName));
     }
+    
+    /**
+     * Build CRC32 SQL of unique key range.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param columnNames column names
+     * @param uniqueKey unique key
+     * @return built SQL
+     */
+    public Optional<String> buildRangeCRC32SQL(final String schemaName, final String tableName, final Collection<String> columnNames, final String uniqueKey) {
+        return dialectSQLBuilder.buildRangeCRC32SQL(sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName),
+                columnNames.stream().map(sqlSegmentBuilder::getEscapedIdentifier).collect(Collectors.toList()), sqlSegmentBuilder.getEscapedIdentifier(uniqueKey));
+    }
 }
@@ -95,6 +95,25 @@ public final class PipelinePrepareSQLBuilder {
         return String.format("SELECT MIN(%s), MAX(%s) FROM %s", escapedUniqueKey, escapedUniqueKey, sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName));
     }
     
+    /**
+     * Build estimated unique key range records count SQL.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @param beginValue begin value of unique key range, inclusive
+     * @param endValue end value of unique key range, inclusive
+     * @return estimated records count SQL
+     */
+    public Optional<String> buildEstimatedUniqueKeyRangeCountSQL(final String schemaName, final String tableName, final String uniqueKey, final long beginValue, final long endValue) {
+        if (!dialectSQLBuilder.isExplainEstimatedRowsSupported()) {
+            return Optional.empty();
+        }
+        String escapedUniqueKey = sqlSegmentBuilder.getEscapedIdentifier(uniqueKey);
+        return Optional.of(String.format("EXPLAIN SELECT %s FROM %s WHERE %s>=%d AND %s<=%d",
+                escapedUniqueKey, sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName), escapedUniqueKey, beginValue, escapedUniqueKey, endValue));
+    }
+    
     /**
      * Build check empty table SQL.
      *
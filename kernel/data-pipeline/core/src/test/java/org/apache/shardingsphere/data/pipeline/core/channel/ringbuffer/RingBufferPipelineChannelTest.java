@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.task.InventoryTaskAckCallback;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RingBufferPipelineChannelTest {
+    
+    @Test
+    void assertPushAndFetchConcurrently() throws InterruptedException {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, RingBufferWaitStrategy.YIELD, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 1000; i++) {
+                channel.push(records);
+            }
+        });
+        producer.start();
+        List<Record> actual = new ArrayList<>(1000);
+        while (actual.size() < 1000) {
+            actual.addAll(channel.fetch(100, 100L));
+        }
+        producer.join();
+        assertThat(actual.size(), is(1000));
+        assertThat(channel.poll(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertFetchWithZeroTimeout() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(100, RingBufferWaitStrategy.PARK, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        assertThat(channel.fetch(10, 0L), is(records));
+    }
+    
+    @Test
+    void assertFetchWithoutRecords() {
+        assertThat(new RingBufferPipelineChannel(100, RingBufferWaitStrategy.SPIN, new InventoryTaskAckCallback(new AtomicReference<>())).fetch(10, 10L), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertPeekWithRecords() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(100, RingBufferWaitStrategy.PARK, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        assertThat(channel.peek(), is(records));
+        assertThat(channel.peek(), is(records));
+    }
+    
+    @Test
+    void assertPeekWithoutRecords() {
+        assertThat(new RingBufferPipelineChannel(100, RingBufferWaitStrategy.PARK, new InventoryTaskAckCallback(new AtomicReference<>())).peek(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertPollWithRecords() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(100, RingBufferWaitStrategy.PARK, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        assertThat(channel.poll(), is(records));
+        assertThat(channel.poll(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertAck() {
+        InventoryTaskAckCallback callback = mock(InventoryTaskAckCallback.class);
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        new RingBufferPipelineChannel(100, RingBufferWaitStrategy.PARK, callback).ack(records);
+        verify(callback).onAck(records);
+    }
+}
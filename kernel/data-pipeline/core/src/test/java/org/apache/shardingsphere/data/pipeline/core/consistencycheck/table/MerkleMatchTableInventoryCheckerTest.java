@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.ConsistencyCheckJobItemProgressContext;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.caseinsensitive.CaseInsensitiveQualifiedTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MerkleMatchTableInventoryCheckerTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+    
+    private final ConsistencyCheckJobItemProgressContext progressContext = new ConsistencyCheckJobItemProgressContext("foo_job", 0, "FIXTURE");
+    
+    private final Map<String, Collection<MerkleMatchCheckNode>> persistedTrees = new HashMap<>();
+    
+    private final AtomicInteger recordsQueryCount = new AtomicInteger();
+    
+    @Test
+    void assertCheckMatched() throws SQLException {
+        NavigableMap<Long, Long> rows = createRows(5000);
+        assertTrue(createChecker(rows, createRows(5000), "id").checkSingleTableInventoryData().isMatched());
+        assertThat(progressContext.getCheckedRecordsCount().get(), is(5000L));
+        assertThat(progressContext.getSourceTableCheckPositions().get("foo_tbl"), is(5000L));
+    }
+    
+    @Test
+    void assertCheckMatchedWithEmptyTables() throws SQLException {
+        assertTrue(createChecker(new TreeMap<>(), new TreeMap<>(), "id").checkSingleTableInventoryData().isMatched());
+        assertThat(progressContext.getCheckedRecordsCount().get(), is(0L));
+    }
+    
+    @Test
+    void assertCheckNotMatchedWithDifferentRecord() throws SQLException {
+        NavigableMap<Long, Long> targetRows = createRows(5000);
+        targetRows.put(4321L, 1L);
+        assertFalse(createChecker(createRows(5000), targetRows, "id").checkSingleTableInventoryData().isMatched());
+        long checkedPosition = (long) progressContext.getSourceTableCheckPositions().get("foo_tbl");
+        assertTrue(checkedPosition < 4321L && checkedPosition >= 4000L);
+    }
+    
+    @Test
+    void assertCheckNotMatchedWithMissedRecord() throws SQLException {
+        NavigableMap<Long, Long> targetRows = createRows(5000);
+        targetRows.remove(5000L);
+        assertFalse(createChecker(createRows(5000), targetRows, "id").checkSingleTableInventoryData().isMatched());
+    }
+    
+    @Test
+    void assertCheckMatchedFromCheckedPosition() throws SQLException {
+        NavigableMap<Long, Long> targetRows = createRows(5000);
+        targetRows.put(10L, 1L);
+        progressContext.getSourceTableCheckPositions().put("foo_tbl", 100L);
+        assertTrue(createChecker(createRows(5000), targetRows, "id").checkSingleTableInventoryData().isMatched());
+        assertThat(progressContext.getCheckedRecordsCount().get(), is(4900L));
+    }
+    
+    @Test
+    void assertRecheckOnlyDirtyRanges() throws SQLException {
+        NavigableMap<Long, Long> targetRows = createRows(5000);
+        targetRows.put(4321L, 1L);
+        assertFalse(createChecker(createRows(5000), targetRows, "id").checkSingleTableInventoryData().isMatched());
+        assertFalse(persistedTrees.get("foo_tbl").isEmpty());
+        int recordsQueryCountAfterFirstCheck = recordsQueryCount.get();
+        assertFalse(createChecker(createRows(5000), targetRows, "id", new ConsistencyCheckJobItemProgressContext("foo_job", 0, "FIXTURE")).checkSingleTableInventoryData().isMatched());
+        assertThat(recordsQueryCount.get(), is(recordsQueryCountAfterFirstCheck));
+        targetRows.put(4321L, 4321L * 31L);
+        assertTrue(createChecker(createRows(5000), targetRows, "id", new ConsistencyCheckJobItemProgressContext("foo_job", 0, "FIXTURE")).checkSingleTableInventoryData().isMatched());
+        assertThat(recordsQueryCount.get(), is(recordsQueryCountAfterFirstCheck));
+    }
+    
+    @Test
+    void assertCheckWithNotIntegerUniqueKey() throws SQLException {
+        assertThrows(UnsupportedOperationException.class, () -> createChecker(createRows(1), createRows(1), "name").checkSingleTableInventoryData());
+    }
+    
+    private NavigableMap<Long, Long> createRows(final int recordsCount) {
+        NavigableMap<Long, Long> result = new TreeMap<>();
+        for (long i = 1L; i <= recordsCount; i++) {
+            result.put(i, i * 31L);
+        }
+        return result;
+    }
+    
+    private MerkleMatchTableInventoryChecker createChecker(final NavigableMap<Long, Long> sourceRows, final NavigableMap<Long, Long> targetRows, final String uniqueKey) throws SQLException {
+        return createChecker(sourceRows, targetRows, uniqueKey, progressContext);
+    }
+    
+    private MerkleMatchTableInventoryChecker createChecker(final NavigableMap<Long, Long> sourceRows, final NavigableMap<Long, Long> targetRows, final String uniqueKey,
+                                                           final ConsistencyCheckJobItemProgressContext progressContext) throws SQLException {
+        int uniqueKeyDataType = "id".equals(uniqueKey) ? Types.BIGINT : Types.VARCHAR;
+        PipelineColumnMetaData uniqueKeyColumn = new PipelineColumnMetaData(1, uniqueKey, uniqueKeyDataType, "", false, true, true);
+        CaseInsensitiveQualifiedTable table = new CaseInsensitiveQualifiedTable(null, "foo_tbl");
+        TableInventoryCheckParameter param = new TableInventoryCheckParameter("foo_job", mockDataSource(sourceRows), mockDataSource(targetRows),
+                table, table, Arrays.asList("id", "val"), Collections.singletonList(uniqueKeyColumn), null, progressContext);
+        return new MerkleMatchTableInventoryChecker(param, 100, 4, mockTreePersistService());
+    }
+    
+    private MerkleMatchCheckTreePersistService mockTreePersistService() {
+        MerkleMatchCheckTreePersistService result = mock(MerkleMatchCheckTreePersistService.class);
+        when(result.load(eq("foo_job"), anyString())).thenAnswer(invocation -> persistedTrees.getOrDefault(invocation.<String>getArgument(1), Collections.emptyList()));
+        doAnswer(invocation -> persistedTrees.put(invocation.getArgument(1), new ArrayList<>(invocation.<Collection<MerkleMatchCheckNode>>getArgument(2))))
+                .when(result).persist(eq("foo_job"), anyString(), any());
+        return result;
+    }
+    
+    private PipelineDataSource mockDataSource(final NavigableMap<Long, Long> rows) throws SQLException {
+        PipelineDataSource result = mock(PipelineDataSource.class);
+        when(result.getDatabaseType()).thenReturn(databaseType);
+        when(result.getConnection()).thenAnswer(invocation -> mockConnection(rows));
+        return result;
+    }
+    
+    private Connection mockConnection(final NavigableMap<Long, Long> rows) throws SQLException {
+        Connection result = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet minMaxResultSet = mock(ResultSet.class);
+        when(result.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("SELECT MIN(id), MAX(id) FROM foo_tbl")).thenReturn(minMaxResultSet);
+        when(minMaxResultSet.getLong(1)).thenReturn(rows.isEmpty() ? 0L : rows.firstKey());
+        when(minMaxResultSet.getLong(2)).thenReturn(rows.isEmpty() ? 0L : rows.lastKey());
+        when(minMaxResultSet.wasNull()).thenReturn(rows.isEmpty());
+        when(result.prepareStatement("SELECT CRC32(id,val) FROM foo_tbl WHERE id>=? AND id<=?")).thenAnswer(invocation -> mockRangeChecksumStatement(rows));
+        when(result.prepareStatement("SELECT id,val FROM foo_tbl WHERE id>=? AND id<=? ORDER BY id ASC", ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY))
+                .thenAnswer(invocation -> {
+                    recordsQueryCount.incrementAndGet();
+                    return mockRecordsStatement(rows);
+                });
+        return result;
+    }
+    
+    private PreparedStatement mockRangeChecksumStatement(final NavigableMap<Long, Long> rows) throws SQLException {
+        PreparedStatement result = mock(PreparedStatement.class);
+        long[] range = new long[2];
+        doAnswer(invocation -> {
+            range[(int) invocation.getArgument(0) - 1] = invocation.getArgument(1);
+            return null;
+        }).when(result).setLong(anyInt(), anyLong());
+        when(result.executeQuery()).thenAnswer(invocation -> {
+            Collection<Long> values = rows.subMap(range[0], true, range[1], true).values();
+            ResultSet resultSet = mock(ResultSet.class);
+            when(resultSet.getLong(1)).thenReturn(values.stream().reduce(0L, (a, b) -> a ^ b));
+            when(resultSet.getLong(2)).thenReturn((long) values.size());
+            return resultSet;
+        });
+        return result;
+    }
+    
+    private PreparedStatement mockRecordsStatement(final NavigableMap<Long, Long> rows) throws SQLException {
+        PreparedStatement result = mock(PreparedStatement.class);
+        Object[] range = new Object[2];
+        doAnswer(invocation -> {
+            int parameterIndex = invocation.getArgument(0);
+            if (parameterIndex <= 2) {
+                range[parameterIndex - 1] = invocation.getArgument(1);
+            }
+            return null;
+        }).when(result).setObject(anyInt(), any());
+        when(result.executeQuery()).thenAnswer(invocation -> mockRecordsResultSet(rows.subMap((Long) range[0], true, (Long) range[1], true).entrySet().iterator()));
+        return result;
+    }
+    
+    private ResultSet mockRecordsResultSet(final Iterator<Entry<Long, Long>> rows) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(result.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(metaData.getColumnLabel(1)).thenReturn("id");
+        when(metaData.getColumnLabel(2)).thenReturn("val");
+        when(metaData.getColumnType(anyInt())).thenReturn(Types.BIGINT);
+        when(metaData.isSigned(anyInt())).thenReturn(true);
+        AtomicReference<Entry<Long, Long>> currentRow = new AtomicReference<>();
+        when(result.next()).thenAnswer(invocation -> {
+            currentRow.set(rows.hasNext() ? rows.next() : null);
+            return null != currentRow.get();
+        });
+        when(result.getLong(1)).thenAnswer(invocation -> currentRow.get().getKey());
+        when(result.getLong(2)).thenAnswer(invocation -> currentRow.get().getValue());
+        return result;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressListener;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PartitionedConsumerImporterTest {
+    
+    private static final int LANE_COUNT = 4;
+    
+    private final PipelineChannel channel = mock(PipelineChannel.class);
+    
+    private final PipelineSink sink = mock(PipelineSink.class);
+    
+    private final PipelineJobProgressListener jobProgressListener = mock(PipelineJobProgressListener.class);
+    
+    private final List<List<Record>> writtenRecords = new CopyOnWriteArrayList<>();
+    
+    @Test
+    void assertRunWithPartitionedLanes() {
+        List<Record> records = new ArrayList<>();
+        for (int i = 1; i <= 16; i++) {
+            records.add(createDataRecord(PipelineSQLOperationType.INSERT, i, i, true));
+        }
+        DataRecord updateDataRecord = createDataRecord(PipelineSQLOperationType.UPDATE, 1, 1, true);
+        DataRecord deleteDataRecord = createDataRecord(PipelineSQLOperationType.DELETE, 1, 1, true);
+        records.add(updateDataRecord);
+        records.add(deleteDataRecord);
+        records.add(new FinishedRecord(new IngestPlaceholderPosition()));
+        run(records);
+        assertTrue(writtenRecords.size() > 1);
+        assertThat(writtenRecords.stream().mapToInt(Collection::size).sum(), is(18));
+        List<Record> firstKeyLane = writtenRecords.stream().filter(each -> indexOf(each, records.get(0)) >= 0).findFirst().orElseThrow(IllegalStateException::new);
+        assertThat(indexOf(firstKeyLane, updateDataRecord), greaterThan(indexOf(firstKeyLane, records.get(0))));
+        assertThat(indexOf(firstKeyLane, deleteDataRecord), greaterThan(indexOf(firstKeyLane, updateDataRecord)));
+        verify(channel).ack(records);
+        assertProcessedRecordsCount(18);
+    }
+    
+    @Test
+    void assertRunSeriallyWithoutUniqueKey() {
+        List<Record> records = Arrays.asList(createDataRecord(PipelineSQLOperationType.INSERT, 1, 1, false), createDataRecord(PipelineSQLOperationType.INSERT, 2, 2, false),
+                new FinishedRecord(new IngestPlaceholderPosition()));
+        run(records);
+        assertThat(writtenRecords, is(Collections.singletonList(records)));
+        verify(channel).ack(records);
+        assertProcessedRecordsCount(3);
+    }
+    
+    @Test
+    void assertRunSeriallyWithUniqueKeyUpdatedIntoAnotherLane() {
+        int newId = 2;
+        while (getLaneIndex(newId) == getLaneIndex(1)) {
+            newId++;
+        }
+        List<Record> records = Arrays.asList(createDataRecord(PipelineSQLOperationType.INSERT, 3, 3, true), createDataRecord(PipelineSQLOperationType.UPDATE, 1, newId, true),
+                new FinishedRecord(new IngestPlaceholderPosition()));
+        run(records);
+        assertThat(writtenRecords, is(Collections.singletonList(records)));
+        verify(channel).ack(records);
+    }
+    
+    private void run(final List<Record> records) {
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(records);
+        when(sink.write(anyString(), any())).thenAnswer(invocation -> {
+            List<Record> written = new ArrayList<>(invocation.getArgument(1));
+            writtenRecords.add(written);
+            return new PipelineJobUpdateProgress(written.size());
+        });
+        new PartitionedConsumerImporter(channel, 100, 5L, sink, jobProgressListener, LANE_COUNT).run();
+    }
+    
+    private void assertProcessedRecordsCount(final int expected) {
+        ArgumentCaptor<PipelineJobUpdateProgress> captor = ArgumentCaptor.forClass(PipelineJobUpdateProgress.class);
+        verify(jobProgressListener).onProgressUpdated(captor.capture());
+        assertThat(captor.getValue().getProcessedRecordsCount(), is(expected));
+    }
+    
+    private int indexOf(final List<Record> records, final Record record) {
+        for (int i = 0; i < records.size(); i++) {
+            if (records.get(i) == record) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private int getLaneIndex(final int id) {
+        return Math.floorMod(new DataRecord.Key("t_order", Collections.singletonList(id)).hashCode(), LANE_COUNT);
+    }
+    
+    private DataRecord createDataRecord(final PipelineSQLOperationType type, final int oldId, final int id, final boolean uniqueKey) {
+        DataRecord result = new DataRecord(type, "t_order", new IngestPlaceholderPosition(), 2);
+        Object oldValue = PipelineSQLOperationType.INSERT == type ? null : oldId;
+        Object value = PipelineSQLOperationType.DELETE == type ? null : id;
+        result.addColumn(new Column("order_id", oldValue, value, PipelineSQLOperationType.UPDATE != type || oldId != id, uniqueKey));
+        result.addColumn(new Column("status", null, "OK", true, false));
+        return result;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class InventoryQueryPageSizeCalculatorTest {
+    
+    @Test
+    void assertAdjustWithFastFullPages() {
+        InventoryQueryPageSizeCalculator calculator = new InventoryQueryPageSizeCalculator(1000);
+        for (int i = 0; i < 5; i++) {
+            calculator.adjust(calculator.getPageSize(), 10L);
+        }
+        assertThat(calculator.getPageSize(), is(8000));
+    }
+    
+    @Test
+    void assertAdjustWithSlowFullPages() {
+        InventoryQueryPageSizeCalculator calculator = new InventoryQueryPageSizeCalculator(1000);
+        for (int i = 0; i < 5; i++) {
+            calculator.adjust(calculator.getPageSize(), 5000L);
+        }
+        assertThat(calculator.getPageSize(), is(250));
+    }
+    
+    @Test
+    void assertAdjustWithPartialPage() {
+        InventoryQueryPageSizeCalculator calculator = new InventoryQueryPageSizeCalculator(1000);
+        calculator.adjust(10, 10L);
+        assertThat(calculator.getPageSize(), is(1000));
+    }
+    
+    @Test
+    void assertAdjustWithTargetElapsedTime() {
+        InventoryQueryPageSizeCalculator calculator = new InventoryQueryPageSizeCalculator(1000);
+        calculator.adjust(1000, 1000L);
+        assertThat(calculator.getPageSize(), is(1000));
+    }
+}
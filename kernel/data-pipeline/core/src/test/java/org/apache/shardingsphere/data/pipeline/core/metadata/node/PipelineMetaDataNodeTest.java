@@ -79,6 +79,16 @@ class PipelineMetaDataNodeTest {
         assertThat(PipelineMetaDataNode.getCheckJobResultPath(jobId, "j02fx123"), is(jobCheckRootPath + "/job_ids/j02fx123"));
     }
     
+    @Test
+    void assertGetMerkleCheckTreePath() {
+        assertThat(PipelineMetaDataNode.getMerkleCheckTreePath(jobId, "foo_tbl"), is(jobCheckRootPath + "/merkle_trees/foo_tbl"));
+    }
+    
+    @Test
+    void assertGetMerkleCheckTreeRangePath() {
+        assertThat(PipelineMetaDataNode.getMerkleCheckTreeRangePath(jobId, "foo_tbl", 1), is(jobCheckRootPath + "/merkle_trees/foo_tbl/1"));
+    }
+    
     @Test
     void assertGetCheckJobIdsPath() {
         assertThat(PipelineMetaDataNode.getCheckJobIdsRootPath(jobId), is(jobCheckRootPath + "/job_ids"));
@@ -23,6 +23,9 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.stream.LongStream;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -77,4 +80,47 @@ class InventoryPositionCalculatorTest {
         assertPosition(new IntegerPrimaryKeyIngestPosition(minimum, 0L), (IntegerPrimaryKeyIngestPosition) actualPositions.get(0));
         assertPosition(new IntegerPrimaryKeyIngestPosition(1L, maximum), (IntegerPrimaryKeyIngestPosition) actualPositions.get(1));
     }
+    
+    @Test
+    void assertGetPositionByIntegerUniqueKeyRecordsCountWithUniformValues() {
+        NavigableSet<Long> uniqueKeyValues = LongStream.rangeClosed(1L, 600L).boxed().collect(TreeSet::new, TreeSet::add, TreeSet::addAll);
+        List<IngestPosition> actualPositions = (List<IngestPosition>) InventoryPositionCalculator.getPositionByIntegerUniqueKeyRecordsCount(
+                600L, Range.between(1L, 600L), 300L, range -> uniqueKeyValues.subSet(range.getMinimum(), true, range.getMaximum(), true).size());
+        assertThat(actualPositions.size(), is(2));
+        assertPosition(new IntegerPrimaryKeyIngestPosition(1L, 300L), (IntegerPrimaryKeyIngestPosition) actualPositions.get(0));
+        assertPosition(new IntegerPrimaryKeyIngestPosition(301L, 600L), (IntegerPrimaryKeyIngestPosition) actualPositions.get(1));
+    }
+    
+    @Test
+    void assertGetPositionByIntegerUniqueKeyRecordsCountWithSkewedValues() {
+        NavigableSet<Long> uniqueKeyValues = LongStream.rangeClosed(1L, 1000L).boxed().collect(TreeSet::new, TreeSet::add, TreeSet::addAll);
+        uniqueKeyValues.add(1000000L);
+        List<IngestPosition> actualPositions = (List<IngestPosition>) InventoryPositionCalculator.getPositionByIntegerUniqueKeyRecordsCount(
+                1001L, Range.between(1L, 1000000L), 250L, range -> uniqueKeyValues.subSet(range.getMinimum(), true, range.getMaximum(), true).size());
+        assertThat(actualPositions.size(), is(5));
+        assertPosition(new IntegerPrimaryKeyIngestPosition(1L, 200L), (IntegerPrimaryKeyIngestPosition) actualPositions.get(0));
+        assertPosition(new IntegerPrimaryKeyIngestPosition(201L, 400L), (IntegerPrimaryKeyIngestPosition) actualPositions.get(1));
+        assertPosition(new IntegerPrimaryKeyIngestPosition(401L, 600L), (IntegerPrimaryKeyIngestPosition) actualPositions.get(2));
+        assertPosition(new IntegerPrimaryKeyIngestPosition(601L, 800L), (IntegerPrimaryKeyIngestPosition) actualPositions.get(3));
+        assertPosition(new IntegerPrimaryKeyIngestPosition(801L, 1000000L), (IntegerPrimaryKeyIngestPosition) actualPositions.get(4));
+    }
+    
+    @Test
+    void assertGetPositionByIntegerUniqueKeyRecordsCountWithFewerActualRecords() {
+        List<IngestPosition> actualPositions = (List<IngestPosition>) InventoryPositionCalculator.getPositionByIntegerUniqueKeyRecordsCount(
+                1000L, Range.between(1L, 1000L), 100L, range -> range.contains(1L) ? 1L : 0L);
+        assertThat(actualPositions.size(), is(1));
+        assertPosition(new IntegerPrimaryKeyIngestPosition(1L, 1000L), (IntegerPrimaryKeyIngestPosition) actualPositions.get(0));
+    }
+    
+    @Test
+    void assertGetPositionByIntegerUniqueKeyRecordsCountOverflow() {
+        long minimum = Long.MIN_VALUE + 1L;
+        long maximum = Long.MAX_VALUE;
+        List<IngestPosition> actualPositions = (List<IngestPosition>) InventoryPositionCalculator.getPositionByIntegerUniqueKeyRecordsCount(
+                2L, Range.between(minimum, maximum), 1L, range -> range.contains(minimum) || range.contains(maximum) ? 1L : 0L);
+        assertThat(actualPositions.size(), is(2));
+        assertPosition(new IntegerPrimaryKeyIngestPosition(minimum, 0L), (IntegerPrimaryKeyIngestPosition) actualPositions.get(0));
+        assertPosition(new IntegerPrimaryKeyIngestPosition(1L, maximum), (IntegerPrimaryKeyIngestPosition) actualPositions.get(1));
+    }
 }
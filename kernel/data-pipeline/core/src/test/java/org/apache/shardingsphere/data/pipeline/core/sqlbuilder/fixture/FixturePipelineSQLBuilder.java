@@ -36,6 +36,11 @@ public final class FixturePipelineSQLBuilder implements DialectPipelineSQLBuilde
         return Optional.of(String.format("SELECT CRC32(%s) FROM %s", columnName, qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildRangeCRC32SQL(final String qualifiedTableName, final Collection<String> columnNames, final String uniqueKey) {
+        return Optional.of(String.format("SELECT CRC32(%s) FROM %s WHERE %s>=? AND %s<=?", String.join(",", columnNames), qualifiedTableName, uniqueKey, uniqueKey));
+    }
+    
     @Override
     public Collection<String> buildCreateTableSQLs(final DataSource dataSource, final String schemaName, final String tableName) {
         return Collections.emptyList();
@@ -75,4 +75,10 @@ class PipelineDataConsistencyCalculateSQLBuilderTest {
         Optional<String> actual = sqlBuilder.buildCRC32SQL("foo_schema", "foo_tbl", "foo_col");
         assertThat(actual, is(Optional.of("SELECT CRC32(foo_col) FROM foo_tbl")));
     }
+    
+    @Test
+    void assertBuildRangeCRC32SQL() {
+        Optional<String> actual = sqlBuilder.buildRangeCRC32SQL("foo_schema", "foo_tbl", Arrays.asList("foo_col", "bar_col"), "foo_col");
+        assertThat(actual, is(Optional.of("SELECT CRC32(foo_col,bar_col) FROM foo_tbl WHERE foo_col>=? AND foo_col<=?")));
+    }
 }
@@ -54,6 +54,11 @@ class PipelinePrepareSQLBuilderTest {
         assertThat(sqlBuilder.buildUniqueKeyMinMaxValuesSQL("foo_schema", "foo_tbl", "foo_key"), is("SELECT MIN(foo_key), MAX(foo_key) FROM foo_tbl"));
     }
     
+    @Test
+    void assertBuildEstimatedUniqueKeyRangeCountSQL() {
+        assertFalse(sqlBuilder.buildEstimatedUniqueKeyRangeCountSQL("foo_schema", "foo_tbl", "foo_key", 1L, 100L).isPresent());
+    }
+    
     @Test
     void assertBuildCheckEmptyTableSQL() {
         assertThat(sqlBuilder.buildCheckEmptyTableSQL("foo_schema", "foo_tbl"), is("SELECT * FROM foo_tbl LIMIT 1"));
@@ -17,11 +17,17 @@
 
 package org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlogTableMapEventPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.MySQLBinlogColumnDef;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value.MySQLBinlogProtocolValue;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -36,6 +42,10 @@ public final class MySQLBinlogContext {
     
     private final Map<Long, MySQLBinlogTableMapEventPacket> tableMap;
     
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Map<Long, ColumnProtocolValues> columnProtocolValuesMap = new HashMap<>();
+    
     private volatile String fileName;
     
     /**
@@ -56,4 +66,46 @@ public final class MySQLBinlogContext {
     public MySQLBinlogTableMapEventPacket getTableMapEvent(final long tableId) {
         return tableMap.get(tableId);
     }
+    
+    /**
+     * Get column protocol values by table map event.
+     *
+     * <p>Column protocol values are reused by rows events of same table until column types of table changed.</p>
+     *
+     * @param tableMapEventPacket table map event
+     * @return column protocol values
+     */
+    public MySQLBinlogProtocolValue[] getColumnProtocolValues(final MySQLBinlogTableMapEventPacket tableMapEventPacket) {
+        ColumnProtocolValues result = columnProtocolValuesMap.get(tableMapEventPacket.getTableId());
+        if (null == result || !result.isSameColumnTypes(tableMapEventPacket.getColumnDefs())) {
+            result = new ColumnProtocolValues(tableMapEventPacket.getColumnDefs());
+            columnProtocolValuesMap.put(tableMapEventPacket.getTableId(), result);
+        }
+        return result.getProtocolValues();
+    }
+    
+    private static final class ColumnProtocolValues {
+        
+        private final MySQLBinaryColumnType[] columnTypes;
+        
+        @Getter
+        private final MySQLBinlogProtocolValue[] protocolValues;
+        
+        ColumnProtocolValues(final List<MySQLBinlogColumnDef> columnDefs) {
+            columnTypes = columnDefs.stream().map(MySQLBinlogColumnDef::getColumnType).toArray(MySQLBinaryColumnType[]::new);
+            protocolValues = new MySQLBinlogProtocolValue[columnDefs.size()];
+        }
+        
+        boolean isSameColumnTypes(final List<MySQLBinlogColumnDef> columnDefs) {
+            if (columnTypes.length != columnDefs.size()) {
+                return false;
+            }
+            for (int i = 0; i < columnTypes.length; i++) {
+                if (columnTypes[i] != columnDefs.get(i).getColumnType()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
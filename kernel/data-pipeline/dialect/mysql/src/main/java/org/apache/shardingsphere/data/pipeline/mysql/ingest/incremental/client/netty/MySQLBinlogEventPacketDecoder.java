@@ -44,6 +44,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiPredicate;
 
 /**
  * MySQL binlog event packet decoder.
@@ -57,10 +58,18 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
     
     private final boolean decodeWithTX;
     
+    private final BiPredicate<String, String> tableFilter;
+    
     private List<MySQLBaseBinlogEvent> records = new LinkedList<>();
     
     public MySQLBinlogEventPacketDecoder(final int checksumLength, final Map<Long, MySQLBinlogTableMapEventPacket> tableMap, final boolean decodeWithTX) {
+        this(checksumLength, tableMap, decodeWithTX, (schemaName, tableName) -> true);
+    }
+    
+    public MySQLBinlogEventPacketDecoder(final int checksumLength, final Map<Long, MySQLBinlogTableMapEventPacket> tableMap, final boolean decodeWithTX,
+                                         final BiPredicate<String, String> tableFilter) {
         this.decodeWithTX = decodeWithTX;
+        this.tableFilter = tableFilter;
         binlogContext = new MySQLBinlogContext(checksumLength, tableMap);
     }
     
@@ -77,7 +86,7 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
             Optional<MySQLBaseBinlogEvent> binlogEvent = decodeEvent(binlogEventHeader, payload);
             if (!binlogEvent.isPresent()) {
                 skipChecksum(binlogEventHeader.getEventType(), in);
-                return;
+                continue;
             }
             if (binlogEvent.get() instanceof PlaceholderBinlogEvent) {
                 out.add(binlogEvent.get());
@@ -158,13 +167,13 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
                 return Optional.empty();
             case WRITE_ROWS_EVENT_V1:
             case WRITE_ROWS_EVENT_V2:
-                return Optional.of(decodeWriteRowsEventV2(binlogEventHeader, payload));
+                return decodeWriteRowsEventV2(binlogEventHeader, payload);
             case UPDATE_ROWS_EVENT_V1:
             case UPDATE_ROWS_EVENT_V2:
-                return Optional.of(decodeUpdateRowsEventV2(binlogEventHeader, payload));
+                return decodeUpdateRowsEventV2(binlogEventHeader, payload);
             case DELETE_ROWS_EVENT_V1:
             case DELETE_ROWS_EVENT_V2:
-                return Optional.of(decodeDeleteRowsEventV2(binlogEventHeader, payload));
+                return decodeDeleteRowsEventV2(binlogEventHeader, payload);
             case QUERY_EVENT:
                 return Optional.of(decodeQueryEvent(binlogEventHeader, payload));
             case XID_EVENT:
@@ -195,28 +204,44 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         binlogContext.putTableMapEvent(new MySQLBinlogTableMapEventPacket(binlogEventHeader, payload));
     }
     
-    private MySQLWriteRowsBinlogEvent decodeWriteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+    private Optional<MySQLBaseBinlogEvent> decodeWriteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         MySQLBinlogRowsEventPacket packet = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
         MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(packet.getTableId());
-        packet.readRows(tableMapEventPacket, payload);
-        return new MySQLWriteRowsBinlogEvent(binlogContext.getFileName(),
-                binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(), tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows());
+        if (!readRows(packet, tableMapEventPacket, payload)) {
+            return Optional.empty();
+        }
+        return Optional.of(new MySQLWriteRowsBinlogEvent(binlogContext.getFileName(),
+                binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(), tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows()));
     }
     
-    private MySQLUpdateRowsBinlogEvent decodeUpdateRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+    private Optional<MySQLBaseBinlogEvent> decodeUpdateRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         MySQLBinlogRowsEventPacket packet = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
         MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(packet.getTableId());
-        packet.readRows(tableMapEventPacket, payload);
-        return new MySQLUpdateRowsBinlogEvent(binlogContext.getFileName(),
-                binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(), tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows(), packet.getRows2());
+        if (!readRows(packet, tableMapEventPacket, payload)) {
+            return Optional.empty();
+        }
+        return Optional.of(new MySQLUpdateRowsBinlogEvent(binlogContext.getFileName(),
+                binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(), tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows(), packet.getRows2()));
     }
     
-    private MySQLDeleteRowsBinlogEvent decodeDeleteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+    private Optional<MySQLBaseBinlogEvent> decodeDeleteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         MySQLBinlogRowsEventPacket packet = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
         MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(packet.getTableId());
-        packet.readRows(tableMapEventPacket, payload);
-        return new MySQLDeleteRowsBinlogEvent(binlogContext.getFileName(),
-                binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(), tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows());
+        if (!readRows(packet, tableMapEventPacket, payload)) {
+            return Optional.empty();
+        }
+        return Optional.of(new MySQLDeleteRowsBinlogEvent(binlogContext.getFileName(),
+                binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(), tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows()));
+    }
+    
+    private boolean readRows(final MySQLBinlogRowsEventPacket packet, final MySQLBinlogTableMapEventPacket tableMapEventPacket, final MySQLPacketPayload payload) {
+        // rows of tables not being migrated are skipped without materializing column values, position still advances by following XID event
+        if (!tableFilter.test(tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName())) {
+            packet.skipRows(payload);
+            return false;
+        }
+        packet.readRows(tableMapEventPacket.getColumnDefs(), binlogContext.getColumnProtocolValues(tableMapEventPacket), payload);
+        return true;
     }
     
     private PlaceholderBinlogEvent decodePlaceholderEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
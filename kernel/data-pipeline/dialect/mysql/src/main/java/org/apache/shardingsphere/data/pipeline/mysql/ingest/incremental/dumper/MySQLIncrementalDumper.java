@@ -85,8 +85,8 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
         ConnectInfo connectInfo = new ConnectInfo(
                 generateServerId(), connectionProps.getHostname(), connectionProps.getPort(), pipelineDataSourceConfig.getUsername(), pipelineDataSourceConfig.getPassword());
         log.info("incremental dump, jdbcUrl={}, serverId={}, hostname={}, port={}", pipelineDataSourceConfig.getUrl(), connectInfo.getServerId(), connectInfo.getHost(), connectInfo.getPort());
-        client = new MySQLBinlogClient(connectInfo, dumperContext.isDecodeWithTX());
         catalog = connectionProps.getCatalog();
+        client = new MySQLBinlogClient(connectInfo, dumperContext.isDecodeWithTX(), this::isMigratedTable);
     }
     
     private int generateServerId() {
@@ -118,7 +118,7 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
             return Collections.singletonList(createPlaceholderRecord(event));
         }
         MySQLBaseRowsBinlogEvent rowsEvent = (MySQLBaseRowsBinlogEvent) event;
-        if (!rowsEvent.getDatabaseName().equals(catalog) || !dumperContext.getCommonContext().getTableNameMapper().containsTable(rowsEvent.getTableName())) {
+        if (!isMigratedTable(rowsEvent.getDatabaseName(), rowsEvent.getTableName())) {
             return Collections.singletonList(createPlaceholderRecord(event));
         }
         PipelineTableMetaData tableMetaData = getPipelineTableMetaData(rowsEvent.getTableName());
@@ -140,6 +140,10 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
         return result;
     }
     
+    private boolean isMigratedTable(final String databaseName, final String tableName) {
+        return catalog.equals(databaseName) && dumperContext.getCommonContext().getTableNameMapper().containsTable(tableName);
+    }
+    
     private PipelineTableMetaData getPipelineTableMetaData(final String actualTableName) {
         CaseInsensitiveIdentifier logicTableName = dumperContext.getCommonContext().getTableNameMapper().getLogicTableName(actualTableName);
         return metaDataLoader.getTableMetaData(dumperContext.getCommonContext().getTableAndSchemaNameMapper().getSchemaName(logicTableName), actualTableName);
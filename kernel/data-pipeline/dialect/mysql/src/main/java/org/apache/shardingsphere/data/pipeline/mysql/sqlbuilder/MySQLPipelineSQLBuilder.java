@@ -31,6 +31,7 @@ import java.sql.Statement;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * MySQL pipeline SQL builder.
@@ -59,11 +60,25 @@ public final class MySQLPipelineSQLBuilder implements DialectPipelineSQLBuilder
         return Optional.of(String.format("SELECT TABLE_ROWS FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = '%s' AND TABLE_NAME = '%s'", catalogName, qualifiedTableName));
     }
     
+    @Override
+    public boolean isExplainEstimatedRowsSupported() {
+        return true;
+    }
+    
     @Override
     public Optional<String> buildCRC32SQL(final String qualifiedTableName, final String columnName) {
         return Optional.of(String.format("SELECT BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM %s", columnName, qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildRangeCRC32SQL(final String qualifiedTableName, final Collection<String> columnNames, final String uniqueKey) {
+        // Each column is hashed separately, so column values containing the separator could not shift into the adjacent column
+        String columnChecksums = columnNames.stream().map(each -> String.format("CRC32(%s)", each)).collect(Collectors.joining(", "));
+        String nullFlags = columnNames.stream().map(each -> String.format("ISNULL(%s)", each)).collect(Collectors.joining(", "));
+        return Optional.of(String.format("SELECT BIT_XOR(CAST(CRC32(CONCAT_WS(',', %s, %s)) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM %s WHERE %s>=? AND %s<=?",
+                columnChecksums, nullFlags, qualifiedTableName, uniqueKey, uniqueKey));
+    }
+    
     @Override
     public Collection<String> buildCreateTableSQLs(final DataSource dataSource, final String schemaName, final String tableName) throws SQLException {
         try (
@@ -17,12 +17,19 @@
 
 package org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog;
 
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlogTableMapEventPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.MySQLBinlogColumnDef;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value.MySQLBinlogProtocolValue;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -37,6 +44,21 @@ class MySQLBinlogContextTest {
         assertThat(binlogContext.getTableMapEvent(1L), is(tableMapEventPacket));
     }
     
+    @Test
+    void assertGetColumnProtocolValues() {
+        MySQLBinlogContext binlogContext = new MySQLBinlogContext(4, new HashMap<>());
+        MySQLBinlogProtocolValue[] actual = binlogContext.getColumnProtocolValues(createTableMapEventPacket(MySQLBinaryColumnType.LONGLONG, MySQLBinaryColumnType.VARCHAR));
+        assertThat(actual.length, is(2));
+        assertThat(binlogContext.getColumnProtocolValues(createTableMapEventPacket(MySQLBinaryColumnType.LONGLONG, MySQLBinaryColumnType.VARCHAR)), sameInstance(actual));
+        assertThat(binlogContext.getColumnProtocolValues(createTableMapEventPacket(MySQLBinaryColumnType.LONGLONG, MySQLBinaryColumnType.LONG)), not(sameInstance(actual)));
+    }
+    
+    private MySQLBinlogTableMapEventPacket createTableMapEventPacket(final MySQLBinaryColumnType... columnTypes) {
+        MySQLBinlogTableMapEventPacket result = createTableMapEventPacket();
+        when(result.getColumnDefs()).thenReturn(Arrays.stream(columnTypes).map(MySQLBinlogColumnDef::new).collect(Collectors.toList()));
+        return result;
+    }
+    
     private MySQLBinlogTableMapEventPacket createTableMapEventPacket() {
         MySQLBinlogTableMapEventPacket result = mock(MySQLBinlogTableMapEventPacket.class);
         when(result.getTableId()).thenReturn(1L);
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -50,6 +51,14 @@ class MySQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(id) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM t2"));
     }
     
+    @Test
+    void assertBuildRangeCRC32SQL() {
+        Optional<String> actual = sqlBuilder.buildRangeCRC32SQL("t2", Arrays.asList("id", "c1"), "id");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(),
+                is("SELECT BIT_XOR(CAST(CRC32(CONCAT_WS(',', CRC32(id), CRC32(c1), ISNULL(id), ISNULL(c1))) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM t2 WHERE id>=? AND id<=?"));
+    }
+    
     private DataRecord mockDataRecord(final String tableName) {
         DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, tableName, new IngestPlaceholderPosition(), 4);
         result.addColumn(new Column("id", "", false, true));
@@ -60,6 +69,11 @@ class MySQLPipelineSQLBuilderTest {
         return result;
     }
     
+    @Test
+    void assertIsExplainEstimatedRowsSupported() {
+        assertTrue(sqlBuilder.isExplainEstimatedRowsSupported());
+    }
+    
     @Test
     void assertBuilderEstimateCountSQLWithoutKeyword() {
         Optional<String> actual = sqlBuilder.buildEstimatedCountSQL("foo_catalog", "foo_tbl");
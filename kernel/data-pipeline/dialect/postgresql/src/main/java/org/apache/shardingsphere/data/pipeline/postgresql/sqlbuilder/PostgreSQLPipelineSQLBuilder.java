@@ -72,6 +72,11 @@ public final class PostgreSQLPipelineSQLBuilder implements DialectPipelineSQLBui
         return Optional.of(String.format("SELECT reltuples::integer FROM pg_class WHERE oid='%s'::regclass::oid;", qualifiedTableName));
     }
     
+    @Override
+    public boolean isExplainEstimatedRowsSupported() {
+        return true;
+    }
+    
     // TODO support partitions etc. If user use partition table, after sharding, the partition definition will not be needed. So we need to remove it after supported.
     @Override
     public Optional<String> buildCRC32SQL(final String qualifiedTableName, final String columnName) {
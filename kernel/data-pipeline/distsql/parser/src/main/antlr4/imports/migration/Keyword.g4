@@ -115,6 +115,10 @@ SHARDING_SIZE
     : S H A R D I N G UL_ S I Z E
     ;
 
+INCREMENTAL_CONCURRENCY
+    : I N C R E M E N T A L UL_ C O N C U R R E N C Y
+    ;
+
 RATE_LIMITER
     : R A T E UL_ L I M I T E R
     ;
@@ -36,7 +36,7 @@ readDefinition
     ;
 
 writeDefinition
-    : WRITE LP_ workerThread? (COMMA_? batchSize)? (COMMA_? rateLimiter)? RP_
+    : WRITE LP_ workerThread? (COMMA_? batchSize)? (COMMA_? incrementalConcurrency)? (COMMA_? rateLimiter)? RP_
     ;
 
 workerThread
@@ -51,6 +51,10 @@ shardingSize
     : SHARDING_SIZE EQ_ intValue
     ;
 
+incrementalConcurrency
+    : INCREMENTAL_CONCURRENCY EQ_ intValue
+    ;
+
 rateLimiter
     : RATE_LIMITER LP_ algorithmDefinition RP_
     ;
@@ -30,6 +30,8 @@ import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobCanceli
 import org.apache.shardingsphere.data.pipeline.core.exception.job.PrepareJobWithGetBinlogPositionException;
 import org.apache.shardingsphere.data.pipeline.core.execute.PipelineExecuteEngine;
 import org.apache.shardingsphere.data.pipeline.core.importer.Importer;
+import org.apache.shardingsphere.data.pipeline.core.importer.ImporterConfiguration;
+import org.apache.shardingsphere.data.pipeline.core.importer.PartitionedConsumerImporter;
 import org.apache.shardingsphere.data.pipeline.core.importer.SingleChannelConsumerImporter;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.Dumper;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.CreateIncrementalDumperParameter;
@@ -191,8 +193,15 @@ public final class MigrationJobPreparer implements PipelineJobPreparer<Migration
         CreateIncrementalDumperParameter param = new CreateIncrementalDumperParameter(
                 dumperContext, dumperContext.getCommonContext().getPosition(), channel, jobItemContext.getSourceMetaDataLoader(), jobItemContext.getDataSourceManager());
         Dumper dumper = IncrementalDumperCreator.create(param);
-        Collection<Importer> importers = Collections.singletonList(new SingleChannelConsumerImporter(channel, 1, 5L, jobItemContext.getSink(), jobItemContext));
+        Collection<Importer> importers = Collections.singletonList(createIncrementalImporter(taskConfig.getImporterConfig(), channel, jobItemContext));
         PipelineTask incrementalTask = new IncrementalTask(dumperContext.getCommonContext().getDataSourceName(), incrementalExecuteEngine, dumper, importers, taskProgress);
         jobItemContext.getIncrementalTasks().add(incrementalTask);
     }
+    
+    private Importer createIncrementalImporter(final ImporterConfiguration importerConfig, final PipelineChannel channel, final MigrationJobItemContext jobItemContext) {
+        Integer incrementalConcurrency = jobItemContext.getJobProcessContext().getProcessConfiguration().getWrite().getIncrementalConcurrency();
+        return null != incrementalConcurrency && incrementalConcurrency > 1
+                ? new PartitionedConsumerImporter(channel, importerConfig.getBatchSize(), 5L, jobItemContext.getSink(), jobItemContext, incrementalConcurrency)
+                : new SingleChannelConsumerImporter(channel, 1, 5L, jobItemContext.getSink(), jobItemContext);
+    }
 }
@@ -26,8 +26,11 @@ import org.apache.shardingsphere.infra.database.core.metadata.database.system.Sy
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -51,8 +54,24 @@ public final class ExternalMetaDataFactory {
      */
     public static ShardingSphereDatabase create(final String databaseName, final DatabaseConfiguration databaseConfig,
                                                 final ConfigurationProperties props, final ComputeNodeInstanceContext computeNodeInstanceContext) throws SQLException {
+        return create(databaseName, databaseConfig, props, computeNodeInstanceContext, Collections.emptyList());
+    }
+    
+    /**
+     * Create database meta data for db with previous rules.
+     *
+     * @param databaseName database name
+     * @param databaseConfig database configuration
+     * @param props configuration properties
+     * @param computeNodeInstanceContext compute node instance context
+     * @param previousRules previous rules of database which will be replaced by created database
+     * @return database meta data
+     * @throws SQLException SQL exception
+     */
+    public static ShardingSphereDatabase create(final String databaseName, final DatabaseConfiguration databaseConfig, final ConfigurationProperties props,
+                                                final ComputeNodeInstanceContext computeNodeInstanceContext, final Collection<ShardingSphereRule> previousRules) throws SQLException {
         return ShardingSphereDatabase.create(databaseName, DatabaseTypeEngine.getProtocolType(databaseConfig, props),
-                DatabaseTypeEngine.getStorageTypes(databaseConfig), databaseConfig, props, computeNodeInstanceContext);
+                DatabaseTypeEngine.getStorageTypes(databaseConfig), databaseConfig, props, computeNodeInstanceContext, previousRules);
     }
     
     /**
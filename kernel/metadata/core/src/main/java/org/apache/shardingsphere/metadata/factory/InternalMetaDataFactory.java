@@ -21,12 +21,19 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.metadata.persist.MetaDataPersistService;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
@@ -49,9 +56,31 @@ public final class InternalMetaDataFactory {
      */
     public static ShardingSphereDatabase create(final String databaseName, final MetaDataPersistService persistService, final DatabaseConfiguration databaseConfig,
                                                 final ConfigurationProperties props, final ComputeNodeInstanceContext computeNodeInstanceContext) {
+        return create(databaseName, persistService, databaseConfig, props, computeNodeInstanceContext, Collections.emptyList());
+    }
+    
+    /**
+     * Create database meta data from governance center with previous rules.
+     *
+     * @param databaseName database name
+     * @param persistService meta data persist service
+     * @param databaseConfig database configuration
+     * @param props configuration properties
+     * @param computeNodeInstanceContext compute node instance context
+     * @param previousRules previous rules of database which will be replaced by created database
+     * @return database
+     */
+    public static ShardingSphereDatabase create(final String databaseName, final MetaDataPersistService persistService, final DatabaseConfiguration databaseConfig,
+                                                final ConfigurationProperties props, final ComputeNodeInstanceContext computeNodeInstanceContext,
+                                                final Collection<ShardingSphereRule> previousRules) {
         DatabaseType protocolType = DatabaseTypeEngine.getProtocolType(databaseConfig, props);
-        return ShardingSphereDatabase.create(databaseName,
-                protocolType, databaseConfig, computeNodeInstanceContext, persistService.getDatabaseMetaDataFacade().getSchema().load(databaseName));
+        ShardingSphereDatabase result = ShardingSphereDatabase.create(databaseName,
+                protocolType, databaseConfig, computeNodeInstanceContext, persistService.getDatabaseMetaDataFacade().getSchema().load(databaseName), previousRules);
+        if (props.<Boolean>getValue(ConfigurationPropertyKey.TABLE_METADATA_LAZY_LOAD_ENABLED)) {
+            GenericSchemaBuilder.putLazyTables(result.getSchemas(), new GenericSchemaBuilderMaterial(protocolType, result.getResourceMetaData().getStorageUnits(),
+                    result.getRuleMetaData().getRules(), props, new DatabaseTypeRegistry(protocolType).getDefaultSchemaName(databaseName)));
+        }
+        return result;
     }
     
     /**
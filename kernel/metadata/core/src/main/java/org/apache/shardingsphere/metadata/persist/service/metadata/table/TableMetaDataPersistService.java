@@ -34,6 +34,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -73,32 +74,43 @@ public final class TableMetaDataPersistService {
     }
     
     /**
-     * Persist tables.
+     * Persist tables, tables whose content equals to the active version are skipped.
      *
      * @param databaseName to be persisted database name
      * @param schemaName to be persisted schema name
      * @param tables to be persisted tables
      */
     public void persist(final String databaseName, final String schemaName, final Map<String, ShardingSphereTable> tables) {
+        Map<String, String> activeVersions = repository.batchQuery(tables.keySet().stream()
+                .map(each -> TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, each.toLowerCase())).collect(Collectors.toList()));
+        Map<String, String> activeTableContents = repository.batchQuery(tables.keySet().stream().filter(each -> null != tables.get(each))
+                .map(each -> getActiveTableVersionNode(databaseName, schemaName, each.toLowerCase(), activeVersions)).filter(Objects::nonNull).collect(Collectors.toList()));
+        Map<String, String> persistedNodes = new LinkedHashMap<>(tables.size() << 1, 1F);
         Collection<MetaDataVersion> metaDataVersions = new LinkedList<>();
         for (Entry<String, ShardingSphereTable> entry : tables.entrySet()) {
             String tableName = entry.getKey().toLowerCase();
-            List<String> versions = repository.getChildrenKeys(TableMetaDataNode.getTableVersionsNode(databaseName, schemaName, tableName));
-            String nextActiveVersion = versions.isEmpty() ? MetaDataVersion.DEFAULT_VERSION : String.valueOf(Integer.parseInt(versions.get(0)) + 1);
-            if (null != entry.getValue()) {
-                repository.persist(TableMetaDataNode.getTableVersionNode(databaseName, schemaName, tableName, nextActiveVersion),
-                        YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(entry.getValue())));
+            String activeVersion = activeVersions.get(TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName));
+            String tableContent = null == entry.getValue() ? null : YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(entry.getValue()));
+            if (null != tableContent && tableContent.equals(activeTableContents.get(getActiveTableVersionNode(databaseName, schemaName, tableName, activeVersions)))) {
+                continue;
             }
-            if (Strings.isNullOrEmpty(getActiveVersion(databaseName, schemaName, tableName))) {
-                repository.persist(TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName), MetaDataVersion.DEFAULT_VERSION);
+            String nextActiveVersion = Strings.isNullOrEmpty(activeVersion) ? MetaDataVersion.DEFAULT_VERSION : String.valueOf(Integer.parseInt(activeVersion) + 1);
+            if (null != tableContent) {
+                persistedNodes.put(TableMetaDataNode.getTableVersionNode(databaseName, schemaName, tableName, nextActiveVersion), tableContent);
             }
-            metaDataVersions.add(new MetaDataVersion(TableMetaDataNode.getTableNode(databaseName, schemaName, tableName), getActiveVersion(databaseName, schemaName, tableName), nextActiveVersion));
+            if (Strings.isNullOrEmpty(activeVersion)) {
+                activeVersion = MetaDataVersion.DEFAULT_VERSION;
+                persistedNodes.put(TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName), activeVersion);
+            }
+            metaDataVersions.add(new MetaDataVersion(TableMetaDataNode.getTableNode(databaseName, schemaName, tableName), activeVersion, nextActiveVersion));
         }
+        repository.batchPersist(persistedNodes);
         metaDataVersionPersistService.switchActiveVersion(metaDataVersions);
     }
     
-    private String getActiveVersion(final String databaseName, final String schemaName, final String tableName) {
-        return repository.query(TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName));
+    private String getActiveTableVersionNode(final String databaseName, final String schemaName, final String tableName, final Map<String, String> activeVersions) {
+        String activeVersion = activeVersions.get(TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName));
+        return Strings.isNullOrEmpty(activeVersion) ? null : TableMetaDataNode.getTableVersionNode(databaseName, schemaName, tableName, activeVersion);
     }
     
     /**
@@ -23,6 +23,8 @@ import org.apache.shardingsphere.metadata.persist.node.DatabaseMetaDataNode;
 import org.apache.shardingsphere.mode.spi.PersistRepository;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Meta data version persist service.
@@ -34,13 +36,13 @@ public final class MetaDataVersionPersistService implements MetaDataVersionBased
     
     @Override
     public void switchActiveVersion(final Collection<MetaDataVersion> metaDataVersions) {
-        for (MetaDataVersion each : metaDataVersions) {
-            if (each.getNextActiveVersion().equals(each.getCurrentActiveVersion())) {
-                continue;
-            }
-            repository.persist(each.getActiveVersionNodePath(), each.getNextActiveVersion());
-            repository.delete(each.getVersionsNodePath());
+        Collection<MetaDataVersion> switchedMetaDataVersions = metaDataVersions.stream().filter(each -> !each.getNextActiveVersion().equals(each.getCurrentActiveVersion())).collect(Collectors.toList());
+        if (switchedMetaDataVersions.isEmpty()) {
+            return;
         }
+        repository.batchPersist(switchedMetaDataVersions.stream()
+                .collect(Collectors.toMap(MetaDataVersion::getActiveVersionNodePath, MetaDataVersion::getNextActiveVersion, (oldValue, currentValue) -> currentValue, LinkedHashMap::new)),
+                switchedMetaDataVersions.stream().map(MetaDataVersion::getVersionsNodePath).collect(Collectors.toList()));
     }
     
     @Override
@@ -28,15 +28,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.apache.shardingsphere.test.matcher.ShardingSphereArgumentVerifyMatchers.deepEq;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -69,23 +69,38 @@ class TableMetaDataPersistServiceTest {
     @Test
     void assertPersistWithoutVersion() {
         persistService.persist("foo_db", "foo_schema", Collections.singletonMap("foo_tbl", mock(ShardingSphereTable.class)));
-        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/0", "{}" + System.lineSeparator());
-        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version", "0");
+        Map<String, String> expectedPersistedNodes = new LinkedHashMap<>(2, 1F);
+        expectedPersistedNodes.put("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/0", "{}" + System.lineSeparator());
+        expectedPersistedNodes.put("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version", "0");
+        verify(repository).batchPersist(expectedPersistedNodes);
         verify(metaDataVersionPersistService).switchActiveVersion(
-                deepEq(Collections.singletonList(new MetaDataVersion("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl", null, "0"))));
+                deepEq(Collections.singletonList(new MetaDataVersion("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl", "0", "0"))));
     }
     
     @Test
     void assertPersistWithVersion() {
-        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions")).thenReturn(Collections.singletonList("10"));
-        when(repository.query("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version")).thenReturn("10");
+        when(repository.batchQuery(Collections.singletonList("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version")))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version", "10"));
+        when(repository.batchQuery(Collections.singletonList("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/10")))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/10", "{name: foo_tbl}"));
         persistService.persist("foo_db", "foo_schema", Collections.singletonMap("foo_tbl", mock(ShardingSphereTable.class)));
-        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/11", "{}" + System.lineSeparator());
-        verify(repository, times(0)).persist(eq("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version"), any());
+        verify(repository).batchPersist(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/11", "{}" + System.lineSeparator()));
         verify(metaDataVersionPersistService).switchActiveVersion(
                 deepEq(Collections.singletonList(new MetaDataVersion("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl", "10", "11"))));
     }
     
+    @Test
+    void assertPersistWithUnchangedTable() {
+        when(repository.batchQuery(Collections.singletonList("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version")))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version", "10"));
+        when(repository.batchQuery(Collections.singletonList("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/10")))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/10", "{}" + System.lineSeparator()));
+        persistService.persist("foo_db", "foo_schema", Collections.singletonMap("foo_tbl", mock(ShardingSphereTable.class)));
+        verify(repository, never()).getChildrenKeys(any());
+        verify(repository).batchPersist(Collections.emptyMap());
+        verify(metaDataVersionPersistService).switchActiveVersion(Collections.emptyList());
+    }
+    
     @Test
     void assertDropTable() {
         persistService.drop("foo_db", "foo_schema", "foo_tbl");
@@ -26,6 +26,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -48,8 +49,7 @@ class MetaDataVersionPersistServiceTest {
     @Test
     void assertSwitchActiveVersion() {
         persistService.switchActiveVersion(Arrays.asList(new MetaDataVersion("foo_db", "0", "1"), new MetaDataVersion("bar_db", "2", "2")));
-        verify(repository).persist("foo_db/active_version", "1");
-        verify(repository).delete("foo_db/versions/0");
+        verify(repository).batchPersist(Collections.singletonMap("foo_db/active_version", "1"), Collections.singletonList("foo_db/versions/0"));
     }
     
     @Test
@@ -23,6 +23,8 @@ import org.apache.shardingsphere.infra.rule.scope.GlobalRule;
 import org.apache.shardingsphere.sqlfederation.config.SQLFederationRuleConfiguration;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContextFactory;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationTableRowCounts;
+import org.apache.shardingsphere.sqlfederation.statistic.SQLFederationTableRowCountLoader;
 
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
@@ -31,20 +33,25 @@ import java.util.concurrent.atomic.AtomicReference;
  * SQL federation rule.
  */
 @Getter
-public final class SQLFederationRule implements GlobalRule {
+public final class SQLFederationRule implements GlobalRule, AutoCloseable {
     
     private final SQLFederationRuleConfiguration configuration;
     
+    private final SQLFederationTableRowCounts tableRowCounts = new SQLFederationTableRowCounts();
+    
+    private final SQLFederationTableRowCountLoader tableRowCountLoader = new SQLFederationTableRowCountLoader(tableRowCounts);
+    
     private final AtomicReference<OptimizerContext> optimizerContext;
     
     public SQLFederationRule(final SQLFederationRuleConfiguration ruleConfig, final Map<String, ShardingSphereDatabase> databases) {
         configuration = ruleConfig;
-        optimizerContext = new AtomicReference<>(OptimizerContextFactory.create(databases));
+        optimizerContext = new AtomicReference<>(OptimizerContextFactory.create(databases, tableRowCounts));
     }
     
     @Override
     public void refresh(final Map<String, ShardingSphereDatabase> databases, final GlobalRuleChangedType changedType) {
-        optimizerContext.set(OptimizerContextFactory.create(databases));
+        optimizerContext.set(OptimizerContextFactory.create(databases, tableRowCounts));
+        tableRowCountLoader.invalidateAll();
     }
     
     /**
@@ -55,4 +62,9 @@ public final class SQLFederationRule implements GlobalRule {
     public OptimizerContext getOptimizerContext() {
         return optimizerContext.get();
     }
+    
+    @Override
+    public void close() {
+        tableRowCountLoader.close();
+    }
 }
@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.statistic;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+import org.apache.shardingsphere.infra.metadata.statistics.collector.ShardingSphereStatisticsCollector;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationTableRowCounts;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * SQL federation table row count loader.
+ * 
+ * <p>Row counts of logic tables are aggregated from sharding table statistics, which are either collected by statistics collect job,
+ * or collected on demand from storage units in background and refreshed after refresh interval.
+ * Queries never wait for collecting, row counts are unknown until the first collecting finished.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class SQLFederationTableRowCountLoader implements AutoCloseable {
+    
+    private static final long DEFAULT_REFRESH_INTERVAL_MILLIS = 60000L;
+    
+    private static final String SHARDING_SPHERE_SCHEMA = "shardingsphere";
+    
+    private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
+    
+    private static final int LOGIC_DATABASE_NAME_INDEX = 1;
+    
+    private static final int LOGIC_TABLE_NAME_INDEX = 2;
+    
+    private static final int ROW_COUNT_INDEX = 5;
+    
+    private final Map<String, Long> collectedMillis = new ConcurrentHashMap<>();
+    
+    private final Set<String> collectingDatabaseNames = ConcurrentHashMap.newKeySet();
+    
+    private volatile IndexedStatistics indexedStatistics;
+    
+    private final SQLFederationTableRowCounts tableRowCounts;
+    
+    private final long refreshIntervalMillis;
+    
+    private final ExecutorService collectExecutor;
+    
+    public SQLFederationTableRowCountLoader(final SQLFederationTableRowCounts tableRowCounts) {
+        this(tableRowCounts, DEFAULT_REFRESH_INTERVAL_MILLIS, Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("SQLFederation-RowCount-%d")));
+    }
+    
+    /**
+     * Refresh row counts of logic tables if they are expired.
+     *
+     * @param databaseName database name
+     * @param metaData meta data
+     * @param statistics statistics
+     */
+    public void refresh(final String databaseName, final ShardingSphereMetaData metaData, final ShardingSphereStatistics statistics) {
+        long currentMillis = System.currentTimeMillis();
+        if (refreshFromStatistics(databaseName, statistics, currentMillis)) {
+            return;
+        }
+        String cacheKey = databaseName.toLowerCase();
+        Long lastCollectedMillis = collectedMillis.get(cacheKey);
+        if (null == lastCollectedMillis || currentMillis - lastCollectedMillis >= refreshIntervalMillis) {
+            collectAsync(cacheKey, databaseName, metaData);
+        }
+    }
+    
+    private boolean refreshFromStatistics(final String databaseName, final ShardingSphereStatistics statistics, final long currentMillis) {
+        if (null == statistics) {
+            return false;
+        }
+        IndexedStatistics indexed = indexedStatistics;
+        if (null == indexed || indexed.statistics != statistics || currentMillis - indexed.indexedMillis >= refreshIntervalMillis) {
+            indexed = new IndexedStatistics(statistics, indexRowCounts(statistics), currentMillis);
+            indexedStatistics = indexed;
+            indexed.rowCounts.forEach(tableRowCounts::put);
+        }
+        return indexed.rowCounts.containsKey(databaseName);
+    }
+    
+    private Map<String, Map<String, Long>> indexRowCounts(final ShardingSphereStatistics statistics) {
+        Map<String, Map<String, Long>> result = new CaseInsensitiveMap<>();
+        for (ShardingSphereDatabaseData each : statistics.getDatabaseData().values()) {
+            ShardingSphereSchemaData schemaData = each.getSchema(SHARDING_SPHERE_SCHEMA);
+            ShardingSphereTableData tableData = null == schemaData ? null : schemaData.getTable(SHARDING_TABLE_STATISTICS);
+            if (null != tableData) {
+                indexRowCounts(tableData.getRows(), result);
+            }
+        }
+        return result;
+    }
+    
+    private void indexRowCounts(final Collection<ShardingSphereRowData> rows, final Map<String, Map<String, Long>> rowCounts) {
+        for (ShardingSphereRowData each : rows) {
+            List<Object> row = each.getRows();
+            if (row.size() > ROW_COUNT_INDEX) {
+                toRowCount(row.get(ROW_COUNT_INDEX)).ifPresent(optional -> rowCounts.computeIfAbsent(String.valueOf(row.get(LOGIC_DATABASE_NAME_INDEX)), key -> new CaseInsensitiveMap<>())
+                        .merge(String.valueOf(row.get(LOGIC_TABLE_NAME_INDEX)), optional, Long::sum));
+            }
+        }
+    }
+    
+    private void collectAsync(final String cacheKey, final String databaseName, final ShardingSphereMetaData metaData) {
+        if (!collectingDatabaseNames.add(cacheKey)) {
+            return;
+        }
+        try {
+            collectExecutor.execute(() -> {
+                try {
+                    Map<String, Long> rowCounts = collect(databaseName, metaData);
+                    collectedMillis.put(cacheKey, System.currentTimeMillis());
+                    IndexedStatistics indexed = indexedStatistics;
+                    if (null == indexed || !indexed.rowCounts.containsKey(databaseName)) {
+                        tableRowCounts.put(databaseName, rowCounts);
+                    }
+                } finally {
+                    collectingDatabaseNames.remove(cacheKey);
+                }
+            });
+        } catch (final RejectedExecutionException ex) {
+            collectingDatabaseNames.remove(cacheKey);
+            log.warn("Collect table row counts of database `{}` is rejected.", databaseName, ex);
+        }
+    }
+    
+    private Map<String, Long> collect(final String databaseName, final ShardingSphereMetaData metaData) {
+        Optional<ShardingSphereStatisticsCollector> collector = TypedSPILoader.findService(ShardingSphereStatisticsCollector.class, SHARDING_TABLE_STATISTICS);
+        if (!collector.isPresent()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Map<String, Long>> result = new CaseInsensitiveMap<>();
+        try {
+            Optional<ShardingSphereTableData> tableData = collector.get().collect(databaseName, new ShardingSphereTable(), metaData.getDatabases(), metaData.getGlobalRuleMetaData());
+            tableData.ifPresent(optional -> indexRowCounts(optional.getRows(), result));
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.warn("Collect table row counts of database `{}` failed.", databaseName, ex);
+        }
+        return result.getOrDefault(databaseName, Collections.emptyMap());
+    }
+    
+    private Optional<Long> toRowCount(final Object value) {
+        if (value instanceof Number) {
+            return Optional.of(((Number) value).longValue());
+        }
+        if (null == value) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new BigDecimal(value.toString()).longValue());
+        } catch (final NumberFormatException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Invalidate all row counts.
+     */
+    public void invalidateAll() {
+        tableRowCounts.clear();
+        collectedMillis.clear();
+        indexedStatistics = null;
+    }
+    
+    @Override
+    public void close() {
+        collectExecutor.shutdownNow();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class IndexedStatistics {
+        
+        private final ShardingSphereStatistics statistics;
+        
+        private final Map<String, Map<String, Long>> rowCounts;
+        
+        private final long indexedMillis;
+    }
+}
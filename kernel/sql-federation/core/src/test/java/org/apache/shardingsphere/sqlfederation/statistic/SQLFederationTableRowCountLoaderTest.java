@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.statistic;
+
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationTableRowCounts;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class SQLFederationTableRowCountLoaderTest {
+    
+    @Test
+    void assertRefreshFromStatistics() {
+        SQLFederationTableRowCounts tableRowCounts = new SQLFederationTableRowCounts();
+        ExecutorService collectExecutor = mock(ExecutorService.class);
+        new SQLFederationTableRowCountLoader(tableRowCounts, 60000L, collectExecutor).refresh("foo_db", mock(ShardingSphereMetaData.class), createStatistics());
+        assertThat(tableRowCounts.find("foo_db", "t_order"), is(100000000L));
+        assertThat(tableRowCounts.find("foo_db", "T_DICT"), is(1L));
+        assertThat(tableRowCounts.find("other_db", "t_order"), is(10L));
+        verify(collectExecutor, never()).execute(any());
+    }
+    
+    @Test
+    void assertRefreshWithoutStatistics() {
+        SQLFederationTableRowCounts tableRowCounts = new SQLFederationTableRowCounts();
+        ExecutorService collectExecutor = mock(ExecutorService.class);
+        SQLFederationTableRowCountLoader loader = new SQLFederationTableRowCountLoader(tableRowCounts, 60000L, collectExecutor);
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
+        loader.refresh("bar_db", metaData, createStatistics());
+        loader.refresh("bar_db", metaData, createStatistics());
+        ArgumentCaptor<Runnable> collectTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(collectExecutor).execute(collectTask.capture());
+        collectTask.getValue().run();
+        assertNull(tableRowCounts.find("bar_db", "t_order"));
+        loader.refresh("bar_db", metaData, createStatistics());
+        verify(collectExecutor).execute(any());
+    }
+    
+    @Test
+    void assertClose() {
+        ExecutorService collectExecutor = mock(ExecutorService.class);
+        new SQLFederationTableRowCountLoader(new SQLFederationTableRowCounts(), 60000L, collectExecutor).close();
+        verify(collectExecutor).shutdownNow();
+    }
+    
+    private ShardingSphereStatistics createStatistics() {
+        ShardingSphereTableData tableData = new ShardingSphereTableData("sharding_table_statistics");
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "foo_db", "t_order", "ds_0", "t_order_0", new BigDecimal("60000000"), BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(2, "foo_db", "t_order", "ds_1", "t_order_1", "40000000", BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(3, "foo_db", "t_dict", "ds_0", "t_dict", BigDecimal.ONE, BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(4, "other_db", "t_order", "ds_2", "t_order_0", BigDecimal.TEN, BigDecimal.ZERO)));
+        ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
+        schemaData.putTable("sharding_table_statistics", tableData);
+        ShardingSphereDatabaseData databaseData = new ShardingSphereDatabaseData();
+        databaseData.putSchema("shardingsphere", schemaData);
+        ShardingSphereStatistics result = new ShardingSphereStatistics();
+        result.putDatabase("shardingsphere", databaseData);
+        return result;
+    }
+}
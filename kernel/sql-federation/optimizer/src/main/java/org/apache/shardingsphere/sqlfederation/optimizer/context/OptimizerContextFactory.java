@@ -28,6 +28,7 @@ import org.apache.shardingsphere.sqlfederation.optimizer.context.parser.Optimize
 import org.apache.shardingsphere.sqlfederation.optimizer.context.parser.OptimizerParserContextFactory;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.planner.OptimizerMetaData;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.planner.OptimizerMetaDataFactory;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationTableRowCounts;
 
 import java.util.Map;
 import java.util.Properties;
@@ -45,10 +46,21 @@ public final class OptimizerContextFactory {
      * @return created optimizer context
      */
     public static OptimizerContext create(final Map<String, ShardingSphereDatabase> databases) {
+        return create(databases, new SQLFederationTableRowCounts());
+    }
+    
+    /**
+     * Create optimize context.
+     *
+     * @param databases databases
+     * @param tableRowCounts table row counts
+     * @return created optimizer context
+     */
+    public static OptimizerContext create(final Map<String, ShardingSphereDatabase> databases, final SQLFederationTableRowCounts tableRowCounts) {
         Map<String, OptimizerParserContext> parserContexts = OptimizerParserContextFactory.create(databases);
         // TODO consider to use sqlParserRule in global rule
         SQLParserRule sqlParserRule = new SQLParserRuleBuilder().build(new DefaultSQLParserRuleConfigurationBuilder().build(), databases, new ConfigurationProperties(new Properties()));
-        Map<String, OptimizerMetaData> optimizerMetaData = OptimizerMetaDataFactory.create(databases);
+        Map<String, OptimizerMetaData> optimizerMetaData = OptimizerMetaDataFactory.create(databases, tableRowCounts);
         return new OptimizerContext(sqlParserRule, parserContexts, optimizerMetaData);
     }
 }
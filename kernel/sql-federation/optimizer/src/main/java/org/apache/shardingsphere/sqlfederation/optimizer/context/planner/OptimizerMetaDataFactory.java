@@ -26,6 +26,7 @@ import org.apache.calcite.schema.Schema;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationSchema;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationTableRowCounts;
 
 import java.util.Map;
 import java.util.Map.Entry;
@@ -42,12 +43,13 @@ public final class OptimizerMetaDataFactory {
      * Create optimizer meta data map.
      *
      * @param databases databases
+     * @param tableRowCounts table row counts
      * @return created optimizer planner context map
      */
-    public static Map<String, OptimizerMetaData> create(final Map<String, ShardingSphereDatabase> databases) {
+    public static Map<String, OptimizerMetaData> create(final Map<String, ShardingSphereDatabase> databases, final SQLFederationTableRowCounts tableRowCounts) {
         Map<String, OptimizerMetaData> result = new CaseInsensitiveMap<>(databases.size(), 1F);
         for (Entry<String, ShardingSphereDatabase> entry : databases.entrySet()) {
-            result.put(entry.getKey(), create(entry.getValue()));
+            result.put(entry.getKey(), create(entry.getValue(), tableRowCounts));
         }
         return result;
     }
@@ -56,12 +58,13 @@ public final class OptimizerMetaDataFactory {
      * Create optimizer meta data.
      *
      * @param database database
+     * @param tableRowCounts table row counts
      * @return created optimizer planner context
      */
-    public static OptimizerMetaData create(final ShardingSphereDatabase database) {
+    public static OptimizerMetaData create(final ShardingSphereDatabase database, final SQLFederationTableRowCounts tableRowCounts) {
         Map<String, Schema> schemas = new CaseInsensitiveMap<>();
         for (Entry<String, ShardingSphereSchema> entry : database.getSchemas().entrySet()) {
-            Schema sqlFederationSchema = new SQLFederationSchema(entry.getKey(), entry.getValue(), database.getProtocolType(), DEFAULT_DATA_TYPE_FACTORY);
+            Schema sqlFederationSchema = new SQLFederationSchema(entry.getKey(), entry.getValue(), database, DEFAULT_DATA_TYPE_FACTORY, tableRowCounts);
             schemas.put(entry.getKey(), sqlFederationSchema);
         }
         return new OptimizerMetaData(schemas);
@@ -25,47 +25,111 @@ import org.apache.calcite.rel.type.RelDataTypeImpl;
 import org.apache.calcite.schema.Table;
 import org.apache.calcite.schema.impl.AbstractSchema;
 import org.apache.calcite.schema.impl.ViewTable;
+import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.ShardingColumnRuleAttribute;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.util.SQLFederationDataTypeUtils;
 import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationTableRowCounts;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * SQL federation schema.
+ *
+ * <p>Lazy tables of ShardingSphere schema are added after they are loaded.</p>
  */
-@Getter
 public final class SQLFederationSchema extends AbstractSchema {
     
+    @Getter
     private final String name;
     
+    private final ShardingSphereSchema schema;
+    
+    private final DatabaseType protocolType;
+    
+    private final JavaTypeFactory javaTypeFactory;
+    
+    private final String databaseName;
+    
+    private final Collection<ShardingColumnRuleAttribute> shardingColumnRuleAttributes;
+    
+    private final SQLFederationTableRowCounts tableRowCounts;
+    
     private final Map<String, Table> tableMap;
     
     public SQLFederationSchema(final String schemaName, final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
+        this(schemaName, schema, protocolType, javaTypeFactory, DefaultDatabase.LOGIC_NAME, Collections.emptyList(), new SQLFederationTableRowCounts());
+    }
+    
+    public SQLFederationSchema(final String schemaName, final ShardingSphereSchema schema, final ShardingSphereDatabase database, final JavaTypeFactory javaTypeFactory,
+                               final SQLFederationTableRowCounts tableRowCounts) {
+        this(schemaName, schema, database.getProtocolType(), javaTypeFactory, database.getName(), database.getRuleMetaData().getAttributes(ShardingColumnRuleAttribute.class), tableRowCounts);
+    }
+    
+    private SQLFederationSchema(final String schemaName, final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory,
+                                final String databaseName, final Collection<ShardingColumnRuleAttribute> shardingColumnRuleAttributes, final SQLFederationTableRowCounts tableRowCounts) {
         name = schemaName;
-        tableMap = createTableMap(schema, protocolType, javaTypeFactory);
+        this.schema = schema;
+        this.protocolType = protocolType;
+        this.javaTypeFactory = javaTypeFactory;
+        this.databaseName = databaseName;
+        this.shardingColumnRuleAttributes = shardingColumnRuleAttributes;
+        this.tableRowCounts = tableRowCounts;
+        tableMap = createTableMap();
     }
     
-    private Map<String, Table> createTableMap(final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
-        Map<String, Table> result = new CaseInsensitiveMap<>(schema.getTables().size(), 1F);
+    private Map<String, Table> createTableMap() {
+        Map<String, Table> result = new CaseInsensitiveMap<>(Collections.emptyMap(), new ConcurrentHashMap<>(schema.getTables().size(), 1F));
         for (ShardingSphereTable each : schema.getTables().values()) {
-            if (schema.containsView(each.getName())) {
-                result.put(each.getName(), getViewTable(schema, each, protocolType, javaTypeFactory));
-            } else {
-                // TODO implement table statistic logic after using custom operators
-                result.put(each.getName(), new SQLFederationTable(each, new SQLFederationStatistic(), protocolType));
-            }
+            result.put(each.getName(), createTable(each));
         }
         return result;
     }
     
-    private ViewTable getViewTable(final ShardingSphereSchema schema, final ShardingSphereTable table, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
+    private Table createTable(final ShardingSphereTable table) {
+        return schema.containsView(table.getName())
+                ? getViewTable(table)
+                : new SQLFederationTable(table, new SQLFederationStatistic(databaseName, table, findShardingColumnNames(table.getName()), tableRowCounts), protocolType);
+    }
+    
+    private Collection<String> findShardingColumnNames(final String tableName) {
+        for (ShardingColumnRuleAttribute each : shardingColumnRuleAttributes) {
+            Optional<Collection<String>> result = each.findShardingColumns(tableName);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        return null;
+    }
+    
+    private ViewTable getViewTable(final ShardingSphereTable table) {
         RelDataType relDataType = SQLFederationDataTypeUtils.createRelDataType(table, protocolType, javaTypeFactory);
         ShardingSphereView view = schema.getView(table.getName());
         return new ViewTable(javaTypeFactory.getJavaClass(relDataType), RelDataTypeImpl.proto(relDataType), view.getViewDefinition(), Collections.emptyList(), Collections.emptyList());
     }
+    
+    @Override
+    public Map<String, Table> getTableMap() {
+        if (tableMap.size() < schema.getTables().size()) {
+            putLoadedLazyTables();
+        }
+        return tableMap;
+    }
+    
+    private synchronized void putLoadedLazyTables() {
+        for (ShardingSphereTable each : schema.getTables().values()) {
+            if (!tableMap.containsKey(each.getName())) {
+                tableMap.put(each.getName(), createTable(each));
+            }
+        }
+    }
 }
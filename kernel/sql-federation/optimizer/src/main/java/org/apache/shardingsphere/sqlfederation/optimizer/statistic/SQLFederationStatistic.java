@@ -22,15 +22,114 @@ import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelDistributionTraitDef;
 import org.apache.calcite.rel.RelReferentialConstraint;
 import org.apache.calcite.schema.Statistic;
+import com.cedarsoftware.util.CaseInsensitiveSet;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 
 /**
  * SQL federation statistic.
  */
 public final class SQLFederationStatistic implements Statistic {
     
+    private final String databaseName;
+    
+    private final String tableName;
+    
+    private final List<ImmutableBitSet> keys;
+    
+    private final SQLFederationTableRowCounts tableRowCounts;
+    
+    public SQLFederationStatistic(final String databaseName, final ShardingSphereTable table, final Collection<String> shardingColumnNames, final SQLFederationTableRowCounts tableRowCounts) {
+        this.databaseName = databaseName;
+        tableName = table.getName();
+        keys = createKeys(table, shardingColumnNames);
+        this.tableRowCounts = tableRowCounts;
+    }
+    
+    /**
+     * Create keys of table.
+     * 
+     * <p>Primary key and unique indexes are only unique on each data node of sharded table,
+     * so they are keys of the logic table only if they cover sharding columns.</p>
+     *
+     * @param table table
+     * @param shardingColumnNames sharding column names, null if table is not sharded
+     * @return keys
+     */
+    private List<ImmutableBitSet> createKeys(final ShardingSphereTable table, final Collection<String> shardingColumnNames) {
+        Map<String, Integer> columnOrdinals = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        int ordinal = 0;
+        for (ShardingSphereColumn each : table.getColumnValues()) {
+            columnOrdinals.put(each.getName(), ordinal++);
+        }
+        List<ImmutableBitSet> result = new ArrayList<>();
+        if (isGlobalUniqueKey(table.getPrimaryKeyColumns(), shardingColumnNames)) {
+            createKey(table.getPrimaryKeyColumns(), columnOrdinals).ifPresent(result::add);
+        }
+        for (ShardingSphereIndex each : table.getIndexValues()) {
+            if (each.isUnique() && isGlobalUniqueKey(each.getColumns(), shardingColumnNames)) {
+                createKey(each.getColumns(), columnOrdinals).filter(optional -> !result.contains(optional)).ifPresent(result::add);
+            }
+        }
+        return result;
+    }
+    
+    private boolean isGlobalUniqueKey(final Collection<String> keyColumnNames, final Collection<String> shardingColumnNames) {
+        return null == shardingColumnNames || !shardingColumnNames.isEmpty() && new CaseInsensitiveSet<>(keyColumnNames).containsAll(shardingColumnNames);
+    }
+    
+    private Optional<ImmutableBitSet> createKey(final Collection<String> columnNames, final Map<String, Integer> columnOrdinals) {
+        if (columnNames.isEmpty()) {
+            return Optional.empty();
+        }
+        ImmutableBitSet.Builder result = ImmutableBitSet.builder();
+        for (String each : columnNames) {
+            Integer ordinal = columnOrdinals.get(each);
+            if (null == ordinal) {
+                return Optional.empty();
+            }
+            result.set(ordinal);
+        }
+        return Optional.of(result.build());
+    }
+    
+    /**
+     * Get row count.
+     * 
+     * <p>Absent or zero row count is treated as unknown, because statistics of storage units report zero before they are analyzed.</p>
+     *
+     * @return row count, null if unknown
+     */
+    @Override
+    public Double getRowCount() {
+        Long result = tableRowCounts.find(databaseName, tableName);
+        return null == result || result <= 0L ? null : result.doubleValue();
+    }
+    
+    @Override
+    public boolean isKey(final ImmutableBitSet columns) {
+        for (ImmutableBitSet each : keys) {
+            if (columns.contains(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public List<ImmutableBitSet> getKeys() {
+        return keys;
+    }
+    
     @Override
     public List<RelReferentialConstraint> getReferentialConstraints() {
         return new ArrayList<>();
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL federation table row counts.
+ * 
+ * <p>Row counts are shared by statistics of SQL federation tables, so that refreshing them does not change SQL federation schemas.</p>
+ */
+public final class SQLFederationTableRowCounts {
+    
+    private final Map<String, Map<String, Long>> rowCounts = new ConcurrentHashMap<>();
+    
+    /**
+     * Put row counts of database.
+     *
+     * @param databaseName database name
+     * @param tableRowCounts row counts, key is logic table name
+     */
+    public void put(final String databaseName, final Map<String, Long> tableRowCounts) {
+        rowCounts.put(databaseName.toLowerCase(), tableRowCounts);
+    }
+    
+    /**
+     * Find row count of table.
+     *
+     * @param databaseName database name
+     * @param tableName table name
+     * @return row count, null if absent
+     */
+    public Long find(final String databaseName, final String tableName) {
+        return rowCounts.getOrDefault(databaseName.toLowerCase(), Collections.emptyMap()).get(tableName);
+    }
+    
+    /**
+     * Clear row counts.
+     */
+    public void clear() {
+        rowCounts.clear();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLFederationStatisticTest {
+    
+    @Test
+    void assertGetKeys() {
+        SQLFederationStatistic actual = new SQLFederationStatistic("foo_db", createTable(), null, new SQLFederationTableRowCounts());
+        assertThat(actual.getKeys(), is(Arrays.asList(ImmutableBitSet.of(0), ImmutableBitSet.of(1, 2))));
+    }
+    
+    @Test
+    void assertGetKeysWithShardingColumns() {
+        SQLFederationStatistic actual = new SQLFederationStatistic("foo_db", createTable(), Collections.singleton("USER_ID"), new SQLFederationTableRowCounts());
+        assertThat(actual.getKeys(), is(Collections.singletonList(ImmutableBitSet.of(1, 2))));
+    }
+    
+    @Test
+    void assertGetKeysWithoutShardingColumns() {
+        SQLFederationStatistic actual = new SQLFederationStatistic("foo_db", createTable(), Collections.emptyList(), new SQLFederationTableRowCounts());
+        assertTrue(actual.getKeys().isEmpty());
+    }
+    
+    @Test
+    void assertIsKey() {
+        SQLFederationStatistic actual = new SQLFederationStatistic("foo_db", createTable(), null, new SQLFederationTableRowCounts());
+        assertThat(actual.isKey(ImmutableBitSet.of(0)), is(true));
+        assertThat(actual.isKey(ImmutableBitSet.of(0, 3)), is(true));
+        assertThat(actual.isKey(ImmutableBitSet.of(1, 2)), is(true));
+        assertThat(actual.isKey(ImmutableBitSet.of(1)), is(false));
+        assertThat(actual.isKey(ImmutableBitSet.of(3)), is(false));
+    }
+    
+    @Test
+    void assertGetRowCount() {
+        SQLFederationTableRowCounts tableRowCounts = new SQLFederationTableRowCounts();
+        SQLFederationStatistic actual = new SQLFederationStatistic("foo_db", createTable(), null, tableRowCounts);
+        assertThat(actual.getRowCount(), nullValue());
+        tableRowCounts.put("FOO_DB", Collections.singletonMap("t_order", 100000000L));
+        assertThat(actual.getRowCount(), is(100000000D));
+    }
+    
+    @Test
+    void assertGetRowCountWithZeroRowCount() {
+        SQLFederationTableRowCounts tableRowCounts = new SQLFederationTableRowCounts();
+        tableRowCounts.put("foo_db", Collections.singletonMap("t_order", 0L));
+        assertThat(new SQLFederationStatistic("foo_db", createTable(), null, tableRowCounts).getRowCount(), nullValue());
+    }
+    
+    private ShardingSphereTable createTable() {
+        ShardingSphereIndex uniqueIndex = new ShardingSphereIndex("uk_user_name");
+        uniqueIndex.getColumns().addAll(Arrays.asList("user_id", "name"));
+        uniqueIndex.setUnique(true);
+        ShardingSphereIndex index = new ShardingSphereIndex("idx_status");
+        index.getColumns().add("status");
+        return new ShardingSphereTable("t_order", Arrays.asList(
+                new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true, false, false),
+                new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false, false),
+                new ShardingSphereColumn("name", Types.VARCHAR, false, false, false, true, false, true),
+                new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, true)), Arrays.asList(uniqueIndex, index), Collections.emptyList());
+    }
+}
@@ -52,4 +52,15 @@ public final class SQLParserRule implements GlobalRule {
     public SQLParserEngine getSQLParserEngine(final DatabaseType databaseType) {
         return new ShardingSphereSQLParserEngine(databaseType, sqlStatementCache, parseTreeCache);
     }
+    
+    /**
+     * Get SQL parser engine which records SQL statement cache statistics of database.
+     *
+     * @param databaseType database type
+     * @param databaseName database name
+     * @return SQL parser engine
+     */
+    public SQLParserEngine getSQLParserEngine(final DatabaseType databaseType, final String databaseName) {
+        return new ShardingSphereSQLParserEngine(databaseType, sqlStatementCache, parseTreeCache, databaseName);
+    }
 }
@@ -31,4 +31,8 @@ public final class YamlSQLParserCacheOptionRuleConfiguration implements YamlConf
     private int initialCapacity;
     
     private long maximumSize;
+    
+    private long maximumBytes;
+    
+    private int allowedMaxSqlLength;
 }
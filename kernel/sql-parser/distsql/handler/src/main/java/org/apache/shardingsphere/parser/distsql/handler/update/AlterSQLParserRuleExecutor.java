@@ -47,7 +47,9 @@ public final class AlterSQLParserRuleExecutor implements GlobalRuleDefinitionExe
     private CacheOption createCacheOption(final CacheOption cacheOption, final CacheOptionSegment segment) {
         int initialCapacity = null == segment.getInitialCapacity() ? cacheOption.getInitialCapacity() : segment.getInitialCapacity();
         long maximumSize = null == segment.getMaximumSize() ? cacheOption.getMaximumSize() : segment.getMaximumSize();
-        return new CacheOption(initialCapacity, maximumSize);
+        long maximumBytes = null == segment.getMaximumBytes() ? cacheOption.getMaximumBytes() : segment.getMaximumBytes();
+        int allowedMaxSqlLength = null == segment.getAllowedMaxSqlLength() ? cacheOption.getAllowedMaxSqlLength() : segment.getAllowedMaxSqlLength();
+        return new CacheOption(initialCapacity, maximumSize, maximumBytes, allowedMaxSqlLength);
     }
     
     @Override
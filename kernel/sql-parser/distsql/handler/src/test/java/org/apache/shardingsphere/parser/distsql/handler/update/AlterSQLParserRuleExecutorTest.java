@@ -58,6 +58,10 @@ class AlterSQLParserRuleExecutorTest extends GlobalRuleDefinitionExecutorTest {
                     new DefaultSQLParserRuleConfigurationBuilder().build(),
                     new AlterSQLParserRuleStatement(new CacheOptionSegment(64, 512L), new CacheOptionSegment(1000, 1000L)),
                     new SQLParserRuleConfiguration(new CacheOption(64, 512L), new CacheOption(1000, 1000L))),
+                    Arguments.arguments("withMemoryWeightedCacheOption",
+                            new DefaultSQLParserRuleConfigurationBuilder().build(),
+                            new AlterSQLParserRuleStatement(new CacheOptionSegment(null, null, 1048576L, null), new CacheOptionSegment(null, null, 67108864L, 4096)),
+                            new SQLParserRuleConfiguration(new CacheOption(128, 1024L, 1048576L, 0), new CacheOption(2000, 65535L, 67108864L, 4096))),
                     Arguments.arguments("withNullStatement",
                             new DefaultSQLParserRuleConfigurationBuilder().build(),
                             new AlterSQLParserRuleStatement(null, null),
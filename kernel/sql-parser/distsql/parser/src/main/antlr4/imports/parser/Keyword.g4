@@ -55,6 +55,14 @@ MAXIMUM_SIZE
     : M A X I M U M UL_ S I Z E
     ;
 
+MAXIMUM_BYTES
+    : M A X I M U M UL_ B Y T E S
+    ;
+
+ALLOWED_MAX_SQL_LENGTH
+    : A L L O W E D UL_ M A X UL_ S Q L UL_ L E N G T H
+    ;
+
 TRUE
     : T R U E
     ;
@@ -40,7 +40,7 @@ sqlStatementCacheDefinition
     ;
 
 cacheOption
-    : (INITIAL_CAPACITY EQ_ initialCapacity)? (COMMA_? MAXIMUM_SIZE EQ_ maximumSize)?
+    : (INITIAL_CAPACITY EQ_ initialCapacity)? (COMMA_? MAXIMUM_SIZE EQ_ maximumSize)? (COMMA_? MAXIMUM_BYTES EQ_ maximumBytes)? (COMMA_? ALLOWED_MAX_SQL_LENGTH EQ_ allowedMaxSqlLength)?
     ;
 
 initialCapacity
@@ -50,3 +50,11 @@ initialCapacity
 maximumSize
     : INT_
     ;
+
+maximumBytes
+    : INT_
+    ;
+
+allowedMaxSqlLength
+    : INT_
+    ;
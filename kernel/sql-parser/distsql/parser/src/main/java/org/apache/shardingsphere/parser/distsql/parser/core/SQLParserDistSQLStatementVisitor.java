@@ -56,7 +56,9 @@ public final class SQLParserDistSQLStatementVisitor extends SQLParserDistSQLStat
     public CacheOptionSegment visitCacheOption(final CacheOptionContext ctx) {
         return new CacheOptionSegment(
                 null == ctx.initialCapacity() ? null : Integer.parseInt(getIdentifierValue(ctx.initialCapacity())),
-                null == ctx.maximumSize() ? null : Long.parseLong(getIdentifierValue(ctx.maximumSize())));
+                null == ctx.maximumSize() ? null : Long.parseLong(getIdentifierValue(ctx.maximumSize())),
+                null == ctx.maximumBytes() ? null : Long.parseLong(getIdentifierValue(ctx.maximumBytes())),
+                null == ctx.allowedMaxSqlLength() ? null : Integer.parseInt(getIdentifierValue(ctx.allowedMaxSqlLength())));
     }
     
     private String getIdentifierValue(final ParseTree context) {
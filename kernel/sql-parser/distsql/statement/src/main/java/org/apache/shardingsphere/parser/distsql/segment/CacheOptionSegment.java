@@ -31,4 +31,12 @@ public final class CacheOptionSegment implements DistSQLSegment {
     private final Integer initialCapacity;
     
     private final Long maximumSize;
+    
+    private final Long maximumBytes;
+    
+    private final Integer allowedMaxSqlLength;
+    
+    public CacheOptionSegment(final Integer initialCapacity, final Long maximumSize) {
+        this(initialCapacity, maximumSize, null, null);
+    }
 }
@@ -19,7 +19,11 @@ package org.apache.shardingsphere.mode.spi;
 
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPI;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Persist repository.
@@ -39,6 +43,23 @@ public interface PersistRepository extends TypedSPI, AutoCloseable {
      */
     String query(String key);
     
+    /**
+     * Query data in batch.
+     *
+     * @param keys keys to be queried
+     * @return queried data of existed keys
+     */
+    default Map<String, String> batchQuery(Collection<String> keys) {
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        for (String each : keys) {
+            String value = query(each);
+            if (null != value) {
+                result.put(each, value);
+            }
+        }
+        return result;
+    }
+    
     /**
      * Get names of sub-node.
      *
@@ -63,6 +84,26 @@ public interface PersistRepository extends TypedSPI, AutoCloseable {
      */
     void persist(String key, String value);
     
+    /**
+     * Persist data in batch.
+     *
+     * @param keyValues keys and values of data
+     */
+    default void batchPersist(Map<String, String> keyValues) {
+        batchPersist(keyValues, Collections.emptyList());
+    }
+    
+    /**
+     * Persist and delete data in batch.
+     *
+     * @param keyValues keys and values of data to be persisted
+     * @param deletedKeys keys of data to be deleted
+     */
+    default void batchPersist(Map<String, String> keyValues, Collection<String> deletedKeys) {
+        keyValues.forEach(this::persist);
+        deletedKeys.forEach(this::delete);
+    }
+    
     /**
      * Persist ephemeral data.
      *
@@ -39,6 +39,7 @@ import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaDa
 import org.apache.shardingsphere.infra.metadata.database.resource.node.StorageNode;
 import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
@@ -127,6 +128,7 @@ public final class MetaDataContextsFactory {
         Map<String, ShardingSphereDatabase> databases = InternalMetaDataFactory.create(persistService, effectiveDatabaseConfigs, props, computeNodeInstanceContext);
         MetaDataContexts result = newMetaDataContexts(persistService, param, globalRuleConfigs, databases, props);
         restoreRules(result, computeNodeInstanceContext);
+        persistLazyTablesAfterLoaded(result, persistService);
         return result;
     }
     
@@ -239,11 +241,12 @@ public final class MetaDataContextsFactory {
     
     private static void persistMetaData(final MetaDataContexts metaDataContexts, final MetaDataPersistService persistService) {
         metaDataContexts.getMetaData().getDatabases().values().forEach(each -> each.getSchemas().forEach((schemaName, schema) -> {
-            if (schema.isEmpty()) {
+            if (schema.getTables().isEmpty()) {
                 persistService.getDatabaseMetaDataFacade().getSchema().add(each.getName(), schemaName);
             }
             persistService.getDatabaseMetaDataFacade().getTable().persist(each.getName(), schemaName, schema.getTables());
         }));
+        persistLazyTablesAfterLoaded(metaDataContexts, persistService);
         for (Entry<String, ShardingSphereDatabaseData> databaseDataEntry : metaDataContexts.getStatistics().getDatabaseData().entrySet()) {
             for (Entry<String, ShardingSphereSchemaData> schemaDataEntry : databaseDataEntry.getValue().getSchemaData().entrySet()) {
                 persistService.getShardingSphereDataPersistService().persist(
@@ -252,6 +255,18 @@ public final class MetaDataContextsFactory {
         }
     }
     
+    private static void persistLazyTablesAfterLoaded(final MetaDataContexts metaDataContexts, final MetaDataPersistService persistService) {
+        for (ShardingSphereDatabase each : metaDataContexts.getMetaData().getDatabases().values()) {
+            each.getSchemas().forEach((schemaName, schema) -> schema.getLazyTables().forEach((tableName, loader) -> schema.putLazyTable(tableName, () -> {
+                ShardingSphereTable result = loader.get();
+                if (null != result) {
+                    persistService.getDatabaseMetaDataFacade().getTable().persist(each.getName(), schemaName, Collections.singletonMap(result.getName(), result));
+                }
+                return result;
+            })));
+        }
+    }
+    
     /**
      * Create meta data contexts by switch resource.
      *
@@ -321,8 +336,9 @@ public final class MetaDataContextsFactory {
                 ? originalMetaDataContext.getMetaData().getDatabase(databaseName).getRuleMetaData().getConfigurations()
                 : ruleConfigs;
         DatabaseConfiguration toBeCreatedDatabaseConfig = getDatabaseConfiguration(effectiveResourceMetaData, switchingResource, toBeCreatedRuleConfigs);
-        ShardingSphereDatabase changedDatabase = createChangedDatabase(originalMetaDataContext.getMetaData().getDatabase(databaseName).getName(), internalLoadMetaData,
-                metaDataPersistService, toBeCreatedDatabaseConfig, originalMetaDataContext.getMetaData().getProps(), computeNodeInstanceContext);
+        ShardingSphereDatabase originalDatabase = originalMetaDataContext.getMetaData().getDatabase(databaseName);
+        ShardingSphereDatabase changedDatabase = createChangedDatabase(originalDatabase.getName(), internalLoadMetaData, metaDataPersistService, toBeCreatedDatabaseConfig,
+                originalMetaDataContext.getMetaData().getProps(), computeNodeInstanceContext, originalDatabase.getRuleMetaData().getRules());
         Map<String, ShardingSphereDatabase> result = new LinkedHashMap<>(originalMetaDataContext.getMetaData().getDatabases());
         result.put(databaseName.toLowerCase(), changedDatabase);
         return result;
@@ -372,9 +388,9 @@ public final class MetaDataContextsFactory {
     
     private static ShardingSphereDatabase createChangedDatabase(final String databaseName, final boolean internalLoadMetaData, final MetaDataPersistService persistService,
                                                                 final DatabaseConfiguration databaseConfig, final ConfigurationProperties props,
-                                                                final ComputeNodeInstanceContext computeNodeInstanceContext) throws SQLException {
+                                                                final ComputeNodeInstanceContext computeNodeInstanceContext, final Collection<ShardingSphereRule> previousRules) throws SQLException {
         return internalLoadMetaData
-                ? InternalMetaDataFactory.create(databaseName, persistService, databaseConfig, props, computeNodeInstanceContext)
-                : ExternalMetaDataFactory.create(databaseName, databaseConfig, props, computeNodeInstanceContext);
+                ? InternalMetaDataFactory.create(databaseName, persistService, databaseConfig, props, computeNodeInstanceContext, previousRules)
+                : ExternalMetaDataFactory.create(databaseName, databaseConfig, props, computeNodeInstanceContext, previousRules);
     }
 }
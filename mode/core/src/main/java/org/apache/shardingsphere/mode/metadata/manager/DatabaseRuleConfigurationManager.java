@@ -113,7 +113,11 @@ public final class DatabaseRuleConfigurationManager {
     
     private Map<String, ShardingSphereSchema> buildShardingSphereSchemas(final ShardingSphereDatabase database) {
         Map<String, ShardingSphereSchema> result = new LinkedHashMap<>(database.getSchemas().size(), 1F);
-        database.getSchemas().forEach((key, value) -> result.put(key, new ShardingSphereSchema(key, value.getTables(), value.getViews())));
+        database.getSchemas().forEach((key, value) -> {
+            ShardingSphereSchema schema = new ShardingSphereSchema(key, value.getTables(), value.getViews());
+            value.getLazyTables().forEach(schema::putLazyTable);
+            result.put(key, schema);
+        });
         return result;
     }
 }
@@ -38,6 +38,7 @@ import java.util.LinkedList;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 /**
  * Global configuration manager.
@@ -65,13 +66,25 @@ public final class GlobalConfigurationManager {
         }
         closeStaleTransactionRule(ruleConfig);
         Collection<ShardingSphereRule> rules = new LinkedList<>(metaDataContexts.get().getMetaData().getGlobalRuleMetaData().getRules());
-        rules.removeIf(each -> each.getConfiguration().getClass().isAssignableFrom(ruleConfig.getClass()));
+        Collection<ShardingSphereRule> staleRules = rules.stream().filter(each -> each.getConfiguration().getClass().isAssignableFrom(ruleConfig.getClass())).collect(Collectors.toList());
+        rules.removeAll(staleRules);
         rules.addAll(GlobalRulesBuilder.buildSingleRules(ruleConfig, metaDataContexts.get().getMetaData().getDatabases(), metaDataContexts.get().getMetaData().getProps()));
         metaDataContexts.get().getMetaData().getGlobalRuleMetaData().getRules().clear();
         metaDataContexts.get().getMetaData().getGlobalRuleMetaData().getRules().addAll(rules);
         ShardingSphereMetaData toBeChangedMetaData = new ShardingSphereMetaData(metaDataContexts.get().getMetaData().getDatabases(), metaDataContexts.get().getMetaData().getGlobalResourceMetaData(),
                 metaDataContexts.get().getMetaData().getGlobalRuleMetaData(), metaDataContexts.get().getMetaData().getProps());
         metaDataContexts.set(newMetaDataContexts(toBeChangedMetaData));
+        closeStaleRules(staleRules);
+    }
+    
+    @SneakyThrows(Exception.class)
+    private void closeStaleRules(final Collection<ShardingSphereRule> staleRules) {
+        for (ShardingSphereRule each : staleRules) {
+            // Stale transaction rule has been closed before building new rule.
+            if (each instanceof AutoCloseable && !(each instanceof TransactionRule)) {
+                ((AutoCloseable) each).close();
+            }
+        }
     }
     
     // Optimize string comparison rule type.
@@ -18,7 +18,14 @@
 package org.apache.shardingsphere.mode.metadata.manager;
 
 import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.mode.event.dispatch.rule.alter.AlterRuleItemEvent;
 import org.apache.shardingsphere.mode.event.dispatch.rule.drop.DropRuleItemEvent;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
@@ -28,21 +35,46 @@ import org.apache.shardingsphere.mode.spi.PersistRepository;
 import org.apache.shardingsphere.mode.spi.RuleItemConfigurationChangedProcessor;
 
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * Rule item manager.
+ * 
+ * <p>In cluster mode, rule item changes of same database received within rule-item-change-coalesce-milliseconds are applied by one rule rebuilding.
+ * The changes are kept pending and applied to rule configurations only when they are flushed, so the rules in use are never changed before rebuilding.</p>
  */
+@Slf4j
 public class RuleItemManager {
     
+    private final ScheduledExecutorService coalesceExecutor = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("rule-item-change-coalesce-%d"));
+    
     private final AtomicReference<MetaDataContexts> metaDataContexts;
     
+    private final ComputeNodeInstanceContext computeNodeInstanceContext;
+    
     private final DatabaseRuleConfigurationManager ruleConfigurationManager;
     
     private final MetaDataPersistService metaDataPersistService;
     
-    public RuleItemManager(final AtomicReference<MetaDataContexts> metaDataContexts, final PersistRepository repository, final DatabaseRuleConfigurationManager ruleConfigurationManager) {
+    private final Map<String, Collection<RuleItemChange>> pendingRuleItemChanges = new LinkedHashMap<>();
+    
+    private final Map<String, SQLException> flushFailures = new HashMap<>();
+    
+    public RuleItemManager(final AtomicReference<MetaDataContexts> metaDataContexts, final ComputeNodeInstanceContext computeNodeInstanceContext,
+                           final PersistRepository repository, final DatabaseRuleConfigurationManager ruleConfigurationManager) {
         this.metaDataContexts = metaDataContexts;
+        this.computeNodeInstanceContext = computeNodeInstanceContext;
         this.ruleConfigurationManager = ruleConfigurationManager;
         metaDataPersistService = new MetaDataPersistService(repository);
     }
@@ -60,12 +92,8 @@ public class RuleItemManager {
         RuleItemConfigurationChangedProcessor processor = TypedSPILoader.getService(RuleItemConfigurationChangedProcessor.class, event.getType());
         String yamlContent = metaDataPersistService.getMetaDataVersionPersistService()
                 .getVersionPathByActiveVersion(event.getActiveVersionKey(), event.getActiveVersion());
-        String databaseName = event.getDatabaseName();
-        RuleConfiguration currentRuleConfig = processor.findRuleConfiguration(metaDataContexts.get().getMetaData().getDatabase(databaseName));
-        synchronized (this) {
-            processor.changeRuleItemConfiguration(event, currentRuleConfig, processor.swapRuleItemConfiguration(event, yamlContent));
-            ruleConfigurationManager.alterRuleConfiguration(databaseName, currentRuleConfig);
-        }
+        Object toBeChangedItemConfig = processor.swapRuleItemConfiguration(event, yamlContent);
+        changeRuleItem(event.getDatabaseName(), new RuleItemChange(processor, ruleConfig -> processor.changeRuleItemConfiguration(event, ruleConfig, toBeChangedItemConfig), false));
     }
     
     /**
@@ -79,10 +107,117 @@ public class RuleItemManager {
         String databaseName = event.getDatabaseName();
         Preconditions.checkState(metaDataContexts.get().getMetaData().containsDatabase(databaseName), "No database '%s' exists.", databaseName);
         RuleItemConfigurationChangedProcessor processor = TypedSPILoader.getService(RuleItemConfigurationChangedProcessor.class, event.getType());
-        RuleConfiguration currentRuleConfig = processor.findRuleConfiguration(metaDataContexts.get().getMetaData().getDatabase(databaseName));
-        synchronized (this) {
-            processor.dropRuleItemConfiguration(event, currentRuleConfig);
-            ruleConfigurationManager.dropRuleConfiguration(databaseName, currentRuleConfig);
+        changeRuleItem(databaseName, new RuleItemChange(processor, ruleConfig -> processor.dropRuleItemConfiguration(event, ruleConfig), true));
+    }
+    
+    private synchronized void changeRuleItem(final String databaseName, final RuleItemChange ruleItemChange) throws SQLException {
+        SQLException flushFailure = flushFailures.remove(databaseName);
+        long coalesceMillis = getCoalesceMilliseconds();
+        if (coalesceMillis > 0L || pendingRuleItemChanges.containsKey(databaseName)) {
+            addPendingRuleItemChange(databaseName, ruleItemChange, coalesceMillis);
+        } else {
+            RuleConfiguration ruleConfig = ruleItemChange.getProcessor().findRuleConfiguration(metaDataContexts.get().getMetaData().getDatabase(databaseName));
+            ruleItemChange.getChanger().accept(ruleConfig);
+            applyRuleConfiguration(databaseName, ruleConfig, ruleItemChange.isDropped());
+        }
+        if (null != flushFailure) {
+            throw flushFailure;
+        }
+    }
+    
+    private long getCoalesceMilliseconds() {
+        long result = metaDataContexts.get().getMetaData().getProps().getValue(ConfigurationPropertyKey.RULE_ITEM_CHANGE_COALESCE_MILLISECONDS);
+        return result > 0L && computeNodeInstanceContext.getModeConfiguration().isCluster() ? result : 0L;
+    }
+    
+    private void addPendingRuleItemChange(final String databaseName, final RuleItemChange ruleItemChange, final long coalesceMillis) {
+        if (!pendingRuleItemChanges.containsKey(databaseName)) {
+            pendingRuleItemChanges.put(databaseName, new LinkedList<>());
+            coalesceExecutor.schedule(() -> flushPendingRuleItemChanges(databaseName), coalesceMillis, TimeUnit.MILLISECONDS);
+        }
+        pendingRuleItemChanges.get(databaseName).add(ruleItemChange);
+    }
+    
+    private synchronized void flushPendingRuleItemChanges(final String databaseName) {
+        try {
+            flush(databaseName);
+        } catch (final SQLException ex) {
+            log.error("Apply coalesced rule item changes of database `{}` failed, the failure will be thrown by next rule item change of the database.", databaseName, ex);
+            flushFailures.put(databaseName, ex);
+        }
+    }
+    
+    /**
+     * Flush pending rule item changes of database.
+     *
+     * @param databaseName database name
+     * @throws SQLException SQL Exception
+     */
+    public synchronized void flush(final String databaseName) throws SQLException {
+        Collection<RuleItemChange> ruleItemChanges = pendingRuleItemChanges.remove(databaseName);
+        if (null == ruleItemChanges || !metaDataContexts.get().getMetaData().containsDatabase(databaseName)) {
+            return;
+        }
+        ShardingSphereDatabase database = metaDataContexts.get().getMetaData().getDatabase(databaseName);
+        Map<Class<? extends RuleConfiguration>, RuleConfiguration> toBeAppliedRuleConfigs = new LinkedHashMap<>();
+        Collection<Class<? extends RuleConfiguration>> droppedRuleConfigTypes = new HashSet<>();
+        for (RuleItemChange each : ruleItemChanges) {
+            RuleConfiguration currentRuleConfig = each.getProcessor().findRuleConfiguration(database);
+            RuleConfiguration ruleConfig = toBeAppliedRuleConfigs.computeIfAbsent(currentRuleConfig.getClass(), key -> currentRuleConfig);
+            each.getChanger().accept(ruleConfig);
+            if (each.isDropped()) {
+                droppedRuleConfigTypes.add(ruleConfig.getClass());
+            } else {
+                droppedRuleConfigTypes.remove(ruleConfig.getClass());
+            }
+        }
+        log.debug("Apply {} rule item changes of database `{}` by {} rule configurations.", ruleItemChanges.size(), databaseName, toBeAppliedRuleConfigs.size());
+        SQLException result = null;
+        for (Entry<Class<? extends RuleConfiguration>, RuleConfiguration> entry : toBeAppliedRuleConfigs.entrySet()) {
+            try {
+                applyRuleConfiguration(databaseName, entry.getValue(), droppedRuleConfigTypes.contains(entry.getKey()));
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                SQLException failure = ex instanceof SQLException ? (SQLException) ex : new SQLException(ex);
+                if (null == result) {
+                    result = failure;
+                } else {
+                    result.addSuppressed(failure);
+                }
+            }
+        }
+        if (null != result) {
+            throw result;
         }
     }
+    
+    private void applyRuleConfiguration(final String databaseName, final RuleConfiguration ruleConfig, final boolean dropped) throws SQLException {
+        if (dropped) {
+            ruleConfigurationManager.dropRuleConfiguration(databaseName, ruleConfig);
+        } else {
+            ruleConfigurationManager.alterRuleConfiguration(databaseName, ruleConfig);
+        }
+    }
+    
+    /**
+     * Close rule item manager, pending rule item changes are discarded.
+     */
+    public synchronized void close() {
+        coalesceExecutor.shutdownNow();
+        pendingRuleItemChanges.clear();
+        flushFailures.clear();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class RuleItemChange {
+        
+        @SuppressWarnings("rawtypes")
+        private final RuleItemConfigurationChangedProcessor processor;
+        
+        private final Consumer<RuleConfiguration> changer;
+        
+        private final boolean dropped;
+    }
 }
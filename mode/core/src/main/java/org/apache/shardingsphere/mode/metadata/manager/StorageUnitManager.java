@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.datasource.pool.props.domain.DataSourcePo
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.metadata.persist.MetaDataPersistService;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
@@ -121,8 +122,13 @@ public final class StorageUnitManager {
     
     private Map<String, ShardingSphereSchema> buildSchemas(final ShardingSphereDatabase originalDatabase) {
         Map<String, ShardingSphereSchema> result = new LinkedHashMap<>(originalDatabase.getSchemas().size(), 1F);
-        originalDatabase.getSchemas().keySet().forEach(schemaName -> result.put(schemaName.toLowerCase(), new ShardingSphereSchema(
-                schemaName, originalDatabase.getSchema(schemaName).getTables(), metaDataPersistService.getDatabaseMetaDataFacade().getView().load(originalDatabase.getName(), schemaName))));
+        for (String each : originalDatabase.getSchemas().keySet()) {
+            ShardingSphereSchema originalSchema = originalDatabase.getSchema(each);
+            Map<String, ShardingSphereView> views = metaDataPersistService.getDatabaseMetaDataFacade().getView().load(originalDatabase.getName(), each);
+            ShardingSphereSchema schema = new ShardingSphereSchema(each, originalSchema.getTables(), views);
+            originalSchema.getLazyTables().forEach(schema::putLazyTable);
+            result.put(each.toLowerCase(), schema);
+        }
         return result;
     }
     
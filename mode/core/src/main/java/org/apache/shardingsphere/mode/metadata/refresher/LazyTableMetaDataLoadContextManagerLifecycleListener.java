@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.refresher;
+
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.manager.listener.ContextManagerLifecycleListener;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Lazy table meta data load context manager lifecycle listener.
+ * 
+ * <p>Lazy tables are loaded in background after startup, so that getting table meta data only waits for the table being loaded.</p>
+ */
+public final class LazyTableMetaDataLoadContextManagerLifecycleListener implements ContextManagerLifecycleListener {
+    
+    private final Map<ContextManager, ExecutorService> loadExecutors = new ConcurrentHashMap<>();
+    
+    @Override
+    public void onInitialized(final ContextManager contextManager) {
+        Collection<ShardingSphereSchema> schemas = contextManager.getMetaDataContexts().getMetaData().getDatabases().values().stream()
+                .map(ShardingSphereDatabase::getSchemas).flatMap(each -> each.values().stream()).filter(each -> !each.getLazyTables().isEmpty()).collect(Collectors.toList());
+        if (schemas.isEmpty()) {
+            return;
+        }
+        ExecutorService executor = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("lazy-table-metadata-load-%d"));
+        loadExecutors.put(contextManager, executor);
+        executor.execute(() -> schemas.forEach(ShardingSphereSchema::loadLazyTables));
+        executor.shutdown();
+    }
+    
+    @Override
+    public void onDestroyed(final ContextManager contextManager) {
+        Optional.ofNullable(loadExecutors.remove(contextManager)).ifPresent(ExecutorService::shutdownNow);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.refresher;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.manager.listener.ContextManagerLifecycleListener;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Meta data snapshot verify context manager lifecycle listener.
+ */
+public final class MetaDataSnapshotVerifyContextManagerLifecycleListener implements ContextManagerLifecycleListener {
+    
+    private final Map<ContextManager, ExecutorService> verifyExecutors = new ConcurrentHashMap<>();
+    
+    @Override
+    public void onInitialized(final ContextManager contextManager) {
+        if (!contextManager.getComputeNodeInstanceContext().getModeConfiguration().isCluster()) {
+            return;
+        }
+        int batchSize = contextManager.getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_VERIFY_BATCH_SIZE);
+        if (batchSize > 0) {
+            ExecutorService executor = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("metadata-snapshot-verify-%d"));
+            verifyExecutors.put(contextManager, executor);
+            executor.execute(() -> new MetaDataSnapshotVerifyEngine(contextManager).verify());
+            executor.shutdown();
+        }
+    }
+    
+    @Override
+    public void onDestroyed(final ContextManager contextManager) {
+        Optional.ofNullable(verifyExecutors.remove(contextManager)).ifPresent(ExecutorService::shutdownNow);
+    }
+}
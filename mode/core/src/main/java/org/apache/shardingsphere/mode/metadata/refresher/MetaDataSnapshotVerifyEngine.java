@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.refresher;
+
+import com.google.common.collect.Lists;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.metadata.database.system.SystemDatabase;
+import org.apache.shardingsphere.infra.lock.GlobalLockNames;
+import org.apache.shardingsphere.infra.lock.LockContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableMapperRuleAttribute;
+import org.apache.shardingsphere.mode.lock.GlobalLockDefinition;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Meta data snapshot verify engine.
+ * 
+ * <p>Table meta data loaded from repository are reloaded from storage units batch by batch, stale tables are refreshed and persisted again.
+ * Tables of rules which are absent in snapshot are added, and tables of snapshot which are absent in storage units are dropped.</p>
+ * 
+ * <p>Only the compute node holding the global verify lock verifies. Tables are never dropped if none of the batch is loaded,
+ * and a table is dropped only after a dedicated load of it succeeds without finding it.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class MetaDataSnapshotVerifyEngine {
+    
+    private final ContextManager contextManager;
+    
+    /**
+     * Verify.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void verify() {
+        ConfigurationProperties props = contextManager.getMetaDataContexts().getMetaData().getProps();
+        int batchSize = props.getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_VERIFY_BATCH_SIZE);
+        if (batchSize <= 0) {
+            return;
+        }
+        LockContext lockContext = contextManager.getComputeNodeInstanceContext().getLockContext();
+        GlobalLockDefinition lockDefinition = new GlobalLockDefinition(GlobalLockNames.METADATA_SNAPSHOT_VERIFY.getLockName());
+        if (!lockContext.tryLock(lockDefinition, 5000L)) {
+            log.info("Meta data snapshot is verifying by another compute node, skip it");
+            return;
+        }
+        try {
+            verify(batchSize, props.getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_VERIFY_INTERVAL_MILLISECONDS));
+        } finally {
+            lockContext.unlock(lockDefinition);
+        }
+    }
+    
+    private void verify(final int batchSize, final long intervalMillis) {
+        try {
+            for (ShardingSphereDatabase each : contextManager.getMetaDataContexts().getMetaData().getDatabases().values()) {
+                if (!each.getResourceMetaData().getStorageUnits().isEmpty()) {
+                    verifyDatabase(each, batchSize, intervalMillis);
+                }
+            }
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void verifyDatabase(final ShardingSphereDatabase database, final int batchSize, final long intervalMillis) throws InterruptedException {
+        Collection<String> systemSchemas = new SystemDatabase(database.getProtocolType()).getSystemSchemas();
+        for (Entry<String, ShardingSphereSchema> entry : database.getSchemas().entrySet()) {
+            if (systemSchemas.contains(entry.getKey())) {
+                continue;
+            }
+            List<String> tableNames = entry.getValue().getTables().values().stream().map(ShardingSphereTable::getName).collect(Collectors.toCollection(ArrayList::new));
+            tableNames.addAll(getAbsentRuleTableNames(database, entry.getValue()));
+            for (List<String> each : Lists.partition(tableNames, batchSize)) {
+                verifyTables(database, entry.getKey(), each);
+                TimeUnit.MILLISECONDS.sleep(intervalMillis);
+            }
+        }
+    }
+    
+    private Collection<String> getAbsentRuleTableNames(final ShardingSphereDatabase database, final ShardingSphereSchema schema) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (TableMapperRuleAttribute each : database.getRuleMetaData().getAttributes(TableMapperRuleAttribute.class)) {
+            each.getLogicTableNames().stream().filter(tableName -> !schema.containsTable(tableName)).forEach(result::add);
+        }
+        return result;
+    }
+    
+    private void verifyTables(final ShardingSphereDatabase database, final String schemaName, final Collection<String> tableNames) {
+        GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(database.getProtocolType(), database.getResourceMetaData().getStorageUnits(),
+                database.getRuleMetaData().getRules(), contextManager.getMetaDataContexts().getMetaData().getProps(), schemaName);
+        try {
+            ShardingSphereSchema actualSchema = GenericSchemaBuilder.build(tableNames, material).getOrDefault(schemaName, new ShardingSphereSchema(schemaName));
+            if (actualSchema.isEmpty()) {
+                log.warn("None of tables: {} of database: {} schema: {} is loaded from storage units, skip verifying them", tableNames, database.getName(), schemaName);
+                return;
+            }
+            ShardingSphereSchema schema = database.getSchema(schemaName);
+            for (String each : tableNames) {
+                if (!actualSchema.containsTable(each)) {
+                    if (schema.containsTable(each) && isTableAbsent(schemaName, each, material)) {
+                        dropTable(database.getName(), schemaName, each);
+                    }
+                } else if (!schema.containsTable(each) || !actualSchema.getTable(each).equals(schema.getTable(each))) {
+                    refreshTable(database.getName(), schemaName, actualSchema.getTable(each));
+                }
+            }
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.error("Verify meta data of tables: {} of database: {} schema: {} failed", tableNames, database.getName(), schemaName, ex);
+        }
+    }
+    
+    private boolean isTableAbsent(final String schemaName, final String tableName, final GenericSchemaBuilderMaterial material) throws SQLException {
+        ShardingSphereSchema actualSchema = GenericSchemaBuilder.build(Collections.singletonList(tableName), material).get(schemaName);
+        return null != actualSchema && !actualSchema.containsTable(tableName);
+    }
+    
+    private void dropTable(final String databaseName, final String schemaName, final String tableName) {
+        log.warn("Table: {} of database: {} schema: {} is absent in storage units, drop it from meta data", tableName, databaseName, schemaName);
+        contextManager.getMetaDataContextManager().getSchemaMetaDataManager().alterSchema(databaseName, schemaName, tableName, null);
+        contextManager.getPersistServiceFacade().getMetaDataPersistService().getDatabaseMetaDataFacade().getTable().drop(databaseName, schemaName, tableName);
+    }
+    
+    private void refreshTable(final String databaseName, final String schemaName, final ShardingSphereTable table) {
+        log.warn("Meta data of table: {} of database: {} schema: {} is stale, refresh it with meta data of storage units", table.getName(), databaseName, schemaName);
+        contextManager.getMetaDataContextManager().getSchemaMetaDataManager().alterSchema(databaseName, schemaName, table, (ShardingSphereView) null);
+        contextManager.getPersistServiceFacade().getMetaDataPersistService().getDatabaseMetaDataFacade().getTable()
+                .persist(databaseName, schemaName, Collections.singletonMap(table.getName(), table));
+    }
+}
@@ -20,10 +20,16 @@ package org.apache.shardingsphere.mode.metadata;
 import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.infra.instance.metadata.jdbc.JDBCInstanceMetaData;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.builder.global.GlobalRulesBuilder;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.metadata.factory.ExternalMetaDataFactory;
@@ -47,6 +53,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Properties;
@@ -59,6 +66,7 @@ import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyCollection;
 import static org.mockito.Mockito.anyMap;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -127,6 +135,28 @@ class MetaDataContextsFactoryTest {
         }
     }
     
+    @Test
+    void assertCreateByAlterRuleWithPreviousRules() throws SQLException {
+        Collection<ShardingSphereRule> previousRules = Collections.singleton(new MockedRule());
+        ShardingSphereDatabase originalDatabase = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(originalDatabase.getName()).thenReturn("foo_db");
+        when(originalDatabase.getResourceMetaData().getDataSources()).thenReturn(Collections.emptyMap());
+        when(originalDatabase.getResourceMetaData().getStorageUnits()).thenReturn(Collections.emptyMap());
+        when(originalDatabase.getRuleMetaData().getRules()).thenReturn(previousRules);
+        ShardingSphereDatabase changedDatabase = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(changedDatabase.getProtocolType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(ExternalMetaDataFactory.create(eq("foo_db"), any(DatabaseConfiguration.class), any(ConfigurationProperties.class), any(ComputeNodeInstanceContext.class), eq(previousRules)))
+                .thenReturn(changedDatabase);
+        ShardingSphereMetaData originalMetaData = new ShardingSphereMetaData(Collections.singletonMap("foo_db", originalDatabase),
+                mock(ResourceMetaData.class), new RuleMetaData(Collections.emptyList()), new ConfigurationProperties(new Properties()));
+        MetaDataContexts originalMetaDataContexts = new MetaDataContexts(originalMetaData, new ShardingSphereStatistics());
+        Collection<RuleConfiguration> ruleConfigs = Collections.singleton(new MockedRuleConfiguration("foo_db"));
+        ComputeNodeInstanceContext computeNodeInstanceContext = mock(ComputeNodeInstanceContext.class, RETURNS_DEEP_STUBS);
+        try (MetaDataContexts actual = MetaDataContextsFactory.createByAlterRule("foo_db", false, ruleConfigs, originalMetaDataContexts, metaDataPersistService, computeNodeInstanceContext)) {
+            assertThat(actual.getMetaData().getDatabase("foo_db"), is(changedDatabase));
+        }
+    }
+    
     private ContextManagerBuilderParameter createContextManagerBuilderParameter() {
         DatabaseConfiguration databaseConfig = new DataSourceProvidedDatabaseConfiguration(Collections.singletonMap("foo", new MockedDataSource()), Collections.emptyList());
         return new ContextManagerBuilderParameter(null, Collections.singletonMap("foo_db", databaseConfig), Collections.emptyMap(),
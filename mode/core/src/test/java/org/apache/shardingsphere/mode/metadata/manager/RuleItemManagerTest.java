@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.manager;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.mode.event.dispatch.rule.drop.DropNamedRuleItemEvent;
+import org.apache.shardingsphere.mode.fixture.ModeRuleConfigurationFixture;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RuleItemManagerTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private MetaDataContexts metaDataContexts;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ComputeNodeInstanceContext computeNodeInstanceContext;
+    
+    @Mock
+    private DatabaseRuleConfigurationManager ruleConfigurationManager;
+    
+    private RuleItemManager ruleItemManager;
+    
+    @BeforeEach
+    void setUp() {
+        when(metaDataContexts.getMetaData().containsDatabase("foo_db")).thenReturn(true);
+        when(computeNodeInstanceContext.getModeConfiguration().isCluster()).thenReturn(true);
+        ruleItemManager = new RuleItemManager(new AtomicReference<>(metaDataContexts), computeNodeInstanceContext, mock(PersistRepository.class), ruleConfigurationManager);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        ruleItemManager.close();
+    }
+    
+    @Test
+    void assertDropRuleItemWithoutCoalescing() throws SQLException {
+        when(metaDataContexts.getMetaData().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
+        ruleItemManager.dropRuleItem(new DropNamedRuleItemEvent("foo_db", "foo_item", "FIXTURE"));
+        ruleItemManager.dropRuleItem(new DropNamedRuleItemEvent("foo_db", "bar_item", "FIXTURE"));
+        verify(ruleConfigurationManager, times(2)).dropRuleConfiguration(eq("foo_db"), any(ModeRuleConfigurationFixture.class));
+    }
+    
+    @Test
+    void assertDropRuleItemWithCoalescing() throws SQLException {
+        when(metaDataContexts.getMetaData().getProps()).thenReturn(
+                new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.RULE_ITEM_CHANGE_COALESCE_MILLISECONDS.getKey(), "60000"))));
+        ruleItemManager.dropRuleItem(new DropNamedRuleItemEvent("foo_db", "foo_item", "FIXTURE"));
+        ruleItemManager.dropRuleItem(new DropNamedRuleItemEvent("foo_db", "bar_item", "FIXTURE"));
+        verify(ruleConfigurationManager, never()).dropRuleConfiguration(eq("foo_db"), any(RuleConfiguration.class));
+        ruleItemManager.flush("foo_db");
+        verify(ruleConfigurationManager).dropRuleConfiguration(eq("foo_db"), any(ModeRuleConfigurationFixture.class));
+        ruleItemManager.flush("foo_db");
+        verify(ruleConfigurationManager).dropRuleConfiguration(eq("foo_db"), any(ModeRuleConfigurationFixture.class));
+    }
+    
+    @Test
+    void assertFlushWithFailure() throws SQLException {
+        when(metaDataContexts.getMetaData().getProps()).thenReturn(
+                new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.RULE_ITEM_CHANGE_COALESCE_MILLISECONDS.getKey(), "60000"))));
+        doThrow(SQLException.class).when(ruleConfigurationManager).dropRuleConfiguration(eq("foo_db"), any(ModeRuleConfigurationFixture.class));
+        ruleItemManager.dropRuleItem(new DropNamedRuleItemEvent("foo_db", "foo_item", "FIXTURE"));
+        assertThrows(SQLException.class, () -> ruleItemManager.flush("foo_db"));
+    }
+    
+    @Test
+    void assertClose() throws SQLException {
+        when(metaDataContexts.getMetaData().getProps()).thenReturn(
+                new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.RULE_ITEM_CHANGE_COALESCE_MILLISECONDS.getKey(), "60000"))));
+        ruleItemManager.dropRuleItem(new DropNamedRuleItemEvent("foo_db", "foo_item", "FIXTURE"));
+        ruleItemManager.close();
+        ruleItemManager.flush("foo_db");
+        verify(ruleConfigurationManager, never()).dropRuleConfiguration(eq("foo_db"), any(RuleConfiguration.class));
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.refresher;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.lock.LockContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableMapperRuleAttribute;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.mode.lock.GlobalLockDefinition;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(GenericSchemaBuilder.class)
+class MetaDataSnapshotVerifyEngineTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ContextManager contextManager;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ShardingSphereDatabase database;
+    
+    @Mock
+    private LockContext<GlobalLockDefinition> lockContext;
+    
+    @BeforeEach
+    void setUp() {
+        doReturn(lockContext).when(contextManager.getComputeNodeInstanceContext()).getLockContext();
+        when(lockContext.tryLock(any(GlobalLockDefinition.class), anyLong())).thenReturn(true);
+        when(contextManager.getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(PropertiesBuilder.build(
+                new Property(ConfigurationPropertyKey.METADATA_SNAPSHOT_VERIFY_BATCH_SIZE.getKey(), "1"), new Property(ConfigurationPropertyKey.METADATA_SNAPSHOT_VERIFY_INTERVAL_MILLISECONDS.getKey(), "0"))));
+        when(contextManager.getMetaDataContexts().getMetaData().getDatabases()).thenReturn(Collections.singletonMap("foo_db", database));
+        when(database.getProtocolType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(database.getResourceMetaData().getStorageUnits()).thenReturn(Collections.singletonMap("foo_ds", mock(StorageUnit.class, Answers.RETURNS_DEEP_STUBS)));
+        ShardingSphereSchema schema = new ShardingSphereSchema("foo_schema", createTables(createTable("foo_tbl", "id"), createTable("bar_tbl", "id")), Collections.emptyMap());
+        when(database.getSchemas()).thenReturn(Collections.singletonMap("foo_schema", schema));
+        when(database.getSchema("foo_schema")).thenReturn(schema);
+    }
+    
+    @Test
+    void assertVerifyWithStaleTable() throws SQLException {
+        when(database.getName()).thenReturn("foo_db");
+        ShardingSphereTable actualTable = createTable("bar_tbl", "id", "name");
+        when(GenericSchemaBuilder.build(eq(Collections.singletonList("foo_tbl")), any(GenericSchemaBuilderMaterial.class)))
+                .thenReturn(Collections.singletonMap("foo_schema", new ShardingSphereSchema("foo_schema", createTables(createTable("foo_tbl", "id")), Collections.emptyMap())));
+        when(GenericSchemaBuilder.build(eq(Collections.singletonList("bar_tbl")), any(GenericSchemaBuilderMaterial.class)))
+                .thenReturn(Collections.singletonMap("foo_schema", new ShardingSphereSchema("foo_schema", createTables(actualTable), Collections.emptyMap())));
+        new MetaDataSnapshotVerifyEngine(contextManager).verify();
+        verify(contextManager.getMetaDataContextManager().getSchemaMetaDataManager()).alterSchema("foo_db", "foo_schema", actualTable, (ShardingSphereView) null);
+        verify(contextManager.getPersistServiceFacade().getMetaDataPersistService().getDatabaseMetaDataFacade().getTable())
+                .persist("foo_db", "foo_schema", Collections.singletonMap("bar_tbl", actualTable));
+    }
+    
+    @Test
+    void assertVerifyWithoutStaleTable() throws SQLException {
+        when(GenericSchemaBuilder.build(any(), any(GenericSchemaBuilderMaterial.class)))
+                .thenReturn(Collections.singletonMap("foo_schema", new ShardingSphereSchema("foo_schema", createTables(createTable("foo_tbl", "id"), createTable("bar_tbl", "id")), Collections.emptyMap())));
+        new MetaDataSnapshotVerifyEngine(contextManager).verify();
+        verify(contextManager.getPersistServiceFacade().getMetaDataPersistService().getDatabaseMetaDataFacade().getTable(), never()).persist(anyString(), anyString(), anyMap());
+    }
+    
+    @Test
+    void assertVerifyWithAbsentTable() throws SQLException {
+        when(database.getName()).thenReturn("foo_db");
+        TableMapperRuleAttribute ruleAttribute = mock(TableMapperRuleAttribute.class);
+        when(ruleAttribute.getLogicTableNames()).thenReturn(Arrays.asList("foo_tbl", "new_tbl"));
+        when(database.getRuleMetaData().getAttributes(TableMapperRuleAttribute.class)).thenReturn(Collections.singleton(ruleAttribute));
+        ShardingSphereTable newTable = createTable("new_tbl", "id");
+        when(GenericSchemaBuilder.build(any(), any(GenericSchemaBuilderMaterial.class))).thenReturn(Collections.singletonMap("foo_schema",
+                new ShardingSphereSchema("foo_schema", createTables(createTable("foo_tbl", "id"), createTable("bar_tbl", "id"), newTable), Collections.emptyMap())));
+        new MetaDataSnapshotVerifyEngine(contextManager).verify();
+        verify(contextManager.getMetaDataContextManager().getSchemaMetaDataManager()).alterSchema("foo_db", "foo_schema", newTable, (ShardingSphereView) null);
+        verify(contextManager.getPersistServiceFacade().getMetaDataPersistService().getDatabaseMetaDataFacade().getTable())
+                .persist("foo_db", "foo_schema", Collections.singletonMap("new_tbl", newTable));
+    }
+    
+    @Test
+    void assertVerifyWithDroppedTable() throws SQLException {
+        when(database.getName()).thenReturn("foo_db");
+        when(GenericSchemaBuilder.build(any(), any(GenericSchemaBuilderMaterial.class)))
+                .thenReturn(Collections.singletonMap("foo_schema", new ShardingSphereSchema("foo_schema", createTables(createTable("foo_tbl", "id")), Collections.emptyMap())));
+        new MetaDataSnapshotVerifyEngine(contextManager).verify();
+        verify(contextManager.getMetaDataContextManager().getSchemaMetaDataManager()).alterSchema("foo_db", "foo_schema", "bar_tbl", (String) null);
+        verify(contextManager.getPersistServiceFacade().getMetaDataPersistService().getDatabaseMetaDataFacade().getTable()).drop("foo_db", "foo_schema", "bar_tbl");
+        verify(contextManager.getPersistServiceFacade().getMetaDataPersistService().getDatabaseMetaDataFacade().getTable(), never()).persist(anyString(), anyString(), anyMap());
+    }
+    
+    @Test
+    void assertVerifyWithEmptyLoadedTables() throws SQLException {
+        when(GenericSchemaBuilder.build(any(), any(GenericSchemaBuilderMaterial.class))).thenReturn(Collections.singletonMap("foo_schema", new ShardingSphereSchema("foo_schema")));
+        new MetaDataSnapshotVerifyEngine(contextManager).verify();
+        verify(contextManager.getPersistServiceFacade().getMetaDataPersistService().getDatabaseMetaDataFacade().getTable(), never()).drop(anyString(), anyString(), anyString());
+    }
+    
+    @Test
+    void assertVerifyWithoutLock() throws SQLException {
+        when(lockContext.tryLock(any(GlobalLockDefinition.class), anyLong())).thenReturn(false);
+        new MetaDataSnapshotVerifyEngine(contextManager).verify();
+        verify(contextManager.getMetaDataContextManager().getSchemaMetaDataManager(), never()).alterSchema(anyString(), anyString(), anyString(), any());
+        verify(lockContext, never()).unlock(any(GlobalLockDefinition.class));
+    }
+    
+    private Map<String, ShardingSphereTable> createTables(final ShardingSphereTable... tables) {
+        Map<String, ShardingSphereTable> result = new HashMap<>(tables.length, 1F);
+        for (ShardingSphereTable each : tables) {
+            result.put(each.getName(), each);
+        }
+        return result;
+    }
+    
+    private ShardingSphereTable createTable(final String tableName, final String... columnNames) {
+        return new ShardingSphereTable(tableName, Arrays.stream(columnNames).map(each -> new ShardingSphereColumn(each, Types.INTEGER, false, false, false, true, false, false))
+                .collect(Collectors.toList()), Collections.emptyList(), Collections.emptyList());
+    }
+}
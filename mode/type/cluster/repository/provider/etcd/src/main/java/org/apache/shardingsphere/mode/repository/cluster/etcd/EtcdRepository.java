@@ -19,11 +19,14 @@ package org.apache.shardingsphere.mode.repository.cluster.etcd;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
+import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.etcd.jetcd.ByteSequence;
 import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.kv.GetResponse;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.OptionsUtil;
@@ -46,7 +49,13 @@ import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEve
 import org.apache.shardingsphere.mode.repository.cluster.lock.holder.DistributedLockHolder;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -59,6 +68,9 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class EtcdRepository implements ClusterPersistRepository {
     
+    // Default value of etcd server option --max-txn-ops
+    private static final int MAX_TXN_OPERATIONS = 128;
+    
     private static final ExecutorService EVENT_LISTENER_EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Etcd-EventListener-%d").build());
     
     private Client client;
@@ -85,6 +97,23 @@ public final class EtcdRepository implements ClusterPersistRepository {
         return keyValues.isEmpty() ? null : keyValues.iterator().next().getValue().toString(StandardCharsets.UTF_8);
     }
     
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public Map<String, String> batchQuery(final Collection<String> keys) {
+        Map<String, CompletableFuture<GetResponse>> responses = new LinkedHashMap<>(keys.size(), 1F);
+        for (String each : keys) {
+            responses.put(each, client.getKVClient().get(ByteSequence.from(each, StandardCharsets.UTF_8)));
+        }
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        for (Entry<String, CompletableFuture<GetResponse>> entry : responses.entrySet()) {
+            List<KeyValue> keyValues = entry.getValue().get().getKvs();
+            if (!keyValues.isEmpty()) {
+                result.put(entry.getKey(), keyValues.iterator().next().getValue().toString(StandardCharsets.UTF_8));
+            }
+        }
+        return result;
+    }
+    
     @SneakyThrows({InterruptedException.class, ExecutionException.class})
     @Override
     public List<String> getChildrenKeys(final String key) {
@@ -112,6 +141,28 @@ public final class EtcdRepository implements ClusterPersistRepository {
         client.getKVClient().put(ByteSequence.from(key, StandardCharsets.UTF_8), ByteSequence.from(value, StandardCharsets.UTF_8)).get();
     }
     
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public void batchPersist(final Map<String, String> keyValues, final Collection<String> deletedKeys) {
+        if (keyValues.isEmpty() && deletedKeys.isEmpty()) {
+            return;
+        }
+        Collection<String> builtParentPaths = new HashSet<>();
+        List<Op> operations = new ArrayList<>(keyValues.size());
+        for (Entry<String, String> entry : keyValues.entrySet()) {
+            if (builtParentPaths.add(entry.getKey().substring(0, Math.max(0, entry.getKey().lastIndexOf(PATH_SEPARATOR))))) {
+                buildParentPath(entry.getKey());
+            }
+            operations.add(Op.put(ByteSequence.from(entry.getKey(), StandardCharsets.UTF_8), ByteSequence.from(entry.getValue(), StandardCharsets.UTF_8), PutOption.DEFAULT));
+        }
+        for (String each : deletedKeys) {
+            operations.add(Op.delete(ByteSequence.from(each, StandardCharsets.UTF_8), DeleteOption.newBuilder().isPrefix(true).build()));
+        }
+        for (List<Op> each : Lists.partition(operations, MAX_TXN_OPERATIONS)) {
+            client.getKVClient().txn().Then(each.toArray(new Op[0])).commit().get();
+        }
+    }
+    
     @Override
     public void update(final String key, final String value) {
         // TODO
@@ -23,9 +23,11 @@ import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KV;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Lease;
+import io.etcd.jetcd.Txn;
 import io.etcd.jetcd.Watch;
 import io.etcd.jetcd.kv.GetResponse;
 import io.etcd.jetcd.lease.LeaseGrantResponse;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.PutOption;
@@ -46,9 +48,12 @@ import org.mockito.quality.Strictness;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -61,6 +66,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -137,6 +143,15 @@ class EtcdRepositoryTest {
         verify(getResponse).getKvs();
     }
     
+    @Test
+    void assertBatchQuery() {
+        io.etcd.jetcd.api.KeyValue keyValue = io.etcd.jetcd.api.KeyValue.newBuilder().setKey(ByteString.copyFromUtf8("/key1")).setValue(ByteString.copyFromUtf8("value1")).build();
+        when(getResponse.getKvs()).thenReturn(Collections.singletonList(new KeyValue(keyValue, ByteSequence.EMPTY)), Collections.emptyList());
+        assertThat(repository.batchQuery(Arrays.asList("/key1", "/key2")), is(Collections.singletonMap("/key1", "value1")));
+        verify(kv).get(ByteSequence.from("/key1", StandardCharsets.UTF_8));
+        verify(kv).get(ByteSequence.from("/key2", StandardCharsets.UTF_8));
+    }
+    
     @Test
     void assertGetChildrenKeys() {
         io.etcd.jetcd.api.KeyValue keyValue1 = io.etcd.jetcd.api.KeyValue.newBuilder()
@@ -164,6 +179,51 @@ class EtcdRepositoryTest {
         verify(kv).put(any(ByteSequence.class), any(ByteSequence.class), any(PutOption.class));
     }
     
+    @Test
+    @SuppressWarnings("unchecked")
+    void assertBatchPersist() {
+        Txn txn = mock(Txn.class);
+        when(kv.txn()).thenReturn(txn);
+        when(txn.Then(any(Op[].class))).thenReturn(txn);
+        when(txn.commit()).thenReturn(mock(CompletableFuture.class));
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1F);
+        keyValues.put("/key1/foo", "value1");
+        keyValues.put("/key1/bar", "value2");
+        repository.batchPersist(keyValues);
+        verify(kv).put(ByteSequence.from("/key1", StandardCharsets.UTF_8), ByteSequence.from("", StandardCharsets.UTF_8));
+        verify(txn).Then(any(Op[].class));
+        verify(txn).commit();
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void assertBatchPersistWithDeletedKeys() {
+        Txn txn = mock(Txn.class);
+        when(kv.txn()).thenReturn(txn);
+        when(txn.Then(any(Op[].class))).thenReturn(txn);
+        when(txn.commit()).thenReturn(mock(CompletableFuture.class));
+        repository.batchPersist(Collections.singletonMap("/key1/foo", "value1"), Collections.singletonList("/key1/bar"));
+        verify(txn).Then(any(Op[].class));
+        verify(txn).commit();
+        verify(kv, times(0)).delete(any(ByteSequence.class), any(DeleteOption.class));
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void assertBatchPersistWithMoreThanMaxTxnOperations() {
+        Txn txn = mock(Txn.class);
+        when(kv.txn()).thenReturn(txn);
+        when(txn.Then(any(Op[].class))).thenReturn(txn);
+        when(txn.commit()).thenReturn(mock(CompletableFuture.class));
+        Map<String, String> keyValues = new LinkedHashMap<>(129, 1F);
+        for (int i = 0; i < 129; i++) {
+            keyValues.put("/key1/foo_" + i, "value" + i);
+        }
+        repository.batchPersist(keyValues);
+        verify(txn, times(2)).Then(any(Op[].class));
+        verify(txn, times(2)).commit();
+    }
+    
     @Test
     void assertWatchUpdate() {
         doAnswer(invocationOnMock -> {
@@ -23,10 +23,15 @@ import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.BackgroundCallback;
+import org.apache.curator.framework.api.CuratorEvent;
+import org.apache.curator.framework.api.Pathable;
+import org.apache.curator.framework.api.transaction.CuratorOp;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
 import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
 import org.apache.curator.retry.ExponentialBackoffRetry;
 import org.apache.curator.utils.CloseableUtils;
+import org.apache.curator.utils.ZKPaths;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.mode.event.DataChangedEvent;
 import org.apache.shardingsphere.mode.event.DataChangedEvent.Type;
@@ -41,26 +46,40 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.Zookeep
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperPropertyKey;
 import org.apache.zookeeper.CreateMode;
 import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.KeeperException.Code;
+import org.apache.zookeeper.KeeperException.NoNodeException;
 import org.apache.zookeeper.KeeperException.NodeExistsException;
+import org.apache.zookeeper.KeeperException.NotEmptyException;
 import org.apache.zookeeper.KeeperException.OperationTimeoutException;
 import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * Registry repository of ZooKeeper.
  */
 public final class ZookeeperRepository implements ClusterPersistRepository {
     
+    // Half of default jute.maxbuffer, which limits the size of a multi operation request
+    private static final int MAX_TRANSACTION_BYTES = 512 * 1024;
+    
     private final Map<String, CuratorCache> caches = new ConcurrentHashMap<>();
     
     private final Map<String, CuratorCacheListener> dataListeners = new ConcurrentHashMap<>();
@@ -160,6 +179,118 @@ public final class ZookeeperRepository implements ClusterPersistRepository {
         }
     }
     
+    @Override
+    public void batchPersist(final Map<String, String> keyValues, final Collection<String> deletedKeys) {
+        if (keyValues.isEmpty() && deletedKeys.isEmpty()) {
+            return;
+        }
+        try {
+            Collection<String> existedKeys = getExistedKeys(getKeysWithParentPaths(keyValues.keySet(), deletedKeys));
+            Collection<String> createdParentPaths = new HashSet<>();
+            List<CuratorOp> operations = new LinkedList<>();
+            Map<String, String> transactionKeyValues = new LinkedHashMap<>();
+            Collection<String> transactionDeletedKeys = new LinkedList<>();
+            int operationsBytes = 0;
+            for (Entry<String, String> entry : keyValues.entrySet()) {
+                byte[] value = entry.getValue().getBytes(StandardCharsets.UTF_8);
+                int operationBytes = entry.getKey().length() + value.length;
+                if (!operations.isEmpty() && operationsBytes + operationBytes > MAX_TRANSACTION_BYTES) {
+                    commitTransaction(operations, transactionKeyValues, transactionDeletedKeys);
+                    operations = new LinkedList<>();
+                    transactionKeyValues = new LinkedHashMap<>();
+                    operationsBytes = 0;
+                }
+                operations.addAll(createPersistOperations(entry.getKey(), value, existedKeys, createdParentPaths));
+                transactionKeyValues.put(entry.getKey(), entry.getValue());
+                operationsBytes += operationBytes;
+            }
+            for (String each : deletedKeys) {
+                if (existedKeys.contains(each)) {
+                    operations.add(client.transactionOp().delete().forPath(each));
+                    transactionDeletedKeys.add(each);
+                }
+            }
+            commitTransaction(operations, transactionKeyValues, transactionDeletedKeys);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            ZookeeperExceptionHandler.handleException(ex);
+        }
+    }
+    
+    private Collection<String> getKeysWithParentPaths(final Collection<String> persistedKeys, final Collection<String> deletedKeys) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (String each : persistedKeys) {
+            result.addAll(getParentPaths(each));
+            result.add(each);
+        }
+        result.addAll(deletedKeys);
+        return result;
+    }
+    
+    private List<String> getParentPaths(final String key) {
+        LinkedList<String> result = new LinkedList<>();
+        String parentPath = ZKPaths.getPathAndNode(key).getPath();
+        while (!PATH_SEPARATOR.equals(parentPath)) {
+            result.addFirst(parentPath);
+            parentPath = ZKPaths.getPathAndNode(parentPath).getPath();
+        }
+        return result;
+    }
+    
+    private Collection<String> getExistedKeys(final Collection<String> keys) throws Exception {
+        Collection<String> result = new HashSet<>(keys.size(), 1F);
+        for (Entry<String, CuratorEvent> entry : executeInBackground(keys, callback -> client.checkExists().inBackground(callback)).entrySet()) {
+            if (Code.OK.intValue() == entry.getValue().getResultCode()) {
+                result.add(entry.getKey());
+            } else if (Code.NONODE.intValue() != entry.getValue().getResultCode()) {
+                throw KeeperException.create(Code.get(entry.getValue().getResultCode()), entry.getKey());
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, CuratorEvent> executeInBackground(final Collection<String> keys, final Function<BackgroundCallback, Pathable<?>> operation) throws Exception {
+        Map<String, CuratorEvent> result = new ConcurrentHashMap<>(keys.size(), 1F);
+        CountDownLatch latch = new CountDownLatch(keys.size());
+        for (String each : keys) {
+            operation.apply((curatorFramework, event) -> {
+                result.put(each, event);
+                latch.countDown();
+            }).forPath(each);
+        }
+        latch.await();
+        return result;
+    }
+    
+    private Collection<CuratorOp> createPersistOperations(final String key, final byte[] value, final Collection<String> existedKeys, final Collection<String> createdParentPaths) throws Exception {
+        if (existedKeys.contains(key)) {
+            return Collections.singleton(client.transactionOp().setData().forPath(key, value));
+        }
+        Collection<CuratorOp> result = new LinkedList<>();
+        for (String each : getParentPaths(key)) {
+            if (!existedKeys.contains(each) && createdParentPaths.add(each)) {
+                result.add(client.transactionOp().create().withMode(CreateMode.PERSISTENT).forPath(each, new byte[0]));
+            }
+        }
+        result.add(client.transactionOp().create().withMode(CreateMode.PERSISTENT).forPath(key, value));
+        return result;
+    }
+    
+    private void commitTransaction(final List<CuratorOp> operations, final Map<String, String> keyValues, final Collection<String> deletedKeys) throws Exception {
+        if (operations.isEmpty()) {
+            return;
+        }
+        try {
+            client.transaction().forOperations(operations);
+        } catch (final NodeExistsException | NoNodeException | NotEmptyException ex) {
+            for (Entry<String, String> entry : keyValues.entrySet()) {
+                client.create().orSetData().creatingParentsIfNeeded().withMode(CreateMode.PERSISTENT).forPath(entry.getKey(), entry.getValue().getBytes(StandardCharsets.UTF_8));
+            }
+            deletedKeys.forEach(this::delete);
+        }
+    }
+    
     @Override
     public void update(final String key, final String value) {
         try {
@@ -184,6 +315,27 @@ public final class ZookeeperRepository implements ClusterPersistRepository {
         }
     }
     
+    @Override
+    public Map<String, String> batchQuery(final Collection<String> keys) {
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        try {
+            Map<String, CuratorEvent> events = executeInBackground(keys, callback -> client.getData().inBackground(callback));
+            for (String each : keys) {
+                CuratorEvent event = events.get(each);
+                if (Code.OK.intValue() == event.getResultCode()) {
+                    result.put(each, new String(event.getData(), StandardCharsets.UTF_8));
+                } else if (Code.NONODE.intValue() != event.getResultCode()) {
+                    throw KeeperException.create(Code.get(event.getResultCode()), each);
+                }
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            throw new ClusterRepositoryPersistException(ex);
+        }
+        return result;
+    }
+    
     @Override
     public boolean isExisted(final String key) {
         try {
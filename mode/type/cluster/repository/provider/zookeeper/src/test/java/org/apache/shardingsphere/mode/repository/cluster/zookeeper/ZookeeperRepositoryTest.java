@@ -21,14 +21,25 @@ import lombok.SneakyThrows;
 import org.apache.curator.RetryPolicy;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
+import org.apache.curator.framework.api.ACLPathAndBytesable;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.BackgroundCallback;
 import org.apache.curator.framework.api.BackgroundVersionable;
 import org.apache.curator.framework.api.CreateBuilder;
+import org.apache.curator.framework.api.CuratorEvent;
 import org.apache.curator.framework.api.DeleteBuilder;
+import org.apache.curator.framework.api.ErrorListenerPathable;
 import org.apache.curator.framework.api.ExistsBuilder;
 import org.apache.curator.framework.api.GetChildrenBuilder;
+import org.apache.curator.framework.api.GetDataBuilder;
 import org.apache.curator.framework.api.ProtectACLCreateModeStatPathAndBytesable;
 import org.apache.curator.framework.api.SetDataBuilder;
+import org.apache.curator.framework.api.transaction.CuratorMultiTransaction;
+import org.apache.curator.framework.api.transaction.CuratorOp;
+import org.apache.curator.framework.api.transaction.TransactionCreateBuilder;
+import org.apache.curator.framework.api.transaction.TransactionDeleteBuilder;
+import org.apache.curator.framework.api.transaction.TransactionOp;
+import org.apache.curator.framework.api.transaction.TransactionSetDataBuilder;
 import org.apache.curator.framework.listen.Listenable;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
@@ -39,6 +50,7 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.Zookeep
 import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException.Code;
 import org.apache.zookeeper.data.Stat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -51,8 +63,11 @@ import org.mockito.quality.Strictness;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 
@@ -62,9 +77,11 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -160,6 +177,69 @@ class ZookeeperRepositoryTest {
         verify(setDataBuilder).forPath("/test", "value2".getBytes(StandardCharsets.UTF_8));
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertBatchPersist() throws Exception {
+        mockExistedInBackground(Arrays.asList("/test", "/test/existed", "/test/old"));
+        TransactionOp transactionOp = mock(TransactionOp.class);
+        when(client.transactionOp()).thenReturn(transactionOp);
+        TransactionSetDataBuilder<CuratorOp> transactionSetDataBuilder = mock(TransactionSetDataBuilder.class);
+        when(transactionOp.setData()).thenReturn(transactionSetDataBuilder);
+        TransactionCreateBuilder<CuratorOp> transactionCreateBuilder = mock(TransactionCreateBuilder.class);
+        when(transactionOp.create()).thenReturn(transactionCreateBuilder);
+        ACLPathAndBytesable<CuratorOp> transactionCreatePathAndBytesable = mock(ACLPathAndBytesable.class);
+        when(transactionCreateBuilder.withMode(CreateMode.PERSISTENT)).thenReturn(transactionCreatePathAndBytesable);
+        TransactionDeleteBuilder<CuratorOp> transactionDeleteBuilder = mock(TransactionDeleteBuilder.class);
+        when(transactionOp.delete()).thenReturn(transactionDeleteBuilder);
+        CuratorMultiTransaction transaction = mock(CuratorMultiTransaction.class);
+        when(client.transaction()).thenReturn(transaction);
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1F);
+        keyValues.put("/test/existed", "value1");
+        keyValues.put("/test/new/node", "value2");
+        REPOSITORY.batchPersist(keyValues, Arrays.asList("/test/old", "/test/absent"));
+        verify(transactionSetDataBuilder).forPath("/test/existed", "value1".getBytes(StandardCharsets.UTF_8));
+        verify(transactionCreatePathAndBytesable).forPath("/test/new", new byte[0]);
+        verify(transactionCreatePathAndBytesable).forPath("/test/new/node", "value2".getBytes(StandardCharsets.UTF_8));
+        verify(transactionDeleteBuilder).forPath("/test/old");
+        verify(transactionDeleteBuilder, never()).forPath("/test/absent");
+        verify(protect, never()).forPath(anyString(), any(byte[].class));
+        verify(transaction).forOperations(anyList());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void mockExistedInBackground(final Collection<String> existedKeys) throws Exception {
+        when(existsBuilder.inBackground(any(BackgroundCallback.class))).thenAnswer(invocation -> {
+            ErrorListenerPathable<Stat> result = mock(ErrorListenerPathable.class);
+            when(result.forPath(anyString())).thenAnswer(forPathInvocation -> {
+                CuratorEvent event = mock(CuratorEvent.class);
+                when(event.getResultCode()).thenReturn(existedKeys.contains(forPathInvocation.<String>getArgument(0)) ? Code.OK.intValue() : Code.NONODE.intValue());
+                invocation.<BackgroundCallback>getArgument(0).processResult(client, event);
+                return null;
+            });
+            return result;
+        });
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertBatchQuery() throws Exception {
+        GetDataBuilder getDataBuilder = mock(GetDataBuilder.class);
+        when(client.getData()).thenReturn(getDataBuilder);
+        when(getDataBuilder.inBackground(any(BackgroundCallback.class))).thenAnswer(invocation -> {
+            ErrorListenerPathable<byte[]> result = mock(ErrorListenerPathable.class);
+            when(result.forPath(anyString())).thenAnswer(forPathInvocation -> {
+                CuratorEvent event = mock(CuratorEvent.class);
+                boolean existed = "/test/existed".equals(forPathInvocation.getArgument(0));
+                when(event.getResultCode()).thenReturn(existed ? Code.OK.intValue() : Code.NONODE.intValue());
+                when(event.getData()).thenReturn(existed ? "value1".getBytes(StandardCharsets.UTF_8) : null);
+                invocation.<BackgroundCallback>getArgument(0).processResult(client, event);
+                return null;
+            });
+            return result;
+        });
+        assertThat(REPOSITORY.batchQuery(Arrays.asList("/test/existed", "/test/absent")), is(Collections.singletonMap("/test/existed", "value1")));
+    }
+    
     @Test
     void assertPersistEphemeralNotExist() throws Exception {
         when(protect.withMode(CreateMode.EPHEMERAL)).thenReturn(protect);
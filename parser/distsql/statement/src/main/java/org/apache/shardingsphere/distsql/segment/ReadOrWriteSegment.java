@@ -18,12 +18,10 @@
 package org.apache.shardingsphere.distsql.segment;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 /**
  * Read or Write configuration segment.
  */
-@RequiredArgsConstructor
 @Getter
 public final class ReadOrWriteSegment implements DistSQLSegment {
     
@@ -35,10 +33,25 @@ public final class ReadOrWriteSegment implements DistSQLSegment {
     
     private final AlgorithmSegment rateLimiter;
     
+    private final Integer incrementalConcurrency;
+    
+    public ReadOrWriteSegment(final Integer workerThread, final Integer batchSize, final Integer shardingSize, final AlgorithmSegment rateLimiter) {
+        this.workerThread = workerThread;
+        this.batchSize = batchSize;
+        this.shardingSize = shardingSize;
+        this.rateLimiter = rateLimiter;
+        incrementalConcurrency = null;
+    }
+    
     public ReadOrWriteSegment(final Integer workerThread, final Integer batchSize, final AlgorithmSegment rateLimiter) {
+        this(workerThread, batchSize, rateLimiter, null);
+    }
+    
+    public ReadOrWriteSegment(final Integer workerThread, final Integer batchSize, final AlgorithmSegment rateLimiter, final Integer incrementalConcurrency) {
         this.workerThread = workerThread;
         this.batchSize = batchSize;
         shardingSize = 10000000;
         this.rateLimiter = rateLimiter;
+        this.incrementalConcurrency = incrementalConcurrency;
     }
 }
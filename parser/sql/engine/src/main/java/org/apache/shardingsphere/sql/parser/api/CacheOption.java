@@ -33,8 +33,37 @@ public final class CacheOption {
     
     private final long maximumSize;
     
+    private final long maximumBytes;
+    
+    private final int allowedMaxSqlLength;
+    
+    public CacheOption(final int initialCapacity, final long maximumSize) {
+        this(initialCapacity, maximumSize, 0L, 0);
+    }
+    
+    /**
+     * Judge whether cache is bounded by estimated bytes instead of entry count.
+     *
+     * @return is bounded by estimated bytes or not
+     */
+    public boolean isMemoryWeighted() {
+        return maximumBytes > 0L;
+    }
+    
+    /**
+     * Judge whether SQL is allowed to be admitted into cache.
+     *
+     * @param sql SQL
+     * @return is admitted or not
+     */
+    public boolean isAdmitted(final String sql) {
+        return allowedMaxSqlLength <= 0 || sql.length() <= allowedMaxSqlLength;
+    }
+    
     @Override
     public String toString() {
-        return String.format("initialCapacity: %d, maximumSize: %d", initialCapacity, maximumSize);
+        return isMemoryWeighted() || allowedMaxSqlLength > 0
+                ? String.format("initialCapacity: %d, maximumSize: %d, maximumBytes: %d, allowedMaxSqlLength: %d", initialCapacity, maximumSize, maximumBytes, allowedMaxSqlLength)
+                : String.format("initialCapacity: %d, maximumSize: %d", initialCapacity, maximumSize);
     }
 }
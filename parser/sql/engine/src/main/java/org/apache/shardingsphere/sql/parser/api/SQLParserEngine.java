@@ -33,8 +33,11 @@ public final class SQLParserEngine {
     
     private final LoadingCache<String, ParseASTNode> parseTreeCache;
     
+    private final CacheOption cacheOption;
+    
     public SQLParserEngine(final DatabaseType databaseType, final CacheOption cacheOption) {
         sqlParserExecutor = new SQLParserExecutor(databaseType);
+        this.cacheOption = cacheOption;
         parseTreeCache = ParseTreeCacheBuilder.build(cacheOption, databaseType);
     }
     
@@ -50,6 +53,6 @@ public final class SQLParserEngine {
      * @return parse AST node
      */
     public ParseASTNode parse(final String sql, final boolean useCache) {
-        return useCache ? parseTreeCache.get(sql) : sqlParserExecutor.parse(sql);
+        return useCache && cacheOption.isAdmitted(sql) ? parseTreeCache.get(sql) : sqlParserExecutor.parse(sql);
     }
 }
@@ -45,6 +45,15 @@ public final class ParseASTNode implements ASTNode {
         return parseTree.getChild(0);
     }
     
+    /**
+     * Get token size.
+     *
+     * @return token size
+     */
+    public int getTokenSize() {
+        return tokenStream.size();
+    }
+    
     /**
      * Get hidden tokens.
      *
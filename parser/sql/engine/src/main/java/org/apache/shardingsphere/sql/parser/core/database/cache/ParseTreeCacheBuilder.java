@@ -39,6 +39,12 @@ public final class ParseTreeCacheBuilder {
      * @return built parse tree cache
      */
     public static LoadingCache<String, ParseASTNode> build(final CacheOption option, final DatabaseType databaseType) {
-        return Caffeine.newBuilder().softValues().initialCapacity(option.getInitialCapacity()).maximumSize(option.getMaximumSize()).build(new ParseTreeCacheLoader(databaseType));
+        Caffeine<Object, Object> result = Caffeine.newBuilder().softValues().initialCapacity(option.getInitialCapacity());
+        if (option.isMemoryWeighted()) {
+            result.maximumWeight(option.getMaximumBytes()).weigher(new ParseTreeCacheWeigher());
+        } else {
+            result.maximumSize(option.getMaximumSize());
+        }
+        return result.build(new ParseTreeCacheLoader(databaseType));
     }
 }
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+
+/**
+ * Parse tree cache weigher.
+ * 
+ * <p>Weight is the estimated bytes of cached SQL and its parse tree. The parse tree keeps the whole token stream, so its size is estimated by token size.</p>
+ */
+public final class ParseTreeCacheWeigher implements Weigher<String, ParseASTNode> {
+    
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+    
+    private static final int SQL_BYTES_PER_CHAR = 2;
+    
+    private static final int TREE_BYTES_PER_TOKEN = 160;
+    
+    @Override
+    public int weigh(final String sql, final ParseASTNode parseASTNode) {
+        return (int) Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD_BYTES + (long) sql.length() * SQL_BYTES_PER_CHAR + (long) parseASTNode.getTokenSize() * TREE_BYTES_PER_TOKEN);
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.cache;
+
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ParseTreeCacheWeigherTest {
+    
+    @Test
+    void assertWeigh() {
+        assertThat(new ParseTreeCacheWeigher().weigh("SELECT 1", mockParseASTNode(3)), is(512 + 16 + 480));
+    }
+    
+    @Test
+    void assertWeighGrowsWithTokenSize() {
+        assertTrue(new ParseTreeCacheWeigher().weigh("SELECT 1", mockParseASTNode(30)) > new ParseTreeCacheWeigher().weigh("SELECT 1", mockParseASTNode(3)));
+    }
+    
+    private ParseASTNode mockParseASTNode(final int tokenSize) {
+        ParseASTNode result = mock(ParseASTNode.class);
+        when(result.getTokenSize()).thenReturn(tokenSize);
+        return result;
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.backend.connector;
 
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.infra.binder.context.aware.CursorAware;
 import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
@@ -45,6 +46,7 @@ import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecuti
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.util.SystemSchemaUtils;
@@ -79,13 +81,17 @@ import org.apache.shardingsphere.sqlfederation.executor.context.SQLFederationCon
 import org.apache.shardingsphere.transaction.api.TransactionType;
 import org.apache.shardingsphere.transaction.implicit.ImplicitTransactionCallback;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -97,6 +103,9 @@ import java.util.stream.Collectors;
  */
 public final class DatabaseConnector implements DatabaseBackendHandler {
     
+    private static final Collection<Integer> NON_TEXT_COLUMN_TYPES = new HashSet<>(Arrays.asList(
+            Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY, Types.BLOB, Types.ARRAY, Types.STRUCT, Types.REF, Types.JAVA_OBJECT));
+    
     private final String driverType;
     
     private final QueryContext queryContext;
@@ -119,6 +128,8 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     
     private MergedResult mergedResult;
     
+    private boolean rowPassThrough;
+    
     public DatabaseConnector(final String driverType, final QueryContext queryContext, final ProxyDatabaseConnectionManager databaseConnectionManager) {
         this.driverType = driverType;
         this.queryContext = queryContext;
@@ -288,6 +299,7 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     private QueryResponseHeader processExecuteQuery(final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults, final QueryResult queryResultSample) throws SQLException {
         queryHeaders = createQueryHeaders(sqlStatementContext, queryResultSample);
         mergedResult = mergeQuery(sqlStatementContext, queryResults);
+        rowPassThrough = isRowPassThroughAvailable(queryResults);
         return new QueryResponseHeader(queryHeaders);
     }
     
@@ -320,6 +332,12 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         return mergeEngine.merge(queryResults, sqlStatementContext);
     }
     
+    private boolean isRowPassThroughAvailable(final List<QueryResult> queryResults) {
+        return contextManager.getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_ROW_PASS_THROUGH_ENABLED)
+                && (mergedResult instanceof TransparentMergedResult || mergedResult instanceof IteratorStreamMergedResult) && 1 == queryResults.size() && queryResults.get(0) instanceof JDBCStreamQueryResult
+                && StandardCharsets.UTF_8.equals(databaseConnectionManager.getConnectionSession().getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
+    }
+    
     private UpdateResponseHeader processExecuteUpdate(final Collection<UpdateResult> updateResults) {
         Optional<GeneratedKeyContext> generatedKeyContext = queryContext.getSqlStatementContext() instanceof InsertStatementContext
                 ? ((InsertStatementContext) queryContext.getSqlStatementContext()).getGeneratedKeyContext()
@@ -364,10 +382,30 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
      */
     @Override
     public QueryResponseRow getRowData() throws SQLException {
+        return createQueryResponseRow(false);
+    }
+    
+    /**
+     * Get query response row for text protocol.
+     * 
+     * <p>Text values of rows from single storage unit without merging and decorating are relayed as bytes without conversion if row pass through enabled.</p>
+     *
+     * @return query response row
+     * @throws SQLException SQL exception
+     */
+    @Override
+    public QueryResponseRow getTextRowData() throws SQLException {
+        return createQueryResponseRow(rowPassThrough);
+    }
+    
+    private QueryResponseRow createQueryResponseRow(final boolean passThrough) throws SQLException {
         List<QueryResponseCell> cells = new ArrayList<>(queryHeaders.size());
         for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
-            Object data = mergedResult.getValue(columnIndex, Object.class);
-            cells.add(new QueryResponseCell(queryHeaders.get(columnIndex - 1).getColumnType(), data, queryHeaders.get(columnIndex - 1).getColumnTypeName()));
+            QueryHeader queryHeader = queryHeaders.get(columnIndex - 1);
+            Object data = passThrough && !NON_TEXT_COLUMN_TYPES.contains(queryHeader.getColumnType())
+                    ? mergedResult.getValue(columnIndex, byte[].class)
+                    : mergedResult.getValue(columnIndex, Object.class);
+            cells.add(new QueryResponseCell(queryHeader.getColumnType(), data, queryHeader.getColumnTypeName()));
         }
         return new QueryResponseRow(cells);
     }
@@ -375,6 +413,7 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     @Override
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        closeMergedResult().ifPresent(result::add);
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeSQLFederationEngine().ifPresent(result::add);
@@ -386,6 +425,17 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         throw ex;
     }
     
+    private Optional<SQLException> closeMergedResult() {
+        if (null != mergedResult) {
+            try {
+                mergedResult.close();
+            } catch (final SQLException ex) {
+                return Optional.of(ex);
+            }
+        }
+        return Optional.empty();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
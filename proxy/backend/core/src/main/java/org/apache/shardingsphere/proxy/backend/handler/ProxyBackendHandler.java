@@ -56,6 +56,18 @@ public interface ProxyBackendHandler {
         return new QueryResponseRow(Collections.emptyList());
     }
     
+    /**
+     * Get row data for text protocol.
+     * 
+     * <p>Values may be text bytes relayed from storage unit as they are, so the row data can only be written by text protocol.</p>
+     *
+     * @return row data
+     * @throws SQLException SQL exception
+     */
+    default QueryResponseRow getTextRowData() throws SQLException {
+        return getRowData();
+    }
+    
     /**
      * Close.
      *
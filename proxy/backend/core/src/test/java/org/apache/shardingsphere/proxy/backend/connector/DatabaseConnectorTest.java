@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -50,6 +51,7 @@ import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.fixture.QueryHeaderBuilderFixture;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilder;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilderEngine;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
@@ -91,6 +93,7 @@ import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -175,6 +178,45 @@ class DatabaseConnectorTest {
         }
     }
     
+    @Test
+    void assertGetTextRowDataWithPassThrough() throws SQLException {
+        DatabaseConnector engine = createTextProtocolDatabaseConnector();
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.getValue(1, byte[].class)).thenReturn(new byte[]{'1'});
+        when(mergedResult.getValue(2, Object.class)).thenReturn(new byte[]{1});
+        setField(engine, "queryHeaders", Arrays.asList(new QueryHeader("foo_db", "foo_tbl", "id", "id", Types.INTEGER, "INT", 11, 0, true, true, true, false),
+                new QueryHeader("foo_db", "foo_tbl", "data", "data", Types.VARBINARY, "VARBINARY", 16, 0, false, false, false, false)));
+        setField(engine, "mergedResult", mergedResult);
+        setField(engine, "rowPassThrough", true);
+        List<Object> actual = engine.getTextRowData().getData();
+        assertThat((byte[]) actual.get(0), is(new byte[]{'1'}));
+        assertThat((byte[]) actual.get(1), is(new byte[]{1}));
+        verify(mergedResult).getValue(1, byte[].class);
+        verify(mergedResult).getValue(2, Object.class);
+    }
+    
+    @Test
+    void assertGetTextRowDataWithoutPassThrough() throws SQLException {
+        DatabaseConnector engine = createTextProtocolDatabaseConnector();
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1);
+        setField(engine, "queryHeaders", Collections.singletonList(new QueryHeader("foo_db", "foo_tbl", "id", "id", Types.INTEGER, "INT", 11, 0, true, true, true, false)));
+        setField(engine, "mergedResult", mergedResult);
+        assertThat(engine.getTextRowData().getData(), is(Collections.<Object>singletonList(1)));
+        verify(mergedResult, never()).getValue(1, byte[].class);
+    }
+    
+    private DatabaseConnector createTextProtocolDatabaseConnector() {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        return DatabaseConnectorFactory.getInstance().newInstance(createQueryContext(sqlStatementContext), databaseConnectionManager, false);
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void setField(final DatabaseConnector target, final String fieldName, final Object value) {
+        Plugins.getMemberAccessor().set(DatabaseConnector.class.getDeclaredField(fieldName), target, value);
+    }
+    
     private QueryContext createQueryContext(final SQLStatementContext sqlStatementContext) {
         ConnectionContext connectionContext = mock(ConnectionContext.class);
         when(connectionContext.getCurrentDatabaseName()).thenReturn(Optional.of(DefaultDatabase.LOGIC_NAME));
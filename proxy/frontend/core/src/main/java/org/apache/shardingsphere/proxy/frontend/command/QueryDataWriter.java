@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.concurrent.EventExecutor;
+import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+/**
+ * Query data writer.
+ * 
+ * <p>Rows are written packet by packet until the first flush, which keeps small results unchanged.
+ * Larger results are encoded into one pooled buffer, which is written and flushed once its encoded bytes reach the threshold,
+ * and waits only when the channel is not writable.
+ * Packets written before are encoded by event loop, so it is awaited before switching to keep protocol state such as MySQL sequence ID in order.</p>
+ */
+public final class QueryDataWriter implements AutoCloseable {
+    
+    private final ChannelHandlerContext context;
+    
+    private final DatabasePacketCodecEngine codecEngine;
+    
+    private final ResourceLock resourceLock;
+    
+    private final int flushThreshold;
+    
+    private final int flushBytesThreshold;
+    
+    private int pendingRows;
+    
+    private boolean batched;
+    
+    private ByteBuf buffer;
+    
+    public QueryDataWriter(final ChannelHandlerContext context, final DatabasePacketCodecEngine codecEngine, final ResourceLock resourceLock) {
+        this.context = context;
+        this.codecEngine = codecEngine;
+        this.resourceLock = resourceLock;
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        flushThreshold = props.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        flushBytesThreshold = props.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD);
+    }
+    
+    /**
+     * Write row packet.
+     *
+     * @param packet row packet
+     */
+    public void write(final DatabasePacket packet) {
+        if (batched) {
+            encode(packet);
+            return;
+        }
+        resourceLock.doAwait(context);
+        context.write(packet);
+        if (flushThreshold == ++pendingRows) {
+            context.flush();
+            pendingRows = 0;
+            if (flushBytesThreshold > 0) {
+                awaitPendingWrites();
+                batched = true;
+            }
+        }
+    }
+    
+    private void awaitPendingWrites() {
+        EventExecutor executor = context.executor();
+        if (!executor.inEventLoop()) {
+            executor.submit(() -> {
+            }).awaitUninterruptibly();
+        }
+    }
+    
+    private void encode(final DatabasePacket packet) {
+        if (null == buffer) {
+            buffer = context.alloc().ioBuffer(flushBytesThreshold);
+        }
+        codecEngine.encode(context, packet, buffer);
+        if (buffer.readableBytes() >= flushBytesThreshold || !buffer.isReadable()) {
+            writeBuffer();
+            context.flush();
+            resourceLock.doAwait(context);
+        }
+    }
+    
+    private void writeBuffer() {
+        if (buffer.isReadable()) {
+            context.write(buffer);
+        } else {
+            buffer.release();
+        }
+        buffer = null;
+    }
+    
+    @Override
+    public void close() {
+        if (null != buffer) {
+            writeBuffer();
+        }
+    }
+}
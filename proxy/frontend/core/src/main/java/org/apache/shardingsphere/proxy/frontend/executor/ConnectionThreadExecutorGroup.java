@@ -19,13 +19,17 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 
 /**
  * Connection thread executor group.
@@ -33,6 +37,7 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * Manage the thread for each connection session invoking.
  * This ensure XA transaction framework processed by current thread id.
+ * The executor of connection is created when it is used at first time, and its thread is only kept while transaction is in progress.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -40,7 +45,7 @@ public final class ConnectionThreadExecutorGroup {
     
     private static final ConnectionThreadExecutorGroup INSTANCE = new ConnectionThreadExecutorGroup();
     
-    private final Map<Integer, ExecutorService> executorServices = new ConcurrentHashMap<>();
+    private final Map<Integer, ConnectionExecutorHolder> executorServices = new ConcurrentHashMap<>();
     
     /**
      * Get connection thread executor group.
@@ -55,13 +60,10 @@ public final class ConnectionThreadExecutorGroup {
      * Register connection.
      *
      * @param connectionId connection id
+     * @param transactionInProgress whether transaction of connection is in progress
      */
-    public void register(final int connectionId) {
-        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId));
-    }
-    
-    private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+    public void register(final int connectionId, final BooleanSupplier transactionInProgress) {
+        executorServices.put(connectionId, new ConnectionExecutorHolder(connectionId, transactionInProgress));
     }
     
     /**
@@ -71,7 +73,8 @@ public final class ConnectionThreadExecutorGroup {
      * @return executor service of current connection
      */
     public ExecutorService get(final int connectionId) {
-        return executorServices.get(connectionId);
+        ConnectionExecutorHolder holder = executorServices.get(connectionId);
+        return null == holder ? null : holder.getExecutorService();
     }
     
     /**
@@ -80,15 +83,44 @@ public final class ConnectionThreadExecutorGroup {
      * @param connectionId connection id
      */
     public void unregisterAndAwaitTermination(final int connectionId) {
-        ExecutorService executorService = executorServices.remove(connectionId);
-        if (null == executorService) {
+        ConnectionExecutorHolder holder = executorServices.remove(connectionId);
+        if (null == holder || null == holder.executorService) {
             return;
         }
-        executorService.shutdown();
+        holder.executorService.shutdown();
         try {
-            executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            holder.executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
         } catch (final InterruptedException ignored) {
             Thread.currentThread().interrupt();
         }
     }
+    
+    @RequiredArgsConstructor
+    private static final class ConnectionExecutorHolder {
+        
+        private final int connectionId;
+        
+        private final BooleanSupplier transactionInProgress;
+        
+        private volatile ExecutorService executorService;
+        
+        private ExecutorService getExecutorService() {
+            if (null == executorService) {
+                synchronized (this) {
+                    if (null == executorService) {
+                        executorService = new ConnectionThreadPoolExecutor(createThreadFactory(), transactionInProgress);
+                    }
+                }
+            }
+            return executorService;
+        }
+        
+        private ThreadFactory createThreadFactory() {
+            String nameFormat = String.format("Connection-%d-ThreadExecutor", connectionId);
+            if (ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_VIRTUAL_THREAD_ENABLED)) {
+                return ExecutorThreadFactoryBuilder.buildVirtual(nameFormat).orElseGet(() -> runnable -> new Thread(runnable, nameFormat));
+            }
+            return runnable -> new Thread(runnable, nameFormat);
+        }
+    }
 }
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Connection thread pool executor.
+ *
+ * <p>
+ * It holds at most one thread for a connection. The thread is kept while transaction of the connection is in progress,
+ * so that XA transaction framework can find the transaction by current thread. Otherwise the thread is released soon after the command finished.
+ * </p>
+ */
+public final class ConnectionThreadPoolExecutor extends ThreadPoolExecutor {
+    
+    private static final long IN_TRANSACTION_KEEP_ALIVE_MILLIS = TimeUnit.HOURS.toMillis(1L);
+    
+    private static final long IDLE_KEEP_ALIVE_MILLIS = 1000L;
+    
+    private final BooleanSupplier transactionInProgress;
+    
+    public ConnectionThreadPoolExecutor(final ThreadFactory threadFactory, final BooleanSupplier transactionInProgress) {
+        super(0, 1, IDLE_KEEP_ALIVE_MILLIS, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        this.transactionInProgress = transactionInProgress;
+    }
+    
+    @Override
+    protected void afterExecute(final Runnable runnable, final Throwable throwable) {
+        long keepAliveMillis = transactionInProgress.getAsBoolean() ? IN_TRANSACTION_KEEP_ALIVE_MILLIS : IDLE_KEEP_ALIVE_MILLIS;
+        if (getKeepAliveTime(TimeUnit.MILLISECONDS) != keepAliveMillis) {
+            setKeepAliveTime(keepAliveMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+}
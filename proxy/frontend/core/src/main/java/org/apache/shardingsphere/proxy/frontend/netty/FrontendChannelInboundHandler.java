@@ -58,8 +58,8 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @Override
     public void channelActive(final ChannelHandlerContext context) {
         int connectionId = databaseProtocolFrontendEngine.getAuthenticationEngine().handshake(context);
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
         connectionSession.setConnectionId(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, connectionSession.getTransactionStatus()::isInTransaction);
     }
     
     @Override
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+class QueryDataWriterTest {
+    
+    @Mock
+    private DatabasePacketCodecEngine codecEngine;
+    
+    @Mock
+    private ResourceLock resourceLock;
+    
+    @Test
+    void assertWriteWithFlushThresholdOnly() {
+        mockProps("2", "0");
+        ChannelHandlerContext context = mock(ChannelHandlerContext.class);
+        DatabasePacket packet = mock(DatabasePacket.class);
+        try (QueryDataWriter writer = new QueryDataWriter(context, codecEngine, resourceLock)) {
+            for (int i = 0; i < 5; i++) {
+                writer.write(packet);
+            }
+        }
+        verify(context, times(5)).write(packet);
+        verify(context, times(2)).flush();
+        verify(resourceLock, times(5)).doAwait(context);
+        verify(codecEngine, never()).encode(any(), any(), any());
+    }
+    
+    @Test
+    void assertWriteWithFlushBytesThreshold() {
+        mockProps("1", "8");
+        doAnswer(invocation -> invocation.getArgument(2, ByteBuf.class).writeInt(1)).when(codecEngine).encode(any(), any(), any());
+        EmbeddedChannel channel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+        ChannelHandlerContext context = channel.pipeline().firstContext();
+        DatabasePacket packet = mock(DatabasePacket.class);
+        try (QueryDataWriter writer = new QueryDataWriter(context, codecEngine, resourceLock)) {
+            for (int i = 0; i < 4; i++) {
+                writer.write(packet);
+            }
+        }
+        verify(codecEngine, times(3)).encode(any(), any(), any());
+        verify(resourceLock, times(2)).doAwait(context);
+        assertThat(channel.readOutbound(), is(packet));
+        ByteBuf actualFlushed = channel.readOutbound();
+        assertThat(actualFlushed.readableBytes(), is(8));
+        actualFlushed.release();
+        assertNull(channel.readOutbound());
+        channel.flushOutbound();
+        ByteBuf actualWritten = channel.readOutbound();
+        assertThat(actualWritten.readableBytes(), is(4));
+        actualWritten.release();
+    }
+    
+    private void mockProps(final String flushThreshold, final String flushBytesThreshold) {
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), flushThreshold),
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), flushBytesThreshold)));
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()).thenReturn(props);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ConnectionThreadPoolExecutorTest {
+    
+    @Test
+    void assertKeepThreadWhileTransactionInProgress() throws ExecutionException, InterruptedException {
+        AtomicBoolean transactionInProgress = new AtomicBoolean();
+        ConnectionThreadPoolExecutor executor = new ConnectionThreadPoolExecutor(Executors.defaultThreadFactory(), transactionInProgress::get);
+        try {
+            assertThat(executor.getKeepAliveTime(TimeUnit.MILLISECONDS), is(1000L));
+            executor.submit(() -> transactionInProgress.set(true)).get();
+            assertThat(executor.submit(() -> executor.getKeepAliveTime(TimeUnit.HOURS)).get(), is(1L));
+            Thread transactionThread = executor.submit(Thread::currentThread).get();
+            assertThat(executor.submit(Thread::currentThread).get(), is(transactionThread));
+            executor.submit(() -> transactionInProgress.set(false)).get();
+            executor.submit(() -> transactionInProgress.set(false)).get();
+            assertThat(executor.getKeepAliveTime(TimeUnit.MILLISECONDS), is(1000L));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.frontend.opengauss.command;
 
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.opengauss.packet.command.OpenGaussCommandPacketFactory;
 import org.apache.shardingsphere.db.protocol.opengauss.packet.command.OpenGaussCommandPacketType;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
@@ -45,7 +46,11 @@ import java.util.Optional;
  */
 public final class OpenGaussCommandExecuteEngine implements CommandExecuteEngine {
     
-    private final PostgreSQLCommandExecuteEngine postgresqlCommandExecuteEngine = new PostgreSQLCommandExecuteEngine();
+    private final PostgreSQLCommandExecuteEngine postgresqlCommandExecuteEngine;
+    
+    public OpenGaussCommandExecuteEngine(final DatabasePacketCodecEngine codecEngine) {
+        postgresqlCommandExecuteEngine = new PostgreSQLCommandExecuteEngine(codecEngine);
+    }
     
     @Override
     public CommandPacketType getCommandPacketType(final PacketPayload payload) {
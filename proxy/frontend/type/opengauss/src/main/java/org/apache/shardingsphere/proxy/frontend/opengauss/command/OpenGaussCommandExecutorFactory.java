@@ -27,6 +27,7 @@ import org.apache.shardingsphere.db.protocol.packet.sql.SQLReceivedPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedCommandPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLBatchedPacketsRange;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.close.PostgreSQLComClosePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
@@ -85,26 +86,27 @@ public final class OpenGaussCommandExecutorFactory {
         if (aggregatedCommandPacket.isContainsBatchedStatements() && aggregatedCommandPacket.getPackets().stream().noneMatch(OpenGaussComBatchBindPacket.class::isInstance)) {
             return new PostgreSQLAggregatedCommandExecutor(getExecutorsOfAggregatedBatchedStatements(aggregatedCommandPacket, connectionSession, portalContext));
         }
-        List<CommandExecutor> result = new ArrayList<>(aggregatedCommandPacket.getPackets().size());
-        for (PostgreSQLCommandPacket each : aggregatedCommandPacket.getPackets()) {
-            result.add(getCommandExecutor((CommandPacketType) each.getIdentifier(), each, connectionSession, portalContext));
-        }
-        return new PostgreSQLAggregatedCommandExecutor(result);
+        return new PostgreSQLAggregatedCommandExecutor(getCommandExecutors(aggregatedCommandPacket.getPackets(), connectionSession, portalContext));
     }
     
     private static List<CommandExecutor> getExecutorsOfAggregatedBatchedStatements(final PostgreSQLAggregatedCommandPacket aggregatedCommandPacket,
                                                                                    final ConnectionSession connectionSession, final PortalContext portalContext) throws SQLException {
         List<PostgreSQLCommandPacket> packets = aggregatedCommandPacket.getPackets();
-        int batchPacketBeginIndex = aggregatedCommandPacket.getBatchPacketBeginIndex();
-        int batchPacketEndIndex = aggregatedCommandPacket.getBatchPacketEndIndex();
-        List<CommandExecutor> result = new ArrayList<>(batchPacketBeginIndex + packets.size() - batchPacketEndIndex);
-        for (int i = 0; i < batchPacketBeginIndex; i++) {
-            PostgreSQLCommandPacket each = packets.get(i);
-            result.add(getCommandExecutor((CommandPacketType) each.getIdentifier(), each, connectionSession, portalContext));
+        List<CommandExecutor> result = new ArrayList<>(packets.size());
+        int index = 0;
+        for (PostgreSQLBatchedPacketsRange each : aggregatedCommandPacket.getBatchedPacketsRanges()) {
+            result.addAll(getCommandExecutors(packets.subList(index, each.getBeginIndex()), connectionSession, portalContext));
+            List<PostgreSQLCommandPacket> batchedPackets = packets.subList(each.getBeginIndex(), each.getEndIndex() + 1);
+            result.add(new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, batchedPackets, getCommandExecutors(batchedPackets, connectionSession, portalContext)));
+            index = each.getEndIndex() + 1;
         }
-        result.add(new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, packets.subList(batchPacketBeginIndex, batchPacketEndIndex + 1)));
-        for (int i = batchPacketEndIndex + 1; i < packets.size(); i++) {
-            PostgreSQLCommandPacket each = packets.get(i);
+        result.addAll(getCommandExecutors(packets.subList(index, packets.size()), connectionSession, portalContext));
+        return result;
+    }
+    
+    private static List<CommandExecutor> getCommandExecutors(final List<PostgreSQLCommandPacket> packets, final ConnectionSession connectionSession, final PortalContext portalContext) throws SQLException {
+        List<CommandExecutor> result = new ArrayList<>(packets.size());
+        for (PostgreSQLCommandPacket each : packets) {
             result.add(getCommandExecutor((CommandPacketType) each.getIdentifier(), each, connectionSession, portalContext));
         }
         return result;
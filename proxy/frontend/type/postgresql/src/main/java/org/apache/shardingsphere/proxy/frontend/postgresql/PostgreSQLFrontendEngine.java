@@ -36,10 +36,10 @@ public final class PostgreSQLFrontendEngine implements DatabaseProtocolFrontendE
     
     private final AuthenticationEngine authenticationEngine = new PostgreSQLAuthenticationEngine();
     
-    private final PostgreSQLCommandExecuteEngine commandExecuteEngine = new PostgreSQLCommandExecuteEngine();
-    
     private final DatabasePacketCodecEngine codecEngine = new PostgreSQLPacketCodecEngine();
     
+    private final PostgreSQLCommandExecuteEngine commandExecuteEngine = new PostgreSQLCommandExecuteEngine(codecEngine);
+    
     @Override
     public void release(final ConnectionSession connectionSession) {
         PostgreSQLPortalContextRegistry.getInstance().remove(connectionSession.getConnectionId());
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
 
+import com.cedarsoftware.util.CaseInsensitiveSet;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
@@ -27,18 +28,32 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.ext
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.UpdateStatement;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Aggregated batched statements command executor for PostgreSQL.
+ *
+ * <p>The packets may interleave several statements. Parameter sets of each statement are executed as one batch, in the order of the first execution of the statements,
+ * and responses are returned in the order of the packets. Statements are batched only if they are DML without rows to return and do not share any table,
+ * otherwise the packets are executed one by one with the given executors.</p>
  */
 @RequiredArgsConstructor
 public final class PostgreSQLAggregatedBatchedStatementsCommandExecutor implements CommandExecutor {
@@ -47,48 +62,109 @@ public final class PostgreSQLAggregatedBatchedStatementsCommandExecutor implemen
     
     private final List<PostgreSQLCommandPacket> packets;
     
+    private final List<CommandExecutor> packetExecutors;
+    
     @Override
     public Collection<DatabasePacket> execute() throws SQLException {
-        PostgreSQLServerPreparedStatement preparedStatement = getPreparedStatement();
-        PostgreSQLBatchedStatementsExecutor executor = new PostgreSQLBatchedStatementsExecutor(connectionSession, preparedStatement, readParameterSets(preparedStatement.getParameterTypes()));
+        Map<String, PostgreSQLServerPreparedStatement> preparedStatements = getPreparedStatements();
+        if (!isBatchable(preparedStatements.values())) {
+            return executePacketsOneByOne();
+        }
+        Map<String, int[]> updateCounts = executeBatches(preparedStatements);
+        Map<String, Integer> executedParamSetCounts = new HashMap<>(preparedStatements.size(), 1F);
         Collection<DatabasePacket> result = new ArrayList<>(packets.size());
-        int totalInserted = executor.executeBatch();
-        int executePacketCount = executePacketCount();
+        String statementId = null;
+        int paramSetIndex = -1;
         for (PostgreSQLCommandPacket each : packets) {
             if (each instanceof PostgreSQLComBindPacket) {
+                statementId = ((PostgreSQLComBindPacket) each).getStatementId();
+                paramSetIndex = executedParamSetCounts.merge(statementId, 1, Integer::sum) - 1;
                 result.add(PostgreSQLBindCompletePacket.getInstance());
             }
             if (each instanceof PostgreSQLComDescribePacket) {
-                result.add(preparedStatement.describeRows().orElseGet(PostgreSQLNoDataPacket::getInstance));
+                result.add(preparedStatements.get(statementId).describeRows().orElseGet(PostgreSQLNoDataPacket::getInstance));
             }
             if (each instanceof PostgreSQLComExecutePacket) {
-                String tag = PostgreSQLCommand.valueOf(preparedStatement.getSqlStatementContext().getSqlStatement().getClass()).orElse(PostgreSQLCommand.INSERT).getTag();
-                result.add(new PostgreSQLCommandCompletePacket(tag, 0 == executePacketCount ? 1 : totalInserted / executePacketCount));
+                String tag = PostgreSQLCommand.valueOf(preparedStatements.get(statementId).getSqlStatementContext().getSqlStatement().getClass()).orElse(PostgreSQLCommand.INSERT).getTag();
+                int[] statementUpdateCounts = updateCounts.get(statementId);
+                result.add(new PostgreSQLCommandCompletePacket(tag, paramSetIndex >= 0 && paramSetIndex < statementUpdateCounts.length ? statementUpdateCounts[paramSetIndex] : 0));
             }
         }
         return result;
     }
     
-    private PostgreSQLServerPreparedStatement getPreparedStatement() {
-        PostgreSQLComBindPacket bindPacket = (PostgreSQLComBindPacket) packets.get(0);
-        return connectionSession.getServerPreparedStatementRegistry().getPreparedStatement(bindPacket.getStatementId());
-    }
-    
-    private List<List<Object>> readParameterSets(final List<PostgreSQLColumnType> parameterTypes) {
-        List<List<Object>> result = new LinkedList<>();
+    private Map<String, PostgreSQLServerPreparedStatement> getPreparedStatements() {
+        Map<String, PostgreSQLServerPreparedStatement> result = new LinkedHashMap<>();
         for (PostgreSQLCommandPacket each : packets) {
             if (each instanceof PostgreSQLComBindPacket) {
-                result.add(((PostgreSQLComBindPacket) each).readParameters(parameterTypes));
+                String statementId = ((PostgreSQLComBindPacket) each).getStatementId();
+                result.computeIfAbsent(statementId, key -> connectionSession.getServerPreparedStatementRegistry().getPreparedStatement(key));
+            }
+        }
+        return result;
+    }
+    
+    private boolean isBatchable(final Collection<PostgreSQLServerPreparedStatement> preparedStatements) {
+        for (PostgreSQLServerPreparedStatement each : preparedStatements) {
+            if (!isBatchable(each.getSqlStatementContext().getSqlStatement())) {
+                return false;
+            }
+        }
+        return 1 == preparedStatements.size() || isTablesDisjoint(preparedStatements);
+    }
+    
+    private boolean isBatchable(final SQLStatement sqlStatement) {
+        if (sqlStatement instanceof InsertStatement) {
+            return !((InsertStatement) sqlStatement).getReturningSegment().isPresent();
+        }
+        if (sqlStatement instanceof DeleteStatement) {
+            return !((DeleteStatement) sqlStatement).getReturningSegment().isPresent();
+        }
+        return sqlStatement instanceof UpdateStatement;
+    }
+    
+    private boolean isTablesDisjoint(final Collection<PostgreSQLServerPreparedStatement> preparedStatements) {
+        Collection<String> tableNames = new CaseInsensitiveSet<>();
+        for (PostgreSQLServerPreparedStatement each : preparedStatements) {
+            SQLStatementContext sqlStatementContext = each.getSqlStatementContext();
+            if (!(sqlStatementContext instanceof TableAvailable)) {
+                return false;
+            }
+            for (String eachTableName : ((TableAvailable) sqlStatementContext).getTablesContext().getTableNames()) {
+                if (!tableNames.add(eachTableName)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
+    private Collection<DatabasePacket> executePacketsOneByOne() throws SQLException {
+        Collection<DatabasePacket> result = new LinkedList<>();
+        for (CommandExecutor each : packetExecutors) {
+            try {
+                result.addAll(each.execute());
+            } finally {
+                each.close();
             }
         }
         return result;
     }
     
-    private int executePacketCount() {
-        int result = 0;
+    private Map<String, int[]> executeBatches(final Map<String, PostgreSQLServerPreparedStatement> preparedStatements) throws SQLException {
+        Map<String, int[]> result = new HashMap<>(preparedStatements.size(), 1F);
+        for (Entry<String, PostgreSQLServerPreparedStatement> entry : preparedStatements.entrySet()) {
+            List<List<Object>> parameterSets = readParameterSets(entry.getKey(), entry.getValue().getParameterTypes());
+            result.put(entry.getKey(), new PostgreSQLBatchedStatementsExecutor(connectionSession, entry.getValue(), parameterSets).executeBatchForEachParameterSet());
+        }
+        return result;
+    }
+    
+    private List<List<Object>> readParameterSets(final String statementId, final List<PostgreSQLColumnType> parameterTypes) {
+        List<List<Object>> result = new LinkedList<>();
         for (PostgreSQLCommandPacket each : packets) {
-            if (each instanceof PostgreSQLComExecutePacket) {
-                result++;
+            if (each instanceof PostgreSQLComBindPacket && statementId.equals(((PostgreSQLComBindPacket) each).getStatementId())) {
+                result.add(((PostgreSQLComBindPacket) each).readParameters(parameterTypes));
             }
         }
         return result;
@@ -58,6 +58,7 @@ import java.sql.Statement;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -82,6 +83,12 @@ public final class PostgreSQLBatchedStatementsExecutor {
     
     private final Map<ExecutionUnit, List<List<Object>>> executionUnitParams = new HashMap<>();
     
+    private final Map<ExecutionUnit, List<Integer>> executionUnitParamSetIndexes = new HashMap<>();
+    
+    private final Map<Statement, List<Integer>> statementParamSetIndexes = new IdentityHashMap<>();
+    
+    private final int paramSetCount;
+    
     private final ExecutionContext anyExecutionContext;
     
     private ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
@@ -91,6 +98,7 @@ public final class PostgreSQLBatchedStatementsExecutor {
         this.connectionSession = connectionSession;
         metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
         this.preparedStatement = preparedStatement;
+        paramSetCount = parameterSets.size();
         Iterator<List<Object>> parameterSetsIterator = parameterSets.iterator();
         SQLStatementContext sqlStatementContext = null;
         ExecutionContext executionContext = null;
@@ -98,9 +106,7 @@ public final class PostgreSQLBatchedStatementsExecutor {
             List<Object> firstGroupOfParam = parameterSetsIterator.next();
             sqlStatementContext = createSQLStatementContext(firstGroupOfParam, preparedStatement.getHintValueContext());
             executionContext = createExecutionContext(createQueryContext(sqlStatementContext, firstGroupOfParam, preparedStatement.getHintValueContext()));
-            for (ExecutionUnit each : executionContext.getExecutionUnits()) {
-                executionUnitParams.computeIfAbsent(each, unused -> new LinkedList<>()).add(each.getSqlUnit().getParameters());
-            }
+            addExecutionUnitParams(executionContext, 0);
         }
         anyExecutionContext = executionContext;
         prepareForRestOfParametersSet(parameterSetsIterator, sqlStatementContext, preparedStatement.getHintValueContext());
@@ -111,15 +117,21 @@ public final class PostgreSQLBatchedStatementsExecutor {
     }
     
     private void prepareForRestOfParametersSet(final Iterator<List<Object>> paramSetsIterator, final SQLStatementContext sqlStatementContext, final HintValueContext hintValueContext) {
+        int paramSetIndex = 1;
         while (paramSetsIterator.hasNext()) {
             List<Object> eachGroupOfParam = paramSetsIterator.next();
             if (sqlStatementContext instanceof ParameterAware) {
                 ((ParameterAware) sqlStatementContext).setUpParameters(eachGroupOfParam);
             }
             ExecutionContext eachExecutionContext = createExecutionContext(createQueryContext(sqlStatementContext, eachGroupOfParam, hintValueContext));
-            for (ExecutionUnit each : eachExecutionContext.getExecutionUnits()) {
-                executionUnitParams.computeIfAbsent(each, unused -> new LinkedList<>()).add(each.getSqlUnit().getParameters());
-            }
+            addExecutionUnitParams(eachExecutionContext, paramSetIndex++);
+        }
+    }
+    
+    private void addExecutionUnitParams(final ExecutionContext executionContext, final int paramSetIndex) {
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            executionUnitParams.computeIfAbsent(each, unused -> new LinkedList<>()).add(each.getSqlUnit().getParameters());
+            executionUnitParamSetIndexes.computeIfAbsent(each, unused -> new LinkedList<>()).add(paramSetIndex);
         }
     }
     
@@ -137,10 +149,27 @@ public final class PostgreSQLBatchedStatementsExecutor {
     /**
      * Execute batch.
      *
-     * @return inserted rows
+     * @return inserted rows, or {@link Statement#SUCCESS_NO_INFO} if update count of any parameter set is unknown
      * @throws SQLException SQL exception
      */
     public int executeBatch() throws SQLException {
+        int result = 0;
+        for (int each : executeBatchForEachParameterSet()) {
+            result = addUpdateCount(result, each);
+        }
+        return result;
+    }
+    
+    /**
+     * Execute batch and get update counts of each parameter set.
+     *
+     * <p>A parameter set routed to multiple data nodes gets the sum of update counts of all of them,
+     * or {@link Statement#SUCCESS_NO_INFO} if the update count of any of them is unknown.</p>
+     *
+     * @return update counts in the order of parameter sets
+     * @throws SQLException SQL exception
+     */
+    public int[] executeBatchForEachParameterSet() throws SQLException {
         connectionSession.getDatabaseConnectionManager().handleAutoCommit();
         addBatchedParametersToPreparedStatements();
         return executeBatchedPreparedStatements();
@@ -163,6 +192,7 @@ public final class PostgreSQLBatchedStatementsExecutor {
     
     private void prepareJDBCExecutionUnit(final JDBCExecutionUnit jdbcExecutionUnit) throws SQLException {
         PreparedStatement preparedStatement = (PreparedStatement) jdbcExecutionUnit.getStorageResource();
+        statementParamSetIndexes.put(preparedStatement, executionUnitParamSetIndexes.getOrDefault(jdbcExecutionUnit.getExecutionUnit(), Collections.emptyList()));
         for (List<Object> eachGroupParam : executionUnitParams.getOrDefault(jdbcExecutionUnit.getExecutionUnit(), Collections.emptyList())) {
             ListIterator<Object> params = eachGroupParam.listIterator();
             while (params.hasNext()) {
@@ -177,38 +207,61 @@ public final class PostgreSQLBatchedStatementsExecutor {
         }
     }
     
-    private int executeBatchedPreparedStatements() throws SQLException {
+    private int[] executeBatchedPreparedStatements() throws SQLException {
         boolean isExceptionThrown = SQLExecutorExceptionHandler.isExceptionThrown();
         ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(connectionSession.getUsedDatabaseName());
         DatabaseType protocolType = database.getProtocolType();
-        JDBCExecutorCallback<int[]> callback =
-                new BatchedStatementsJDBCExecutorCallback(protocolType, database.getResourceMetaData(), preparedStatement.getSqlStatementContext().getSqlStatement(), isExceptionThrown);
+        JDBCExecutorCallback<int[]> callback = new BatchedStatementsJDBCExecutorCallback(
+                protocolType, database.getResourceMetaData(), preparedStatement.getSqlStatementContext().getSqlStatement(), isExceptionThrown, statementParamSetIndexes, paramSetCount);
         List<int[]> executeResults = jdbcExecutor.execute(executionGroupContext, callback);
-        int result = 0;
+        int[] result = new int[paramSetCount];
         for (int[] eachResult : executeResults) {
-            for (int each : eachResult) {
-                result += each;
+            for (int i = 0; i < result.length; i++) {
+                result[i] = addUpdateCount(result[i], eachResult[i]);
             }
         }
         return result;
     }
     
+    private static int addUpdateCount(final int updateCount, final int delta) {
+        return Statement.SUCCESS_NO_INFO == updateCount || Statement.SUCCESS_NO_INFO == delta ? Statement.SUCCESS_NO_INFO : updateCount + Math.max(delta, 0);
+    }
+    
     private static final class BatchedStatementsJDBCExecutorCallback extends JDBCExecutorCallback<int[]> {
         
+        private final Map<Statement, List<Integer>> statementParamSetIndexes;
+        
+        private final int paramSetCount;
+        
         private BatchedStatementsJDBCExecutorCallback(final DatabaseType protocolType, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement,
-                                                      final boolean isExceptionThrown) {
+                                                      final boolean isExceptionThrown, final Map<Statement, List<Integer>> statementParamSetIndexes, final int paramSetCount) {
             super(protocolType, resourceMetaData, sqlStatement, isExceptionThrown);
+            this.statementParamSetIndexes = statementParamSetIndexes;
+            this.paramSetCount = paramSetCount;
         }
         
         @Override
         protected int[] executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode, final DatabaseType storageType) throws SQLException {
             try {
-                return statement.executeBatch();
+                return toParamSetUpdateCounts(statement.executeBatch(), statementParamSetIndexes.getOrDefault(statement, Collections.emptyList()));
             } finally {
                 statement.close();
             }
         }
         
+        private int[] toParamSetUpdateCounts(final int[] updateCounts, final List<Integer> paramSetIndexes) {
+            int[] result = new int[paramSetCount];
+            Iterator<Integer> paramSetIndexesIterator = paramSetIndexes.iterator();
+            for (int each : updateCounts) {
+                if (!paramSetIndexesIterator.hasNext()) {
+                    break;
+                }
+                int paramSetIndex = paramSetIndexesIterator.next();
+                result[paramSetIndex] = addUpdateCount(result[paramSetIndex], each);
+            }
+            return result;
+        }
+        
         @SuppressWarnings("OptionalContainsCollection")
         @Override
         protected Optional<int[]> getSaneResult(final SQLStatement sqlStatement, final SQLException ex) {
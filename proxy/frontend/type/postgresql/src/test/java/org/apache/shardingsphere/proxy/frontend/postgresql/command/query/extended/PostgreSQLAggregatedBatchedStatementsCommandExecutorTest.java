@@ -49,7 +49,9 @@ import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBack
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatementRegistry;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.InsertStatement;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 import org.apache.shardingsphere.sqltranslator.rule.builder.DefaultSQLTranslatorRuleConfigurationBuilder;
 import org.apache.shardingsphere.test.mock.AutoMockExtension;
@@ -76,6 +78,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(AutoMockExtension.class)
@@ -89,6 +92,8 @@ class PostgreSQLAggregatedBatchedStatementsCommandExecutorTest {
     
     private static final String SQL = "INSERT INTO t_order (id) VALUES (?)";
     
+    private static final String QUERY_SQL = "SELECT id FROM t_order WHERE id = ?";
+    
     private static final int BATCH_SIZE = 10;
     
     private final ShardingSphereSQLParserEngine parserEngine = new ShardingSphereSQLParserEngine(
@@ -97,7 +102,7 @@ class PostgreSQLAggregatedBatchedStatementsCommandExecutorTest {
     @Test
     void assertExecute() throws SQLException {
         ConnectionSession connectionSession = mockConnectionSession();
-        PostgreSQLAggregatedBatchedStatementsCommandExecutor executor = new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, createPackets());
+        PostgreSQLAggregatedBatchedStatementsCommandExecutor executor = new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, createPackets(), Collections.emptyList());
         ContextManager contextManager = mockContextManager();
         when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
         List<DatabasePacket> actualPackets = new ArrayList<>(executor.execute());
@@ -109,6 +114,51 @@ class PostgreSQLAggregatedBatchedStatementsCommandExecutorTest {
         }
     }
     
+    @Test
+    void assertExecuteQueryPacketsOneByOne() throws SQLException {
+        ConnectionSession connectionSession = mock(ConnectionSession.class);
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(parserEngine.parse(QUERY_SQL, false));
+        when(connectionSession.getServerPreparedStatementRegistry()).thenReturn(new ServerPreparedStatementRegistry());
+        connectionSession.getServerPreparedStatementRegistry().addPreparedStatement(STATEMENT_ID,
+                new PostgreSQLServerPreparedStatement(QUERY_SQL, sqlStatementContext, new HintValueContext(), Collections.singletonList(PostgreSQLColumnType.INT4), Collections.singletonList(0)));
+        CommandExecutor bindExecutor = mock(CommandExecutor.class);
+        when(bindExecutor.execute()).thenReturn(Collections.singletonList(PostgreSQLBindCompletePacket.getInstance()));
+        CommandExecutor executeExecutor = mock(CommandExecutor.class);
+        DatabasePacket dataRowPacket = mock(DatabasePacket.class);
+        when(executeExecutor.execute()).thenReturn(Collections.singletonList(dataRowPacket));
+        PostgreSQLAggregatedBatchedStatementsCommandExecutor executor = new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, createPackets(), Arrays.asList(bindExecutor, executeExecutor));
+        List<DatabasePacket> actualPackets = new ArrayList<>(executor.execute());
+        assertThat(actualPackets.size(), is(2));
+        assertThat(actualPackets.get(0), is(PostgreSQLBindCompletePacket.getInstance()));
+        assertThat(actualPackets.get(1), is(dataRowPacket));
+        verify(bindExecutor).close();
+        verify(executeExecutor).close();
+    }
+    
+    @Test
+    void assertExecuteInterleavedStatementsOfSameTableOneByOne() throws SQLException {
+        ConnectionSession connectionSession = mock(ConnectionSession.class);
+        when(connectionSession.getServerPreparedStatementRegistry()).thenReturn(new ServerPreparedStatementRegistry());
+        connectionSession.getServerPreparedStatementRegistry().addPreparedStatement("S_1", createInsertPreparedStatement(SQL));
+        connectionSession.getServerPreparedStatementRegistry().addPreparedStatement("S_2", createInsertPreparedStatement(SQL));
+        List<PostgreSQLCommandPacket> packets = new ArrayList<>(createPackets("S_1", 1));
+        packets.addAll(createPackets("S_2", 1));
+        packets.addAll(createPackets("S_1", 1));
+        CommandExecutor packetExecutor = mock(CommandExecutor.class);
+        when(packetExecutor.execute()).thenReturn(Collections.singletonList(PostgreSQLBindCompletePacket.getInstance()));
+        List<DatabasePacket> actualPackets = new ArrayList<>(new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, packets, Collections.singletonList(packetExecutor)).execute());
+        assertThat(actualPackets.size(), is(1));
+        verify(packetExecutor).close();
+    }
+    
+    private PostgreSQLServerPreparedStatement createInsertPreparedStatement(final String sql) {
+        InsertStatementContext sqlStatementContext = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getSqlStatement()).thenReturn((InsertStatement) parserEngine.parse(sql, false));
+        when(sqlStatementContext.getTablesContext().getTableNames()).thenReturn(Collections.singleton("t_order"));
+        return new PostgreSQLServerPreparedStatement(sql, sqlStatementContext, new HintValueContext(), Collections.singletonList(PostgreSQLColumnType.INT4), Collections.singletonList(0));
+    }
+    
     private ConnectionSession mockConnectionSession() throws SQLException {
         ConnectionSession result = mock(ConnectionSession.class);
         SQLStatementContext sqlStatementContext = mock(InsertStatementContext.class);
@@ -136,10 +186,14 @@ class PostgreSQLAggregatedBatchedStatementsCommandExecutorTest {
     }
     
     private List<PostgreSQLCommandPacket> createPackets() {
-        List<PostgreSQLCommandPacket> result = new ArrayList<>(BATCH_SIZE);
-        for (int i = 0; i < BATCH_SIZE; i++) {
+        return createPackets(STATEMENT_ID, BATCH_SIZE);
+    }
+    
+    private List<PostgreSQLCommandPacket> createPackets(final String statementId, final int count) {
+        List<PostgreSQLCommandPacket> result = new ArrayList<>(count * 3);
+        for (int i = 0; i < count; i++) {
             PostgreSQLComBindPacket bindPacket = mock(PostgreSQLComBindPacket.class);
-            when(bindPacket.getStatementId()).thenReturn(STATEMENT_ID);
+            when(bindPacket.getStatementId()).thenReturn(statementId);
             when(bindPacket.readParameters(Collections.singletonList(PostgreSQLColumnType.INT4))).thenReturn(Collections.singletonList(i));
             PostgreSQLComDescribePacket describePacket = mock(PostgreSQLComDescribePacket.class);
             PostgreSQLComExecutePacket executePacket = mock(PostgreSQLComExecutePacket.class);
@@ -153,6 +207,7 @@ class PostgreSQLAggregatedBatchedStatementsCommandExecutorTest {
     private ContextManager mockContextManager() {
         ContextManager result = mock(ContextManager.class, RETURNS_DEEP_STUBS);
         when(result.getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE)).thenReturn(0);
+        when(result.getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED)).thenReturn(false);
         when(result.getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY)).thenReturn(1);
         when(result.getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)).thenReturn(false);
         RuleMetaData globalRuleMetaData = new RuleMetaData(Arrays.asList(
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel;
+
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of transferring records from one dumper thread to one importer thread through pipeline channel.
+ * 
+ * <p>Run with {@code java -cp <test-classpath> org.openjdk.jmh.Main PipelineChannelBenchmark}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PipelineChannelBenchmark {
+    
+    private static final int RECORD_COUNT = 100000;
+    
+    private static final int IMPORTER_BATCH_SIZE = 1000;
+    
+    @Param({"MEMORY", "RING_BUFFER"})
+    private String channelType;
+    
+    @Param({"1", "100"})
+    private int pushBatchSize;
+    
+    private PipelineChannelCreator channelCreator;
+    
+    private List<Record> records;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        channelCreator = TypedSPILoader.getService(PipelineChannelCreator.class, channelType, PropertiesBuilder.build(new Property("block-queue-size", "10000")));
+        records = new ArrayList<>(pushBatchSize);
+        for (int i = 0; i < pushBatchSize; i++) {
+            records.add(new PlaceholderRecord(new IngestFinishedPosition()));
+        }
+    }
+    
+    /**
+     * Benchmark transfer records.
+     *
+     * @param blackhole blackhole
+     * @throws InterruptedException interrupted exception
+     */
+    @Benchmark
+    @OperationsPerInvocation(RECORD_COUNT)
+    public void benchmarkTransfer(final Blackhole blackhole) throws InterruptedException {
+        PipelineChannel channel = channelCreator.newInstance(IMPORTER_BATCH_SIZE, blackhole::consume);
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < RECORD_COUNT; i += pushBatchSize) {
+                channel.push(records);
+            }
+        });
+        producer.start();
+        int fetchedCount = 0;
+        while (fetchedCount < RECORD_COUNT) {
+            List<Record> fetched = channel.fetch(IMPORTER_BATCH_SIZE, 100L);
+            fetchedCount += fetched.size();
+            channel.ack(fetched);
+        }
+        producer.join();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.client.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.internal.StringUtil;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of decoding recorded binlog events of migrated and not migrated tables from pooled buffer.
+ * 
+ * <p>Run with {@code java -cp <test-classpath> org.openjdk.jmh.Main MySQLBinlogEventPacketDecoderBenchmark}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MySQLBinlogEventPacketDecoderBenchmark {
+    
+    private static final int TRANSACTION_COUNT = 1000;
+    
+    // TABLE_MAP_EVENT of ds_1.t_order_1(order_id BIGINT, user_id INT, status VARCHAR(200), t_numeric DECIMAL(10,2))
+    private static final String TABLE_MAP_EVENT = "00cb38a962130100000041000000be7d000000007b000000000001000464735f310009745f6f726465725f31000408030ff604c8000a020c0101000201e0ff0a9b3a";
+    
+    // WRITE_ROWS_EVENT of INSERT INTO t_order_1(order_id, user_id, status, t_numeric) VALUES (1, 1, 'SUCCESS', null)
+    private static final String WRITE_ROWS_EVENT = "007a36a9621e0100000038000000bb7c000000007b00000000000100020004ff08010000000000000001000000075355434345535365eff9ff";
+    
+    private static final String XID_EVENT = "006acb656410010000001f000000fa29000000001643000000000000b13f8340";
+    
+    @Param({"true", "false"})
+    private boolean migrated;
+    
+    private EmbeddedChannel channel;
+    
+    private ByteBuf events;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        channel = new EmbeddedChannel(new MySQLBinlogEventPacketDecoder(4, new ConcurrentHashMap<>(), false, (schemaName, tableName) -> migrated));
+        channel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).set(StandardCharsets.UTF_8);
+        byte[] tableMapEvent = StringUtil.decodeHexDump(TABLE_MAP_EVENT);
+        byte[] writeRowsEvent = StringUtil.decodeHexDump(WRITE_ROWS_EVENT);
+        byte[] xidEvent = StringUtil.decodeHexDump(XID_EVENT);
+        events = PooledByteBufAllocator.DEFAULT.directBuffer(TRANSACTION_COUNT * (tableMapEvent.length + writeRowsEvent.length + xidEvent.length));
+        for (int i = 0; i < TRANSACTION_COUNT; i++) {
+            events.writeBytes(tableMapEvent).writeBytes(writeRowsEvent).writeBytes(xidEvent);
+        }
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        events.release();
+        channel.finishAndReleaseAll();
+    }
+    
+    /**
+     * Benchmark of decoding transactions which each has one row inserted.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(TRANSACTION_COUNT)
+    public void decode(final Blackhole blackhole) {
+        channel.writeInbound(events.retainedDuplicate());
+        blackhole.consume(channel.inboundMessages().size());
+        channel.inboundMessages().clear();
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.columnar;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByValue;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Benchmark of group by aggregation with aggregation units per group and columnar aggregators.
+ * 
+ * <p>Run with {@code -prof gc} to compare allocation rate, e.g. {@code java -cp <test-classpath> org.openjdk.jmh.Main ColumnarAggregationBenchmark -prof gc}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ColumnarAggregationBenchmark {
+    
+    private static final int ROW_COUNT = 100000;
+    
+    @Param({"16", "1024", "65536"})
+    private int groupCount;
+    
+    private Collection<OrderByItem> groupByItems;
+    
+    private List<AggregationProjection> aggregationProjections;
+    
+    private QueryResultMetaData metaData;
+    
+    private List<MemoryQueryResultDataRow> rows;
+    
+    @Setup
+    public void setup() {
+        OrderByItem groupByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.FIRST));
+        groupByItem.setIndex(1);
+        groupByItems = Collections.singletonList(groupByItem);
+        DatabaseType databaseType = mock(DatabaseType.class);
+        AggregationProjection countProjection = createAggregationProjection(AggregationType.COUNT, 2, databaseType);
+        AggregationProjection sumProjection = createAggregationProjection(AggregationType.SUM, 3, databaseType);
+        AggregationProjection maxProjection = createAggregationProjection(AggregationType.MAX, 3, databaseType);
+        AggregationProjection avgProjection = createAggregationProjection(AggregationType.AVG, -1, databaseType);
+        avgProjection.getDerivedAggregationProjections().add(createAggregationProjection(AggregationType.COUNT, 2, databaseType));
+        avgProjection.getDerivedAggregationProjections().add(createAggregationProjection(AggregationType.SUM, 3, databaseType));
+        aggregationProjections = Arrays.asList(countProjection, sumProjection, maxProjection, avgProjection);
+        metaData = mock(QueryResultMetaData.class);
+        rows = new ArrayList<>(ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            rows.add(new MemoryQueryResultDataRow(Arrays.<Object>asList(i % groupCount, 1L, (long) i)));
+        }
+    }
+    
+    private AggregationProjection createAggregationProjection(final AggregationType type, final int index, final DatabaseType databaseType) {
+        AggregationProjection result = new AggregationProjection(type, "(order_id)", null, databaseType);
+        result.setIndex(index);
+        return result;
+    }
+    
+    /**
+     * Benchmark aggregation units per group.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void benchmarkAggregationUnits(final Blackhole blackhole) throws SQLException {
+        Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024, 1F);
+        QueryResult queryResult = new RawMemoryQueryResult(metaData, rows);
+        while (queryResult.next()) {
+            GroupByValue groupByValue = new GroupByValue(queryResult, groupByItems);
+            Map<AggregationProjection, AggregationUnit> units = aggregationMap.computeIfAbsent(groupByValue, unused -> aggregationProjections.stream()
+                    .collect(Collectors.toMap(Function.identity(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection))));
+            for (AggregationProjection each : aggregationProjections) {
+                List<Comparable<?>> values = new ArrayList<>(2);
+                if (each.getDerivedAggregationProjections().isEmpty()) {
+                    values.add(ColumnarAggregationUtils.getAggregationValue(queryResult, each));
+                } else {
+                    for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
+                        values.add(ColumnarAggregationUtils.getAggregationValue(queryResult, derived));
+                    }
+                }
+                units.get(each).merge(values);
+            }
+        }
+        for (Map<AggregationProjection, AggregationUnit> each : aggregationMap.values()) {
+            for (AggregationUnit unit : each.values()) {
+                blackhole.consume(unit.getResult());
+            }
+        }
+    }
+    
+    /**
+     * Benchmark columnar aggregators.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void benchmarkColumnarAggregators(final Blackhole blackhole) throws SQLException {
+        Map<GroupByValue, Integer> groupOrdinals = new HashMap<>(1024, 1F);
+        ColumnarAggregator[] aggregators = new ColumnarAggregator[aggregationProjections.size()];
+        for (int i = 0; i < aggregators.length; i++) {
+            aggregators[i] = ColumnarAggregatorFactory.create(aggregationProjections.get(i));
+        }
+        QueryResult queryResult = new RawMemoryQueryResult(metaData, rows);
+        while (queryResult.next()) {
+            GroupByValue groupByValue = new GroupByValue(queryResult, groupByItems);
+            Integer groupOrdinal = groupOrdinals.get(groupByValue);
+            if (null == groupOrdinal) {
+                groupOrdinal = groupOrdinals.size();
+                groupOrdinals.put(groupByValue, groupOrdinal);
+            }
+            for (ColumnarAggregator each : aggregators) {
+                each.aggregate(groupOrdinal, queryResult);
+            }
+        }
+        for (int groupOrdinal = 0; groupOrdinal < groupOrdinals.size(); groupOrdinal++) {
+            for (ColumnarAggregator each : aggregators) {
+                blackhole.consume(each.getResult(groupOrdinal));
+            }
+        }
+    }
+}